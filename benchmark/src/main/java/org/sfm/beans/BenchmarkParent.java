@@ -0,0 +1,37 @@
+package org.sfm.beans;
+
+import java.util.List;
+
+/**
+ * Root of the join benchmarks, the children are aggregated from the rows with the same id.
+ */
+public class BenchmarkParent {
+
+	private long id;
+	private String name;
+	private List<SmallBenchmarkObject> children;
+
+	public long getId() {
+		return id;
+	}
+
+	public void setId(long id) {
+		this.id = id;
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	public void setName(String name) {
+		this.name = name;
+	}
+
+	public List<SmallBenchmarkObject> getChildren() {
+		return children;
+	}
+
+	public void setChildren(List<SmallBenchmarkObject> children) {
+		this.children = children;
+	}
+}
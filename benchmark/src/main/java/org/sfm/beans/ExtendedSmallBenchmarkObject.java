@@ -0,0 +1,17 @@
+package org.sfm.beans;
+
+/**
+ * Second type of the discriminator benchmarks.
+ */
+public class ExtendedSmallBenchmarkObject extends SmallBenchmarkObject {
+
+	private String label;
+
+	public String getLabel() {
+		return label;
+	}
+
+	public void setLabel(String label) {
+		this.label = label;
+	}
+}
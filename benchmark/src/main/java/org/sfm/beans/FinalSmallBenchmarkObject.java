@@ -0,0 +1,35 @@
+package org.sfm.beans;
+
+/**
+ * Target populated through its constructor, the csv mapper reads the cells through the delayed cell setters.
+ */
+public final class FinalSmallBenchmarkObject {
+
+	private final long id;
+	private final String name;
+	private final String email;
+	private final int yearStarted;
+
+	public FinalSmallBenchmarkObject(long id, String name, String email, int yearStarted) {
+		this.id = id;
+		this.name = name;
+		this.email = email;
+		this.yearStarted = yearStarted;
+	}
+
+	public long getId() {
+		return id;
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	public String getEmail() {
+		return email;
+	}
+
+	public int getYearStarted() {
+		return yearStarted;
+	}
+}
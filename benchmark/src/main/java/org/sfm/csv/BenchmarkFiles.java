@@ -0,0 +1,60 @@
+package org.sfm.csv;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+
+/**
+ * Generate the csv files used by the benchmarks.
+ */
+public final class BenchmarkFiles {
+
+	private BenchmarkFiles() {
+	}
+
+	/**
+	 * @param nbRows the number of rows
+	 * @param nbColumns the number of columns
+	 * @param nonAscii true to add non ascii characters to the text cells
+	 * @param quoted true to quote the text cells
+	 * @return a temporary UTF-8 encoded file with a header row
+	 * @throws IOException if an io error occurs
+	 */
+	public static File newCsvFile(int nbRows, int nbColumns, boolean nonAscii, boolean quoted) throws IOException {
+		File file = File.createTempFile("sfm-benchmark", ".csv");
+		file.deleteOnExit();
+		Writer writer = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(file), "UTF-8"));
+		try {
+			writer.write(csvContent(nbRows, nbColumns, nonAscii, quoted));
+		} finally {
+			writer.close();
+		}
+		return file;
+	}
+
+	public static String csvContent(int nbRows, int nbColumns, boolean nonAscii, boolean quoted) {
+		StringBuilder sb = new StringBuilder();
+		for (int c = 0; c < nbColumns; c++) {
+			if (c > 0) sb.append(',');
+			sb.append("col").append(c);
+		}
+		sb.append('\n');
+		for (int r = 0; r < nbRows; r++) {
+			for (int c = 0; c < nbColumns; c++) {
+				if (c > 0) sb.append(',');
+				if (c % 2 == 0) {
+					sb.append(r * 31 + c);
+				} else {
+					if (quoted) sb.append('"');
+					sb.append(nonAscii ? "valé" : "value").append(r).append(quoted ? " \"\"x\"\"" : "");
+					if (quoted) sb.append('"');
+				}
+			}
+			sb.append('\n');
+		}
+		return sb.toString();
+	}
+}
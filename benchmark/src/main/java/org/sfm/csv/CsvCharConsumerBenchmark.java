@@ -0,0 +1,97 @@
+package org.sfm.csv;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.sfm.csv.parser.CharBuffer;
+import org.sfm.csv.parser.StandardCsvCharConsumer;
+
+import java.io.ByteArrayInputStream;
+import java.io.CharArrayReader;
+import java.io.IOException;
+
+/**
+ * Compare the bulk skipping of ordinary chars in {@link StandardCsvCharConsumer} with the per char loop of
+ * {@link PerCharCsvCharConsumer} on narrow and wide rows, and with the word at a time scan of the byte path
+ * {@link CsvByteReader} on the same content encoded in UTF-8.
+ */
+@State(Scope.Benchmark)
+public class CsvCharConsumerBenchmark {
+
+	@Param({"10000"})
+	public int nbRows;
+
+	@Param({"narrow", "wide", "text"})
+	public String rows;
+
+	private char[] content;
+	private byte[] bytes;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		if ("wide".equals(rows)) {
+			content = BenchmarkFiles.csvContent(nbRows, 50, false, false).toCharArray();
+		} else if ("text".equals(rows)) {
+			content = textContent(nbRows).toCharArray();
+		} else {
+			content = BenchmarkFiles.csvContent(nbRows * 10, 3, false, false).toCharArray();
+		}
+		bytes = new String(content).getBytes(CsvParser.schema().charset());
+	}
+
+	/**
+	 * rows of an id and two sentences, the runs of ordinary chars are long.
+	 */
+	private static String textContent(int nbRows) {
+		StringBuilder sb = new StringBuilder("id,title,description\n");
+		for (int r = 0; r < nbRows; r++) {
+			sb.append(r).append(",The quick brown fox ").append(r).append(" jumps over the lazy dog")
+					.append(",Pack my box with five dozen liquor jugs and sphinx of black quartz judge my vow ")
+					.append(r).append('\n');
+		}
+		return sb.toString();
+	}
+
+	@Benchmark
+	public void parseAllBulk(Blackhole blackhole) throws IOException {
+		new CsvReader(new CharArrayReader(content), new StandardCsvCharConsumer(new CharBuffer(8192)))
+				.parseAll(new CsvFileReadBenchmark.BlackholeCellConsumer(blackhole));
+	}
+
+	@Benchmark
+	public void parseAllPerChar(Blackhole blackhole) throws IOException {
+		new CsvReader(new CharArrayReader(content), new PerCharCsvCharConsumer(new CharBuffer(8192)))
+				.parseAll(new CsvFileReadBenchmark.BlackholeCellConsumer(blackhole));
+	}
+
+	@Benchmark
+	public void parseRowBulk(Blackhole blackhole) throws IOException {
+		CsvReader reader = new CsvReader(new CharArrayReader(content), new StandardCsvCharConsumer(new CharBuffer(8192)));
+		CsvFileReadBenchmark.BlackholeCellConsumer cellConsumer = new CsvFileReadBenchmark.BlackholeCellConsumer(blackhole);
+		while(reader.parseRow(cellConsumer));
+	}
+
+	@Benchmark
+	public void parseRowPerChar(Blackhole blackhole) throws IOException {
+		CsvReader reader = new CsvReader(new CharArrayReader(content), new PerCharCsvCharConsumer(new CharBuffer(8192)));
+		CsvFileReadBenchmark.BlackholeCellConsumer cellConsumer = new CsvFileReadBenchmark.BlackholeCellConsumer(blackhole);
+		while(reader.parseRow(cellConsumer));
+	}
+
+	@Benchmark
+	public void parseAllBytes(Blackhole blackhole) throws IOException {
+		CsvParser.schema().byteReader(new ByteArrayInputStream(bytes))
+				.parseAll(new CsvFileReadBenchmark.BlackholeByteCellConsumer(blackhole));
+	}
+
+	@Benchmark
+	public void parseRowBytes(Blackhole blackhole) throws IOException {
+		CsvByteReader reader = CsvParser.schema().byteReader(new ByteArrayInputStream(bytes));
+		CsvFileReadBenchmark.BlackholeByteCellConsumer cellConsumer = new CsvFileReadBenchmark.BlackholeByteCellConsumer(blackhole);
+		while(reader.parseRow(cellConsumer));
+	}
+}
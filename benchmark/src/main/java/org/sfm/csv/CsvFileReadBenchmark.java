@@ -0,0 +1,129 @@
+package org.sfm.csv;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+import org.sfm.csv.parser.ByteCellConsumer;
+import org.sfm.csv.parser.CellConsumer;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+
+/**
+ * Compare the memory mapped file input with the FileReader and InputStreamReader inputs,
+ * and with the byte level tokenizer that does not decode the content.
+ */
+@State(Scope.Benchmark)
+public class CsvFileReadBenchmark {
+
+	@Param({"100000"})
+	public int nbRows;
+
+	@Param({"ascii", "utf8"})
+	public String content;
+
+	private File file;
+
+	@Setup(Level.Trial)
+	public void setUp() throws IOException {
+		file = BenchmarkFiles.newCsvFile(nbRows, 10, "utf8".equals(content), false);
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		file.delete();
+	}
+
+	@Benchmark
+	public void fileReader(Blackhole blackhole) throws IOException {
+		Reader reader = new FileReader(file);
+		try {
+			CsvParser.reader(reader).parseAll(new BlackholeCellConsumer(blackhole));
+		} finally {
+			reader.close();
+		}
+	}
+
+	@Benchmark
+	public void inputStreamReaderUtf8(Blackhole blackhole) throws IOException {
+		Reader reader = new InputStreamReader(new FileInputStream(file), "UTF-8");
+		try {
+			CsvParser.reader(reader).parseAll(new BlackholeCellConsumer(blackhole));
+		} finally {
+			reader.close();
+		}
+	}
+
+	@Benchmark
+	public void mappedFile(Blackhole blackhole) throws IOException {
+		CsvReader reader = CsvParser.reader(file);
+		try {
+			reader.parseAll(new BlackholeCellConsumer(blackhole));
+		} finally {
+			reader.close();
+		}
+	}
+
+	@Benchmark
+	public void byteReader(Blackhole blackhole) throws IOException {
+		CsvByteReader reader = CsvParser.schema().byteReader(file);
+		try {
+			reader.parseAll(new BlackholeByteCellConsumer(blackhole));
+		} finally {
+			reader.close();
+		}
+	}
+
+	static final class BlackholeByteCellConsumer implements ByteCellConsumer {
+		private final Blackhole blackhole;
+
+		BlackholeByteCellConsumer(Blackhole blackhole) {
+			this.blackhole = blackhole;
+		}
+
+		@Override
+		public void newCell(byte[] bytes, int offset, int length) {
+			blackhole.consume(offset);
+			blackhole.consume(length);
+		}
+
+		@Override
+		public void endOfRow() {
+		}
+
+		@Override
+		public void end() {
+		}
+	}
+
+	static final class BlackholeCellConsumer implements CellConsumer {
+		private final Blackhole blackhole;
+
+		BlackholeCellConsumer(Blackhole blackhole) {
+			this.blackhole = blackhole;
+		}
+
+		@Override
+		public void newCell(char[] chars, int offset, int length) {
+			blackhole.consume(offset);
+			blackhole.consume(length);
+		}
+
+		@Override
+		public void endOfRow() {
+		}
+
+		@Override
+		public void end() {
+		}
+	}
+}
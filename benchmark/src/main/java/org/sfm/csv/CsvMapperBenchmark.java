@@ -0,0 +1,68 @@
+package org.sfm.csv;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.sfm.beans.FinalSmallBenchmarkObject;
+import org.sfm.beans.SmallBenchmarkObject;
+import org.sfm.utils.RowHandler;
+
+import java.io.IOException;
+import java.io.StringReader;
+
+/**
+ * Map an in memory csv content to objects populated through their setters or, through the delayed cell setters,
+ * through their constructor, with the asm generated cell handler or the reflection based one.
+ */
+@State(Scope.Benchmark)
+public class CsvMapperBenchmark {
+
+	@Param({"10000"})
+	public int nbRows;
+
+	@Param({"true", "false"})
+	public boolean asm;
+
+	private String content;
+	private CsvMapper<SmallBenchmarkObject> setterMapper;
+	private CsvMapper<FinalSmallBenchmarkObject> constructorMapper;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		StringBuilder sb = new StringBuilder("id,name,email,year_started\n");
+		for(int i = 0; i < nbRows; i++) {
+			sb.append(i).append(",name").append(i).append(",name").append(i).append("@mail.com,").append(2000 + i % 20).append('\n');
+		}
+		content = sb.toString();
+		CsvMapperFactory factory = CsvMapperFactory.newInstance().useAsm(asm);
+		setterMapper = factory.newMapper(SmallBenchmarkObject.class);
+		constructorMapper = factory.newMapper(FinalSmallBenchmarkObject.class);
+	}
+
+	@Benchmark
+	public void setterInjection(Blackhole blackhole) throws IOException {
+		setterMapper.forEach(new StringReader(content), new BlackholeRowHandler<SmallBenchmarkObject>(blackhole));
+	}
+
+	@Benchmark
+	public void constructorInjection(Blackhole blackhole) throws IOException {
+		constructorMapper.forEach(new StringReader(content), new BlackholeRowHandler<FinalSmallBenchmarkObject>(blackhole));
+	}
+
+	static final class BlackholeRowHandler<T> implements RowHandler<T> {
+		private final Blackhole blackhole;
+
+		BlackholeRowHandler(Blackhole blackhole) {
+			this.blackhole = blackhole;
+		}
+
+		@Override
+		public void handle(T t) {
+			blackhole.consume(t);
+		}
+	}
+}
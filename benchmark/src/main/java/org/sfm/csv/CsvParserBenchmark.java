@@ -0,0 +1,45 @@
+package org.sfm.csv;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.io.StringReader;
+
+/**
+ * Tokenize an in memory csv content of narrow or wide rows, quoted or not, with different buffer sizes.
+ */
+@State(Scope.Benchmark)
+public class CsvParserBenchmark {
+
+	@Param({"10000"})
+	public int nbRows;
+
+	@Param({"5", "50"})
+	public int nbColumns;
+
+	@Param({"false", "true"})
+	public boolean quoted;
+
+	@Param({"1024", "8192", "65536"})
+	public int bufferSize;
+
+	private String content;
+	private CsvParser.DSL dsl;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		content = BenchmarkFiles.csvContent(nbRows, nbColumns, false, quoted);
+		dsl = CsvParser.bufferSize(bufferSize);
+	}
+
+	@Benchmark
+	public void parseAll(Blackhole blackhole) throws IOException {
+		dsl.reader(new StringReader(content)).parseAll(new CsvFileReadBenchmark.BlackholeCellConsumer(blackhole));
+	}
+}
@@ -0,0 +1,140 @@
+package org.sfm.csv;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Random;
+
+/**
+ * Compare the {@link CsvWriter} with writing each property through String.valueOf to a Writer,
+ * both to a Writer that discards the chars. Run with -prof gc to see the allocation rate.
+ */
+@State(Scope.Benchmark)
+public class CsvWriterBenchmark {
+
+	@Param({"10000"})
+	public int nbRows;
+
+	private Measure[] measures;
+	private CsvWriter.DSL<Measure> dsl;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		Random random = new Random(31);
+		measures = new Measure[nbRows];
+		for(int i = 0; i < nbRows; i++) {
+			Measure measure = new Measure();
+			measure.setId(random.nextLong());
+			measure.setCount(random.nextInt(100000));
+			measure.setValue(random.nextInt(1000000) / 100.0);
+			measure.setName(i % 10 == 0 ? "name, with separator" : "name" + i);
+			measures[i] = measure;
+		}
+		dsl = CsvMapperFactory.newInstance().newWriter(Measure.class).columns("id", "count", "value", "name");
+	}
+
+	@Benchmark
+	public long csvWriter() throws IOException {
+		NullWriter out = new NullWriter();
+		CsvWriter<Measure> writer = dsl.to(out);
+		for(Measure measure : measures) {
+			writer.append(measure);
+		}
+		writer.flush();
+		return out.count;
+	}
+
+	@Benchmark
+	public long stringValueOf() throws IOException {
+		NullWriter out = new NullWriter();
+		out.write("id,count,value,name\r\n");
+		for(Measure measure : measures) {
+			out.write(String.valueOf(measure.getId()));
+			out.write(',');
+			out.write(String.valueOf(measure.getCount()));
+			out.write(',');
+			out.write(String.valueOf(measure.getValue()));
+			out.write(',');
+			String name = measure.getName();
+			if (name.indexOf(',') != -1 || name.indexOf('"') != -1) {
+				out.write('"' + name.replace("\"", "\"\"") + '"');
+			} else {
+				out.write(name);
+			}
+			out.write("\r\n");
+		}
+		return out.count;
+	}
+
+	public static class Measure {
+		private long id;
+		private int count;
+		private double value;
+		private String name;
+
+		public long getId() {
+			return id;
+		}
+
+		public void setId(long id) {
+			this.id = id;
+		}
+
+		public int getCount() {
+			return count;
+		}
+
+		public void setCount(int count) {
+			this.count = count;
+		}
+
+		public double getValue() {
+			return value;
+		}
+
+		public void setValue(double value) {
+			this.value = value;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+	}
+
+	private static final class NullWriter extends Writer {
+		private long count;
+
+		@Override
+		public void write(char[] cbuf, int off, int len) {
+			count += len;
+		}
+
+		@Override
+		public void write(String str) {
+			count += str.length();
+		}
+
+		@Override
+		public void write(int c) {
+			count++;
+		}
+
+		@Override
+		public void flush() {
+		}
+
+		@Override
+		public void close() {
+		}
+	}
+}
@@ -0,0 +1,79 @@
+package org.sfm.csv.impl.cellreader;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+
+/**
+ * Compare {@link DoubleCellValueReaderImpl#parseDouble(char[], int, int)} and
+ * {@link FloatCellValueReaderImpl#parseFloat(char[], int, int)} with allocating a String and calling
+ * Double.parseDouble / Float.parseFloat, on price like cells and on full precision doubles.
+ * Run with -prof gc to see the allocation rate.
+ */
+@State(Scope.Benchmark)
+public class DoubleCellValueReaderBenchmark {
+
+	@Param({"1000"})
+	public int nbCells;
+
+	@Param({"prices", "fullPrecision"})
+	public String cells;
+
+	private char[] buffer;
+	private int[] offsets;
+	private int[] lengths;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		Random random = new Random(31);
+		StringBuilder sb = new StringBuilder();
+		offsets = new int[nbCells];
+		lengths = new int[nbCells];
+		for(int i = 0; i < nbCells; i++) {
+			String cell;
+			if ("prices".equals(cells)) {
+				cell = Integer.toString(random.nextInt(100000)) + "." + Integer.toString(100 + random.nextInt(900)).substring(1);
+			} else {
+				cell = Double.toString(random.nextDouble() * 1000);
+			}
+			offsets[i] = sb.length();
+			lengths[i] = cell.length();
+			sb.append(cell).append(',');
+		}
+		buffer = sb.toString().toCharArray();
+	}
+
+	@Benchmark
+	public void parseDouble(Blackhole blackhole) {
+		for(int i = 0; i < offsets.length; i++) {
+			blackhole.consume(DoubleCellValueReaderImpl.parseDouble(buffer, offsets[i], lengths[i]));
+		}
+	}
+
+	@Benchmark
+	public void parseDoubleFromString(Blackhole blackhole) {
+		for(int i = 0; i < offsets.length; i++) {
+			blackhole.consume(Double.parseDouble(new String(buffer, offsets[i], lengths[i])));
+		}
+	}
+
+	@Benchmark
+	public void parseFloat(Blackhole blackhole) {
+		for(int i = 0; i < offsets.length; i++) {
+			blackhole.consume(FloatCellValueReaderImpl.parseFloat(buffer, offsets[i], lengths[i]));
+		}
+	}
+
+	@Benchmark
+	public void parseFloatFromString(Blackhole blackhole) {
+		for(int i = 0; i < offsets.length; i++) {
+			blackhole.consume(Float.parseFloat(new String(buffer, offsets[i], lengths[i])));
+		}
+	}
+}
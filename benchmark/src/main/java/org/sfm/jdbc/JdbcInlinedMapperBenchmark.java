@@ -0,0 +1,196 @@
+package org.sfm.jdbc;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+import org.sfm.beans.ExtendedSmallBenchmarkObject;
+import org.sfm.beans.SmallBenchmarkObject;
+import org.sfm.reflect.ReflectionService;
+import org.sfm.reflect.asm.AsmFactory;
+import org.sfm.utils.RowHandler;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Compare the asm jdbc mapper calling the ResultSet getters and the setters inline with the one delegating to the
+ * FieldMappers, once the FieldMapper call sites have seen the setters of several types - as they do in an application
+ * mapping more than one class - and became megamorphic.
+ */
+@State(Scope.Benchmark)
+public class JdbcInlinedMapperBenchmark {
+
+	private static final String SELECT_SMALL = "select id, name, email, year_started from benchmark_small order by id";
+
+	@Param({"1000"})
+	public int nbRows;
+
+	@Param({"true", "false"})
+	public boolean inline;
+
+	private Connection connection;
+	private PreparedStatement selectSmall;
+
+	private JdbcMapper<SmallBenchmarkObject> mapper;
+
+	@Setup(Level.Trial)
+	public void setUp() throws SQLException {
+		connection = DriverManager.getConnection("jdbc:hsqldb:mem:benchmark" + System.nanoTime(), "SA", "");
+		Statement st = connection.createStatement();
+		try {
+			st.execute("create table benchmark_small(id bigint primary key, name varchar(100),"
+					+ " email varchar(100), year_started int)");
+		} finally {
+			st.close();
+		}
+
+		PreparedStatement insertSmall = connection.prepareStatement("insert into benchmark_small values(?, ?, ?, ?)");
+		try {
+			for(int i = 0; i < nbRows; i++) {
+				insertSmall.setLong(1, i);
+				insertSmall.setString(2, "name" + i);
+				insertSmall.setString(3, "name" + i + "@mail.com");
+				insertSmall.setInt(4, 2000 + i % 20);
+				insertSmall.addBatch();
+			}
+			insertSmall.executeBatch();
+		} finally {
+			insertSmall.close();
+		}
+
+		selectSmall = connection.prepareStatement(SELECT_SMALL);
+
+		JdbcMapperFactory factory = JdbcMapperFactory.newInstance()
+				.reflectionService(new ReflectionService(true, true, new AsmFactory(getClass().getClassLoader(), inline)));
+
+		// go through the FieldMappers with the setters of other types first
+		for(Class<?> type : new Class<?>[] { ExtendedSmallBenchmarkObject.class, Pollution1.class, Pollution2.class, Pollution3.class }) {
+			pollute(factory.newMapper(type, selectSmall.getMetaData()));
+		}
+
+		mapper = factory.newMapper(SmallBenchmarkObject.class, selectSmall.getMetaData());
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() throws SQLException {
+		try {
+			Statement st = connection.createStatement();
+			try {
+				st.execute("shutdown");
+			} finally {
+				st.close();
+			}
+		} finally {
+			connection.close();
+		}
+	}
+
+	@Benchmark
+	public void mapper(Blackhole blackhole) throws SQLException {
+		forEach(mapper, selectSmall, blackhole);
+	}
+
+	private <T> void pollute(JdbcMapper<T> pollutionMapper) throws SQLException {
+		final StringBuilder sb = new StringBuilder();
+		for(int i = 0; i < 100; i++) {
+			sb.setLength(0);
+			ResultSet rs = selectSmall.executeQuery();
+			try {
+				pollutionMapper.forEach(rs, new RowHandler<T>() {
+					@Override
+					public void handle(T t) {
+						sb.append(t.hashCode());
+					}
+				});
+			} finally {
+				rs.close();
+			}
+		}
+	}
+
+	private static <T> void forEach(JdbcMapper<T> mapper, PreparedStatement ps, final Blackhole blackhole) throws SQLException {
+		ResultSet rs = ps.executeQuery();
+		try {
+			mapper.forEach(rs, new RowHandler<T>() {
+				@Override
+				public void handle(T t) {
+					blackhole.consume(t);
+				}
+			});
+		} finally {
+			rs.close();
+		}
+	}
+
+	public static class Pollution1 extends SmallBenchmarkObject {
+		@Override
+		public void setName(String name) {
+			super.setName(name.trim());
+		}
+	}
+
+	public static class Pollution2 {
+		private long id;
+		private String name;
+		private String email;
+		private int yearStarted;
+
+		public void setId(long id) {
+			this.id = id;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+
+		public void setEmail(String email) {
+			this.email = email;
+		}
+
+		public void setYearStarted(int yearStarted) {
+			this.yearStarted = yearStarted;
+		}
+
+		@Override
+		public String toString() {
+			return id + name + email + yearStarted;
+		}
+	}
+
+	public static class Pollution3 {
+		private long id;
+		private String name;
+		private String email;
+		private int yearStarted;
+
+		public void setId(long id) {
+			this.id = id * 2;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+
+		public void setEmail(String email) {
+			this.email = email;
+		}
+
+		public void setYearStarted(int yearStarted) {
+			this.yearStarted = yearStarted + 1;
+		}
+
+		@Override
+		public String toString() {
+			return id + name + email + yearStarted;
+		}
+	}
+}
@@ -0,0 +1,151 @@
+package org.sfm.jdbc;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+import org.sfm.beans.BenchmarkParent;
+import org.sfm.beans.ExtendedSmallBenchmarkObject;
+import org.sfm.beans.SmallBenchmarkObject;
+import org.sfm.utils.RowHandler;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Map the rows of an in memory hsqldb database with a static mapper built on the metadata, a dynamic mapper,
+ * a join mapper aggregating the children of each parent and a discriminator mapper.
+ */
+@State(Scope.Benchmark)
+public class JdbcMapperBenchmark {
+
+	private static final String SELECT_SMALL = "select id, name, email, year_started from benchmark_small order by id";
+	private static final String SELECT_JOIN = "select p.id, p.name, c.id as children_id, c.name as children_name,"
+			+ " c.email as children_email, c.year_started as children_year_started"
+			+ " from benchmark_parent p join benchmark_small c on c.parent_id = p.id order by p.id";
+	private static final String SELECT_DISCRIMINATOR = "select id, name, email, year_started, type, label from benchmark_small order by id";
+
+	@Param({"1000"})
+	public int nbRows;
+
+	@Param({"true", "false"})
+	public boolean asm;
+
+	private Connection connection;
+	private PreparedStatement selectSmall;
+	private PreparedStatement selectJoin;
+	private PreparedStatement selectDiscriminator;
+
+	private JdbcMapper<SmallBenchmarkObject> staticMapper;
+	private JdbcMapper<SmallBenchmarkObject> dynamicMapper;
+	private JdbcMapper<BenchmarkParent> joinMapper;
+	private JdbcMapper<SmallBenchmarkObject> discriminatorMapper;
+
+	@Setup(Level.Trial)
+	public void setUp() throws SQLException {
+		connection = DriverManager.getConnection("jdbc:hsqldb:mem:benchmark" + System.nanoTime(), "SA", "");
+		Statement st = connection.createStatement();
+		try {
+			st.execute("create table benchmark_parent(id bigint primary key, name varchar(100))");
+			st.execute("create table benchmark_small(id bigint primary key, parent_id bigint, name varchar(100),"
+					+ " email varchar(100), year_started int, type varchar(10), label varchar(100))");
+		} finally {
+			st.close();
+		}
+
+		PreparedStatement insertParent = connection.prepareStatement("insert into benchmark_parent values(?, ?)");
+		PreparedStatement insertSmall = connection.prepareStatement("insert into benchmark_small values(?, ?, ?, ?, ?, ?, ?)");
+		try {
+			for(int i = 0; i < nbRows; i++) {
+				if (i % 10 == 0) {
+					insertParent.setLong(1, i / 10);
+					insertParent.setString(2, "parent" + i / 10);
+					insertParent.addBatch();
+				}
+				insertSmall.setLong(1, i);
+				insertSmall.setLong(2, i / 10);
+				insertSmall.setString(3, "name" + i);
+				insertSmall.setString(4, "name" + i + "@mail.com");
+				insertSmall.setInt(5, 2000 + i % 20);
+				insertSmall.setString(6, i % 2 == 0 ? "small" : "extended");
+				insertSmall.setString(7, "label" + i);
+				insertSmall.addBatch();
+			}
+			insertParent.executeBatch();
+			insertSmall.executeBatch();
+		} finally {
+			insertParent.close();
+			insertSmall.close();
+		}
+
+		selectSmall = connection.prepareStatement(SELECT_SMALL);
+		selectJoin = connection.prepareStatement(SELECT_JOIN);
+		selectDiscriminator = connection.prepareStatement(SELECT_DISCRIMINATOR);
+
+		JdbcMapperFactory factory = JdbcMapperFactory.newInstance().useAsm(asm);
+		staticMapper = factory.newMapper(SmallBenchmarkObject.class, selectSmall.getMetaData());
+		dynamicMapper = factory.newMapper(SmallBenchmarkObject.class);
+		joinMapper = JdbcMapperFactory.newInstance().useAsm(asm).addKeys("id", "children_id").newMapper(BenchmarkParent.class);
+		discriminatorMapper = JdbcMapperFactory.newInstance().useAsm(asm)
+				.<SmallBenchmarkObject>newDiscriminator("type")
+				.when("small", SmallBenchmarkObject.class)
+				.when("extended", ExtendedSmallBenchmarkObject.class)
+				.mapper();
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() throws SQLException {
+		try {
+			Statement st = connection.createStatement();
+			try {
+				st.execute("shutdown");
+			} finally {
+				st.close();
+			}
+		} finally {
+			connection.close();
+		}
+	}
+
+	@Benchmark
+	public void staticMapper(Blackhole blackhole) throws SQLException {
+		forEach(staticMapper, selectSmall, blackhole);
+	}
+
+	@Benchmark
+	public void dynamicMapper(Blackhole blackhole) throws SQLException {
+		forEach(dynamicMapper, selectSmall, blackhole);
+	}
+
+	@Benchmark
+	public void joinMapper(Blackhole blackhole) throws SQLException {
+		forEach(joinMapper, selectJoin, blackhole);
+	}
+
+	@Benchmark
+	public void discriminatorMapper(Blackhole blackhole) throws SQLException {
+		forEach(discriminatorMapper, selectDiscriminator, blackhole);
+	}
+
+	private static <T> void forEach(JdbcMapper<T> mapper, PreparedStatement ps, final Blackhole blackhole) throws SQLException {
+		ResultSet rs = ps.executeQuery();
+		try {
+			mapper.forEach(rs, new RowHandler<T>() {
+				@Override
+				public void handle(T t) {
+					blackhole.consume(t);
+				}
+			});
+		} finally {
+			rs.close();
+		}
+	}
+}
@@ -0,0 +1,54 @@
+package org.sfm.reflect;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.sfm.beans.SmallBenchmarkObject;
+import org.sfm.csv.CsvMapper;
+import org.sfm.csv.CsvMapperFactory;
+import org.sfm.jdbc.JdbcMapper;
+import org.sfm.jdbc.JdbcMapperFactory;
+import org.sfm.reflect.asm.AsmFactory;
+import org.sfm.reflect.meta.ClassMeta;
+
+/**
+ * Cost of building a mapper from scratch: the class meta introspection, the mapper built with the classes already
+ * generated by the shared AsmFactory, and the mapper built with a new AsmFactory that generates and loads its classes.
+ */
+@State(Scope.Benchmark)
+public class MapperBuildBenchmark {
+
+	@Param({"true", "false"})
+	public boolean asm;
+
+	@Benchmark
+	public ClassMeta<SmallBenchmarkObject> classMeta() {
+		return new ReflectionService(true, asm, asm ? new AsmFactory(getClass().getClassLoader()) : null)
+				.getClassMeta(SmallBenchmarkObject.class);
+	}
+
+	@Benchmark
+	public JdbcMapper<SmallBenchmarkObject> jdbcMapper() {
+		return addColumns(JdbcMapperFactory.newInstance().useAsm(asm));
+	}
+
+	@Benchmark
+	public JdbcMapper<SmallBenchmarkObject> jdbcMapperNewAsmFactory() {
+		return addColumns(JdbcMapperFactory.newInstance()
+				.reflectionService(new ReflectionService(true, asm, asm ? new AsmFactory(getClass().getClassLoader()) : null)));
+	}
+
+	@Benchmark
+	public CsvMapper<SmallBenchmarkObject> csvMapper() {
+		return CsvMapperFactory.newInstance().useAsm(asm).newBuilder(SmallBenchmarkObject.class)
+				.addMapping("id").addMapping("name").addMapping("email").addMapping("year_started")
+				.mapper();
+	}
+
+	private JdbcMapper<SmallBenchmarkObject> addColumns(JdbcMapperFactory factory) {
+		return factory.newBuilder(SmallBenchmarkObject.class)
+				.addMapping("id").addMapping("name").addMapping("email").addMapping("year_started")
+				.mapper();
+	}
+}
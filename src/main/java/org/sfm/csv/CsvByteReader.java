@@ -0,0 +1,99 @@
+package org.sfm.csv;
+
+import org.sfm.csv.parser.ByteCellConsumer;
+import org.sfm.csv.parser.CsvByteConsumer;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Csv reader tokenizing the raw bytes of the input without decoding them to chars.
+ * <p>
+ * The cells are provided as encoded bytes to the {@link ByteCellConsumer}, the decoding is left to the consumer
+ * that can parse numbers straight from the bytes and decode only the cells it needs as String -
+ * see the byte[] methods of {@link org.sfm.csv.impl.cellreader.StringCellValueReader},
+ * {@link org.sfm.csv.impl.cellreader.IntegerCellValueReaderImpl}, {@link org.sfm.csv.impl.cellreader.LongCellValueReaderImpl}
+ * and {@link org.sfm.csv.impl.cellreader.DoubleCellValueReaderImpl}.
+ */
+public final class CsvByteReader implements Closeable {
+
+	private final static ByteCellConsumer DUMMY_CONSUMER = new ByteCellConsumer() {
+
+		@Override
+		public void newCell(byte[] bytes, int offset, int length) {
+		}
+
+		@Override
+		public void endOfRow() {
+		}
+
+		@Override
+		public void end() {
+		}
+	};
+
+	private final InputStream is;
+	private final CsvByteConsumer consumer;
+
+	public CsvByteReader(InputStream is, CsvByteConsumer byteConsumer) {
+		this.is = is;
+		this.consumer = byteConsumer;
+	}
+
+	/**
+	 * parse cvs
+	 * @param cellConsumer the consumer that the parser will callback
+	 * @param <CC> the cell consumer type
+	 * @throws java.io.IOException if an io error occurs
+	 * @return the cell consumer
+	 */
+	public <CC extends ByteCellConsumer> CC parseAll(CC cellConsumer)
+			throws IOException {
+		do {
+			consumer.parseAll(cellConsumer);
+		} while (consumer.fillBuffer(is));
+		consumer.finish(cellConsumer);
+
+		return cellConsumer;
+	}
+
+	/**
+	 * parse cvs
+	 * @param cellConsumer the cell consumer
+	 * @return true if there was data consumed
+	 * @throws IOException if io error occurs
+	 */
+	public boolean parseRow(ByteCellConsumer cellConsumer)
+			throws IOException {
+
+		do {
+			if (consumer.nextRow(cellConsumer)) {
+				return true;
+			}
+		} while (consumer.fillBuffer(is));
+
+		consumer.finish(cellConsumer);
+		return false;
+	}
+
+	public void skipRows(int n) throws IOException {
+		parseRows(DUMMY_CONSUMER, n);
+	}
+
+	public <CC extends ByteCellConsumer> CC parseRows(CC cellConsumer, int limit) throws IOException {
+		for(int i = 0; i < limit; i++) {
+			parseRow(cellConsumer);
+		}
+		return cellConsumer;
+	}
+
+	/**
+	 * close the underlying input stream.
+	 * @throws IOException if an io error occurs
+	 */
+	@Override
+	public void close() throws IOException {
+		is.close();
+	}
+}
@@ -0,0 +1,206 @@
+package org.sfm.csv;
+
+import org.sfm.csv.impl.ColumnsMapperKeyBuilderCellConsumer;
+import org.sfm.csv.impl.cellreader.BooleanCellValueReaderImpl;
+import org.sfm.csv.impl.cellreader.DoubleCellValueReaderImpl;
+import org.sfm.csv.impl.cellreader.IntegerCellValueReaderImpl;
+import org.sfm.csv.impl.cellreader.LongCellValueReaderImpl;
+import org.sfm.csv.impl.cellreader.StringCellValueReader;
+import org.sfm.csv.parser.CellConsumer;
+import org.sfm.map.ColumnBatch;
+import org.sfm.map.ColumnDefinitionProvider;
+import org.sfm.map.MapperBuilderErrorHandler;
+import org.sfm.map.RowHandlerErrorHandler;
+import org.sfm.map.impl.ColumnBatchBuilder;
+import org.sfm.reflect.meta.ClassMeta;
+import org.sfm.reflect.meta.PropertyNameMatcherFactory;
+import org.sfm.utils.RowHandler;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * Map the rows of a csv in batches into a {@link ColumnBatch}, one primitive array per property of T,
+ * without instantiating T.
+ * <p>
+ * The columns are resolved against the properties of T from the header row, applying the aliases and the ignored
+ * columns of the column definitions. The cells are parsed straight from the parser buffer into the arrays,
+ * only the String columns allocate. The empty cells of the non String columns and the missing cells are flagged
+ * in the null bitmaps of the batch.
+ * <p>
+ * <code>
+ *     CsvColumnarMapper&lt;MyClass&gt; mapper = CsvMapperFactory.newInstance().newColumnarMapper(MyClass.class);<br>
+ *     mapper.forEachBatch(reader, 1024, new RowHandler&lt;ColumnBatch&lt;MyClass&gt;&gt;() { ... });<br>
+ * </code>
+ * @param <T> the type the properties are read from
+ */
+public final class CsvColumnarMapper<T> {
+
+	private final ClassMeta<T> classMeta;
+	private final ColumnDefinitionProvider<CsvColumnDefinition, CsvColumnKey> columnDefinitions;
+	private final PropertyNameMatcherFactory propertyNameMatcherFactory;
+	private final MapperBuilderErrorHandler mapperBuilderErrorHandler;
+	private final RowHandlerErrorHandler rowHandlerErrorHandler;
+
+	public CsvColumnarMapper(ClassMeta<T> classMeta,
+							 ColumnDefinitionProvider<CsvColumnDefinition, CsvColumnKey> columnDefinitions,
+							 PropertyNameMatcherFactory propertyNameMatcherFactory,
+							 MapperBuilderErrorHandler mapperBuilderErrorHandler,
+							 RowHandlerErrorHandler rowHandlerErrorHandler) {
+		this.classMeta = classMeta;
+		this.columnDefinitions = columnDefinitions;
+		this.propertyNameMatcherFactory = propertyNameMatcherFactory;
+		this.mapperBuilderErrorHandler = mapperBuilderErrorHandler;
+		this.rowHandlerErrorHandler = rowHandlerErrorHandler;
+	}
+
+	public <H extends RowHandler<? super ColumnBatch<T>>> H forEachBatch(Reader reader, int batchSize, H handler) throws IOException {
+		return forEachBatch(CsvParser.reader(reader), batchSize, handler);
+	}
+
+	public <H extends RowHandler<? super ColumnBatch<T>>> H forEachBatch(File file, int batchSize, H handler) throws IOException {
+		CsvReader csvReader = CsvParser.reader(file);
+		try {
+			return forEachBatch(csvReader, batchSize, handler);
+		} finally {
+			csvReader.close();
+		}
+	}
+
+	/**
+	 * Call the handler with batches of up to batchSize rows, the same ColumnBatch instance is refilled for each batch.
+	 * @param csvReader the reader positioned on the header row
+	 * @param batchSize the maximum number of rows per batch
+	 * @param handler the handler called for each batch
+	 * @param <H> the handler type
+	 * @return the handler
+	 * @throws IOException if an io error occurs
+	 */
+	public <H extends RowHandler<? super ColumnBatch<T>>> H forEachBatch(CsvReader csvReader, int batchSize, H handler) throws IOException {
+		ColumnsMapperKeyBuilderCellConsumer<T> headerConsumer = new ColumnsMapperKeyBuilderCellConsumer<T>();
+		csvReader.parseRow(headerConsumer);
+		String[] headers = headerConsumer.getKey().getColumns();
+
+		ColumnBatchBuilder<T> builder = new ColumnBatchBuilder<T>(classMeta, propertyNameMatcherFactory, mapperBuilderErrorHandler);
+		int[] batchColumns = new int[headers.length];
+		for(int i = 0; i < headers.length; i++) {
+			final CsvColumnKey key = new CsvColumnKey(headers[i], i);
+			batchColumns[i] = builder.addColumn(key, columnDefinitions.getColumnDefinition(key));
+		}
+
+		csvReader.parseAll(new BatchCellConsumer<T>(builder.newBatch(batchSize), batchColumns, handler, rowHandlerErrorHandler));
+		return handler;
+	}
+
+	private static final class BatchCellConsumer<T> implements CellConsumer {
+		private final ColumnBatch<T> batch;
+		private final ColumnBatch.ColumnType[] types;
+		private final Object[] columns;
+		private final int[] batchColumns;
+		private final RowHandler<? super ColumnBatch<T>> handler;
+		private final RowHandlerErrorHandler rowHandlerErrorHandler;
+
+		private int cellIndex;
+		private int row;
+
+		private BatchCellConsumer(ColumnBatch<T> batch, int[] batchColumns, RowHandler<? super ColumnBatch<T>> handler, RowHandlerErrorHandler rowHandlerErrorHandler) {
+			this.batch = batch;
+			this.handler = handler;
+			this.rowHandlerErrorHandler = rowHandlerErrorHandler;
+			this.types = new ColumnBatch.ColumnType[batchColumns.length];
+			this.columns = new Object[batchColumns.length];
+			this.batchColumns = batchColumns;
+			for(int i = 0; i < batchColumns.length; i++) {
+				if (batchColumns[i] != -1) {
+					types[i] = batch.getType(batchColumns[i]);
+					columns[i] = batch.getColumn(batchColumns[i]);
+				}
+			}
+		}
+
+		@Override
+		public void newCell(char[] chars, int offset, int length) {
+			final int i = cellIndex++;
+			if (i >= types.length || types[i] == null) {
+				return;
+			}
+			if (length == 0 && types[i] != ColumnBatch.ColumnType.STRING) {
+				resetCell(i);
+				return;
+			}
+			switch (types[i]) {
+				case INT:
+					((int[]) columns[i])[row] = IntegerCellValueReaderImpl.parseInt(chars, offset, length);
+					break;
+				case LONG:
+					((long[]) columns[i])[row] = LongCellValueReaderImpl.parseLong(chars, offset, length);
+					break;
+				case DOUBLE:
+					((double[]) columns[i])[row] = DoubleCellValueReaderImpl.parseDouble(chars, offset, length);
+					break;
+				case BOOLEAN:
+					((boolean[]) columns[i])[row] = BooleanCellValueReaderImpl.parseBoolean(chars, offset, length);
+					break;
+				default:
+					((String[]) columns[i])[row] = StringCellValueReader.readString(chars, offset, length);
+					break;
+			}
+		}
+
+		@Override
+		public void endOfRow() {
+			// cells missing from a short row keep the value of the previous batch, reset them
+			for(int i = cellIndex; i < types.length; i++) {
+				resetCell(i);
+			}
+			cellIndex = 0;
+			row++;
+			if (row == batch.capacity()) {
+				flush();
+			}
+		}
+
+		private void resetCell(int i) {
+			if (types[i] == null) {
+				return;
+			}
+			batch.setNull(batchColumns[i], row);
+			switch (types[i]) {
+				case INT: ((int[]) columns[i])[row] = 0; break;
+				case LONG: ((long[]) columns[i])[row] = 0; break;
+				case DOUBLE: ((double[]) columns[i])[row] = 0; break;
+				case BOOLEAN: ((boolean[]) columns[i])[row] = false; break;
+				default: ((String[]) columns[i])[row] = null; break;
+			}
+		}
+
+		@Override
+		public void end() {
+			if (cellIndex > 0) {
+				endOfRow();
+			}
+			if (row > 0) {
+				flush();
+			}
+		}
+
+		private void flush() {
+			batch.setSize(row);
+			row = 0;
+			try {
+				handler.handle(batch);
+			} catch (Throwable e) {
+				rowHandlerErrorHandler.handlerError(e, batch);
+			}
+			batch.clearNulls();
+		}
+	}
+
+	@Override
+	public String toString() {
+		return "CsvColumnarMapper{" +
+				"classMeta=" + classMeta +
+				'}';
+	}
+}
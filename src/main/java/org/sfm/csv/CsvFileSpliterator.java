@@ -0,0 +1,244 @@
+package org.sfm.csv;
+
+import org.sfm.csv.parser.CellConsumer;
+import org.sfm.csv.parser.MappedFileReader;
+import org.sfm.csv.parser.RowBoundaryScanner;
+import org.sfm.utils.ErrorHelper;
+import org.sfm.utils.RowHandler;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.io.Reader;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Spliterator on a csv file that can be split in byte ranges for parallel processing.
+ * <p>
+ * Each split point is resynchronized on a real row boundary near the middle of the range using a {@link RowBoundaryScanner}
+ * - quotes spanning multiple lines are taken into account - and each range is parsed with its own {@link CsvReader} and its own
+ * {@link CellConsumer} on a {@link MappedFileReader}. The encounter order is the order of the rows in the file, use
+ * {@link java.util.stream.Stream#unordered()} to relax it.
+ * <p>
+ * The charset of the dsl needs to encode the separator, the quote and the end of line characters
+ * as single ASCII bytes - UTF-8 or ISO-8859-1 for example.
+ * <p>
+ * The estimated size is expressed in bytes.
+ *
+ * @param <T> the type of the element
+ */
+public final class CsvFileSpliterator<T> implements Spliterator<T> {
+
+	public static final long DEFAULT_MIN_SPLIT_SIZE = 1 << 20;
+
+	private final File file;
+	private final CsvParser.DSL dsl;
+	private final Function<RowHandler<? super T>, CellConsumer> cellConsumerFactory;
+	private final long minSplitSize;
+	private final Set<Closeable> openedRanges;
+	private final SplitChannel splitChannel;
+	private final long end;
+	private long start;
+
+	private Reader input;
+	private CsvReader csvReader;
+	private CellConsumer cellConsumer;
+	private T current;
+
+	public CsvFileSpliterator(File file, CsvParser.DSL dsl,
+							  Function<RowHandler<? super T>, CellConsumer> cellConsumerFactory,
+							  long start, long end, long minSplitSize) {
+		this(file, dsl, cellConsumerFactory, start, end, minSplitSize, ConcurrentHashMap.<Closeable>newKeySet(), new SplitChannel(file));
+		openedRanges.add(splitChannel);
+	}
+
+	private CsvFileSpliterator(File file, CsvParser.DSL dsl,
+							   Function<RowHandler<? super T>, CellConsumer> cellConsumerFactory,
+							   long start, long end, long minSplitSize, Set<Closeable> openedRanges, SplitChannel splitChannel) {
+		this.file = file;
+		this.dsl = dsl;
+		this.cellConsumerFactory = cellConsumerFactory;
+		this.start = start;
+		this.end = end;
+		this.minSplitSize = minSplitSize;
+		this.openedRanges = openedRanges;
+		this.splitChannel = splitChannel;
+	}
+
+	/**
+	 * @param file the csv file
+	 * @param dsl the parser configuration
+	 * @param nbRows the number of rows to skip
+	 * @return the offset of the first row after nbRows rows
+	 * @throws IOException if an io error occurs
+	 */
+	public static long rowStart(File file, CsvParser.DSL dsl, int nbRows) throws IOException {
+		try (RandomAccessFile raf = new RandomAccessFile(file, "r")) {
+			FileChannel channel = raf.getChannel();
+			return newScanner(dsl).skipRows(channel, 0, nbRows, channel.size());
+		}
+	}
+
+	private static RowBoundaryScanner newScanner(CsvParser.DSL dsl) {
+		if (!dsl.isAsciiCompatible()) {
+			throw new IllegalArgumentException("Charset " + dsl.charset() + " cannot be split on byte boundaries");
+		}
+		return new RowBoundaryScanner(dsl.separator(), dsl.quote());
+	}
+
+	@Override
+	public boolean tryAdvance(Consumer<? super T> action) {
+		if (start >= end) {
+			return false;
+		}
+		try {
+			if (csvReader == null) {
+				open();
+				cellConsumer = cellConsumerFactory.apply(new RowHandler<T>() {
+					@Override
+					public void handle(T t) throws Exception {
+						current = t;
+					}
+				});
+			}
+
+			current = null;
+			boolean hasMoreRows;
+			do {
+				hasMoreRows = csvReader.parseRow(cellConsumer);
+			} while (current == null && hasMoreRows);
+
+			if (!hasMoreRows) {
+				close();
+			}
+
+			if (current != null) {
+				action.accept(current);
+				current = null;
+				return true;
+			} else {
+				return false;
+			}
+		} catch (IOException e) {
+			return ErrorHelper.rethrow(e);
+		}
+	}
+
+	@Override
+	public void forEachRemaining(final Consumer<? super T> action) {
+		if (start >= end) {
+			return;
+		}
+		try {
+			if (csvReader == null) {
+				open();
+			}
+			csvReader.parseAll(cellConsumerFactory.apply(new RowHandler<T>() {
+				@Override
+				public void handle(T t) throws Exception {
+					action.accept(t);
+				}
+			}));
+			close();
+		} catch (IOException e) {
+			ErrorHelper.rethrow(e);
+		}
+	}
+
+	@Override
+	public Spliterator<T> trySplit() {
+		if (csvReader != null || end - start <= minSplitSize) {
+			return null;
+		}
+
+		long boundary;
+		try {
+			boundary = newScanner(dsl).rowStartNear(splitChannel.get(), start, start + (end - start) / 2, end);
+		} catch (IOException e) {
+			return ErrorHelper.rethrow(e);
+		}
+
+		if (boundary >= end) {
+			return null;
+		}
+
+		CsvFileSpliterator<T> prefix = new CsvFileSpliterator<T>(file, dsl, cellConsumerFactory, start, boundary, minSplitSize, openedRanges, splitChannel);
+		start = boundary;
+		return prefix;
+	}
+
+	@Override
+	public long estimateSize() {
+		return Math.max(end - start, 0);
+	}
+
+	@Override
+	public int characteristics() {
+		return Spliterator.ORDERED | Spliterator.NONNULL;
+	}
+
+	/**
+	 * close all the ranges still opened by this spliterator or the spliterators split from it.
+	 */
+	public void closeAll() {
+		for(Closeable closeable : openedRanges) {
+			try {
+				closeable.close();
+			} catch (IOException e) {
+				// ignore
+			}
+		}
+		openedRanges.clear();
+	}
+
+	private void open() throws IOException {
+		input = new MappedFileReader(file, dsl.charset(), start, end);
+		csvReader = dsl.newCsvReader(input);
+		// closing the CsvReader ends the read ahead task before closing the file
+		openedRanges.add(csvReader);
+	}
+
+	private void close() throws IOException {
+		start = end;
+		if (input != null) {
+			openedRanges.remove(csvReader);
+			csvReader.close();
+			input = null;
+		}
+	}
+
+	/**
+	 * channel used to find the split boundaries, shared by all the spliterators split from the same one.
+	 * FileChannel positional reads can be done concurrently.
+	 */
+	private static final class SplitChannel implements Closeable {
+		private final File file;
+		private FileChannel channel;
+
+		private SplitChannel(File file) {
+			this.file = file;
+		}
+
+		synchronized FileChannel get() throws IOException {
+			if (channel == null) {
+				channel = FileChannel.open(file.toPath(), StandardOpenOption.READ);
+			}
+			return channel;
+		}
+
+		@Override
+		public synchronized void close() throws IOException {
+			if (channel != null) {
+				channel.close();
+				channel = null;
+			}
+		}
+	}
+}
@@ -3,6 +3,7 @@ package org.sfm.csv;
 import org.sfm.map.MappingException;
 import org.sfm.utils.RowHandler;
 
+import java.io.File;
 import java.io.IOException;
 import java.io.Reader;
 import java.util.Iterator;
@@ -82,6 +83,21 @@ public interface CsvMapper<T> {
 	 */
 	<H extends RowHandler<? super T>> H forEach(CsvReader reader, H handle) throws IOException, MappingException;
 
+	/**
+	 * Will map each row of the content of the UTF-8 encoded file to an object of type T and will pass that object to the handle via the {@link RowHandler}.handler(T t) call back.
+	 * <p>
+	 * The file is memory mapped and decoded without going through an {@link java.io.InputStreamReader}.
+	 *
+	 * @param file the file
+	 * @param handle the callback instance
+	 * @param <H> the row handler type
+	 * @return the callback instance
+	 * @throws IOException if an io error occurs
+	 * @throws MappingException if an mapping error occurs
+	 * @see org.sfm.csv.parser.MappedFileReader
+	 */
+	<H extends RowHandler<? super T>> H forEach(File file, H handle) throws IOException, MappingException;
+
 
 	/**
 	 * Will map each row of the content of reader, starting at rowStart, to an object of type T and will pass that object to the handle via the {@link RowHandler}.handler(T t) call back.
@@ -197,4 +213,33 @@ public interface CsvMapper<T> {
 	Stream<T> stream(Reader reader, int skip) throws IOException;
 	//IFJAVA8_END
 
+	/**
+	 * Will return a Stream of T on the UTF-8 encoded file.
+	 * <p>
+	 * The stream can be processed in parallel, the file will be split in byte ranges
+	 * resynchronized on row boundaries, each range being parsed and mapped independently.
+	 * A mapper with join keys will not split.
+	 *
+	 * @param file the file
+	 * @return stream of T
+	 * @throws IOException if an io error occurs
+	 * @see org.sfm.csv.CsvFileSpliterator
+	 */
+	//IFJAVA8_START
+	Stream<T> stream(File file) throws IOException;
+	//IFJAVA8_END
+
+	/**
+	 * Will return a Stream of T on the file, using the separator, quote, buffer size, skip and charset of the dsl.
+	 *
+	 * @param file the file
+	 * @param dsl the parser configuration
+	 * @return stream of T
+	 * @throws IOException if an io error occurs
+	 * @see #stream(java.io.File)
+	 */
+	//IFJAVA8_START
+	Stream<T> stream(File file, CsvParser.DSL dsl) throws IOException;
+	//IFJAVA8_END
+
 }
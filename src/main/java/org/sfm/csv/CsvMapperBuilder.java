@@ -4,6 +4,7 @@ import org.sfm.csv.impl.*;
 import org.sfm.map.*;
 import org.sfm.map.impl.*;
 import org.sfm.reflect.*;
+import org.sfm.reflect.impl.RecyclingInstantiator;
 import org.sfm.reflect.meta.*;
 import org.sfm.tuples.Tuple3;
 import org.sfm.utils.ErrorHelper;
@@ -38,6 +39,8 @@ public class CsvMapperBuilder<T> {
     private final boolean failOnAsm;
     private final int asmMapperNbFieldsLimit;
 	private final int maxMethodSize;
+	private int recycledInstances = 0;
+	private MapperMetrics mapperMetrics = NoOpMapperMetrics.INSTANCE;
 
     public CsvMapperBuilder(final Type target) {
 		this(target, ReflectionService.newInstance());
@@ -118,11 +121,37 @@ public class CsvMapperBuilder<T> {
 		this.defaultDateFormat = defaultDateFormat;
 	}
 
+	/**
+	 * Populate again, on each thread, the instances of a ring of ringSize instances instead of instantiating
+	 * a new object per row. Ignored if the target has constructor injected properties or if the mapper joins rows.
+	 * <p>
+	 * The properties of the columns missing from a short row keep the value of the previous use of the instance.
+	 * @param ringSize the number of instances to recycle, 0 to instantiate a new object per row
+	 * @return the current builder
+	 */
+	public CsvMapperBuilder<T> recycleInstances(int ringSize) {
+		this.recycledInstances = ringSize;
+		return this;
+	}
+
+	/**
+	 * @param mapperMetrics the metrics receiving the build and the asm generation times of the mapper
+	 * @return the current builder
+	 */
+	public CsvMapperBuilder<T> mapperMetrics(MapperMetrics mapperMetrics) {
+		this.mapperMetrics = mapperMetrics;
+		return this;
+	}
+
 	public final CsvMapper<T> mapper() {
+        final long start = System.nanoTime();
         ParsingContextFactoryBuilder parsingContextFactoryBuilder = new ParsingContextFactoryBuilder(propertyMappingsBuilder.size());
 
         Tuple3<Map<Parameter, Getter<CsvMapperCellHandler<T>, ?>>, Integer, Boolean> constructorParams = buildConstructorParametersDelayedCellSetter();
-        final Instantiator<CsvMapperCellHandler<T>, T> instantiator = getInstantiator(constructorParams.first());
+        Instantiator<CsvMapperCellHandler<T>, T> instantiator = getInstantiator(constructorParams.first());
+        if (canRecycleInstances(constructorParams.first())) {
+            instantiator = new RecyclingInstantiator<CsvMapperCellHandler<T>, T>(instantiator, recycledInstances);
+        }
         final CsvColumnKey[] keys = getKeys();
 
         // will build the context factory builder
@@ -132,9 +161,11 @@ public class CsvMapperBuilder<T> {
         // needs to happen last
         final CsvMapperCellHandlerFactory<T> csvMapperCellHandlerFactory = newCsvMapperCellHandlerFactory(parsingContextFactoryBuilder, instantiator, keys, delayedCellSetterFactories, setters);
 
-        return new CsvMapperImpl<T>(csvMapperCellHandlerFactory,
+        final CsvMapperImpl<T> mapper = new CsvMapperImpl<T>(csvMapperCellHandlerFactory,
                 delayedCellSetterFactories,
                 setters, getJoinKeys(), rowHandlerErrorHandler);
+        mapperMetrics.mapperBuilt(target, System.nanoTime() - start);
+        return mapper;
 	}
 
     private CsvMapperCellHandlerFactory<T> newCsvMapperCellHandlerFactory(ParsingContextFactoryBuilder parsingContextFactoryBuilder,
@@ -147,10 +178,13 @@ public class CsvMapperBuilder<T> {
         final ParsingContextFactory parsingContextFactory = parsingContextFactoryBuilder.newFactory();
         if (isEligibleForAsmHandler()) {
             try {
-                return reflectionService.getAsmFactory()
+                final long start = System.nanoTime();
+                final CsvMapperCellHandlerFactory<T> factory = reflectionService.getAsmFactory()
 						.<T>createCsvMapperCellHandler(target, delayedCellSetterFactories, setters,
                         instantiator, keys, parsingContextFactory, fieldMapperErrorHandler,
 								 maxMethodSize);
+                mapperMetrics.asmMapperGenerated(target, System.nanoTime() - start);
+                return factory;
             } catch (Exception e) {
                 if (failOnAsm || true) {
                     return ErrorHelper.rethrow(e);
@@ -163,6 +197,18 @@ public class CsvMapperBuilder<T> {
         }
     }
 
+    /**
+     * the instances can only be populated again when all the properties are set through setters
+     * and no join aggregates the rows.
+     */
+    private boolean canRecycleInstances(Map<Parameter, Getter<CsvMapperCellHandler<T>, ?>> constructorInjections) {
+        return recycledInstances > 0
+                && constructorInjections.isEmpty()
+                && !propertyMappingsBuilder.hasConstructorProperties()
+                && !propertyMappingsBuilder.isDirectProperty()
+                && getJoinKeys().length == 0;
+    }
+
     private boolean isEligibleForAsmHandler() {
         return reflectionService.getAsmFactory() != null
                 &&  this.propertyMappingsBuilder.size() < asmMapperNbFieldsLimit;
@@ -12,6 +12,7 @@ import org.sfm.reflect.meta.PropertyNameMatcherFactory;
 import org.sfm.utils.Predicate;
 
 import java.lang.reflect.Type;
+import java.util.concurrent.Executor;
 
 /**
  * CsvMapperFactory is not Thread-Safe but the mappers are.
@@ -67,6 +68,14 @@ public final class CsvMapperFactory {
 
 	private CellValueReaderFactory cellValueReaderFactory = new CellValueReaderFactoryImpl();
 
+	private int mapperCacheSize = MapperCache.DEFAULT_MAX_SIZE;
+	private CacheEvictionPolicy mapperCacheEvictionPolicy = CacheEvictionPolicy.LRU;
+	private final MapperCacheStats mapperCacheStats = new MapperCacheStats();
+
+	private int recycledInstances = 0;
+	private MapperMetrics mapperMetrics = NoOpMapperMetrics.INSTANCE;
+	private Executor asmCompilationExecutor = null;
+
 	public CsvMapperFactory() {
 	}
 
@@ -160,6 +169,78 @@ public final class CsvMapperFactory {
 		return this;
 	}
 
+	/**
+	 * Set the maximum number of mappers cached by each dynamic mapper, one per distinct header.
+	 * <p>
+	 * the default value is unbounded.
+	 * @param mapperCacheSize the maximum number of mappers in the cache
+	 * @return the factory
+	 */
+	public CsvMapperFactory mapperCacheSize(final int mapperCacheSize) {
+		this.mapperCacheSize = mapperCacheSize;
+		return this;
+	}
+
+	/**
+	 * Set the policy used to evict a mapper once the mapper cache is full. the default value is LRU.
+	 * @param mapperCacheEvictionPolicy the eviction policy
+	 * @return the factory
+	 */
+	public CsvMapperFactory mapperCacheEvictionPolicy(final CacheEvictionPolicy mapperCacheEvictionPolicy) {
+		this.mapperCacheEvictionPolicy = mapperCacheEvictionPolicy;
+		return this;
+	}
+
+	/**
+	 * @return the hit, miss and eviction counters of the mapper caches of the dynamic mappers created by this factory
+	 */
+	public MapperCacheStats mapperCacheStats() {
+		return mapperCacheStats;
+	}
+
+	/**
+	 * Populate again, on each thread, the instances of a ring of ringSize instances instead of instantiating
+	 * a new object per row. An object passed to the RowHandler is then only valid until ringSize more rows are mapped.
+	 * <p>
+	 * Ignored for the targets with constructor injected properties and for the mappers joining rows.
+	 * The properties of the columns missing from a short row keep the value of the previous use of the instance.
+	 * 0, the default value, instantiates a new object per row.
+	 * @param ringSize the number of instances to recycle
+	 * @return the factory
+	 */
+	public CsvMapperFactory recycleInstances(final int ringSize) {
+		this.recycledInstances = ringSize;
+		return this;
+	}
+
+
+	/**
+	 * Set the metrics receiving the mapper build and asm generation times, the mapper cache hits and misses,
+	 * the number of rows mapped by forEach on the mappers created by newMapper and the field errors.
+	 * <p>
+	 * The field errors are recorded through a FieldMapperErrorHandler wrapping the configured one.
+	 * By default the events are ignored and the mappers do not count the rows.
+	 * @param mapperMetrics the metrics
+	 * @return the factory
+	 */
+	public CsvMapperFactory mapperMetrics(final MapperMetrics mapperMetrics) {
+		this.mapperMetrics = mapperMetrics;
+		return this;
+	}
+
+	/**
+	 * Generate the asm cell handlers of the dynamic mappers on the executor instead of on the first read of a new header.
+	 * <p>
+	 * The first rows of a new header are mapped by a reflection cell handler, built without generating the handler class,
+	 * that the dynamic mapper replaces in its cache by the asm one once generated. A handler that fails to generate
+	 * keeps using the reflection one. null, the default value, generates the asm cell handler on the calling thread.
+	 * @param executor the executor generating the asm cell handlers
+	 * @return the factory
+	 */
+	public CsvMapperFactory asmCompilationExecutor(final Executor executor) {
+		this.asmCompilationExecutor = executor;
+		return this;
+	}
 
 	/**
 	 * 
@@ -180,10 +261,46 @@ public final class CsvMapperFactory {
 		ClassMeta<T> classMeta = getClassMeta(target);
 		return new DynamicCsvMapper<T>(target,
 				classMeta,
-				fieldMapperErrorHandler, mapperBuilderErrorHandler,
+				MetricsFieldMapperErrorHandler.wrap(fieldMapperErrorHandler, mapperMetrics), mapperBuilderErrorHandler,
 				rowHandlerErrorHandler, defaultDateFormat, columnDefinitions,
                 propertyNameMatcherFactory, cellValueReaderFactory,
-				failOnAsm, asmMapperNbFieldsLimit, maxMethodSize);
+				failOnAsm, asmMapperNbFieldsLimit, maxMethodSize,
+				new DynamicMapperSettings()
+						.mapperCache(mapperCacheSize, mapperCacheEvictionPolicy, mapperCacheStats)
+						.recycledInstances(recycledInstances)
+						.mapperMetrics(mapperMetrics)
+						.asmCompilationExecutor(asmCompilationExecutor));
+	}
+
+	/**
+	 * Will create a mapper that maps the rows in batches into the primitive arrays of a {@link org.sfm.map.ColumnBatch}
+	 * instead of instantiating the target.
+	 * @param target the class the properties are read from
+	 * @param <T> the targeted type
+	 * @return the columnar mapper
+	 */
+	public <T> CsvColumnarMapper<T> newColumnarMapper(final Class<T> target) {
+		return newColumnarMapper((Type) target);
+	}
+
+	public <T> CsvColumnarMapper<T> newColumnarMapper(final Type target) {
+		ClassMeta<T> classMeta = getClassMeta(target);
+		return new CsvColumnarMapper<T>(classMeta, columnDefinitions, propertyNameMatcherFactory, mapperBuilderErrorHandler, rowHandlerErrorHandler);
+	}
+
+	/**
+	 * Will create a DSL to write objects of the target class as csv rows, one cell per property.
+	 * @param target the class the properties are read from
+	 * @param <T> the written type
+	 * @return the writer DSL
+	 */
+	public <T> CsvWriter.DSL<T> newWriter(final Class<T> target) {
+		return newWriter((Type) target);
+	}
+
+	public <T> CsvWriter.DSL<T> newWriter(final Type target) {
+		ClassMeta<T> classMeta = getClassMeta(target);
+		return new CsvWriter.DSL<T>(classMeta, propertyNameMatcherFactory, mapperBuilderErrorHandler, defaultDateFormat);
 	}
 
 	private <T> ClassMeta<T> getClassMeta(Type target) {
@@ -212,9 +329,11 @@ public final class CsvMapperFactory {
                 mapperBuilderErrorHandler, columnDefinitions,
                 propertyNameMatcherFactory, cellValueReaderFactory,
                 0, failOnAsm, asmMapperNbFieldsLimit, maxMethodSize);
-		builder.fieldMapperErrorHandler(fieldMapperErrorHandler);
+		builder.fieldMapperErrorHandler(MetricsFieldMapperErrorHandler.wrap(fieldMapperErrorHandler, mapperMetrics));
 		builder.rowHandlerErrorHandler(rowHandlerErrorHandler);
 		builder.setDefaultDateFormat(defaultDateFormat);
+		builder.recycleInstances(recycledInstances);
+		builder.mapperMetrics(mapperMetrics);
 		return builder;
 	}
 
@@ -8,15 +8,22 @@ import org.sfm.reflect.ReflectionService;
 import org.sfm.reflect.TypeReference;
 import org.sfm.reflect.meta.ClassMeta;
 import org.sfm.tuples.*;
+import org.sfm.utils.ErrorHelper;
 import org.sfm.utils.Predicate;
 import org.sfm.utils.RowHandler;
 
+import java.io.File;
+import java.io.FileInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.Reader;
 import java.lang.reflect.Type;
+import java.nio.charset.Charset;
 import java.util.*;
+import java.util.concurrent.Executor;
 //IFJAVA8_START
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 //IFJAVA8_END
 
 /**
@@ -81,6 +88,9 @@ import java.util.stream.Stream;
  */
 public final class CsvParser {
 
+	private static final Charset UTF8 = Charset.forName("UTF-8");
+	private static final Charset ASCII = Charset.forName("US-ASCII");
+
 	/**
 	 *
 	 * @param c the separator char
@@ -94,6 +104,10 @@ public final class CsvParser {
 		return schema().bufferSize(size);
 	}
 
+	public static DSL maxBufferSize(int size) {
+		return schema().maxBufferSize(size);
+	}
+
 	public static DSL quote(char c) {
 		return schema().quote(c);
 	}
@@ -102,7 +116,10 @@ public final class CsvParser {
 		return schema().skip(skip);
 	}
 
-	private static DSL schema() {
+	/**
+	 * @return the DSL object with the default setup
+	 */
+	public static DSL schema() {
 		return new DSL();
 	}
 
@@ -163,6 +180,24 @@ public final class CsvParser {
 		return schema().reader(reader);
 	}
 
+	/**
+	 * @param file the UTF-8 encoded file
+	 * @return a csv reader on the memory mapped file based on the default setup.
+	 * @throws java.io.IOException if an error occurs reading the data
+	 */
+	public static CsvReader reader(File file) throws IOException {
+		return schema().reader(file);
+	}
+
+	/**
+	 * @param is the UTF-8 encoded input stream
+	 * @return a byte level csv reader based on the default setup.
+	 * @throws java.io.IOException if an error occurs reading the data
+	 */
+	public static CsvByteReader byteReader(InputStream is) throws IOException {
+		return schema().byteReader(is);
+	}
+
 	@SuppressWarnings("deprecation")
     @Deprecated
 	public static Iterator<String[]> iterate(Reader reader) throws IOException {
@@ -182,6 +217,10 @@ public final class CsvParser {
 	public static Stream<String[]> stream(Reader r) throws IOException {
 		return schema().stream(r);
 	}
+
+	public static Stream<String[]> stream(File file) throws IOException {
+		return schema().stream(file);
+	}
 	//IFJAVA8_END
 
     /**
@@ -194,6 +233,9 @@ public final class CsvParser {
         private final int bufferSize;
         private final int skip;
         private final int limit;
+        private final Charset charset;
+        private final int maxBufferSize;
+        private final Executor readAheadExecutor;
 
 		private DSL() {
 			separatorChar = ',';
@@ -201,14 +243,28 @@ public final class CsvParser {
 			bufferSize = 8192;
 			skip = 0;
 			limit = -1;
+			charset = UTF8;
+			maxBufferSize = -1;
+			readAheadExecutor = null;
 		}
 
 		public DSL(char separatorChar, char quoteChar, int bufferSize, int skip, int limit) {
+			this(separatorChar, quoteChar, bufferSize, skip, limit, UTF8);
+		}
+
+		public DSL(char separatorChar, char quoteChar, int bufferSize, int skip, int limit, Charset charset) {
+			this(separatorChar, quoteChar, bufferSize, skip, limit, charset, -1, null);
+		}
+
+		private DSL(char separatorChar, char quoteChar, int bufferSize, int skip, int limit, Charset charset, int maxBufferSize, Executor readAheadExecutor) {
 			this.separatorChar = separatorChar;
 			this.quoteChar = quoteChar;
 			this.bufferSize = bufferSize;
 			this.skip = skip;
 			this.limit = limit;
+			this.charset = charset;
+			this.maxBufferSize = maxBufferSize;
+			this.readAheadExecutor = readAheadExecutor;
 		}
 
 		/**
@@ -217,7 +273,7 @@ public final class CsvParser {
          * @return this
          */
         public DSL separator(char c) {
-			return new DSL(c, quoteChar, bufferSize, skip, limit);
+			return new DSL(c, quoteChar, bufferSize, skip, limit, charset, maxBufferSize, readAheadExecutor);
         }
 
         /**
@@ -226,7 +282,7 @@ public final class CsvParser {
          * @return this
          */
         public DSL quote(char c) {
-			return new DSL(separatorChar, c, bufferSize, skip, limit);
+			return new DSL(separatorChar, c, bufferSize, skip, limit, charset, maxBufferSize, readAheadExecutor);
         }
 
         /**
@@ -235,7 +291,7 @@ public final class CsvParser {
          * @return this
          */
         public DSL bufferSize(int size) {
-			return new DSL(separatorChar, quoteChar, size, skip, limit);
+			return new DSL(separatorChar, quoteChar, size, skip, limit, charset, maxBufferSize, readAheadExecutor);
         }
 
         /**
@@ -244,7 +300,7 @@ public final class CsvParser {
          * @return this
          */
         public DSL skip(int skip) {
-			return new DSL(separatorChar, quoteChar, bufferSize, skip, limit);
+			return new DSL(separatorChar, quoteChar, bufferSize, skip, limit, charset, maxBufferSize, readAheadExecutor);
         }
 
         /**
@@ -253,7 +309,71 @@ public final class CsvParser {
          * @return this
          */
         public DSL limit(int limit) {
-			return new DSL(separatorChar, quoteChar, bufferSize, skip, limit);
+			return new DSL(separatorChar, quoteChar, bufferSize, skip, limit, charset, maxBufferSize, readAheadExecutor);
+        }
+
+        /**
+         * set the charset used to decode files. the default value is UTF-8.
+         * @param charset the charset
+         * @return this
+         */
+        public DSL charset(Charset charset) {
+			return new DSL(separatorChar, quoteChar, bufferSize, skip, limit, charset, maxBufferSize, readAheadExecutor);
+        }
+
+        /**
+         * set the maximum size the buffer can grow to, the default is unbounded.
+         * The buffer grows to hold a cell that does not fit, a cell longer than the maximum size - as the rest of
+         * the content after an unterminated quote - fails with a {@link org.sfm.csv.impl.ParsingException}
+         * holding its position. The buffer shrinks back to the buffer size once the oversized cell is consumed.
+         * @param size the maximum size in chars, or bytes for the byte reader
+         * @return this
+         */
+        public DSL maxBufferSize(int size) {
+			return new DSL(separatorChar, quoteChar, bufferSize, skip, limit, charset, size, readAheadExecutor);
+        }
+
+        /**
+         * read the next chunk of the content in a new daemon thread while the current one is parsed.
+         * @return this
+         * @see #readAhead(Executor)
+         */
+        public DSL readAhead() {
+			return readAhead(ReadAheadReader.NEW_THREAD_EXECUTOR);
+        }
+
+        /**
+         * read the next chunk of the content in a task of the executor while the current one is parsed, the decoding
+         * or decompression of the reader then runs in parallel with the parsing and the mapping.
+         * The chunks are of buffer size chars, the task ends with the content, when parse or forEach returns or fails,
+         * when the CsvReader or the Stream is closed, and shortly after an iterator not read until the end is collected.
+         * Does not apply to the byte reader.
+         * <p>
+         * The executor needs to run the task on another thread, a same-thread executor such as Runnable::run falls
+         * back to reading inline without read ahead.
+         * @param executor the executor running the read ahead task, one task per CsvReader
+         * @return this
+         * @see org.sfm.csv.parser.ReadAheadReader
+         */
+        public DSL readAhead(Executor executor) {
+			return new DSL(separatorChar, quoteChar, bufferSize, skip, limit, charset, maxBufferSize, executor);
+        }
+
+        /**
+         * Parse the content of the file as a csv and call back the cellConsumer with the cell values.
+         * @param file the file
+         * @param cellConsumer the callback object for each cell value
+         * @param <CC> the type of the cell consumer
+         * @return cellConsumer
+         * @throws java.io.IOException if and error occurs in the reader
+         */
+        public <CC extends CellConsumer> CC parse(File file, CC cellConsumer) throws IOException {
+            Reader reader = newFileReader(file);
+            try {
+                return parse(reader, cellConsumer);
+            } finally {
+                reader.close();
+            }
         }
 
         /**
@@ -266,12 +386,14 @@ public final class CsvParser {
          */
         public <CC extends CellConsumer> CC parse(Reader reader, CC cellConsumer) throws IOException {
             CsvReader csvreader = reader(reader);
-
-            if (limit == -1) {
-                return csvreader.parseAll(cellConsumer);
-            } else {
-                return csvreader.parseRows(cellConsumer, limit);
-
+            try {
+                if (limit == -1) {
+                    return csvreader.parseAll(cellConsumer);
+                } else {
+                    return csvreader.parseRows(cellConsumer, limit);
+                }
+            } finally {
+                csvreader.stopReadAhead();
             }
         }
 
@@ -282,11 +404,93 @@ public final class CsvParser {
          * @throws java.io.IOException if an io error occurs
          */
         public CsvReader reader(Reader reader) throws IOException {
-            CsvReader csvReader = new CsvReader(reader, charConsumer());
-            csvReader.skipRows(skip);
+            CsvReader csvReader = newCsvReader(reader);
+            try {
+                csvReader.skipRows(skip);
+            } catch (IOException e) {
+                csvReader.stopReadAhead();
+                throw e;
+            }
             return csvReader;
         }
 
+        /**
+         * Create a CsvReader on the memory mapped file. Will skip the number of specified rows.
+         * The CsvReader needs to be closed to release the file.
+         * @param file the file
+         * @return a CsvReader on the file.
+         * @throws java.io.IOException if an io error occurs
+         * @see org.sfm.csv.parser.MappedFileReader
+         */
+        public CsvReader reader(File file) throws IOException {
+            Reader reader = newFileReader(file);
+            try {
+                return reader(reader);
+            } catch (IOException e) {
+                reader.close();
+                throw e;
+            }
+        }
+
+        /**
+         * Create a CsvByteReader on the input stream. Will skip the number of specified rows.
+         * The cells are not decoded, the charset needs to encode the separator, the quote and the end of line
+         * characters as single ASCII bytes.
+         * @param is the content
+         * @return a CsvByteReader on the input stream.
+         * @throws java.io.IOException if an io error occurs
+         */
+        public CsvByteReader byteReader(InputStream is) throws IOException {
+            if (!isAsciiCompatible()) {
+                throw new IllegalArgumentException("Charset " + charset + " cannot be tokenized on bytes");
+            }
+            CsvByteReader csvByteReader = new CsvByteReader(is, new CsvByteConsumer(new CsvByteBuffer(bufferSize, maxBufferSize), separatorChar, quoteChar));
+            csvByteReader.skipRows(skip);
+            return csvByteReader;
+        }
+
+        /**
+         * Create a CsvByteReader on the file. Will skip the number of specified rows.
+         * The CsvByteReader needs to be closed to release the file.
+         * @param file the file
+         * @return a CsvByteReader on the file.
+         * @throws java.io.IOException if an io error occurs
+         */
+        public CsvByteReader byteReader(File file) throws IOException {
+            InputStream is = new FileInputStream(file);
+            try {
+                return byteReader(is);
+            } catch (IOException e) {
+                is.close();
+                throw e;
+            } catch (RuntimeException e) {
+                is.close();
+                throw e;
+            }
+        }
+
+        /**
+         * @return true if the separator, the quote and the end of line characters are single ASCII bytes in the charset.
+         */
+        boolean isAsciiCompatible() {
+            if (!UTF8.equals(charset) && charset.newEncoder().maxBytesPerChar() != 1f) {
+                return false;
+            }
+            String specialChars = "\r\n" + separatorChar + quoteChar;
+            return Arrays.equals(specialChars.getBytes(charset), specialChars.getBytes(ASCII));
+        }
+
+        CsvReader newCsvReader(Reader reader) {
+            if (readAheadExecutor != null) {
+                reader = new ReadAheadReader(reader, bufferSize, readAheadExecutor);
+            }
+            return new CsvReader(reader, newCharConsumer());
+        }
+
+        private Reader newFileReader(File file) throws IOException {
+            return new MappedFileReader(file, charset);
+        }
+
 		@Deprecated
         public Iterator<String[]> iterate(Reader reader) throws IOException {
             return reader(reader).iterator();
@@ -343,12 +547,30 @@ public final class CsvParser {
 
         //IFJAVA8_START
         public Stream<String[]> stream(Reader reader) throws IOException {
-			return reader(reader).stream();
+            CsvReader csvReader = reader(reader);
+			return csvReader.stream().onClose(() -> stopReadAhead(csvReader));
 		}
+
+        /**
+         * Create a Stream of String[] on the file, the stream can be processed in parallel.
+         * @param file the csv file
+         * @return a splittable stream on the rows of the file
+         * @throws java.io.IOException if an io error occurs
+         * @see org.sfm.csv.CsvFileSpliterator
+         */
+        public Stream<String[]> stream(File file) throws IOException {
+            CsvFileSpliterator<String[]> spliterator = new CsvFileSpliterator<String[]>(file, this,
+                    (handler) -> new StringArrayConsumer<RowHandler<String[]>>(handler::handle),
+                    CsvFileSpliterator.rowStart(file, this, skip), file.length(), CsvFileSpliterator.DEFAULT_MIN_SPLIT_SIZE);
+            return StreamSupport.stream(spliterator, false).onClose(spliterator::closeAll);
+        }
         //IFJAVA8_END
 
-        private CsvCharConsumer charConsumer() {
-            CharBuffer charBuffer = new CharBuffer(bufferSize);
+        /**
+         * @return a new char consumer with the buffer size, the separator and the quote of the dsl
+         */
+        public CsvCharConsumer newCharConsumer() {
+            CharBuffer charBuffer = new CharBuffer(bufferSize, maxBufferSize);
 
             if (separatorChar == ',' && quoteChar == '"') {
                 return new StandardCsvCharConsumer(charBuffer);
@@ -378,6 +600,18 @@ public final class CsvParser {
 		public char quote() {
 			return quoteChar;
 		}
+
+		public Charset charset() {
+			return charset;
+		}
+
+		public int maxBufferSize() {
+			return maxBufferSize;
+		}
+
+		public Executor readAheadExecutor() {
+			return readAheadExecutor;
+		}
 	}
 
     /**
@@ -544,21 +778,53 @@ public final class CsvParser {
 		}
 
         public final <H extends RowHandler<T>> H forEach(Reader reader, H rowHandler) throws IOException {
+            CsvReader csvReader = dsl.reader(reader);
+            try {
+                return forEach(csvReader, rowHandler);
+            } finally {
+                csvReader.stopReadAhead();
+            }
+        }
+
+        public final <H extends RowHandler<T>> H forEach(File file, H rowHandler) throws IOException {
+            CsvReader csvReader = dsl.reader(file);
+            try {
+                return forEach(csvReader, rowHandler);
+            } finally {
+                csvReader.close();
+            }
+        }
+
+        private <H extends RowHandler<T>> H forEach(CsvReader csvReader, H rowHandler) throws IOException {
             if (dsl.limit == -1) {
-                mapper.forEach(dsl.reader(reader), rowHandler);
+                mapper.forEach(csvReader, rowHandler);
             } else {
-                mapper.forEach(dsl.reader(reader), rowHandler, dsl.limit);
+                mapper.forEach(csvReader, rowHandler, dsl.limit);
             }
             return rowHandler;
         }
 
 		//IFJAVA8_START
 		public final Stream<T> stream(Reader reader) throws IOException {
-			return mapper.stream(dsl.reader(reader));
+            CsvReader csvReader = dsl.reader(reader);
+			return mapper.stream(csvReader).onClose(() -> stopReadAhead(csvReader));
+		}
+
+		public final Stream<T> stream(File file) throws IOException {
+			return mapper.stream(file, dsl);
 		}
 		//IFJAVA8_END
 	}
 
+	//IFJAVA8_START
+	private static void stopReadAhead(CsvReader csvReader) {
+		try {
+			csvReader.stopReadAhead();
+		} catch (IOException e) {
+			ErrorHelper.rethrow(e);
+		}
+	}
+	//IFJAVA8_END
 
 //    public static void main(String[] args) throws IOException {
 //        CsvParser
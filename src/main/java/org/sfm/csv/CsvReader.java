@@ -3,13 +3,16 @@ package org.sfm.csv;
 import org.sfm.csv.parser.CellConsumer;
 import org.sfm.csv.parser.CsvCharConsumer;
 import org.sfm.csv.parser.CsvStringArrayIterator;
+import org.sfm.csv.parser.ReadAheadReader;
 import org.sfm.csv.parser.StringArrayConsumer;
 import org.sfm.utils.ErrorHelper;
 import org.sfm.utils.RowHandler;
 
+import java.io.Closeable;
 import java.io.IOException;
 import java.io.Reader;
 import java.util.Iterator;
+import java.util.NoSuchElementException;
 //IFJAVA8_START
 import java.util.Spliterator;
 import java.util.function.Consumer;
@@ -19,7 +22,7 @@ import java.util.stream.StreamSupport;
 
 
 
-public final class CsvReader implements Iterable<String[]> {
+public final class CsvReader implements Iterable<String[]>, Closeable {
 
 	private final static CellConsumer DUMMY_CONSUMER = new CellConsumer() {
 
@@ -102,11 +105,98 @@ public final class CsvReader implements Iterable<String[]> {
 		return handler;
 	}
 
+	/**
+	 * call back the handler with a flyweight view of each row, the row is only valid during the call.
+	 * @param handler the row handler
+	 * @param <RH> the handler type
+	 * @return the handler
+	 * @throws IOException if an io error occurs
+	 * @see CsvRow
+	 */
+	public <RH extends RowHandler<? super CsvRow>> RH readRows(RH handler) throws IOException {
+		parseAll(new CsvRowConsumer(new CsvRow(), handler));
+		return handler;
+	}
+
+	public <RH extends RowHandler<? super CsvRow>> RH readRows(RH handler, int limit) throws IOException {
+		parseRows(new CsvRowConsumer(new CsvRow(), handler), limit);
+		return handler;
+	}
+
+	/**
+	 * @return an iterator returning the same flyweight row on each call to next, the row is only valid until the next call.
+	 * @see CsvRow
+	 */
+	public Iterator<CsvRow> rowIterator() {
+		return new CsvRowIterator(this);
+	}
+
+	/**
+	 * close the underlying reader.
+	 * @throws IOException if an io error occurs
+	 */
+	@Override
+	public void close() throws IOException {
+		reader.close();
+	}
+
+	/**
+	 * end the read ahead task if any, leaves the underlying reader open.
+	 */
+	void stopReadAhead() throws IOException {
+		if (reader instanceof ReadAheadReader) {
+			((ReadAheadReader) reader).stop();
+		}
+	}
+
 	@Override
 	public Iterator<String[]> iterator() {
 		return new CsvStringArrayIterator(this);
 	}
 
+	private static final class CsvRowIterator implements Iterator<CsvRow> {
+		private final CsvReader reader;
+		private final CsvRow row = new CsvRow();
+		private final CellConsumer cellConsumer = new CsvRowConsumer(row, null);
+
+		private boolean isFetched;
+
+		private CsvRowIterator(CsvReader reader) {
+			this.reader = reader;
+		}
+
+		@Override
+		public boolean hasNext() {
+			fetch();
+			return row.size() > 0;
+		}
+
+		private void fetch() {
+			if (!isFetched) {
+				row.clear();
+				try {
+					reader.parseRow(cellConsumer);
+				} catch (IOException e) {
+					ErrorHelper.rethrow(e);
+				}
+				isFetched = true;
+			}
+		}
+
+		@Override
+		public CsvRow next() {
+			fetch();
+			if (row.size() == 0) throw new NoSuchElementException();
+			isFetched = false;
+			return row;
+		}
+
+		@Override
+		public void remove() {
+			throw new UnsupportedOperationException();
+		}
+	}
+
 	//IFJAVA8_START
 	public Stream<String[]> stream() {
 		return StreamSupport.stream(new CsvStringArraySpliterator(this), false);
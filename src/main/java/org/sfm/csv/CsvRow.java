@@ -0,0 +1,131 @@
+package org.sfm.csv;
+
+import org.sfm.csv.impl.cellreader.DoubleCellValueReaderImpl;
+import org.sfm.csv.impl.cellreader.IntegerCellValueReaderImpl;
+import org.sfm.csv.impl.cellreader.LongCellValueReaderImpl;
+import org.sfm.csv.impl.cellreader.StringCellValueReader;
+
+import java.util.Arrays;
+
+/**
+ * Flyweight view on the current row of a {@link CsvReader}.
+ * <p>
+ * The cells are copied in a char array reused from row to row, no object is allocated per row or per cell until
+ * a String is asked for. The typed accessors parse the chars with the same parsers as the csv mapper.
+ * <p>
+ * The row is only valid until the next row is read, the cells need to be read or copied before.
+ * <p>
+ * <code>
+ *     csvReader.readRows(new RowHandler&lt;CsvRow&gt;() {<br>
+ *     &nbsp;&nbsp;&nbsp;&nbsp;public void handle(CsvRow row) {<br>
+ *     &nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;total += row.getLong(3);<br>
+ *     &nbsp;&nbsp;&nbsp;&nbsp;}<br>
+ *     });<br>
+ * </code>
+ * @see CsvReader#readRows(org.sfm.utils.RowHandler)
+ * @see CsvReader#rowIterator()
+ */
+public final class CsvRow {
+
+	private char[] chars = new char[256];
+	private int[] offsets = new int[10];
+	private int[] lengths = new int[10];
+
+	private int charsLength;
+	private int nbCells;
+
+	/**
+	 * @return the number of cells in the row
+	 */
+	public int size() {
+		return nbCells;
+	}
+
+	/**
+	 * @param i the index of the cell
+	 * @return true if the cell has no char
+	 */
+	public boolean isEmpty(int i) {
+		checkIndex(i);
+		return lengths[i] == 0;
+	}
+
+	public String getString(int i) {
+		checkIndex(i);
+		return StringCellValueReader.readString(chars, offsets[i], lengths[i]);
+	}
+
+	/**
+	 * @param i the index of the cell
+	 * @return the value of the cell, 0 if empty
+	 * @throws org.sfm.csv.impl.ParsingException if the cell is not an int
+	 */
+	public int getInt(int i) {
+		checkIndex(i);
+		return IntegerCellValueReaderImpl.parseInt(chars, offsets[i], lengths[i]);
+	}
+
+	/**
+	 * @param i the index of the cell
+	 * @return the value of the cell, 0 if empty
+	 * @throws org.sfm.csv.impl.ParsingException if the cell is not a long
+	 */
+	public long getLong(int i) {
+		checkIndex(i);
+		return LongCellValueReaderImpl.parseLong(chars, offsets[i], lengths[i]);
+	}
+
+	/**
+	 * @param i the index of the cell
+	 * @return the value of the cell, NaN if empty
+	 * @throws NumberFormatException if the cell is not a double
+	 */
+	public double getDouble(int i) {
+		checkIndex(i);
+		return DoubleCellValueReaderImpl.parseDouble(chars, offsets[i], lengths[i]);
+	}
+
+	/**
+	 * @return a copy of the cells as a String array
+	 */
+	public String[] toArray() {
+		String[] values = new String[nbCells];
+		for(int i = 0; i < nbCells; i++) {
+			values[i] = getString(i);
+		}
+		return values;
+	}
+
+	private void checkIndex(int i) {
+		if (i >= nbCells) {
+			throw new IndexOutOfBoundsException("Index " + i + " for row of size " + nbCells);
+		}
+	}
+
+	void addCell(char[] cellChars, int offset, int length) {
+		if (nbCells >= offsets.length) {
+			offsets = Arrays.copyOf(offsets, offsets.length * 2);
+			lengths = Arrays.copyOf(lengths, lengths.length * 2);
+		}
+		if (charsLength + length > chars.length) {
+			chars = Arrays.copyOf(chars, Math.max(chars.length * 2, charsLength + length));
+		}
+		System.arraycopy(cellChars, offset, chars, charsLength, length);
+		offsets[nbCells] = charsLength;
+		lengths[nbCells] = length;
+		charsLength += length;
+		nbCells++;
+	}
+
+	void clear() {
+		charsLength = 0;
+		nbCells = 0;
+	}
+
+	@Override
+	public String toString() {
+		return "CsvRow{" +
+				"cells=" + Arrays.toString(toArray()) +
+				'}';
+	}
+}
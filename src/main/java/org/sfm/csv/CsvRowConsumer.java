@@ -0,0 +1,44 @@
+package org.sfm.csv;
+
+import org.sfm.csv.parser.CellConsumer;
+import org.sfm.utils.ErrorHelper;
+import org.sfm.utils.RowHandler;
+
+/**
+ * Fill the flyweight row and call back the handler at the end of each row, without handler the row is left
+ * for the caller to read and clear.
+ */
+final class CsvRowConsumer implements CellConsumer {
+
+	private final CsvRow row;
+	private final RowHandler<? super CsvRow> handler;
+
+	CsvRowConsumer(CsvRow row, RowHandler<? super CsvRow> handler) {
+		this.row = row;
+		this.handler = handler;
+	}
+
+	@Override
+	public void newCell(char[] chars, int offset, int length) {
+		row.addCell(chars, offset, length);
+	}
+
+	@Override
+	public void endOfRow() {
+		if (handler != null) {
+			try {
+				handler.handle(row);
+			} catch (Exception e) {
+				ErrorHelper.rethrow(e);
+			}
+			row.clear();
+		}
+	}
+
+	@Override
+	public void end() {
+		if (handler != null && row.size() > 0) {
+			endOfRow();
+		}
+	}
+}
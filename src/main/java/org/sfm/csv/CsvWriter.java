@@ -0,0 +1,254 @@
+package org.sfm.csv;
+
+import org.sfm.csv.impl.writer.CsvCellWriter;
+import org.sfm.csv.impl.writer.FieldAppender;
+import org.sfm.csv.impl.writer.FieldAppenderFactory;
+import org.sfm.csv.impl.writer.ObjectFieldAppender;
+import org.sfm.map.MapperBuilderErrorHandler;
+import org.sfm.reflect.impl.NullGetter;
+import org.sfm.reflect.meta.ClassMeta;
+import org.sfm.reflect.meta.PropertyFinder;
+import org.sfm.reflect.meta.PropertyMeta;
+import org.sfm.reflect.meta.PropertyNameMatcherFactory;
+import org.sfm.utils.ErrorHelper;
+import org.sfm.utils.RowHandler;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+
+/**
+ * Write objects of type T as csv rows, one cell per property.
+ * <p>
+ * The properties are read through the getters of the {@link ClassMeta}, the asm getters of the int, long and double
+ * properties are called through their primitive interface and the digits written straight in a reused char buffer.
+ * The buffer is written to the Writer only when full or on flush.
+ * <p>
+ * <code>
+ *     CsvWriter&lt;MyClass&gt; writer = CsvMapperFactory.newInstance().newWriter(MyClass.class)<br>
+ *     &nbsp;&nbsp;&nbsp;&nbsp;.separator(';')<br>
+ *     &nbsp;&nbsp;&nbsp;&nbsp;.to(new FileWriter(file));<br>
+ *     writer.append(myObject);<br>
+ *     writer.close();<br>
+ * </code>
+ * <p>
+ * A CsvWriter is not thread safe, it can be passed as the RowHandler of a {@link CsvMapper#forEach(java.io.Reader, RowHandler)}.
+ * @param <T> the type of the written objects
+ */
+public final class CsvWriter<T> implements RowHandler<T>, Flushable, Closeable {
+
+	private final FieldAppender<T>[] appenders;
+	private final CsvCellWriter cellWriter;
+
+	private CsvWriter(FieldAppender<T>[] appenders, CsvCellWriter cellWriter) {
+		this.appenders = appenders;
+		this.cellWriter = cellWriter;
+	}
+
+	/**
+	 * append the properties of value as a row.
+	 * @param value the object to write
+	 * @return the current writer
+	 * @throws IOException if an error occurs writing to the underlying Writer
+	 */
+	public CsvWriter<T> append(T value) throws IOException {
+		for(int i = 0; i < appenders.length; i++) {
+			try {
+				appenders[i].append(value, cellWriter);
+			} catch (IOException e) {
+				throw e;
+			} catch (Exception e) {
+				ErrorHelper.rethrow(e);
+			}
+		}
+		cellWriter.endOfRow();
+		return this;
+	}
+
+	@Override
+	public void handle(T t) throws Exception {
+		append(t);
+	}
+
+	@Override
+	public void flush() throws IOException {
+		cellWriter.flush();
+	}
+
+	@Override
+	public void close() throws IOException {
+		cellWriter.close();
+	}
+
+	@Override
+	public String toString() {
+		return "CsvWriter{" +
+				"appenders=" + Arrays.toString(appenders) +
+				'}';
+	}
+
+	/**
+	 * DSL for csv writing, the separator and quote are configured as for {@link CsvParser.DSL}.
+	 * @param <T> the type of the written objects
+	 */
+	public static final class DSL<T> {
+
+		private static final Charset UTF8 = Charset.forName("UTF-8");
+
+		private final ClassMeta<T> classMeta;
+		private final PropertyNameMatcherFactory propertyNameMatcherFactory;
+		private final MapperBuilderErrorHandler mapperBuilderErrorHandler;
+		private final String[] columns;
+		private final char separatorChar;
+		private final char quoteChar;
+		private final String endOfLine;
+		private final int bufferSize;
+		private final Charset charset;
+		private final String dateFormat;
+		private final boolean skipHeaders;
+
+		DSL(ClassMeta<T> classMeta, PropertyNameMatcherFactory propertyNameMatcherFactory,
+			MapperBuilderErrorHandler mapperBuilderErrorHandler, String dateFormat) {
+			this(classMeta, propertyNameMatcherFactory, mapperBuilderErrorHandler, classMeta.generateHeaders(),
+					',', '"', "\r\n", 65536, UTF8, dateFormat, false);
+		}
+
+		private DSL(ClassMeta<T> classMeta, PropertyNameMatcherFactory propertyNameMatcherFactory,
+					MapperBuilderErrorHandler mapperBuilderErrorHandler, String[] columns,
+					char separatorChar, char quoteChar, String endOfLine, int bufferSize, Charset charset,
+					String dateFormat, boolean skipHeaders) {
+			this.classMeta = classMeta;
+			this.propertyNameMatcherFactory = propertyNameMatcherFactory;
+			this.mapperBuilderErrorHandler = mapperBuilderErrorHandler;
+			this.columns = columns;
+			this.separatorChar = separatorChar;
+			this.quoteChar = quoteChar;
+			this.endOfLine = endOfLine;
+			this.bufferSize = bufferSize;
+			this.charset = charset;
+			this.dateFormat = dateFormat;
+			this.skipHeaders = skipHeaders;
+		}
+
+		/**
+		 * set the columns to write, the default is all the properties of T.
+		 * @param columns the column names matched against the properties
+		 * @return this
+		 */
+		public DSL<T> columns(String... columns) {
+			return new DSL<T>(classMeta, propertyNameMatcherFactory, mapperBuilderErrorHandler, columns, separatorChar, quoteChar, endOfLine, bufferSize, charset, dateFormat, skipHeaders);
+		}
+
+		/**
+		 * set the separator character. the default value is ','.
+		 * @param c the new separator character
+		 * @return this
+		 */
+		public DSL<T> separator(char c) {
+			return new DSL<T>(classMeta, propertyNameMatcherFactory, mapperBuilderErrorHandler, columns, c, quoteChar, endOfLine, bufferSize, charset, dateFormat, skipHeaders);
+		}
+
+		/**
+		 * set the quote character. the default value is '"'.
+		 * @param c the quote character
+		 * @return this
+		 */
+		public DSL<T> quote(char c) {
+			return new DSL<T>(classMeta, propertyNameMatcherFactory, mapperBuilderErrorHandler, columns, separatorChar, c, endOfLine, bufferSize, charset, dateFormat, skipHeaders);
+		}
+
+		/**
+		 * set the end of line. the default value is "\r\n".
+		 * @param endOfLine the end of line
+		 * @return this
+		 */
+		public DSL<T> endOfLine(String endOfLine) {
+			return new DSL<T>(classMeta, propertyNameMatcherFactory, mapperBuilderErrorHandler, columns, separatorChar, quoteChar, endOfLine, bufferSize, charset, dateFormat, skipHeaders);
+		}
+
+		/**
+		 * set the size of the char buffer. the default value is 65536.
+		 * @param size the size in chars
+		 * @return this
+		 */
+		public DSL<T> bufferSize(int size) {
+			return new DSL<T>(classMeta, propertyNameMatcherFactory, mapperBuilderErrorHandler, columns, separatorChar, quoteChar, endOfLine, size, charset, dateFormat, skipHeaders);
+		}
+
+		/**
+		 * set the charset used to write to a file or a channel. the default value is UTF-8.
+		 * @param charset the charset
+		 * @return this
+		 */
+		public DSL<T> charset(Charset charset) {
+			return new DSL<T>(classMeta, propertyNameMatcherFactory, mapperBuilderErrorHandler, columns, separatorChar, quoteChar, endOfLine, bufferSize, charset, dateFormat, skipHeaders);
+		}
+
+		/**
+		 * set the format of the java.util.Date properties. the default value is the date format of the factory.
+		 * @param dateFormat the SimpleDateFormat pattern
+		 * @return this
+		 */
+		public DSL<T> dateFormat(String dateFormat) {
+			return new DSL<T>(classMeta, propertyNameMatcherFactory, mapperBuilderErrorHandler, columns, separatorChar, quoteChar, endOfLine, bufferSize, charset, dateFormat, skipHeaders);
+		}
+
+		/**
+		 * do not write the header row.
+		 * @return this
+		 */
+		public DSL<T> skipHeaders() {
+			return new DSL<T>(classMeta, propertyNameMatcherFactory, mapperBuilderErrorHandler, columns, separatorChar, quoteChar, endOfLine, bufferSize, charset, dateFormat, true);
+		}
+
+		/**
+		 * Create a writer on the Writer and write the header row.
+		 * @param writer the Writer
+		 * @return the csv writer
+		 * @throws IOException if an error occurs writing the header row
+		 */
+		public CsvWriter<T> to(Writer writer) throws IOException {
+			CsvCellWriter cellWriter = new CsvCellWriter(writer, separatorChar, quoteChar, endOfLine, bufferSize);
+			if (!skipHeaders) {
+				for(String column : columns) {
+					cellWriter.appendString(column);
+				}
+				cellWriter.endOfRow();
+			}
+			return new CsvWriter<T>(newAppenders(), cellWriter);
+		}
+
+		public CsvWriter<T> to(File file) throws IOException {
+			return to(new OutputStreamWriter(new FileOutputStream(file), charset));
+		}
+
+		public CsvWriter<T> to(WritableByteChannel channel) throws IOException {
+			return to(Channels.newWriter(channel, charset.newEncoder(), -1));
+		}
+
+		@SuppressWarnings("unchecked")
+		private FieldAppender<T>[] newAppenders() {
+			final FieldAppenderFactory fieldAppenderFactory = new FieldAppenderFactory(dateFormat);
+			final PropertyFinder<T> propertyFinder = classMeta.newPropertyFinder();
+			final FieldAppender<T>[] appenders = new FieldAppender[columns.length];
+			for(int i = 0; i < columns.length; i++) {
+				final PropertyMeta<T, ?> prop = propertyFinder.findProperty(propertyNameMatcherFactory.newInstance(new CsvColumnKey(columns[i], i)));
+				if (prop == null) {
+					mapperBuilderErrorHandler.propertyNotFound(classMeta.getType(), columns[i]);
+					appenders[i] = new ObjectFieldAppender<T>(new NullGetter<T, Object>());
+				} else {
+					appenders[i] = fieldAppenderFactory.newFieldAppender(prop);
+				}
+			}
+			return appenders;
+		}
+	}
+}
@@ -0,0 +1,52 @@
+package org.sfm.csv.impl;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Lock free pool keeping at most size idle objects, an object released to a full pool is dropped.
+ * <p>
+ * The pool is owned by its mapper and goes away with it, each thread starts looking at a different slot.
+ */
+final class BoundedPool<E> {
+
+	private final AtomicReferenceArray<E> slots;
+
+	BoundedPool(int size) {
+		this.slots = new AtomicReferenceArray<E>(size);
+	}
+
+	BoundedPool() {
+		this(Runtime.getRuntime().availableProcessors());
+	}
+
+	/**
+	 * @return an idle object, null if there is none
+	 */
+	E acquire() {
+		final int size = slots.length();
+		final int start = firstSlot(size);
+		for(int i = 0; i < size; i++) {
+			final int slot = (start + i) % size;
+			final E e = slots.get(slot);
+			if (e != null && slots.compareAndSet(slot, e, null)) {
+				return e;
+			}
+		}
+		return null;
+	}
+
+	void release(E e) {
+		final int size = slots.length();
+		final int start = firstSlot(size);
+		for(int i = 0; i < size; i++) {
+			final int slot = (start + i) % size;
+			if (slots.get(slot) == null && slots.compareAndSet(slot, null, e)) {
+				return;
+			}
+		}
+	}
+
+	private static int firstSlot(int size) {
+		return (int) (Thread.currentThread().getId() % size);
+	}
+}
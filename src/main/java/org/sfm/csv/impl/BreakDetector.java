@@ -1,16 +1,34 @@
 package org.sfm.csv.impl;
 
 import org.sfm.csv.CsvColumnKey;
+import org.sfm.csv.impl.primitive.IntDelayedCellSetter;
+import org.sfm.csv.impl.primitive.LongDelayedCellSetter;
 
-import java.util.Arrays;
-
+/**
+ * Detect the change of the join keys of a row.
+ * <p>
+ * The keys of the previous row are held in slots reused across the rows, the int and long keys are peeked from their
+ * delayed setters without boxing and the keys are compared column by column.
+ */
 public class BreakDetector  {
+    private static final int OBJECT_KEY = 0;
+    private static final int INT_KEY = 1;
+    private static final int LONG_KEY = 2;
+
     private final CsvColumnKey[] keys;
     private final BreakDetector parent;
     private final int lastIndex;
 
+    private final Object[] lastObjectKeys;
+    private final long[] lastPrimitiveKeys;
+    private final boolean[] lastNullKeys;
+    private boolean hasLastKeys;
+
+    private CsvMapperCellHandler<?> keysHandler;
+    private final DelayedCellSetter<?, ?>[] keySetters;
+    private final int[] keyTypes;
+
     private boolean brokenCheck;
-    private Object[] lastKeys;
     private boolean broken;
     private boolean isNotNull = true;
 
@@ -18,6 +36,11 @@ public class BreakDetector  {
         this.keys = keys;
         this.parent = parent;
         this.lastIndex = Math.max(delayedSetterEnd, getLastIndex(keys, parent));
+        this.lastObjectKeys = new Object[keys.length];
+        this.lastPrimitiveKeys = new long[keys.length];
+        this.lastNullKeys = new boolean[keys.length];
+        this.keySetters = new DelayedCellSetter[keys.length];
+        this.keyTypes = new int[keys.length];
     }
 
     private int getLastIndex(CsvColumnKey[] keys, BreakDetector parent) {
@@ -36,9 +59,7 @@ public class BreakDetector  {
                 throw new IllegalStateException();
             }
             if (keys.length > 0) {
-                Object[] currentKeys = getKeys(mapperSetters);
-                broken = lastKeys == null || !Arrays.equals(currentKeys, lastKeys);
-                lastKeys = currentKeys;
+                broken = updateKeys(mapperSetters);
             }
             brokenCheck = true;
             return true;
@@ -66,15 +87,59 @@ public class BreakDetector  {
         }
     }
 
-    private Object[] getKeys(CsvMapperCellHandler<?> mapperSetters) {
+    private boolean updateKeys(CsvMapperCellHandler<?> mapperSetters) {
+        if (keysHandler != mapperSetters) {
+            resolveKeySetters(mapperSetters);
+        }
+        boolean changed = !hasLastKeys;
         isNotNull = true;
-        Object[] currentKeys = new Object[keys.length];
         for(int i = 0; i < keys.length ; i++) {
-            final Object o = mapperSetters.peekDelayedCellSetterValue(keys[i]);
-            isNotNull = isNotNull && o != null;
-            currentKeys[i] = o;
+            switch (keyTypes[i]) {
+                case INT_KEY: {
+                    final IntDelayedCellSetter<?> setter = (IntDelayedCellSetter<?>) keySetters[i];
+                    changed = updatePrimitiveKey(i, setter.peekInt(), setter.isNull()) || changed;
+                    break;
+                }
+                case LONG_KEY: {
+                    final LongDelayedCellSetter<?> setter = (LongDelayedCellSetter<?>) keySetters[i];
+                    changed = updatePrimitiveKey(i, setter.peekLong(), setter.isNull()) || changed;
+                    break;
+                }
+                default: {
+                    final Object o = mapperSetters.peekDelayedCellSetterValue(keys[i]);
+                    final Object last = lastObjectKeys[i];
+                    changed = changed || (o == null ? last != null : !o.equals(last));
+                    isNotNull = isNotNull && o != null;
+                    lastObjectKeys[i] = o;
+                }
+            }
+        }
+        hasLastKeys = true;
+        return changed;
+    }
+
+    private boolean updatePrimitiveKey(int i, long value, boolean isNull) {
+        final boolean changed = lastPrimitiveKeys[i] != value || lastNullKeys[i] != isNull;
+        isNotNull = isNotNull && !isNull;
+        lastPrimitiveKeys[i] = value;
+        lastNullKeys[i] = isNull;
+        return changed;
+    }
+
+    private void resolveKeySetters(CsvMapperCellHandler<?> mapperSetters) {
+        for(int i = 0; i < keys.length; i++) {
+            final DelayedCellSetter<?, ?> setter = keys[i].getIndex() < mapperSetters.delayedCellSettersLength
+                    ? mapperSetters.getDelayedCellSetter(keys[i].getIndex()) : null;
+            keySetters[i] = setter;
+            if (setter instanceof IntDelayedCellSetter) {
+                keyTypes[i] = INT_KEY;
+            } else if (setter instanceof LongDelayedCellSetter) {
+                keyTypes[i] = LONG_KEY;
+            } else {
+                keyTypes[i] = OBJECT_KEY;
+            }
         }
-        return currentKeys;
+        keysHandler = mapperSetters;
     }
 
     public void reset() {
@@ -17,7 +17,7 @@ public final class CsvMapperCellConsumer<T> implements CellConsumer {
 
     protected final BreakDetector breakDetector;
 
-    protected final RowHandler<? super T> handler;
+    protected RowHandler<? super T> handler;
 
     protected final CsvMapperCellConsumer[] children;
 
@@ -43,6 +43,15 @@ public final class CsvMapperCellConsumer<T> implements CellConsumer {
         resetConsumer();
     }
 
+    /**
+     * prepare the consumer to be reused by a new parse calling handler.
+     * @param handler the handler of the next parse, null to release the previous one
+     */
+    final void reset(RowHandler<? super T> handler) {
+        this.handler = handler;
+        resetConsumer();
+    }
+
     public final T getCurrentInstance() {
         return mapperSetters.getCurrentInstance();
     }
@@ -1,15 +1,19 @@
 package org.sfm.csv.impl;
 
 import org.sfm.csv.CsvColumnKey;
+//IFJAVA8_START
+import org.sfm.csv.CsvFileSpliterator;
+//IFJAVA8_END
 import org.sfm.csv.CsvMapper;
 import org.sfm.csv.CsvParser;
 import org.sfm.csv.CsvReader;
-import org.sfm.csv.parser.CellConsumer;
+import org.sfm.csv.parser.CsvCharConsumer;
 import org.sfm.map.MappingException;
 import org.sfm.map.RowHandlerErrorHandler;
 import org.sfm.utils.ErrorHelper;
 import org.sfm.utils.RowHandler;
 
+import java.io.File;
 import java.io.IOException;
 import java.io.Reader;
 import java.util.*;
@@ -35,6 +39,17 @@ public final class CsvMapperImpl<T> implements CsvMapper<T> {
     private final boolean hasSetterSubProperties;
     private final boolean hasSubProperties;
 
+    /**
+     * the idle cell consumers, only for the mappers without join and sub properties
+     * where the consumer holds no state between two parses.
+     */
+    private final BoundedPool<CsvMapperCellConsumer<T>> reusableCellConsumers;
+
+    /**
+     * the idle char consumers and their buffer of the CsvReaders created on a Reader by forEach.
+     */
+    private final BoundedPool<CsvCharConsumer> reusableCharConsumers = new BoundedPool<CsvCharConsumer>();
+
 	public CsvMapperImpl(CsvMapperCellHandlerFactory<T> csvMapperCellHandlerFactory,
                          DelayedCellSetterFactory<T, ?>[] delayedCellSetterFactories,
                          CellSetter<T>[] setters,
@@ -48,6 +63,7 @@ public final class CsvMapperImpl<T> implements CsvMapper<T> {
 		this.rowHandlerErrorHandlers = rowHandlerErrorHandlers;
         this.hasSetterSubProperties = hasSetterSubProperties(setters);
         this.hasSubProperties = hasSetterSubProperties || hasDelayedMarker(delayedCellSetterFactories);
+        this.reusableCellConsumers = !hasSubProperties && joinKeys.length == 0 ? new BoundedPool<CsvMapperCellConsumer<T>>() : null;
 	}
 
     private boolean hasDelayedMarker(DelayedCellSetterFactory<T, ?>[] delayedCellSetterFactories) {
@@ -70,28 +86,52 @@ public final class CsvMapperImpl<T> implements CsvMapper<T> {
 
     @Override
 	public final <H extends RowHandler<? super T>> H forEach(final Reader reader, final H handler) throws IOException, MappingException {
-		return forEach(CsvParser.reader(reader), handler);
+		return forEach(reader, handler, 0);
+	}
+
+	@Override
+	public <H extends RowHandler<? super T>> H forEach(File file, H handle) throws IOException, MappingException {
+		CsvReader csvReader = CsvParser.reader(file);
+		try {
+			return forEach(csvReader, handle);
+		} finally {
+			csvReader.close();
+		}
 	}
 
 	@Override
 	public <H extends RowHandler<? super T>> H forEach(CsvReader reader, H handle) throws IOException, MappingException {
-		reader.parseAll(newCellConsumer(handle));
+		final CsvMapperCellConsumer<T> cellConsumer = acquireCellConsumer(handle);
+		reader.parseAll(cellConsumer);
+		releaseCellConsumer(cellConsumer);
 		return handle;
 	}
 
 	@Override
 	public final <H extends RowHandler<? super T>> H forEach(final Reader reader, final H handler, final int skip) throws IOException, MappingException {
-		return forEach(CsvParser.skip(skip).reader(reader), handler);
+		final CsvCharConsumer charConsumer = acquireCharConsumer(reusableCharConsumers);
+		try {
+			return forEach(newCsvReader(reader, charConsumer, skip), handler);
+		} finally {
+			releaseCharConsumer(reusableCharConsumers, charConsumer);
+		}
 	}
 
 	@Override
 	public final <H extends RowHandler<? super T>> H forEach(final Reader reader, final H handler, final int skip, final int limit) throws IOException, MappingException {
-		return forEach(CsvParser.skip(skip).reader(reader), handler, limit);
+		final CsvCharConsumer charConsumer = acquireCharConsumer(reusableCharConsumers);
+		try {
+			return forEach(newCsvReader(reader, charConsumer, skip), handler, limit);
+		} finally {
+			releaseCharConsumer(reusableCharConsumers, charConsumer);
+		}
 	}
 
 	@Override
 	public final <H extends RowHandler<? super T>> H forEach(CsvReader reader, H handle, int limit) throws IOException, MappingException {
-		reader.parseRows(newCellConsumer(handle), limit);
+		final CsvMapperCellConsumer<T> cellConsumer = acquireCellConsumer(handle);
+		reader.parseRows(cellConsumer, limit);
+		releaseCellConsumer(cellConsumer);
 		return handle;
 	}
 
@@ -150,26 +190,55 @@ public final class CsvMapperImpl<T> implements CsvMapper<T> {
 		return stream(CsvParser.skip(skip).reader(reader));
 	}
 
+	@Override
+	public Stream<T> stream(File file) throws IOException {
+		return stream(file, CsvParser.schema());
+	}
+
+	@Override
+	public Stream<T> stream(File file, CsvParser.DSL dsl) throws IOException {
+		return stream(newFileSpliterator(file, dsl, CsvFileSpliterator.rowStart(file, dsl, dsl.skip())));
+	}
+
+	static <T> Stream<T> stream(CsvFileSpliterator<T> spliterator) {
+		return StreamSupport.stream(spliterator, false).onClose(spliterator::closeAll);
+	}
+
+	CsvFileSpliterator<T> newFileSpliterator(File file, CsvParser.DSL dsl, long start) {
+		// a join aggregates consecutive rows, the file cannot be split at arbitrary row boundaries
+		long minSplitSize = joinKeys.length == 0 ? CsvFileSpliterator.DEFAULT_MIN_SPLIT_SIZE : Long.MAX_VALUE;
+		return new CsvFileSpliterator<T>(file, dsl, this::newCellConsumer, start, file.length(), minSplitSize);
+	}
+
 	public class CsvSpliterator implements Spliterator<T> {
 		private final CsvReader csvReader;
-		private final CellConsumer cellConsumer;
+		private CsvMapperCellConsumer<T> cellConsumer;
+		private boolean done;
 		private T current;
 
 		public CsvSpliterator(CsvReader csvReader) {
 			this.csvReader = csvReader;
-			this.cellConsumer = newCellConsumer(new RowHandler<T>() {
-				@Override
-				public void handle(T t) throws Exception {
-					current = t;
-				}
-			});
 		}
 
 		@Override
 		public boolean tryAdvance(Consumer<? super T> action) {
+			if (done) {
+				return false;
+			}
+			if (cellConsumer == null) {
+				cellConsumer = acquireCellConsumer(new RowHandler<T>() {
+					@Override
+					public void handle(T t) throws Exception {
+						current = t;
+					}
+				});
+			}
 			current = null;
 			try {
-				csvReader.parseRow(cellConsumer);
+				if (!csvReader.parseRow(cellConsumer)) {
+					done = true;
+					releaseCellConsumer(cellConsumer);
+				}
 			} catch (IOException e) {
                 return ErrorHelper.rethrow(e);
 			}
@@ -183,13 +252,24 @@ public final class CsvMapperImpl<T> implements CsvMapper<T> {
 
 		@Override
 		public void forEachRemaining(Consumer<? super T> action) {
+			if (done) {
+				return;
+			}
+			done = true;
+			final RowHandler<T> handler = new RowHandler<T>() {
+				@Override
+				public void handle(T t) throws Exception {
+					action.accept(t);
+				}
+			};
 			try {
-				csvReader.parseAll(newCellConsumer(new RowHandler<T>() {
-                    @Override
-                    public void handle(T t) throws Exception {
-						action.accept(t);
-                    }
-                }));
+				if (cellConsumer == null) {
+					final CsvMapperCellConsumer<T> consumer = acquireCellConsumer(handler);
+					csvReader.parseAll(consumer);
+					releaseCellConsumer(consumer);
+				} else {
+					csvReader.parseAll(newCellConsumer(handler));
+				}
 			} catch (IOException e) {
                 ErrorHelper.rethrow(e);
 			}
@@ -213,6 +293,51 @@ public final class CsvMapperImpl<T> implements CsvMapper<T> {
 
 	//IFJAVA8_END
 
+    /**
+     * take an idle cell consumer, a new consumer is created if the mapper has joins or
+     * sub properties or if all the consumers are in use.
+     */
+    CsvMapperCellConsumer<T> acquireCellConsumer(final RowHandler<? super T> handler) {
+        if (reusableCellConsumers != null) {
+            final CsvMapperCellConsumer<T> cellConsumer = reusableCellConsumers.acquire();
+            if (cellConsumer != null) {
+                cellConsumer.reset(handler);
+                return cellConsumer;
+            }
+        }
+        return newCellConsumer(handler);
+    }
+
+    /**
+     * give the consumer back once the parse completed, a parse that failed does not release
+     * its consumer that could hold the values of a partial row.
+     */
+    void releaseCellConsumer(final CsvMapperCellConsumer<T> cellConsumer) {
+        if (reusableCellConsumers != null) {
+            cellConsumer.reset(null);
+            reusableCellConsumers.release(cellConsumer);
+        }
+    }
+
+    static CsvCharConsumer acquireCharConsumer(BoundedPool<CsvCharConsumer> charConsumers) {
+        final CsvCharConsumer charConsumer = charConsumers.acquire();
+        return charConsumer != null ? charConsumer : CsvParser.schema().newCharConsumer();
+    }
+
+    /**
+     * the CsvReader is not used after the parse, its char consumer can be cleared and reused even if the parse failed.
+     */
+    static void releaseCharConsumer(BoundedPool<CsvCharConsumer> charConsumers, CsvCharConsumer charConsumer) {
+        charConsumer.reset();
+        charConsumers.release(charConsumer);
+    }
+
+    static CsvReader newCsvReader(Reader reader, CsvCharConsumer charConsumer, int skip) throws IOException {
+        final CsvReader csvReader = new CsvReader(reader, charConsumer);
+        csvReader.skipRows(skip);
+        return csvReader;
+    }
+
     protected CsvMapperCellConsumer newCellConsumer(final RowHandler<? super T> handler) {
         return newCellConsumer(handler, null);
     }
@@ -1,7 +1,6 @@
 package org.sfm.csv.impl;
 
 import org.sfm.csv.CsvReader;
-import org.sfm.csv.parser.CellConsumer;
 import org.sfm.utils.ErrorHelper;
 import org.sfm.utils.RowHandler;
 
@@ -14,17 +13,21 @@ public class CsvMapperIterator<T> implements Iterator<T> {
 	private T currentValue;
 	private boolean isFetched;
 	
+	private boolean isDone;
+	
 	private final CsvReader reader;
-	private final CellConsumer cellConsumer;
+	private final CsvMapperImpl<T> csvMapperImpl;
+	private final CsvMapperCellConsumer<T> cellConsumer;
 	
 	public CsvMapperIterator(CsvReader reader, CsvMapperImpl<T> csvMapperImpl) {
-		cellConsumer = csvMapperImpl.newCellConsumer(new RowHandler<T>() {
+		cellConsumer = csvMapperImpl.acquireCellConsumer(new RowHandler<T>() {
 			@Override
 			public void handle(T t) throws Exception {
 				currentValue = t;
 			}
 		});
 		this.reader = reader;
+		this.csvMapperImpl = csvMapperImpl;
 	}
 
 	@Override
@@ -37,7 +40,11 @@ public class CsvMapperIterator<T> implements Iterator<T> {
 		if (isFetched) return;
 		try {
 			currentValue = null;
-			reader.parseRow(cellConsumer);
+			if (!isDone && !reader.parseRow(cellConsumer)) {
+				// the consumer goes back to the mapper once the content is read, an abandoned iterator keeps it
+				isDone = true;
+				csvMapperImpl.releaseCellConsumer(cellConsumer);
+			}
 			isFetched = true;
 		} catch (IOException e) {
             ErrorHelper.rethrow(e);
@@ -1,17 +1,21 @@
 package org.sfm.csv.impl;
 
 import org.sfm.csv.*;
-import org.sfm.csv.parser.CellConsumer;
+import org.sfm.csv.parser.CsvCharConsumer;
 import org.sfm.map.*;
 import org.sfm.map.impl.*;
 import org.sfm.reflect.meta.ClassMeta;
 import org.sfm.reflect.meta.PropertyNameMatcherFactory;
+import org.sfm.utils.ErrorHelper;
 import org.sfm.utils.RowHandler;
 
+import java.io.File;
 import java.io.IOException;
 import java.io.Reader;
 import java.lang.reflect.Type;
 import java.util.Iterator;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 
 //IFJAVA8_START
 import java.util.stream.Stream;
@@ -31,7 +35,7 @@ public final class DynamicCsvMapper<T> implements CsvMapper<T> {
 	private final String defaultDateFormat;
 	private final PropertyNameMatcherFactory propertyNameMatcherFactory;
 
-	private final MapperCache<ColumnsMapperKey, CsvMapperImpl<T>> mapperCache = new MapperCache<ColumnsMapperKey, CsvMapperImpl<T>>();
+	private final MapperCache<ColumnsMapperKey, CsvMapperImpl<T>> mapperCache;
 
 
 	private final ColumnDefinitionProvider<CsvColumnDefinition, CsvColumnKey> columnDefinitions;
@@ -40,6 +44,11 @@ public final class DynamicCsvMapper<T> implements CsvMapper<T> {
     private final boolean failOnAsm;
     private final int asmMapperNbFieldsLimit;
 	private final int maxMethodSize;
+	private final int recycledInstances;
+	private final MapperMetrics mapperMetrics;
+	private final boolean recordRows;
+	private final Executor asmCompilationExecutor;
+	private final BoundedPool<CsvCharConsumer> reusableCharConsumers = new BoundedPool<CsvCharConsumer>();
 
 	public DynamicCsvMapper(final Type target, final ClassMeta<T> classMeta,
 							final FieldMapperErrorHandler<CsvColumnKey> fieldMapperErrorHandler,
@@ -47,6 +56,19 @@ public final class DynamicCsvMapper<T> implements CsvMapper<T> {
 							ColumnDefinitionProvider<CsvColumnDefinition, CsvColumnKey> columnDefinitions,
 							PropertyNameMatcherFactory propertyNameMatcherFactory, CellValueReaderFactory cellValueReaderFactory,
                             boolean failOnAsm, int asmMapperNbFieldsLimit, int maxMethodSize
+    ) {
+		this(target, classMeta, fieldMapperErrorHandler, mapperBuilderErrorHandler, rowHandlerErrorHandler, defaultDateFormat,
+				columnDefinitions, propertyNameMatcherFactory, cellValueReaderFactory, failOnAsm, asmMapperNbFieldsLimit, maxMethodSize,
+				new DynamicMapperSettings());
+	}
+
+	public DynamicCsvMapper(final Type target, final ClassMeta<T> classMeta,
+							final FieldMapperErrorHandler<CsvColumnKey> fieldMapperErrorHandler,
+							final MapperBuilderErrorHandler mapperBuilderErrorHandler, RowHandlerErrorHandler rowHandlerErrorHandler, String defaultDateFormat,
+							ColumnDefinitionProvider<CsvColumnDefinition, CsvColumnKey> columnDefinitions,
+							PropertyNameMatcherFactory propertyNameMatcherFactory, CellValueReaderFactory cellValueReaderFactory,
+                            boolean failOnAsm, int asmMapperNbFieldsLimit, int maxMethodSize,
+							DynamicMapperSettings settings
     ) {
 		if (classMeta == null) {
 			throw new NullPointerException("classMeta is null");
@@ -66,6 +88,11 @@ public final class DynamicCsvMapper<T> implements CsvMapper<T> {
         this.asmMapperNbFieldsLimit = asmMapperNbFieldsLimit;
         this.failOnAsm = failOnAsm;
 		this.maxMethodSize = maxMethodSize;
+		this.mapperCache = settings.newMapperCache();
+		this.recycledInstances = settings.getRecycledInstances();
+		this.mapperMetrics = settings.getMapperMetrics();
+		this.recordRows = mapperMetrics.isEnabled();
+		this.asmCompilationExecutor = settings.getAsmCompilationExecutor();
 	}
 
 	public DynamicCsvMapper(Type target, ClassMeta<T> classMeta, ColumnDefinitionProvider<CsvColumnDefinition, CsvColumnKey> columnDefinitionProvider) {
@@ -75,31 +102,77 @@ public final class DynamicCsvMapper<T> implements CsvMapper<T> {
 
 	@Override
 	public <H extends RowHandler<? super T>> H forEach(Reader reader, H handle) throws IOException, MappingException {
-		return forEach(CsvParser.reader(reader), handle);
+		return forEach(reader, handle, 0);
+	}
+
+	@Override
+	public <H extends RowHandler<? super T>> H forEach(File file, H handle) throws IOException, MappingException {
+		CsvReader csvReader = CsvParser.reader(file);
+		try {
+			return forEach(csvReader, handle);
+		} finally {
+			csvReader.close();
+		}
 	}
 
 	@Override
 	public <H extends RowHandler<? super T>> H forEach(CsvReader csvReader, H handle) throws IOException {
-		CellConsumer mapperCellConsumer = getDelegateMapper(csvReader).newCellConsumer(handle);
-		csvReader.parseAll(mapperCellConsumer);
-		return handle;
+		if (recordRows) {
+			return forEachWithMetrics(csvReader, handle, -1);
+		}
+		return getDelegateMapper(csvReader).forEach(csvReader, handle);
 	}
 
 	@Override
 	public <H extends RowHandler<? super T>> H forEach(Reader reader, H handle, int skip) throws IOException, MappingException {
-		return forEach(CsvParser.skip(skip).reader(reader), handle);
+		final CsvCharConsumer charConsumer = CsvMapperImpl.acquireCharConsumer(reusableCharConsumers);
+		try {
+			return forEach(CsvMapperImpl.newCsvReader(reader, charConsumer, skip), handle);
+		} finally {
+			CsvMapperImpl.releaseCharConsumer(reusableCharConsumers, charConsumer);
+		}
 	}
 
 	@Override
 	public <H extends RowHandler<? super T>> H forEach(CsvReader csvReader, H handle, int limit) throws IOException {
-		CellConsumer mapperCellConsumer = getDelegateMapper(csvReader).newCellConsumer(handle);
-		csvReader.parseRows(mapperCellConsumer, limit);
+		if (recordRows) {
+			return forEachWithMetrics(csvReader, handle, limit);
+		}
+		return getDelegateMapper(csvReader).forEach(csvReader, handle, limit);
+	}
+
+	private <H extends RowHandler<? super T>> H forEachWithMetrics(CsvReader csvReader, H handle, int limit) throws IOException {
+		final long start = System.nanoTime();
+		final MetricsRowHandler<T> metricsRowHandler = new MetricsRowHandler<T>(handle);
+		try {
+			CsvMapperImpl<T> mapper = getDelegateMapper(csvReader);
+			try {
+				if (limit == -1) {
+					mapper.forEach(csvReader, metricsRowHandler);
+				} else {
+					mapper.forEach(csvReader, metricsRowHandler, limit);
+				}
+			} catch (Exception e) {
+				// the cell handler does not catch the errors with the default rethrowing FieldMapperErrorHandler
+				if (!(e instanceof IOException) && metricsRowHandler.isMappingError(e)) {
+					mapperMetrics.fieldError(null, e);
+				}
+				ErrorHelper.rethrow(e);
+			}
+		} finally {
+			mapperMetrics.rowsMapped(metricsRowHandler.getNbRows(), System.nanoTime() - start);
+		}
 		return handle;
 	}
 
 	@Override
 	public <H extends RowHandler<? super T>> H forEach(Reader reader, H handle, int skip, int limit) throws IOException, MappingException {
-		return forEach(CsvParser.skip(skip).reader(reader), handle, limit);
+		final CsvCharConsumer charConsumer = CsvMapperImpl.acquireCharConsumer(reusableCharConsumers);
+		try {
+			return forEach(CsvMapperImpl.newCsvReader(reader, charConsumer, skip), handle, limit);
+		} finally {
+			CsvMapperImpl.releaseCharConsumer(reusableCharConsumers, charConsumer);
+		}
 	}
 
 	@Override
@@ -168,24 +241,76 @@ public final class DynamicCsvMapper<T> implements CsvMapper<T> {
 		return stream(CsvParser.skip(skip).reader(reader));
 	}
 
+	@Override
+	public Stream<T> stream(File file) throws IOException {
+		return stream(file, CsvParser.schema());
+	}
+
+	@Override
+	public Stream<T> stream(File file, CsvParser.DSL dsl) throws IOException {
+		CsvMapperImpl<T> mapper;
+		try (CsvReader csvReader = dsl.reader(file)) {
+			mapper = getDelegateMapper(csvReader);
+		}
+		long start = CsvFileSpliterator.rowStart(file, dsl, dsl.skip() + 1);
+		return CsvMapperImpl.stream(mapper.newFileSpliterator(file, dsl, start));
+	}
+
 	//IFJAVA8_END
 
 	protected CsvMapperImpl<T> getCsvMapper(ColumnsMapperKey key) {
 		CsvMapperImpl<T> csvMapperImpl = mapperCache.get(key);
 		if (csvMapperImpl == null) {
-			csvMapperImpl = buildMapper(key);
-			mapperCache.add(key, csvMapperImpl);
+			if (asmCompilationExecutor != null && asmMapperNbFieldsLimit > 0) {
+				csvMapperImpl = buildMapper(key, 0, mapperBuilderErrorHandler, failOnAsm, mapperMetrics);
+				mapperCache.add(key, csvMapperImpl);
+				compileAsmMapper(key, csvMapperImpl);
+			} else {
+				csvMapperImpl = buildMapper(key, asmMapperNbFieldsLimit, mapperBuilderErrorHandler, failOnAsm, mapperMetrics);
+				mapperCache.add(key, csvMapperImpl);
+			}
 		}
 		return csvMapperImpl;
 	}
 
-	private CsvMapperImpl<T> buildMapper(ColumnsMapperKey key) {
+	/**
+	 * generate the asm cell handler on the executor and swap its mapper in the cache, the reflection mapper
+	 * is kept if the generation fails or the executor rejects the task, the failure is reported to the MapperMetrics.
+	 * The mapping errors were reported by the build of the reflection mapper and the build is already recorded,
+	 * the asm build does not report them again.
+	 */
+	private void compileAsmMapper(final ColumnsMapperKey key, final CsvMapperImpl<T> reflectionMapper) {
+		try {
+			asmCompilationExecutor.execute(new Runnable() {
+				@Override
+				public void run() {
+					final CsvMapperImpl<T> asmMapper;
+					try {
+						asmMapper = buildMapper(key, asmMapperNbFieldsLimit,
+								MapperBuilderErrorHandler.NULL, true, new AsmCompilationMapperMetrics(mapperMetrics));
+					} catch (Exception e) {
+						mapperMetrics.asmMapperFailed(target, e);
+						return;
+					}
+					mapperCache.replace(key, reflectionMapper, asmMapper);
+				}
+			});
+		} catch (RejectedExecutionException e) {
+			mapperMetrics.asmMapperFailed(target, e);
+		}
+	}
+
+	private CsvMapperImpl<T> buildMapper(ColumnsMapperKey key, int asmMapperNbFieldsLimit,
+										 MapperBuilderErrorHandler mapperBuilderErrorHandler, boolean failOnAsm,
+										 MapperMetrics mapperMetrics) {
 		CsvMapperBuilder<T> builder = new CsvMapperBuilder<T>(target, classMeta, mapperBuilderErrorHandler,
                 columnDefinitions, propertyNameMatcherFactory, cellValueReaderFactory, 0,
 				failOnAsm, asmMapperNbFieldsLimit, maxMethodSize);
 		builder.fieldMapperErrorHandler(fieldMapperErrorHandler);
 		builder.setDefaultDateFormat(defaultDateFormat);
 		builder.rowHandlerErrorHandler(rowHandlerErrorHandler);
+		builder.recycleInstances(recycledInstances);
+		builder.mapperMetrics(mapperMetrics);
 		for(String col : key.getColumns()) {
 			builder.addMapping(col);
 		}
@@ -7,12 +7,30 @@ public class ParsingException extends RuntimeException {
 	 */
 	private static final long serialVersionUID = 2966533946322394852L;
 
+	private final long position;
+
 	public ParsingException(String msg) {
+		this(msg, -1);
+	}
+
+	/**
+	 * @param msg the message
+	 * @param position the offset in the content where the parsing failed
+	 */
+	public ParsingException(String msg, long position) {
 		super(msg);
+		this.position = position;
 	}
 
 	public ParsingException(Throwable e) {
 		super(e.getMessage(), e);
+		this.position = -1;
 	}
 
+	/**
+	 * @return the offset in chars, or bytes for the byte reader, in the content where the parsing failed, -1 if unknown
+	 */
+	public long getPosition() {
+		return position;
+	}
 }
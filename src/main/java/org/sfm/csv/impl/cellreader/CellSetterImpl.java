@@ -22,6 +22,14 @@ public final class CellSetterImpl<T, P> implements CellSetter<T> {
         setter.set(target, value);
 	}
 
+	public CellValueReader<? extends P> getReader() {
+		return reader;
+	}
+
+	public Setter<T, ? super P> getSetter() {
+		return setter;
+	}
+
     @Override
     public String toString() {
         return "CellSetterImpl{" +
@@ -16,17 +16,41 @@ public class DateCellValueReader implements CellValueReader<Date>, ParsingContex
 	private final int index;
     private final TimeZone timeZone;
     private final String pattern;
+    private final FixedWidthDatePattern fixedWidthPattern;
 	public DateCellValueReader(int index, String pattern, TimeZone timeZone) {
 		this.index = index;
         this.timeZone = timeZone;
         this.pattern = pattern;
+        this.fixedWidthPattern = FixedWidthDatePattern.compile(pattern);
 	}
 	
 	@Override
 	public Date read(char[] chars, int offset, int length, ParsingContext parsingContext) {
 		if (length == 0) return null;
+		if (fixedWidthPattern != null) {
+			final Date date = toDate(fixedWidthPattern.parse(chars, offset, length));
+			if (date != null) return date;
+		}
+		return parse(StringCellValueReader.readString(chars, offset, length), parsingContext);
+	}
+
+	public Date read(byte[] bytes, int offset, int length, ParsingContext parsingContext) {
+		if (length == 0) return null;
+		if (fixedWidthPattern != null) {
+			final Date date = toDate(fixedWidthPattern.parse(bytes, offset, length));
+			if (date != null) return date;
+		}
+		return parse(StringCellValueReader.readString(bytes, offset, length), parsingContext);
+	}
+
+	private Date toDate(long fields) {
+		if (fields == FixedWidthDatePattern.NO_MATCH) return null;
+		final long millis = FixedWidthDatePattern.epochMillis(fields, timeZone);
+		if (millis == Long.MIN_VALUE) return null;
+		return new Date(millis);
+	}
 
-		String str = StringCellValueReader.readString(chars, offset, length);
+	private Date parse(String str, ParsingContext parsingContext) {
 		try {
 			DateFormat df = (DateFormat) parsingContext.getContext(index);
 			return df.parse(str);
@@ -16,7 +16,12 @@ public final class DoubleCellValueReaderImpl implements DoubleCellValueReader {
 	}
 	public static double parseDouble(char[] chars, int offset, int length) {
         if (length == 0) return Double.NaN;
-        return Double.parseDouble(StringCellValueReader.readString(chars, offset, length));
+        return FloatingPointParser.parseDouble(chars, offset, length);
+	}
+
+	public static double parseDouble(byte[] bytes, int offset, int length) {
+        if (length == 0) return Double.NaN;
+        return FloatingPointParser.parseDouble(bytes, offset, length);
 	}
 
     @Override
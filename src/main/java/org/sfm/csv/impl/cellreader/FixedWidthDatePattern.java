@@ -0,0 +1,284 @@
+package org.sfm.csv.impl.cellreader;
+
+import java.util.TimeZone;
+
+/**
+ * A date pattern made only of fixed width numeric fields - yyyy, MM, dd, HH, mm, ss, SSS - and literals,
+ * parsed straight from the cell buffer.
+ * <p>
+ * The fields are packed in a long so parsing does not allocate. A cell that does not match the pattern exactly or
+ * holds an out of range value returns {@link #NO_MATCH} and the readers fall back to their formatter, that keeps
+ * the behavior of SimpleDateFormat, java.time and joda for lenient or invalid input.
+ */
+public final class FixedWidthDatePattern {
+
+	public static final long NO_MATCH = -1l;
+
+	private static final long MILLIS_PER_DAY = 86400000l;
+	// GregorianCalendar switches to julian before
+	private static final int MIN_YEAR = 1583;
+
+	private static final int YEAR = 0;
+	private static final int MONTH = 1;
+	private static final int DAY = 2;
+	private static final int HOUR = 3;
+	private static final int MINUTE = 4;
+	private static final int SECOND = 5;
+	private static final int MILLIS = 6;
+
+	private static final char[] FIELD_LETTERS = { 'y', 'M', 'd', 'H', 'm', 's', 'S' };
+	private static final int[] FIELD_WIDTHS = { 4, 2, 2, 2, 2, 2, 3 };
+	private static final int[] FIELD_DEFAULTS = { 1970, 1, 1, 0, 0, 0, 0 };
+
+	private static final int[] SHIFTS = { 36, 32, 27, 22, 16, 10, 0 };
+	private static final int[] MASKS = { 0x3FFF, 0xF, 0x1F, 0x1F, 0x3F, 0x3F, 0x3FF };
+
+	private final String pattern;
+	private final char[] literals;
+	private final boolean[] digits;
+	private final int[] fieldOffsets;
+
+	private FixedWidthDatePattern(String pattern, char[] literals, boolean[] digits, int[] fieldOffsets) {
+		this.pattern = pattern;
+		this.literals = literals;
+		this.digits = digits;
+		this.fieldOffsets = fieldOffsets;
+	}
+
+	/**
+	 * @param pattern the SimpleDateFormat, DateTimeFormatter or joda pattern
+	 * @return the compiled pattern or null if it contains anything else than the fixed width numeric fields,
+	 * quoted text and non letter literals
+	 */
+	public static FixedWidthDatePattern compile(String pattern) {
+		if (pattern == null) {
+			return null;
+		}
+		final StringBuilder literals = new StringBuilder();
+		final StringBuilder digits = new StringBuilder();
+		final int[] fieldOffsets = { -1, -1, -1, -1, -1, -1, -1 };
+
+		int i = 0;
+		while(i < pattern.length()) {
+			final char c = pattern.charAt(i);
+			if (c == '\'') {
+				final int end = pattern.indexOf('\'', i + 1);
+				if (end == -1) {
+					return null;
+				}
+				if (end == i + 1) {
+					literals.append('\'');
+					digits.append('-');
+				} else {
+					for(int j = i + 1; j < end; j++) {
+						literals.append(pattern.charAt(j));
+						digits.append('-');
+					}
+				}
+				i = end + 1;
+			} else if ((c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z')) {
+				int end = i + 1;
+				while(end < pattern.length() && pattern.charAt(end) == c) {
+					end++;
+				}
+				final int field = field(c, end - i);
+				if (field == -1 || fieldOffsets[field] != -1) {
+					return null;
+				}
+				fieldOffsets[field] = literals.length();
+				for(int j = i; j < end; j++) {
+					literals.append('0');
+					digits.append('d');
+				}
+				i = end;
+			} else {
+				literals.append(c);
+				digits.append('-');
+				i++;
+			}
+		}
+
+		boolean[] isDigit = new boolean[digits.length()];
+		for(int j = 0; j < isDigit.length; j++) {
+			isDigit[j] = digits.charAt(j) == 'd';
+		}
+		return new FixedWidthDatePattern(pattern, literals.toString().toCharArray(), isDigit, fieldOffsets);
+	}
+
+	private static int field(char letter, int width) {
+		for(int i = 0; i < FIELD_LETTERS.length; i++) {
+			if (FIELD_LETTERS[i] == letter) {
+				return FIELD_WIDTHS[i] == width ? i : -1;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * @return true if the pattern has the year, month and day fields
+	 */
+	public boolean hasDate() {
+		return fieldOffsets[YEAR] != -1 && fieldOffsets[MONTH] != -1 && fieldOffsets[DAY] != -1;
+	}
+
+	/**
+	 * @return true if the pattern has the hour field
+	 */
+	public boolean hasTime() {
+		return fieldOffsets[HOUR] != -1;
+	}
+
+	/**
+	 * @return the packed fields or NO_MATCH
+	 */
+	public long parse(char[] chars, int offset, int length) {
+		return parse(chars, offset, length, CHAR_ARRAY);
+	}
+
+	/**
+	 * @return the packed fields or NO_MATCH
+	 */
+	public long parse(byte[] bytes, int offset, int length) {
+		return parse(bytes, offset, length, BYTE_ARRAY);
+	}
+
+	private <B> long parse(B buffer, int offset, int length, CellBuffer<B> cellBuffer) {
+		if (length != literals.length) {
+			return NO_MATCH;
+		}
+		for(int i = 0; i < length; i++) {
+			final int c = cellBuffer.charAt(buffer, offset + i);
+			if (digits[i] ? (c < '0' || c > '9') : c != literals[i]) {
+				return NO_MATCH;
+			}
+		}
+		long fields = 0;
+		for(int field = 0; field < fieldOffsets.length; field++) {
+			int value = FIELD_DEFAULTS[field];
+			final int start = fieldOffsets[field];
+			if (start != -1) {
+				value = 0;
+				for(int i = start; i < start + FIELD_WIDTHS[field]; i++) {
+					value = value * 10 + cellBuffer.charAt(buffer, offset + i) - '0';
+				}
+			}
+			fields |= ((long) value) << SHIFTS[field];
+		}
+		return isValid(fields) ? fields : NO_MATCH;
+	}
+
+	/**
+	 * read access to the char[] and byte[] cell buffers, the parsing is written once for both.
+	 */
+	private interface CellBuffer<B> {
+		int charAt(B buffer, int index);
+	}
+
+	private static final CellBuffer<char[]> CHAR_ARRAY = new CellBuffer<char[]>() {
+		@Override
+		public int charAt(char[] buffer, int index) {
+			return buffer[index];
+		}
+	};
+
+	private static final CellBuffer<byte[]> BYTE_ARRAY = new CellBuffer<byte[]>() {
+		@Override
+		public int charAt(byte[] buffer, int index) {
+			return buffer[index];
+		}
+	};
+
+	private static boolean isValid(long fields) {
+		final int year = year(fields);
+		final int month = month(fields);
+		final int day = day(fields);
+		return year >= MIN_YEAR
+				&& month >= 1 && month <= 12
+				&& day >= 1 && day <= lengthOfMonth(year, month)
+				&& hour(fields) <= 23 && minute(fields) <= 59 && second(fields) <= 59;
+	}
+
+	public static int year(long fields) {
+		return get(fields, YEAR);
+	}
+
+	public static int month(long fields) {
+		return get(fields, MONTH);
+	}
+
+	public static int day(long fields) {
+		return get(fields, DAY);
+	}
+
+	public static int hour(long fields) {
+		return get(fields, HOUR);
+	}
+
+	public static int minute(long fields) {
+		return get(fields, MINUTE);
+	}
+
+	public static int second(long fields) {
+		return get(fields, SECOND);
+	}
+
+	public static int millis(long fields) {
+		return get(fields, MILLIS);
+	}
+
+	private static int get(long fields, int field) {
+		return (int) (fields >>> SHIFTS[field]) & MASKS[field];
+	}
+
+	/**
+	 * @return the millis since epoch of the fields read as a local time in UTC
+	 */
+	public static long localMillis(long fields) {
+		return epochDay(year(fields), month(fields), day(fields)) * MILLIS_PER_DAY
+				+ ((hour(fields) * 60l + minute(fields)) * 60l + second(fields)) * 1000l + millis(fields);
+	}
+
+	/**
+	 * @return the millis since epoch of the fields in the timezone or Long.MIN_VALUE if the offset of the timezone
+	 * changes within a day of the time, the dst gaps and overlaps are left to the formatter
+	 */
+	public static long epochMillis(long fields, TimeZone timeZone) {
+		final long local = localMillis(fields);
+		final int offset = timeZone.getOffset(local - timeZone.getRawOffset());
+		final long utc = local - offset;
+		if (timeZone.getOffset(utc - MILLIS_PER_DAY) != offset || timeZone.getOffset(utc + MILLIS_PER_DAY) != offset) {
+			return Long.MIN_VALUE;
+		}
+		return utc;
+	}
+
+	private static long epochDay(int year, int month, int day) {
+		final int y = month <= 2 ? year - 1 : year;
+		final int era = y / 400;
+		final int yearOfEra = y - era * 400;
+		final int dayOfYear = (153 * (month > 2 ? month - 3 : month + 9) + 2) / 5 + day - 1;
+		final int dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+		return era * 146097l + dayOfEra - 719468;
+	}
+
+	private static int lengthOfMonth(int year, int month) {
+		switch (month) {
+			case 2:
+				return (year % 4 == 0 && (year % 100 != 0 || year % 400 == 0)) ? 29 : 28;
+			case 4:
+			case 6:
+			case 9:
+			case 11:
+				return 30;
+			default:
+				return 31;
+		}
+	}
+
+	@Override
+	public String toString() {
+		return "FixedWidthDatePattern{" +
+				"pattern='" + pattern + '\'' +
+				'}';
+	}
+}
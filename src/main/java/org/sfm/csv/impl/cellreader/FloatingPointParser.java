@@ -0,0 +1,251 @@
+package org.sfm.csv.impl.cellreader;
+
+/**
+ * Parse decimal floating point numbers straight from the cell buffer without allocating.
+ * <p>
+ * The digits are accumulated in a long, when the mantissa and the power of ten are both exactly representable
+ * the result is a single correctly rounded multiplication or division. Everything else - more than 18 significant
+ * digits, large exponents, NaN, Infinity, hex, suffixes or invalid input - falls back to
+ * {@link Double#parseDouble(String)} and {@link Float#parseFloat(String)}.
+ */
+final class FloatingPointParser {
+
+	private static final long FALLBACK = -1l;
+
+	private static final int MAX_DIGITS = 18;
+	private static final int EXPONENT_BIAS = 64;
+	private static final int SIGN_SHIFT = 60;
+	private static final int EXPONENT_SHIFT = 53;
+	private static final long MANTISSA_MASK = (1l << EXPONENT_SHIFT) - 1;
+
+	private static final long MAX_EXACT_DOUBLE = 1l << 53;
+	private static final long MAX_EXACT_FLOAT = 1l << 24;
+
+	private static final double[] DOUBLE_POW10 = {
+			1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10,
+			1e11, 1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+	};
+	private static final int MAX_DOUBLE_POW10 = DOUBLE_POW10.length - 1;
+	private static final long[] LONG_POW10 = {
+			1l, 10l, 100l, 1000l, 10000l, 100000l, 1000000l, 10000000l, 100000000l, 1000000000l,
+			10000000000l, 100000000000l, 1000000000000l, 10000000000000l, 100000000000000l, 1000000000000000l
+	};
+	private static final float[] FLOAT_POW10 = {
+			1e0f, 1e1f, 1e2f, 1e3f, 1e4f, 1e5f, 1e6f, 1e7f, 1e8f, 1e9f, 1e10f
+	};
+	private static final int MAX_FLOAT_POW10 = FLOAT_POW10.length - 1;
+
+	private FloatingPointParser() {
+	}
+
+	public static double parseDouble(char[] chars, int offset, int length) {
+		final long decimal = scan(chars, offset, length);
+		if (decimal != FALLBACK) {
+			final double d = toDouble(decimal);
+			if (!Double.isNaN(d)) {
+				return d;
+			}
+		}
+		return Double.parseDouble(new String(chars, offset, length));
+	}
+
+	public static double parseDouble(byte[] bytes, int offset, int length) {
+		final long decimal = scan(bytes, offset, length);
+		if (decimal != FALLBACK) {
+			final double d = toDouble(decimal);
+			if (!Double.isNaN(d)) {
+				return d;
+			}
+		}
+		return Double.parseDouble(StringCellValueReader.readString(bytes, offset, length));
+	}
+
+	public static float parseFloat(char[] chars, int offset, int length) {
+		final long decimal = scan(chars, offset, length);
+		if (decimal != FALLBACK) {
+			final long mantissa = decimal & MANTISSA_MASK;
+			final int exponent = exponent(decimal);
+			if (mantissa < MAX_EXACT_FLOAT && exponent >= -MAX_FLOAT_POW10 && exponent <= MAX_FLOAT_POW10) {
+				final float f = exponent < 0 ? mantissa / FLOAT_POW10[-exponent] : mantissa * FLOAT_POW10[exponent];
+				return isNegative(decimal) ? -f : f;
+			}
+		}
+		return Float.parseFloat(new String(chars, offset, length));
+	}
+
+	/**
+	 * @return the value or NaN if it cannot be computed exactly
+	 */
+	private static double toDouble(long decimal) {
+		final long mantissa = decimal & MANTISSA_MASK;
+		final int exponent = exponent(decimal);
+		final double d;
+		if (exponent >= 0) {
+			if (exponent <= MAX_DOUBLE_POW10) {
+				d = mantissa * DOUBLE_POW10[exponent];
+			} else if (exponent - MAX_DOUBLE_POW10 < LONG_POW10.length
+					&& mantissa <= (MAX_EXACT_DOUBLE - 1) / LONG_POW10[exponent - MAX_DOUBLE_POW10]) {
+				// 1.5e25 is 15e24 is 15000e22 with 15000 still exact
+				d = (mantissa * LONG_POW10[exponent - MAX_DOUBLE_POW10]) * DOUBLE_POW10[MAX_DOUBLE_POW10];
+			} else {
+				return Double.NaN;
+			}
+		} else if (exponent >= -MAX_DOUBLE_POW10) {
+			d = mantissa / DOUBLE_POW10[-exponent];
+		} else {
+			return Double.NaN;
+		}
+		return isNegative(decimal) ? -d : d;
+	}
+
+	private static int exponent(long decimal) {
+		return (int) ((decimal >>> EXPONENT_SHIFT) & 0x7F) - EXPONENT_BIAS;
+	}
+
+	private static boolean isNegative(long decimal) {
+		return (decimal >>> SIGN_SHIFT) != 0;
+	}
+
+	private static long pack(long mantissa, int exponent, boolean negative) {
+		return mantissa | ((long) (exponent + EXPONENT_BIAS) << EXPONENT_SHIFT) | (negative ? 1l << SIGN_SHIFT : 0);
+	}
+
+	/**
+	 * scan [+-]digits[.digits][(e|E)[+-]digits].
+	 * @return the mantissa, power of ten and sign packed in a long or FALLBACK
+	 */
+	private static long scan(char[] chars, int offset, int length) {
+		final int end = offset + length;
+		int i = offset;
+		boolean negative = false;
+		if (i < end) {
+			final char c = chars[i];
+			if (c == '-') {
+				negative = true;
+				i++;
+			} else if (c == '+') {
+				i++;
+			}
+		}
+
+		long mantissa = 0;
+		int digits = 0;
+		int exponent = 0;
+		boolean hasDigit = false;
+		for(; i < end; i++) {
+			final int d = chars[i] - '0';
+			if (d < 0 || d > 9) break;
+			hasDigit = true;
+			if (mantissa == 0 && d == 0) continue;
+			if (++digits > MAX_DIGITS) return FALLBACK;
+			mantissa = mantissa * 10 + d;
+		}
+		if (i < end && chars[i] == '.') {
+			for(i++; i < end; i++) {
+				final int d = chars[i] - '0';
+				if (d < 0 || d > 9) break;
+				hasDigit = true;
+				exponent--;
+				if (mantissa == 0 && d == 0) continue;
+				if (++digits > MAX_DIGITS) return FALLBACK;
+				mantissa = mantissa * 10 + d;
+			}
+		}
+		if (!hasDigit) return FALLBACK;
+
+		if (i < end && (chars[i] == 'e' || chars[i] == 'E')) {
+			i++;
+			boolean negativeExponent = false;
+			if (i < end && (chars[i] == '-' || chars[i] == '+')) {
+				negativeExponent = chars[i] == '-';
+				i++;
+			}
+			int e = 0;
+			int exponentDigits = 0;
+			for(; i < end; i++) {
+				final int d = chars[i] - '0';
+				if (d < 0 || d > 9) break;
+				if (++exponentDigits > 4) return FALLBACK;
+				e = e * 10 + d;
+			}
+			if (exponentDigits == 0) return FALLBACK;
+			exponent += negativeExponent ? -e : e;
+		}
+
+		return toDecimal(i == end, mantissa, exponent, negative);
+	}
+
+	private static long scan(byte[] bytes, int offset, int length) {
+		final int end = offset + length;
+		int i = offset;
+		boolean negative = false;
+		if (i < end) {
+			final byte c = bytes[i];
+			if (c == '-') {
+				negative = true;
+				i++;
+			} else if (c == '+') {
+				i++;
+			}
+		}
+
+		long mantissa = 0;
+		int digits = 0;
+		int exponent = 0;
+		boolean hasDigit = false;
+		for(; i < end; i++) {
+			final int d = bytes[i] - '0';
+			if (d < 0 || d > 9) break;
+			hasDigit = true;
+			if (mantissa == 0 && d == 0) continue;
+			if (++digits > MAX_DIGITS) return FALLBACK;
+			mantissa = mantissa * 10 + d;
+		}
+		if (i < end && bytes[i] == '.') {
+			for(i++; i < end; i++) {
+				final int d = bytes[i] - '0';
+				if (d < 0 || d > 9) break;
+				hasDigit = true;
+				exponent--;
+				if (mantissa == 0 && d == 0) continue;
+				if (++digits > MAX_DIGITS) return FALLBACK;
+				mantissa = mantissa * 10 + d;
+			}
+		}
+		if (!hasDigit) return FALLBACK;
+
+		if (i < end && (bytes[i] == 'e' || bytes[i] == 'E')) {
+			i++;
+			boolean negativeExponent = false;
+			if (i < end && (bytes[i] == '-' || bytes[i] == '+')) {
+				negativeExponent = bytes[i] == '-';
+				i++;
+			}
+			int e = 0;
+			int exponentDigits = 0;
+			for(; i < end; i++) {
+				final int d = bytes[i] - '0';
+				if (d < 0 || d > 9) break;
+				if (++exponentDigits > 4) return FALLBACK;
+				e = e * 10 + d;
+			}
+			if (exponentDigits == 0) return FALLBACK;
+			exponent += negativeExponent ? -e : e;
+		}
+
+		return toDecimal(i == end, mantissa, exponent, negative);
+	}
+
+	private static long toDecimal(boolean fullyScanned, long mantissa, int exponent, boolean negative) {
+		if (!fullyScanned) {
+			return FALLBACK;
+		}
+		if (mantissa == 0) {
+			return pack(0, 0, negative);
+		}
+		if (mantissa >= MAX_EXACT_DOUBLE || exponent < -EXPONENT_BIAS || exponent >= EXPONENT_BIAS) {
+			return FALLBACK;
+		}
+		return pack(mantissa, exponent, negative);
+	}
+}
@@ -42,6 +42,34 @@ public final class LongCellValueReaderImpl implements LongCellValueReader {
 		return n;
 	}
 
+	/**
+	 * parse the ASCII digits of the encoded cell.
+	 * @param bytes the bytes
+	 * @param offset the offset of the cell
+	 * @param length the length of the cell
+	 * @return the value
+	 */
+	public static long parseLong(byte[] bytes, int offset, int length) {
+		long n = 0;
+		boolean negative = false;
+		for(int i = offset; i < offset + length; i++) {
+			byte b = bytes[i];
+			if (b >= CZERO && b <= CNINE) {
+				n  = n * 10 +  b - CZERO;
+			} else {
+				if (b == CNEGSIGN && i == offset) {
+					negative = true;
+				} else {
+					throw new ParsingException("Cannot parse " + StringCellValueReader.readString(bytes, offset, length) + " as a long");
+				}
+			}
+		}
+		if (negative) {
+			n = 0 - n;
+		}
+		return n;
+	}
+
     @Override
     public String toString() {
         return "LongCellValueReaderImpl{}";
@@ -3,9 +3,13 @@ package org.sfm.csv.impl.cellreader;
 import org.sfm.csv.CellValueReader;
 import org.sfm.csv.impl.ParsingContext;
 
+import java.nio.charset.Charset;
+
 
 public final class StringCellValueReader implements CellValueReader<String> {
 
+	private static final Charset UTF8 = Charset.forName("UTF-8");
+	private static final Charset ISO_8859_1 = Charset.forName("ISO-8859-1");
 
 	@Override
 	public String read(char[] chars, int offset, int length, ParsingContext parsingContext) {
@@ -16,6 +20,31 @@ public final class StringCellValueReader implements CellValueReader<String> {
 		return new String(chars, offset, length);
 	}
 
+	/**
+	 * decode the UTF-8 encoded cell, ASCII only cells are decoded as ISO-8859-1, a single copy of the bytes into the
+	 * String without going through the UTF-8 decoder.
+	 * @param bytes the bytes
+	 * @param offset the offset of the cell
+	 * @param length the length of the cell
+	 * @return the decoded String
+	 */
+	public static String readString(byte[] bytes, int offset, int length) {
+		final int end = offset + length;
+		for(int i = offset; i < end; i++) {
+			if (bytes[i] < 0) {
+				return new String(bytes, offset, length, UTF8);
+			}
+		}
+		return new String(bytes, offset, length, ISO_8859_1);
+	}
+
+	public static String readString(byte[] bytes, int offset, int length, Charset charset) {
+		if (UTF8.equals(charset)) {
+			return readString(bytes, offset, length);
+		}
+		return new String(bytes, offset, length, charset);
+	}
+
     @Override
     public String toString() {
         return "StringCellValueReader{}";
@@ -1,25 +1,43 @@
 package org.sfm.csv.impl.cellreader.joda;
 
 import org.joda.time.DateTime;
+import org.joda.time.DateTimeConstants;
 import org.joda.time.DateTimeZone;
 import org.joda.time.format.DateTimeFormat;
 import org.joda.time.format.DateTimeFormatter;
 import org.sfm.csv.CellValueReader;
 import org.sfm.csv.impl.ParsingContext;
+import org.sfm.csv.impl.cellreader.FixedWidthDatePattern;
 import org.sfm.csv.impl.cellreader.StringCellValueReader;
 
 import java.util.TimeZone;
 
 public class JodaDateTimeCellValueReader implements CellValueReader<DateTime> {
     private final DateTimeFormatter fmt;
+    private final DateTimeZone zone;
+    private final FixedWidthDatePattern fixedWidthPattern;
 
     public JodaDateTimeCellValueReader(String dateFormat, TimeZone timeZone) {
-        this.fmt = DateTimeFormat.forPattern(dateFormat).withZone(DateTimeZone.forTimeZone(timeZone));
+        this.zone = DateTimeZone.forTimeZone(timeZone);
+        this.fmt = DateTimeFormat.forPattern(dateFormat).withZone(zone);
+        FixedWidthDatePattern pattern = FixedWidthDatePattern.compile(dateFormat);
+        this.fixedWidthPattern = pattern != null && pattern.hasDate() ? pattern : null;
     }
 
     @Override
     public DateTime read(char[] chars, int offset, int length, ParsingContext parsingContext) {
         if (length == 0) return null;
+        if (fixedWidthPattern != null) {
+            long fields = fixedWidthPattern.parse(chars, offset, length);
+            if (fields != FixedWidthDatePattern.NO_MATCH) {
+                long local = FixedWidthDatePattern.localMillis(fields);
+                long utc = zone.convertLocalToUTC(local, false);
+                if (zone.getOffset(utc - DateTimeConstants.MILLIS_PER_DAY) == zone.getOffset(utc + DateTimeConstants.MILLIS_PER_DAY)
+                        && local - utc == zone.getOffset(utc)) {
+                    return new DateTime(utc, zone);
+                }
+            }
+        }
         return fmt .parseDateTime(StringCellValueReader.readString(chars, offset, length));
     }
 }
@@ -6,20 +6,30 @@ import org.joda.time.format.DateTimeFormat;
 import org.joda.time.format.DateTimeFormatter;
 import org.sfm.csv.CellValueReader;
 import org.sfm.csv.impl.ParsingContext;
+import org.sfm.csv.impl.cellreader.FixedWidthDatePattern;
 import org.sfm.csv.impl.cellreader.StringCellValueReader;
 
 import java.util.TimeZone;
 
 public class JodaLocalDateCellValueReader implements CellValueReader<LocalDate> {
     private final DateTimeFormatter fmt;
+    private final FixedWidthDatePattern fixedWidthPattern;
 
     public JodaLocalDateCellValueReader(String dateFormat, TimeZone timeZone) {
         this.fmt = DateTimeFormat.forPattern(dateFormat).withZone(DateTimeZone.forTimeZone(timeZone));
+        FixedWidthDatePattern pattern = FixedWidthDatePattern.compile(dateFormat);
+        this.fixedWidthPattern = pattern != null && pattern.hasDate() ? pattern : null;
     }
 
     @Override
     public LocalDate read(char[] chars, int offset, int length, ParsingContext parsingContext) {
         if (length == 0) return null;
+        if (fixedWidthPattern != null) {
+            long fields = fixedWidthPattern.parse(chars, offset, length);
+            if (fields != FixedWidthDatePattern.NO_MATCH) {
+                return new LocalDate(FixedWidthDatePattern.year(fields), FixedWidthDatePattern.month(fields), FixedWidthDatePattern.day(fields));
+            }
+        }
         return fmt .parseLocalDate(StringCellValueReader.readString(chars, offset, length));
     }
 }
@@ -6,20 +6,31 @@ import org.joda.time.format.DateTimeFormat;
 import org.joda.time.format.DateTimeFormatter;
 import org.sfm.csv.CellValueReader;
 import org.sfm.csv.impl.ParsingContext;
+import org.sfm.csv.impl.cellreader.FixedWidthDatePattern;
 import org.sfm.csv.impl.cellreader.StringCellValueReader;
 
 import java.util.TimeZone;
 
 public class JodaLocalDateTimeCellValueReader implements CellValueReader<LocalDateTime> {
     private final DateTimeFormatter fmt;
+    private final FixedWidthDatePattern fixedWidthPattern;
 
     public JodaLocalDateTimeCellValueReader(String dateFormat, TimeZone timeZone) {
         this.fmt = DateTimeFormat.forPattern(dateFormat).withZone(DateTimeZone.forTimeZone(timeZone));
+        FixedWidthDatePattern pattern = FixedWidthDatePattern.compile(dateFormat);
+        this.fixedWidthPattern = pattern != null && pattern.hasDate() ? pattern : null;
     }
 
     @Override
     public LocalDateTime read(char[] chars, int offset, int length, ParsingContext parsingContext) {
         if (length == 0) return null;
+        if (fixedWidthPattern != null) {
+            long fields = fixedWidthPattern.parse(chars, offset, length);
+            if (fields != FixedWidthDatePattern.NO_MATCH) {
+                return new LocalDateTime(FixedWidthDatePattern.year(fields), FixedWidthDatePattern.month(fields), FixedWidthDatePattern.day(fields),
+                        FixedWidthDatePattern.hour(fields), FixedWidthDatePattern.minute(fields), FixedWidthDatePattern.second(fields), FixedWidthDatePattern.millis(fields));
+            }
+        }
         return fmt .parseLocalDateTime(StringCellValueReader.readString(chars, offset, length));
     }
 }
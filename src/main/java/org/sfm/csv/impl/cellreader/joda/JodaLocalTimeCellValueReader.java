@@ -6,20 +6,29 @@ import org.joda.time.format.DateTimeFormat;
 import org.joda.time.format.DateTimeFormatter;
 import org.sfm.csv.CellValueReader;
 import org.sfm.csv.impl.ParsingContext;
+import org.sfm.csv.impl.cellreader.FixedWidthDatePattern;
 import org.sfm.csv.impl.cellreader.StringCellValueReader;
 
 import java.util.TimeZone;
 
 public class JodaLocalTimeCellValueReader implements CellValueReader<LocalTime> {
     private final DateTimeFormatter fmt;
+    private final FixedWidthDatePattern fixedWidthPattern;
 
     public JodaLocalTimeCellValueReader(String dateFormat, TimeZone timeZone) {
         this.fmt = DateTimeFormat.forPattern(dateFormat).withZone(DateTimeZone.forTimeZone(timeZone));
+        this.fixedWidthPattern = FixedWidthDatePattern.compile(dateFormat);
     }
 
     @Override
     public LocalTime read(char[] chars, int offset, int length, ParsingContext parsingContext) {
         if (length == 0) return null;
-        return fmt .parseLocalTime(StringCellValueReader.readString(chars, offset, length));
+        if (fixedWidthPattern != null) {
+            long fields = fixedWidthPattern.parse(chars, offset, length);
+            if (fields != FixedWidthDatePattern.NO_MATCH) {
+                return new LocalTime(FixedWidthDatePattern.hour(fields), FixedWidthDatePattern.minute(fields), FixedWidthDatePattern.second(fields), FixedWidthDatePattern.millis(fields));
+            }
+        }
+        return fmt.parseLocalTime(StringCellValueReader.readString(chars, offset, length));
     }
 }
@@ -2,6 +2,8 @@ package org.sfm.csv.impl.cellreader.time;
 
 import org.sfm.csv.CellValueReader;
 import org.sfm.csv.impl.ParsingContext;
+import org.sfm.csv.impl.cellreader.FixedWidthDatePattern;
+import org.sfm.csv.impl.cellreader.StringCellValueReader;
 
 import java.time.LocalDate;
 import java.time.ZoneId;
@@ -12,14 +14,37 @@ import java.util.TimeZone;
 public class JavaLocalDateCellValueReader implements CellValueReader<LocalDate> {
 
     private final DateTimeFormatter formatter;
+    private final FixedWidthDatePattern fixedWidthPattern;
 
     public JavaLocalDateCellValueReader(String format, TimeZone timeZone) {
         formatter = DateTimeFormatter.ofPattern(format).withZone(ZoneId.of(timeZone.getID()));
+        FixedWidthDatePattern pattern = FixedWidthDatePattern.compile(format);
+        fixedWidthPattern = pattern != null && pattern.hasDate() ? pattern : null;
     }
 
     @Override
     public LocalDate read(char[] chars, int offset, int length, ParsingContext parsingContext) {
+        if (fixedWidthPattern != null) {
+            long fields = fixedWidthPattern.parse(chars, offset, length);
+            if (fields != FixedWidthDatePattern.NO_MATCH) {
+                return toLocalDate(fields);
+            }
+        }
         return LocalDate.parse(new String(chars, offset, length), formatter);
     }
 
+    public LocalDate read(byte[] bytes, int offset, int length, ParsingContext parsingContext) {
+        if (fixedWidthPattern != null) {
+            long fields = fixedWidthPattern.parse(bytes, offset, length);
+            if (fields != FixedWidthDatePattern.NO_MATCH) {
+                return toLocalDate(fields);
+            }
+        }
+        return LocalDate.parse(StringCellValueReader.readString(bytes, offset, length), formatter);
+    }
+
+    private LocalDate toLocalDate(long fields) {
+        return LocalDate.of(FixedWidthDatePattern.year(fields), FixedWidthDatePattern.month(fields), FixedWidthDatePattern.day(fields));
+    }
+
 }
@@ -0,0 +1,44 @@
+package org.sfm.csv.impl.cellreader.time;
+
+import org.sfm.csv.CellValueReader;
+import org.sfm.csv.impl.ParsingContext;
+import org.sfm.csv.impl.cellreader.FixedWidthDatePattern;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.TimeZone;
+
+
+public class JavaLocalDateTimeCellValueReader implements CellValueReader<LocalDateTime> {
+
+    private final DateTimeFormatter formatter;
+    private final FixedWidthDatePattern fixedWidthPattern;
+
+    public JavaLocalDateTimeCellValueReader(String format, TimeZone timeZone) {
+        formatter = DateTimeFormatter.ofPattern(format).withZone(ZoneId.of(timeZone.getID()));
+        FixedWidthDatePattern pattern = FixedWidthDatePattern.compile(format);
+        fixedWidthPattern = pattern != null && pattern.hasDate() && pattern.hasTime() ? pattern : null;
+    }
+
+    @Override
+    public LocalDateTime read(char[] chars, int offset, int length, ParsingContext parsingContext) {
+        if (length == 0) return null;
+        if (fixedWidthPattern != null) {
+            long fields = fixedWidthPattern.parse(chars, offset, length);
+            if (fields != FixedWidthDatePattern.NO_MATCH) {
+                return LocalDateTime.of(FixedWidthDatePattern.year(fields), FixedWidthDatePattern.month(fields), FixedWidthDatePattern.day(fields),
+                        FixedWidthDatePattern.hour(fields), FixedWidthDatePattern.minute(fields), FixedWidthDatePattern.second(fields),
+                        FixedWidthDatePattern.millis(fields) * 1000000);
+            }
+        }
+        return LocalDateTime.parse(new String(chars, offset, length), formatter);
+    }
+
+    @Override
+    public String toString() {
+        return "JavaLocalDateTimeCellValueReader{" +
+                "formatter=" + formatter +
+                '}';
+    }
+}
@@ -22,6 +22,14 @@ public class BooleanCellSetter<T> implements CellSetter<T> {
         setter.setBoolean(target, reader.readBoolean(chars, offset, length, parsingContext));
 	}
 
+	public BooleanSetter<T> getSetter() {
+		return setter;
+	}
+
+	public BooleanCellValueReader getReader() {
+		return reader;
+	}
+
     @Override
     public String toString() {
         return "BooleanCellSetter{" +
@@ -22,6 +22,14 @@ public class DoubleCellSetter<T> implements CellSetter<T> {
         setter.setDouble(target, reader.readDouble(chars, offset, length, parsingContext));
 	}
 
+	public DoubleSetter<T> getSetter() {
+		return setter;
+	}
+
+	public DoubleCellValueReader getReader() {
+		return reader;
+	}
+
     @Override
     public String toString() {
         return "DoubleCellSetter{" +
@@ -22,6 +22,14 @@ public class FloatCellSetter<T> implements CellSetter<T> {
         setter.setFloat(target, reader.readFloat(chars, offset, length, parsingContext));
 	}
 
+	public FloatSetter<T> getSetter() {
+		return setter;
+	}
+
+	public FloatCellValueReader getReader() {
+		return reader;
+	}
+
     @Override
     public String toString() {
         return "FloatCellSetter{" +
@@ -22,6 +22,14 @@ public class IntCellSetter<T> implements CellSetter<T> {
         setter.setInt(target, reader.readInt(chars, offset, length, parsingContext));
 	}
 
+	public IntSetter<T> getSetter() {
+		return setter;
+	}
+
+	public IntegerCellValueReader getReader() {
+		return reader;
+	}
+
     @Override
     public String toString() {
         return "IntCellSetter{" +
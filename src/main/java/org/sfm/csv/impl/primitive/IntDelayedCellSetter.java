@@ -27,6 +27,17 @@ public class IntDelayedCellSetter<T> implements DelayedCellSetter<T, Integer> {
         return isNull ? null : value;
     }
 
+    /**
+     * @return the value of the cell without boxing it, 0 if null
+     */
+    public int peekInt() {
+        return value;
+    }
+
+    public boolean isNull() {
+        return isNull;
+    }
+
     public int consumeInt() {
 		int v = value;
 		value = 0;
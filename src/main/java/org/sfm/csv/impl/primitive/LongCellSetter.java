@@ -22,6 +22,14 @@ public class LongCellSetter<T> implements CellSetter<T> {
         setter.setLong(target, reader.readLong(chars, offset, length, parsingContext));
 	}
 
+	public LongSetter<T> getSetter() {
+		return setter;
+	}
+
+	public LongCellValueReader getReader() {
+		return reader;
+	}
+
     @Override
     public String toString() {
         return "LongCellSetter{" +
@@ -27,6 +27,17 @@ public class LongDelayedCellSetter<T> implements DelayedCellSetter<T, Long> {
         return isNull ? null : value;
     }
 
+    /**
+     * @return the value of the cell without boxing it, 0 if null
+     */
+    public long peekLong() {
+        return value;
+    }
+
+    public boolean isNull() {
+        return isNull;
+    }
+
     public long consumeLong() {
 		long v = value;
 		value = 0;
@@ -0,0 +1,178 @@
+package org.sfm.csv.impl.writer;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Write the cells in a reused char buffer, the buffer is only written to the Writer once full.
+ * <p>
+ * A cell is quoted only if it contains the separator, the quote or an end of line character, the quotes in a quoted
+ * cell are doubled. The numbers are written digit by digit straight in the buffer.
+ */
+public final class CsvCellWriter {
+
+	private static final String LONG_MIN_VALUE = Long.toString(Long.MIN_VALUE);
+
+	private final Writer writer;
+	private final char separatorChar;
+	private final char quoteChar;
+	private final char[] endOfLine;
+
+	private char[] buffer;
+	private int bufferLength;
+	private boolean firstCell = true;
+
+	private final StringBuilder number = new StringBuilder(32);
+
+	public CsvCellWriter(Writer writer, char separatorChar, char quoteChar, String endOfLine, int bufferSize) {
+		this.writer = writer;
+		this.separatorChar = separatorChar;
+		this.quoteChar = quoteChar;
+		this.endOfLine = endOfLine.toCharArray();
+		this.buffer = new char[Math.max(bufferSize, 32)];
+	}
+
+	public void appendEmpty() throws IOException {
+		startCell();
+	}
+
+	public void appendInt(int value) throws IOException {
+		appendLong(value);
+	}
+
+	public void appendLong(long value) throws IOException {
+		startCell();
+		if (value == Long.MIN_VALUE) {
+			appendChars(LONG_MIN_VALUE);
+			return;
+		}
+		ensureCapacity(20);
+		if (value < 0) {
+			buffer[bufferLength++] = '-';
+			value = -value;
+		}
+		final int end = bufferLength + nbDigits(value);
+		int i = end;
+		do {
+			buffer[--i] = (char) ('0' + (value % 10));
+			value /= 10;
+		} while (value != 0);
+		bufferLength = end;
+	}
+
+	private static int nbDigits(long value) {
+		int nb = 1;
+		long p = 10;
+		while(nb < 19 && value >= p) {
+			nb++;
+			p *= 10;
+		}
+		return nb;
+	}
+
+	public void appendDouble(double value) throws IOException {
+		startCell();
+		number.setLength(0);
+		number.append(value);
+		appendChars(number);
+	}
+
+	public void appendString(CharSequence value) throws IOException {
+		startCell();
+		if (needsQuoting(value)) {
+			appendQuoted(value);
+		} else {
+			appendChars(value);
+		}
+	}
+
+	/**
+	 * write the end of line.
+	 * @throws IOException if the buffer cannot be written
+	 */
+	public void endOfRow() throws IOException {
+		ensureCapacity(endOfLine.length);
+		System.arraycopy(endOfLine, 0, buffer, bufferLength, endOfLine.length);
+		bufferLength += endOfLine.length;
+		firstCell = true;
+	}
+
+	private void startCell() throws IOException {
+		if (firstCell) {
+			firstCell = false;
+		} else {
+			ensureCapacity(1);
+			buffer[bufferLength++] = separatorChar;
+		}
+	}
+
+	private boolean needsQuoting(CharSequence value) {
+		for(int i = 0; i < value.length(); i++) {
+			final char c = value.charAt(i);
+			if (c == separatorChar || c == quoteChar || c == '\n' || c == '\r') {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private void appendChars(CharSequence value) throws IOException {
+		final int length = value.length();
+		ensureCapacity(length);
+		if (value instanceof String) {
+			((String) value).getChars(0, length, buffer, bufferLength);
+		} else if (value instanceof StringBuilder) {
+			((StringBuilder) value).getChars(0, length, buffer, bufferLength);
+		} else if (value instanceof StringBuffer) {
+			((StringBuffer) value).getChars(0, length, buffer, bufferLength);
+		} else {
+			for(int i = 0; i < length; i++) {
+				buffer[bufferLength + i] = value.charAt(i);
+			}
+		}
+		bufferLength += length;
+	}
+
+	private void appendQuoted(CharSequence value) throws IOException {
+		final int length = value.length();
+		ensureCapacity(length * 2 + 2);
+		buffer[bufferLength++] = quoteChar;
+		for(int i = 0; i < length; i++) {
+			final char c = value.charAt(i);
+			if (c == quoteChar) {
+				buffer[bufferLength++] = quoteChar;
+			}
+			buffer[bufferLength++] = c;
+		}
+		buffer[bufferLength++] = quoteChar;
+	}
+
+	private void ensureCapacity(int length) throws IOException {
+		if (bufferLength + length > buffer.length) {
+			writeBuffer();
+			if (length > buffer.length) {
+				buffer = new char[length];
+			}
+		}
+	}
+
+	private void writeBuffer() throws IOException {
+		if (bufferLength > 0) {
+			writer.write(buffer, 0, bufferLength);
+			bufferLength = 0;
+		}
+	}
+
+	public void flush() throws IOException {
+		writeBuffer();
+		writer.flush();
+	}
+
+	public void close() throws IOException {
+		try {
+			writeBuffer();
+		} finally {
+			writer.close();
+		}
+	}
+}
@@ -0,0 +1,42 @@
+package org.sfm.csv.impl.writer;
+
+import org.sfm.reflect.Getter;
+
+import java.text.DateFormat;
+import java.text.FieldPosition;
+import java.util.Date;
+
+/**
+ * Format the date in a reused StringBuffer, the DateFormat is not thread safe and neither is the appender.
+ */
+public final class DateFieldAppender<T> implements FieldAppender<T> {
+
+	private final Getter<T, ? extends Date> getter;
+	private final DateFormat dateFormat;
+	private final StringBuffer formatted = new StringBuffer();
+	private final FieldPosition fieldPosition = new FieldPosition(0);
+
+	public DateFieldAppender(Getter<T, ? extends Date> getter, DateFormat dateFormat) {
+		this.getter = getter;
+		this.dateFormat = dateFormat;
+	}
+
+	@Override
+	public void append(T target, CsvCellWriter cellWriter) throws Exception {
+		final Date value = getter.get(target);
+		if (value == null) {
+			cellWriter.appendEmpty();
+		} else {
+			formatted.setLength(0);
+			dateFormat.format(value, formatted, fieldPosition);
+			cellWriter.appendString(formatted);
+		}
+	}
+
+	@Override
+	public String toString() {
+		return "DateFieldAppender{" +
+				"getter=" + getter +
+				'}';
+	}
+}
@@ -0,0 +1,24 @@
+package org.sfm.csv.impl.writer;
+
+import org.sfm.reflect.primitive.DoubleGetter;
+
+public final class DoubleFieldAppender<T> implements FieldAppender<T> {
+
+	private final DoubleGetter<T> getter;
+
+	public DoubleFieldAppender(DoubleGetter<T> getter) {
+		this.getter = getter;
+	}
+
+	@Override
+	public void append(T target, CsvCellWriter cellWriter) throws Exception {
+		cellWriter.appendDouble(getter.getDouble(target));
+	}
+
+	@Override
+	public String toString() {
+		return "DoubleFieldAppender{" +
+				"getter=" + getter +
+				'}';
+	}
+}
@@ -0,0 +1,9 @@
+package org.sfm.csv.impl.writer;
+
+/**
+ * Write one property of T as a cell.
+ * @param <T> the type the property is read from
+ */
+public interface FieldAppender<T> {
+	void append(T target, CsvCellWriter cellWriter) throws Exception;
+}
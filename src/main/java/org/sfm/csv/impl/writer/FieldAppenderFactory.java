@@ -0,0 +1,54 @@
+package org.sfm.csv.impl.writer;
+
+import org.sfm.reflect.Getter;
+import org.sfm.reflect.GetterHelper;
+import org.sfm.reflect.TypeHelper;
+import org.sfm.reflect.meta.PropertyMeta;
+import org.sfm.reflect.primitive.DoubleGetter;
+import org.sfm.reflect.primitive.IntGetter;
+import org.sfm.reflect.primitive.LongGetter;
+
+import java.lang.reflect.Type;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+
+public final class FieldAppenderFactory {
+
+	private final String dateFormat;
+
+	public FieldAppenderFactory(String dateFormat) {
+		this.dateFormat = dateFormat;
+	}
+
+	/**
+	 * Use the primitive getter of the property when the getter - the asm one for a primitive property - implements it.
+	 * @param propertyMeta the property
+	 * @param <T> the owner type
+	 * @return the appender writing the property
+	 */
+	@SuppressWarnings("unchecked")
+	public <T> FieldAppender<T> newFieldAppender(PropertyMeta<T, ?> propertyMeta) {
+		final Getter<T, ?> getter = GetterHelper.getPropertyGetter(propertyMeta);
+		final Type type = GetterHelper.getPropertyType(propertyMeta);
+		if (TypeHelper.isPrimitive(type)) {
+			if (getter instanceof IntGetter) {
+				return new IntFieldAppender<T>((IntGetter<T>) getter);
+			} else if (getter instanceof LongGetter) {
+				return new LongFieldAppender<T>((LongGetter<T>) getter);
+			} else if (getter instanceof DoubleGetter) {
+				return new DoubleFieldAppender<T>((DoubleGetter<T>) getter);
+			}
+		}
+		if (TypeHelper.areEquals(type, Date.class)) {
+			return new DateFieldAppender<T>((Getter<T, Date>) getter, new SimpleDateFormat(dateFormat));
+		}
+		return new ObjectFieldAppender<T>(getter);
+	}
+
+	@Override
+	public String toString() {
+		return "FieldAppenderFactory{" +
+				"dateFormat='" + dateFormat + '\'' +
+				'}';
+	}
+}
@@ -0,0 +1,24 @@
+package org.sfm.csv.impl.writer;
+
+import org.sfm.reflect.primitive.IntGetter;
+
+public final class IntFieldAppender<T> implements FieldAppender<T> {
+
+	private final IntGetter<T> getter;
+
+	public IntFieldAppender(IntGetter<T> getter) {
+		this.getter = getter;
+	}
+
+	@Override
+	public void append(T target, CsvCellWriter cellWriter) throws Exception {
+		cellWriter.appendInt(getter.getInt(target));
+	}
+
+	@Override
+	public String toString() {
+		return "IntFieldAppender{" +
+				"getter=" + getter +
+				'}';
+	}
+}
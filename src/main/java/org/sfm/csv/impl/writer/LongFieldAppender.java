@@ -0,0 +1,24 @@
+package org.sfm.csv.impl.writer;
+
+import org.sfm.reflect.primitive.LongGetter;
+
+public final class LongFieldAppender<T> implements FieldAppender<T> {
+
+	private final LongGetter<T> getter;
+
+	public LongFieldAppender(LongGetter<T> getter) {
+		this.getter = getter;
+	}
+
+	@Override
+	public void append(T target, CsvCellWriter cellWriter) throws Exception {
+		cellWriter.appendLong(getter.getLong(target));
+	}
+
+	@Override
+	public String toString() {
+		return "LongFieldAppender{" +
+				"getter=" + getter +
+				'}';
+	}
+}
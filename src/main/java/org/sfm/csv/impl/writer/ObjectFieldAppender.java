@@ -0,0 +1,39 @@
+package org.sfm.csv.impl.writer;
+
+import org.sfm.reflect.Getter;
+
+/**
+ * Write the value returned by the getter, null as an empty cell, the boxed integers without going through a String,
+ * the characters as their code as read by the CharCellValueReader and anything else through toString.
+ */
+public final class ObjectFieldAppender<T> implements FieldAppender<T> {
+
+	private final Getter<T, ?> getter;
+
+	public ObjectFieldAppender(Getter<T, ?> getter) {
+		this.getter = getter;
+	}
+
+	@Override
+	public void append(T target, CsvCellWriter cellWriter) throws Exception {
+		final Object value = getter.get(target);
+		if (value == null) {
+			cellWriter.appendEmpty();
+		} else if (value instanceof CharSequence) {
+			cellWriter.appendString((CharSequence) value);
+		} else if (value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte) {
+			cellWriter.appendLong(((Number) value).longValue());
+		} else if (value instanceof Character) {
+			cellWriter.appendInt((Character) value);
+		} else {
+			cellWriter.appendString(value.toString());
+		}
+	}
+
+	@Override
+	public String toString() {
+		return "ObjectFieldAppender{" +
+				"getter=" + getter +
+				'}';
+	}
+}
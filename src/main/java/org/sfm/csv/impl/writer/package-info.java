@@ -0,0 +1,4 @@
+/**
+ * {@link org.sfm.csv.CsvWriter} implementation.
+ */
+package org.sfm.csv.impl.writer;
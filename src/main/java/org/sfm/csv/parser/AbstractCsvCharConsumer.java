@@ -11,24 +11,53 @@ public abstract class AbstractCsvCharConsumer implements CsvCharConsumer {
 	private static final int TURN_OFF_IN_CR_MASK = ~IN_CR;
 	private static final int ALL_QUOTES = QUOTE | IN_QUOTE;
 	protected final CharBuffer csvBuffer;
+	private final char maxSpecialChar;
 
 	protected int _currentIndex;
 	private int currentState = NONE;
 
 	public AbstractCsvCharConsumer(CharBuffer csvBuffer) {
+		this(csvBuffer, Character.MAX_VALUE);
+	}
+
+	/**
+	 * @param csvBuffer the buffer
+	 * @param maxSpecialChar the highest char that can change the state of the parser, chars above it are skipped in bulk
+	 */
+	protected AbstractCsvCharConsumer(CharBuffer csvBuffer, char maxSpecialChar) {
 		this.csvBuffer = csvBuffer;
+		this.maxSpecialChar = maxSpecialChar;
 	}
 
 	@Override
 	public final void parseAll(CellConsumer cellConsumer) {
-		int bufferLength = csvBuffer.getBufferLength();
-		for(int i = _currentIndex; i  < bufferLength; i++) {
-			char c = csvBuffer.getChar(i);
-			consumeOneChar(c, i, cellConsumer);
+		final char[] chars = csvBuffer.getCharBuffer();
+		final int bufferLength = csvBuffer.getBufferLength();
+		for(int i = nextSpecialChar(chars, _currentIndex, bufferLength); i  < bufferLength; i = nextSpecialChar(chars, i + 1, bufferLength)) {
+			consumeOneChar(chars[i], i, cellConsumer);
 		}
 		_currentIndex = bufferLength;
 	}
 
+	/**
+	 * Skip the run of ordinary chars starting at index, they only turn off the cr flag.
+	 * @param chars the buffer
+	 * @param index the index to start from
+	 * @param bufferLength the length of the buffer
+	 * @return the index of the next char that is not above maxSpecialChar or bufferLength
+	 */
+	protected final int nextSpecialChar(char[] chars, int index, int bufferLength) {
+		final char maxSpecialChar = this.maxSpecialChar;
+		int i = index;
+		while(i < bufferLength && chars[i] > maxSpecialChar) {
+			i++;
+		}
+		if (i != index) {
+			turnOffCrFlag();
+		}
+		return i;
+	}
+
 	protected abstract void consumeOneChar(char c, int i, CellConsumer cellConsumer);
 
 	/**
@@ -107,6 +136,13 @@ public abstract class AbstractCsvCharConsumer implements CsvCharConsumer {
 		cellConsumer.end();
 	}
 
+	@Override
+	public final void reset() {
+		csvBuffer.reset();
+		_currentIndex = 0;
+		currentState = NONE;
+	}
+
 	private void shiftCurrentIndex(int mark) {
 		_currentIndex -= mark;
 	}
@@ -123,22 +159,22 @@ public abstract class AbstractCsvCharConsumer implements CsvCharConsumer {
 
 	private int unescape(char[] chars, int offset, int length) {
 		final char quoteChar = quoteChar();
-
+		// offset is after the opening quote, length includes it
+		final int end = offset + length - 1;
+		if (end <= offset) {
+			return 0;
+		}
 
 		int j = offset + 1;
 		boolean notEscaped = true;
 
-		for(int i = offset + 1; i < offset + length -1; i++) {
+		for(int i = offset + 1; i < end; i++) {
 			notEscaped = chars[i] != quoteChar || !notEscaped;
 			if (notEscaped) {
 				chars[j++] = chars[i];
 			}
 		}
 
-		if (chars[offset + length -1] != quoteChar) {
-			chars[j++] = chars[offset + length -1];
-		}
-
-		return j - offset - 1;
+		return j - offset;
 	}
 }
@@ -0,0 +1,61 @@
+package org.sfm.csv.parser;
+
+import sun.misc.Unsafe;
+
+import java.lang.reflect.Field;
+import java.nio.ByteOrder;
+
+/**
+ * Read 8 bytes of a byte[] as a long, the first byte in the lowest bits.
+ * <p>
+ * Uses a single unaligned load through Unsafe on the platforms that support it, and assembles the bytes one by one
+ * if Unsafe is not available.
+ */
+final class ByteArrayWords {
+
+	private static final Unsafe UNSAFE = unsafe();
+	private static final long BYTE_ARRAY_BASE_OFFSET = UNSAFE != null ? UNSAFE.arrayBaseOffset(byte[].class) : 0;
+	private static final boolean BIG_ENDIAN = ByteOrder.nativeOrder() == ByteOrder.BIG_ENDIAN;
+
+	private ByteArrayWords() {
+	}
+
+	/**
+	 * @param bytes the bytes
+	 * @param index the index of the first byte, index + 8 needs to be within the array
+	 * @return the 8 bytes from index with bytes[index] in the lowest 8 bits
+	 */
+	static long getLong(byte[] bytes, int index) {
+		if (UNSAFE != null) {
+			final long word = UNSAFE.getLong(bytes, BYTE_ARRAY_BASE_OFFSET + index);
+			return BIG_ENDIAN ? Long.reverseBytes(word) : word;
+		}
+		return (bytes[index] & 0xFFl)
+				| (bytes[index + 1] & 0xFFl) << 8
+				| (bytes[index + 2] & 0xFFl) << 16
+				| (bytes[index + 3] & 0xFFl) << 24
+				| (bytes[index + 4] & 0xFFl) << 32
+				| (bytes[index + 5] & 0xFFl) << 40
+				| (bytes[index + 6] & 0xFFl) << 48
+				| (bytes[index + 7] & 0xFFl) << 56;
+	}
+
+	private static Unsafe unsafe() {
+		if (!supportsUnalignedAccess(System.getProperty("os.arch"))) {
+			return null;
+		}
+		try {
+			Field field = Unsafe.class.getDeclaredField("theUnsafe");
+			field.setAccessible(true);
+			return (Unsafe) field.get(null);
+		} catch (Throwable e) {
+			return null;
+		}
+	}
+
+	private static boolean supportsUnalignedAccess(String arch) {
+		return "amd64".equals(arch) || "x86_64".equals(arch)
+				|| "i386".equals(arch) || "x86".equals(arch)
+				|| "aarch64".equals(arch) || "ppc64le".equals(arch);
+	}
+}
@@ -0,0 +1,13 @@
+package org.sfm.csv.parser;
+
+/**
+ * Cell callback of the byte level tokenizer.
+ * <p>
+ * The bytes are the raw encoded content of the cell, unescaped, and are only valid for the duration of the call.
+ * @see org.sfm.csv.CsvByteReader
+ */
+public interface ByteCellConsumer {
+	void newCell(byte[] bytes, int offset, int length);
+	void endOfRow();
+	void end();
+}
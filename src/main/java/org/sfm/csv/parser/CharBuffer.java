@@ -1,18 +1,37 @@
 package org.sfm.csv.parser;
 
+import org.sfm.csv.impl.ParsingException;
+
 import java.io.IOException;
 import java.io.Reader;
 
 public final class CharBuffer {
 
 
+	private final int bufferSize;
+	private final int maxBufferSize;
+
 	private char[] buffer;
 	private int bufferLength;
 
 	private int mark;
 
+	private long bufferOffset;
+
 	public CharBuffer(final int bufferSize) {
-		this.buffer = new char[bufferSize];
+		this(bufferSize, -1);
+	}
+
+	/**
+	 * A bounded buffer never grows above maxBufferSize and shrinks back to bufferSize once the oversized cell
+	 * has been consumed.
+	 * @param bufferSize the initial size of the buffer
+	 * @param maxBufferSize the maximum size of the buffer, -1 if unbounded
+	 */
+	public CharBuffer(final int bufferSize, final int maxBufferSize) {
+		this.bufferSize = maxBufferSize != -1 ? Math.min(bufferSize, maxBufferSize) : bufferSize;
+		this.maxBufferSize = maxBufferSize;
+		this.buffer = new char[this.bufferSize];
 	}
 	
 	public void mark(int index) {
@@ -34,22 +53,56 @@ public final class CharBuffer {
 		// shift buffer consumer data
 		int newLength = Math.max(bufferLength - mark, 0);
 
-		// if buffer tight double the size
-		if (newLength <= (bufferLength >> 1)) {
+		if (maxBufferSize != -1) {
+			shiftBounded(newLength);
+		} else if (newLength <= (bufferLength >> 1)) {
+			// if buffer tight double the size
 			System.arraycopy(buffer, mark, buffer, 0, newLength);
 		} else {
 			// double buffer size
-			char[] newBuffer = new char[buffer.length << 1];
-			System.arraycopy(buffer, mark, newBuffer, 0, newLength);
-			buffer = newBuffer;
+			resize(buffer.length << 1, newLength);
 		}
 		bufferLength = newLength;
 
 		int m = mark;
 		mark = 0;
+		bufferOffset += m;
 		return m;
 	}
 
+	private void shiftBounded(int newLength) {
+		if (newLength >= maxBufferSize) {
+			throw new ParsingException("Cell starting at char " + (bufferOffset + mark)
+					+ " does not fit in the max buffer size of " + maxBufferSize + " chars", bufferOffset + mark);
+		}
+		if (buffer.length > bufferSize && newLength <= (bufferSize >> 1)) {
+			// oversized cell consumed, shrink back
+			resize(bufferSize, newLength);
+		} else if (newLength <= (bufferLength >> 1) || buffer.length >= maxBufferSize) {
+			System.arraycopy(buffer, mark, buffer, 0, newLength);
+		} else {
+			resize((int) Math.min(((long)buffer.length) << 1, maxBufferSize), newLength);
+		}
+	}
+
+	private void resize(int size, int newLength) {
+		char[] newBuffer = new char[size];
+		System.arraycopy(buffer, mark, newBuffer, 0, newLength);
+		buffer = newBuffer;
+	}
+
+	/**
+	 * discard the content, a buffer grown by an oversized cell goes back to bufferSize.
+	 */
+	public void reset() {
+		if (buffer.length > bufferSize) {
+			buffer = new char[bufferSize];
+		}
+		bufferLength = 0;
+		mark = 0;
+		bufferOffset = 0;
+	}
+
 	public char[] getCharBuffer() {
 		return buffer;
 	}
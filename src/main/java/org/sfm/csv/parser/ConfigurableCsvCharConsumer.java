@@ -10,7 +10,7 @@ public final class ConfigurableCsvCharConsumer extends AbstractCsvCharConsumer {
 	private final char quoteChar;
 
 	public ConfigurableCsvCharConsumer(CharBuffer csvBuffer, char separatorChar, char quoteChar) {
-		super(csvBuffer);
+		super(csvBuffer, maxChar(maxChar(separatorChar, quoteChar), '\r'));
 		this.separatorChar = separatorChar;
 		this.quoteChar = quoteChar;
 	}
@@ -32,10 +32,11 @@ public final class ConfigurableCsvCharConsumer extends AbstractCsvCharConsumer {
 	@Override
 	public boolean nextRow(CellConsumer cellConsumer) {
 
-		int bufferLength = csvBuffer.getBufferLength();
-		for(int index = _currentIndex; index  < bufferLength; index++) {
+		final char[] chars = csvBuffer.getCharBuffer();
+		final int bufferLength = csvBuffer.getBufferLength();
+		for(int index = nextSpecialChar(chars, _currentIndex, bufferLength); index  < bufferLength; index = nextSpecialChar(chars, index + 1, bufferLength)) {
 
-			char character = csvBuffer.getChar(index);
+			char character = chars[index];
 
 			if (character == separatorChar) {
 				newCellIfNotInQuote(index, cellConsumer);
@@ -60,6 +61,10 @@ public final class ConfigurableCsvCharConsumer extends AbstractCsvCharConsumer {
 		return false;
 	}
 
+	private static char maxChar(char c1, char c2) {
+		return c1 > c2 ? c1 : c2;
+	}
+
 	@Override
 	public char quoteChar() {
 		return quoteChar;
@@ -0,0 +1,107 @@
+package org.sfm.csv.parser;
+
+import org.sfm.csv.impl.ParsingException;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+public final class CsvByteBuffer {
+
+	private final int bufferSize;
+	private final int maxBufferSize;
+
+	private byte[] buffer;
+	private int bufferLength;
+
+	private int mark;
+
+	private long bufferOffset;
+
+	public CsvByteBuffer(final int bufferSize) {
+		this(bufferSize, -1);
+	}
+
+	/**
+	 * A bounded buffer never grows above maxBufferSize and shrinks back to bufferSize once the oversized cell
+	 * has been consumed.
+	 * @param bufferSize the initial size of the buffer
+	 * @param maxBufferSize the maximum size of the buffer, -1 if unbounded
+	 */
+	public CsvByteBuffer(final int bufferSize, final int maxBufferSize) {
+		this.bufferSize = maxBufferSize != -1 ? Math.min(bufferSize, maxBufferSize) : bufferSize;
+		this.maxBufferSize = maxBufferSize;
+		this.buffer = new byte[this.bufferSize];
+	}
+
+	public void mark(int index) {
+		this.mark = index;
+	}
+
+	public boolean fillBuffer(InputStream is) throws IOException {
+		int length = is.read(buffer, bufferLength, buffer.length - bufferLength);
+		if (length != -1) {
+			bufferLength += length;
+			return true;
+		} else {
+			return false;
+		}
+	}
+
+	public int shiftBufferToMark() {
+		// shift buffer consumer data
+		int newLength = Math.max(bufferLength - mark, 0);
+
+		if (maxBufferSize != -1) {
+			shiftBounded(newLength);
+		} else if (newLength <= (bufferLength >> 1)) {
+			// if buffer tight double the size
+			System.arraycopy(buffer, mark, buffer, 0, newLength);
+		} else {
+			// double buffer size
+			resize(buffer.length << 1, newLength);
+		}
+		bufferLength = newLength;
+
+		int m = mark;
+		mark = 0;
+		bufferOffset += m;
+		return m;
+	}
+
+	private void shiftBounded(int newLength) {
+		if (newLength >= maxBufferSize) {
+			throw new ParsingException("Cell starting at byte " + (bufferOffset + mark)
+					+ " does not fit in the max buffer size of " + maxBufferSize + " bytes", bufferOffset + mark);
+		}
+		if (buffer.length > bufferSize && newLength <= (bufferSize >> 1)) {
+			// oversized cell consumed, shrink back
+			resize(bufferSize, newLength);
+		} else if (newLength <= (bufferLength >> 1) || buffer.length >= maxBufferSize) {
+			System.arraycopy(buffer, mark, buffer, 0, newLength);
+		} else {
+			resize((int) Math.min(((long)buffer.length) << 1, maxBufferSize), newLength);
+		}
+	}
+
+	private void resize(int size, int newLength) {
+		byte[] newBuffer = new byte[size];
+		System.arraycopy(buffer, mark, newBuffer, 0, newLength);
+		buffer = newBuffer;
+	}
+
+	public byte[] getByteBuffer() {
+		return buffer;
+	}
+
+	public int getMark() {
+		return mark;
+	}
+
+	public byte getByte(int bufferIndex) {
+		return buffer[bufferIndex];
+	}
+
+	public int getBufferLength() {
+		return bufferLength;
+	}
+}
@@ -0,0 +1,248 @@
+package org.sfm.csv.parser;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Consume the byteBuffer.
+ * <p>
+ * Same state machine as {@link AbstractCsvCharConsumer} but working on the encoded bytes,
+ * the separator and the quote need to be ASCII characters and the charset ASCII compatible.
+ */
+public final class CsvByteConsumer {
+	private static final int IN_QUOTE = 4;
+	private static final int IN_CR = 2;
+	private static final int QUOTE = 1;
+	private static final int NONE = 0;
+	private static final int TURN_OFF_IN_CR_MASK = ~IN_CR;
+	private static final int ALL_QUOTES = QUOTE | IN_QUOTE;
+
+	private static final long ONES = 0x0101010101010101l;
+	private static final long HIGH_BITS = 0x8080808080808080l;
+	private static final long CR_WORD = '\r' * ONES;
+	private static final long LF_WORD = '\n' * ONES;
+
+	private final CsvByteBuffer csvBuffer;
+	private final byte separatorByte;
+	private final byte quoteByte;
+	private final int maxSpecialByte;
+	private final long separatorWord;
+	private final long quoteWord;
+
+	private int _currentIndex;
+	private int currentState = NONE;
+
+	public CsvByteConsumer(CsvByteBuffer csvBuffer, char separatorChar, char quoteChar) {
+		if (separatorChar > 127 || quoteChar > 127) {
+			throw new IllegalArgumentException("Separator and quote need to be ASCII characters");
+		}
+		this.csvBuffer = csvBuffer;
+		this.separatorByte = (byte) separatorChar;
+		this.quoteByte = (byte) quoteChar;
+		this.maxSpecialByte = Math.max(Math.max(separatorChar, quoteChar), '\r');
+		this.separatorWord = separatorChar * ONES;
+		this.quoteWord = quoteChar * ONES;
+	}
+
+	public void parseAll(ByteCellConsumer cellConsumer) {
+		final byte[] bytes = csvBuffer.getByteBuffer();
+		final int bufferLength = csvBuffer.getBufferLength();
+		for(int i = nextSpecialByte(bytes, _currentIndex, bufferLength); i < bufferLength; i = nextSpecialByte(bytes, i + 1, bufferLength)) {
+			consumeOneByte(bytes[i], i, cellConsumer);
+		}
+		_currentIndex = bufferLength;
+	}
+
+	/**
+	 * Skip the run of ordinary bytes starting at index, they only turn off the cr flag.
+	 * Non ASCII bytes are always ordinary.
+	 * <p>
+	 * The first 8 bytes are tested one by one, most cells are short. The run is then scanned for the separator,
+	 * the quote, CR and LF 8 bytes at a time - SWAR, a byte of the word xor the repeated special byte is zero
+	 * on a match - and byte per byte again for the last 7 bytes of the buffer.
+	 */
+	private int nextSpecialByte(byte[] bytes, int index, int bufferLength) {
+		final int maxSpecialByte = this.maxSpecialByte;
+		int i = index;
+		final int prefixEnd = Math.min(index + 8, bufferLength);
+		while(i < prefixEnd) {
+			final byte b = bytes[i];
+			if ((b & 0xFF) <= maxSpecialByte && (b == separatorByte || b == quoteByte || b == '\n' || b == '\r')) {
+				return skipped(index, i);
+			}
+			i++;
+		}
+		final int lastWord = bufferLength - 8;
+		while(i <= lastWord) {
+			final long word = ByteArrayWords.getLong(bytes, i);
+			final long matches = zeroBytes(word ^ separatorWord) | zeroBytes(word ^ quoteWord)
+					| zeroBytes(word ^ CR_WORD) | zeroBytes(word ^ LF_WORD);
+			if (matches != 0) {
+				// the lowest flagged byte is always a match, the ones above can be false positives
+				return skipped(index, i + (Long.numberOfTrailingZeros(matches) >>> 3));
+			}
+			i += 8;
+		}
+		while(i < bufferLength && (bytes[i] & 0xFF) > maxSpecialByte) {
+			i++;
+		}
+		return skipped(index, i);
+	}
+
+	/**
+	 * @return the high bit of each zero byte of the word set, and maybe of some bytes above the first zero byte
+	 */
+	private static long zeroBytes(long word) {
+		return (word - ONES) & ~word & HIGH_BITS;
+	}
+
+	private int skipped(int index, int i) {
+		if (i != index) {
+			turnOffCrFlag();
+		}
+		return i;
+	}
+
+	private void consumeOneByte(byte b, int index, ByteCellConsumer cellConsumer) {
+		if (b == separatorByte) {
+			newCellIfNotInQuote(index, cellConsumer);
+		} else if (b == '\n') {
+			handleEndOfLineLF(index, cellConsumer);
+		} else if (b == '\r') {
+			handleEndOfLineCR(index, cellConsumer);
+			return;
+		} else if (b == quoteByte) {
+			quote(index);
+		}
+		turnOffCrFlag();
+	}
+
+	public boolean nextRow(ByteCellConsumer cellConsumer) {
+		final byte[] bytes = csvBuffer.getByteBuffer();
+		final int bufferLength = csvBuffer.getBufferLength();
+		for(int index = nextSpecialByte(bytes, _currentIndex, bufferLength); index < bufferLength; index = nextSpecialByte(bytes, index + 1, bufferLength)) {
+			byte b = bytes[index];
+			if (b == separatorByte) {
+				newCellIfNotInQuote(index, cellConsumer);
+			} else if (b == '\n') {
+				if (handleEndOfLineLF(index, cellConsumer)) {
+					_currentIndex = index + 1;
+					turnOffCrFlag();
+					return true;
+				}
+			} else if (b == '\r') {
+				if (handleEndOfLineCR(index, cellConsumer)) {
+					_currentIndex = index + 1;
+					return true;
+				}
+			} else if (b == quoteByte) {
+				quote(index);
+			}
+			turnOffCrFlag();
+		}
+		_currentIndex = bufferLength;
+
+		return false;
+	}
+
+	private void turnOffCrFlag() {
+		currentState = currentState & TURN_OFF_IN_CR_MASK;
+	}
+
+	private void newCellIfNotInQuote(int currentIndex, ByteCellConsumer cellConsumer) {
+		if (isInQuote())
+			return;
+
+		newCell(currentIndex, cellConsumer);
+	}
+
+	private boolean isInQuote() {
+		return currentState == IN_QUOTE;
+	}
+
+	private boolean handleEndOfLineLF(int currentIndex, ByteCellConsumer cellConsumer) {
+		if (!isInQuote()) {
+			if (currentState != IN_CR) {
+				endOfRow(currentIndex, cellConsumer);
+				return true;
+			} else {
+				// we had a preceding cr so shift the mark
+				csvBuffer.mark(currentIndex + 1);
+			}
+		}
+		return false;
+	}
+
+	private boolean handleEndOfLineCR(int currentIndex, ByteCellConsumer cellConsumer) {
+		if (!isInQuote()) {
+			endOfRow(currentIndex, cellConsumer);
+			currentState = IN_CR;
+			return true;
+		}
+		return false;
+	}
+
+	private void endOfRow(int currentIndex, ByteCellConsumer cellConsumer) {
+		newCell(currentIndex, cellConsumer);
+		cellConsumer.endOfRow();
+	}
+
+	private void quote(int currentIndex) {
+		if (isAllConsumedFromMark(currentIndex)) {
+			currentState = IN_QUOTE;
+		} else {
+			currentState = currentState ^ ALL_QUOTES;
+		}
+	}
+
+	private void newCell(int currentIndex, ByteCellConsumer cellConsumer) {
+		byte[] byteBuffer = csvBuffer.getByteBuffer();
+		int start = csvBuffer.getMark();
+		int length = currentIndex - start;
+
+		if (length > 0 && byteBuffer[start] == quoteByte) {
+			start ++;
+			length = unescape(byteBuffer, start, length);
+		}
+
+		cellConsumer.newCell(byteBuffer, start, length);
+		csvBuffer.mark(currentIndex + 1);
+		currentState = NONE;
+	}
+
+	public void finish(ByteCellConsumer cellConsumer) {
+		if (!isAllConsumedFromMark(_currentIndex)) {
+			newCell(_currentIndex, cellConsumer);
+		}
+		cellConsumer.end();
+	}
+
+	public boolean fillBuffer(InputStream is) throws IOException {
+		_currentIndex -= csvBuffer.shiftBufferToMark();
+		return csvBuffer.fillBuffer(is);
+	}
+
+	private boolean isAllConsumedFromMark(int bufferIndex) {
+		return bufferIndex < csvBuffer.getMark() + 1;
+	}
+
+	private int unescape(byte[] bytes, int offset, int length) {
+		// offset is after the opening quote, length includes it
+		final int end = offset + length - 1;
+		if (end <= offset) {
+			return 0;
+		}
+
+		int j = offset + 1;
+		boolean notEscaped = true;
+
+		for(int i = offset + 1; i < end; i++) {
+			notEscaped = bytes[i] != quoteByte || !notEscaped;
+			if (notEscaped) {
+				bytes[j++] = bytes[i];
+			}
+		}
+
+		return j - offset;
+	}
+}
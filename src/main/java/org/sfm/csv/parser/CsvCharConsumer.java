@@ -13,4 +13,9 @@ public interface CsvCharConsumer {
     boolean fillBuffer(Reader reader) throws IOException;
 
     char quoteChar();
+
+    /**
+     * clear the parsing state and the buffer content to parse a new source, the buffer is kept.
+     */
+    void reset();
 }
@@ -0,0 +1,217 @@
+package org.sfm.csv.parser;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.io.Reader;
+import java.nio.CharBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+
+/**
+ * Reader on a memory mapped file.
+ * <p>
+ * The file is mapped by windows of {@link #DEFAULT_WINDOW_SIZE} bytes and decoded straight from the mapped memory
+ * into the caller char array, without the intermediate byte buffer of an {@link java.io.InputStreamReader}.
+ * UTF-8 is decoded inline with a fast path for ASCII bytes, other charsets go through a {@link CharsetDecoder}.
+ * Malformed input is replaced by U+FFFD as {@link java.io.InputStreamReader} does.
+ */
+public final class MappedFileReader extends Reader {
+
+	public static final int DEFAULT_WINDOW_SIZE = 1 << 26;
+
+	private static final char REPLACEMENT_CHAR = '\uFFFD';
+	private static final Charset UTF8 = Charset.forName("UTF-8");
+
+	private final RandomAccessFile file;
+	private final FileChannel channel;
+	private final long end;
+	private final int windowSize;
+	private final CharsetDecoder decoder;
+
+	private MappedByteBuffer buffer;
+	private long windowStart;
+	private int pendingChar = -1;
+
+	public MappedFileReader(File file, Charset charset) throws IOException {
+		this(file, charset, 0, Long.MAX_VALUE);
+	}
+
+	/**
+	 * @param file the file
+	 * @param charset the charset of the file
+	 * @param start the offset of the first byte to read
+	 * @param end the offset after the last byte to read, capped to the size of the file
+	 * @throws IOException if an io error occurs
+	 */
+	public MappedFileReader(File file, Charset charset, long start, long end) throws IOException {
+		this(file, charset, start, end, DEFAULT_WINDOW_SIZE);
+	}
+
+	public MappedFileReader(File file, Charset charset, long start, long end, int windowSize) throws IOException {
+		if (windowSize < 4) {
+			throw new IllegalArgumentException("windowSize needs to be at least 4 bytes");
+		}
+		this.file = new RandomAccessFile(file, "r");
+		this.channel = this.file.getChannel();
+		this.end = Math.min(end, channel.size());
+		this.windowStart = start;
+		this.windowSize = windowSize;
+		if (UTF8.equals(charset)) {
+			this.decoder = null;
+		} else {
+			this.decoder = charset.newDecoder()
+					.onMalformedInput(CodingErrorAction.REPLACE)
+					.onUnmappableCharacter(CodingErrorAction.REPLACE);
+		}
+	}
+
+	@Override
+	public int read(char[] cbuf, int off, int len) throws IOException {
+		if (len == 0) {
+			return 0;
+		}
+
+		int n = 0;
+		if (pendingChar != -1) {
+			cbuf[off] = (char) pendingChar;
+			pendingChar = -1;
+			n = 1;
+		}
+
+		while (n < len && ensureBytes()) {
+			int l;
+			if (decoder == null) {
+				l = decodeUtf8(cbuf, off + n, len - n);
+			} else {
+				l = decode(cbuf, off + n, len - n);
+			}
+			if (l == 0) {
+				if (isLastWindow()) {
+					break;
+				}
+				// incomplete sequence at the end of the window
+				remap();
+			}
+			n += l;
+		}
+
+		if (n == 0) {
+			return -1;
+		}
+		return n;
+	}
+
+	private boolean ensureBytes() throws IOException {
+		if (buffer == null) {
+			if (windowStart >= end) {
+				return false;
+			}
+			remap();
+		} else if (buffer.remaining() < 4 && !isLastWindow()) {
+			remap();
+		}
+		return buffer.hasRemaining();
+	}
+
+	private boolean isLastWindow() {
+		return windowStart + buffer.limit() >= end;
+	}
+
+	private void remap() throws IOException {
+		if (buffer != null) {
+			windowStart += buffer.position();
+		}
+		buffer = channel.map(FileChannel.MapMode.READ_ONLY, windowStart, Math.min(windowSize, end - windowStart));
+	}
+
+	private int decodeUtf8(char[] cbuf, int off, int len) {
+		final MappedByteBuffer b = buffer;
+		final int limit = b.limit();
+		final int cend = off + len;
+		int p = b.position();
+		int i = off;
+
+		while (i < cend && p < limit) {
+			int c = b.get(p);
+			if (c >= 0) {
+				cbuf[i++] = (char) c;
+				p++;
+				continue;
+			}
+
+			int lead = c & 0xFF;
+			if (lead < 0xC2 || lead > 0xF4) {
+				cbuf[i++] = REPLACEMENT_CHAR;
+				p++;
+				continue;
+			}
+
+			int nbBytes = lead < 0xE0 ? 2 : lead < 0xF0 ? 3 : 4;
+			if (p + nbBytes > limit && !isLastWindow()) {
+				break;
+			}
+
+			// the valid range of the second byte excludes overlong, surrogate and out of range sequences
+			int min = lead == 0xE0 ? 0xA0 : lead == 0xF0 ? 0x90 : 0x80;
+			int max = lead == 0xED ? 0x9F : lead == 0xF4 ? 0x8F : 0xBF;
+			int cp = lead & (0x7F >> nbBytes);
+			int j = 1;
+			for (; j < nbBytes && p + j < limit; j++) {
+				int cc = b.get(p + j) & 0xFF;
+				if (cc < min || cc > max) {
+					break;
+				}
+				cp = (cp << 6) | (cc & 0x3F);
+				min = 0x80;
+				max = 0xBF;
+			}
+
+			if (j < nbBytes) {
+				// malformed or truncated sequence, replace the maximal valid subpart
+				cbuf[i++] = REPLACEMENT_CHAR;
+				p += j;
+				continue;
+			}
+
+			p += nbBytes;
+			if (cp < Character.MIN_SUPPLEMENTARY_CODE_POINT) {
+				cbuf[i++] = (char) cp;
+			} else {
+				cbuf[i++] = (char) ((cp >>> 10) + (Character.MIN_HIGH_SURROGATE - (Character.MIN_SUPPLEMENTARY_CODE_POINT >>> 10)));
+				char low = (char) ((cp & 0x3FF) + Character.MIN_LOW_SURROGATE);
+				if (i < cend) {
+					cbuf[i++] = low;
+				} else {
+					pendingChar = low;
+				}
+			}
+		}
+
+		b.position(p);
+		return i - off;
+	}
+
+	private int decode(char[] cbuf, int off, int len) throws IOException {
+		CharBuffer out = CharBuffer.wrap(cbuf, off, len);
+		boolean endOfInput = isLastWindow();
+		CoderResult result = decoder.decode(buffer, out, endOfInput);
+		if (result.isError()) {
+			result.throwException();
+		}
+		if (endOfInput && !buffer.hasRemaining()) {
+			decoder.flush(out);
+		}
+		return out.position() - off;
+	}
+
+	@Override
+	public void close() throws IOException {
+		buffer = null;
+		file.close();
+	}
+}
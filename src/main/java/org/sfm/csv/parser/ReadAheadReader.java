@@ -0,0 +1,252 @@
+package org.sfm.csv.parser;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.Reader;
+import java.lang.ref.WeakReference;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Reader that reads the next chunk of the underlying reader in a background task while the current one is parsed.
+ * <p>
+ * Two chunks of bufferSize chars are swapped between the background task and the reader, so the decoding
+ * or decompression of the underlying reader runs in parallel with the tokenizing and the mapping.
+ * The background task ends on end of input, on error, on {@link #stop()} or {@link #close()}, and on its own
+ * once the reader is no longer reachable. stop and close wait for the task to end, the underlying reader is never
+ * used by the task and the caller at the same time.
+ * <p>
+ * The executor needs to run the task on another thread than the one reading. If it runs the task on the thread
+ * creating the reader, as a same-thread executor does, the task returns at once and the reader reads the underlying
+ * reader inline without read ahead. An executor queuing the task on the reading thread itself blocks the first read.
+ */
+public final class ReadAheadReader extends Reader {
+
+	/**
+	 * run the read ahead task in a new daemon thread.
+	 */
+	public static final Executor NEW_THREAD_EXECUTOR = new Executor() {
+		@Override
+		public void execute(Runnable command) {
+			Thread thread = new Thread(command, "sfm-csv-read-ahead");
+			thread.setDaemon(true);
+			thread.start();
+		}
+	};
+
+	private final Reader reader;
+	private final BlockingQueue<Chunk> free = new ArrayBlockingQueue<Chunk>(2);
+	private final BlockingQueue<Chunk> filled = new ArrayBlockingQueue<Chunk>(2);
+	private final ReadAheadTask task;
+	private final boolean inline;
+
+	private boolean stopped;
+	private boolean closed;
+
+	private Chunk current;
+	private int currentIndex;
+
+	public ReadAheadReader(Reader reader, int bufferSize, Executor executor) {
+		this.reader = reader;
+		free.add(new Chunk(bufferSize));
+		free.add(new Chunk(bufferSize));
+		this.task = new ReadAheadTask(this, reader, free, filled);
+		executor.execute(task);
+		this.inline = task.inline;
+	}
+
+	@Override
+	public int read(char[] cbuf, int off, int len) throws IOException {
+		if (len == 0) {
+			return 0;
+		}
+		Chunk chunk = currentChunk();
+		if (chunk.length == -1) {
+			if (chunk.error != null) {
+				throw chunk.error;
+			}
+			return -1;
+		}
+		int l = Math.min(len, chunk.length - currentIndex);
+		System.arraycopy(chunk.chars, currentIndex, cbuf, off, l);
+		currentIndex += l;
+		return l;
+	}
+
+	private Chunk currentChunk() throws IOException {
+		if (stopped) {
+			throw new IOException("Reader closed");
+		}
+		if (current != null && (current.length == -1 || currentIndex < current.length)) {
+			return current;
+		}
+		if (inline) {
+			return fillInline();
+		}
+		if (current != null) {
+			free.add(current);
+		}
+		try {
+			current = filled.take();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException();
+		}
+		currentIndex = 0;
+		return current;
+	}
+
+	private Chunk fillInline() {
+		if (current == null) {
+			current = free.poll();
+		}
+		task.fill(current);
+		currentIndex = 0;
+		return current;
+	}
+
+	/**
+	 * End the read ahead task and wait for it to be out of the underlying reader, the underlying reader is left open.
+	 * The content not read yet is discarded, the reader can not be read anymore.
+	 * @throws InterruptedIOException if interrupted while waiting for the task
+	 */
+	public void stop() throws InterruptedIOException {
+		stopped = true;
+		current = null;
+		task.stop();
+	}
+
+	@Override
+	public void close() throws IOException {
+		if (closed) {
+			return;
+		}
+		stop();
+		closed = true;
+		reader.close();
+	}
+
+	private static final class Chunk {
+		private final char[] chars;
+		private int length;
+		private IOException error;
+
+		private Chunk(int size) {
+			this.chars = new char[size];
+		}
+	}
+
+	/**
+	 * the task only references the reader weakly, an abandoned reader - an iterator not read until the end - is
+	 * collected and the task then ends after at most ABANDONED_CHECK_MILLIS.
+	 */
+	private static final class ReadAheadTask implements Runnable {
+		private static final int NEW = 0;
+		private static final int RUNNING = 1;
+		private static final int DONE = 2;
+		private static final long ABANDONED_CHECK_MILLIS = 1000;
+		private static final Chunk STOP = new Chunk(0);
+
+		private final WeakReference<ReadAheadReader> owner;
+		private final Thread creator = Thread.currentThread();
+		private final Reader reader;
+		private final BlockingQueue<Chunk> free;
+		private final BlockingQueue<Chunk> filled;
+
+		private final AtomicInteger state = new AtomicInteger(NEW);
+		private final CountDownLatch done = new CountDownLatch(1);
+		private volatile boolean stopped;
+		// only written and read on the creator thread
+		private boolean inline;
+
+		private ReadAheadTask(ReadAheadReader owner, Reader reader, BlockingQueue<Chunk> free, BlockingQueue<Chunk> filled) {
+			this.owner = new WeakReference<ReadAheadReader>(owner);
+			this.reader = reader;
+			this.free = free;
+			this.filled = filled;
+		}
+
+		@Override
+		public void run() {
+			if (!state.compareAndSet(NEW, RUNNING)) {
+				// stopped before it started
+				return;
+			}
+			try {
+				if (Thread.currentThread() == creator) {
+					// waiting for a free chunk would never return, the reader reads inline
+					inline = true;
+					return;
+				}
+				Chunk chunk;
+				do {
+					chunk = nextFreeChunk();
+					if (chunk == null) {
+						return;
+					}
+					fill(chunk);
+					// never blocks, the queue can hold all the chunks
+					filled.add(chunk);
+				} while (chunk.length != -1);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			} finally {
+				state.set(DONE);
+				done.countDown();
+			}
+		}
+
+		private Chunk nextFreeChunk() throws InterruptedException {
+			while (!stopped) {
+				Chunk chunk = free.poll(ABANDONED_CHECK_MILLIS, TimeUnit.MILLISECONDS);
+				if (chunk != null) {
+					return stopped ? null : chunk;
+				}
+				if (owner.get() == null) {
+					return null;
+				}
+			}
+			return null;
+		}
+
+		private void fill(Chunk chunk) {
+			try {
+				int length = reader.read(chunk.chars, 0, chunk.chars.length);
+				// keep reading until the chunk is full to hand off fewer and larger chunks
+				while (length != -1 && length < chunk.chars.length) {
+					int l = reader.read(chunk.chars, length, chunk.chars.length - length);
+					if (l == -1) {
+						break;
+					}
+					length += l;
+				}
+				chunk.length = length;
+			} catch (IOException e) {
+				chunk.length = -1;
+				chunk.error = e;
+			}
+		}
+
+		/**
+		 * the task is not interrupted, that would close an interruptible channel under the reader,
+		 * it is woken up if waiting for a free chunk and the call waits for the current read to return.
+		 */
+		private void stop() throws InterruptedIOException {
+			stopped = true;
+			if (state.compareAndSet(NEW, DONE)) {
+				return;
+			}
+			free.offer(STOP);
+			try {
+				done.await();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new InterruptedIOException("Interrupted while waiting for the read ahead task to end");
+			}
+		}
+	}
+}
@@ -0,0 +1,311 @@
+package org.sfm.csv.parser;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * Find row boundaries in a byte oriented csv source without decoding or tokenizing it.
+ * <p>
+ * The scanner follows the same quote rules as {@link AbstractCsvCharConsumer}: a quote at the start of a cell opens
+ * a quoted cell, quotes inside a quoted cell toggle the quoted state - so an escaped quote leaves it unchanged -
+ * and a quote inside an unquoted cell is ignored. Separator and end of line inside a quoted cell are not boundaries.
+ * <p>
+ * The scan needs to start on a known row boundary - except for {@link #rowStartNear(FileChannel, long, long, long)}
+ * that resolves the quote state from the content around the target - and it only works for charsets where the separator,
+ * the quote and the end of line characters are encoded as a single byte that does not appear
+ * in any other character encoding - ASCII, UTF-8, ISO-8859-x.
+ */
+public final class RowBoundaryScanner {
+
+	private static final int BUFFER_SIZE = 1 << 16;
+	private static final int LOOKAHEAD = 1 << 16;
+
+	private final byte separator;
+	private final byte quote;
+
+	public RowBoundaryScanner(char separatorChar, char quoteChar) {
+		this.separator = toByte(separatorChar);
+		this.quote = toByte(quoteChar);
+	}
+
+	private static byte toByte(char c) {
+		if (c > 127) {
+			throw new IllegalArgumentException("Separator and quote need to be ascii characters, got '" + c + "'");
+		}
+		return (byte) c;
+	}
+
+	/**
+	 * @param channel the source
+	 * @param from a row boundary to start the scan from
+	 * @param target the position to resynchronize from
+	 * @param end the end of the scanned range
+	 * @return the start offset of the first row starting at or after target, end if none
+	 * @throws IOException if an io error occurs
+	 */
+	public long nextRowStart(FileChannel channel, long from, long target, long end) throws IOException {
+		return scan(channel, from, target, 0, end);
+	}
+
+	/**
+	 * Find a row start at or after target without scanning the content between from and target.
+	 * <p>
+	 * The quote state at target is unknown, the content is scanned from target both as outside and as inside
+	 * a quoted cell until one of the two is contradicted - a closing quote followed by something else than a quote,
+	 * a separator or an end of line. When the state can not be resolved - both valid until they reach the same state
+	 * on different row starts, or no contradiction within LOOKAHEAD bytes even without any quote as target can be in
+	 * a quoted cell longer than that - falls back to {@link #nextRowStart(FileChannel, long, long, long)}.
+	 *
+	 * @param channel the source
+	 * @param from a row boundary before target, only scanned if the quote state at target can not be resolved
+	 * @param target the position to resynchronize from
+	 * @param end the end of the scanned range
+	 * @return the start offset of the first row starting at or after target, end if none
+	 * @throws IOException if an io error occurs
+	 */
+	public long rowStartNear(FileChannel channel, long from, long target, long end) throws IOException {
+		if (target <= from) {
+			return from;
+		}
+
+		ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+		byte[] bytes = buffer.array();
+
+		QuoteHypothesis outside = null;
+		QuoteHypothesis inside = null;
+
+		// starts one byte before target to know if target is at a cell or row start
+		long position = target - 1;
+		while (position < end) {
+			buffer.clear();
+			buffer.limit((int) Math.min(BUFFER_SIZE, end - position));
+			int length = channel.read(buffer, position);
+			if (length <= 0) {
+				break;
+			}
+
+			int i = 0;
+			if (outside == null) {
+				outside = QuoteHypothesis.outside(bytes[0], separator, quote);
+				inside = QuoteHypothesis.inside(separator, quote);
+				i = 1;
+			}
+
+			for (; i < length; i++) {
+				byte b = bytes[i];
+				long offset = position + i;
+				outside.next(b, offset);
+				inside.next(b, offset);
+
+				if (outside.valid && inside.valid) {
+					if (outside.sameState(inside)) {
+						// no content after this point can tell them apart, fine if they agree on the row start
+						if (outside.rowStart != inside.rowStart) {
+							return nextRowStart(channel, from, target, end);
+						}
+						inside.valid = false;
+					} else if (offset + 1 >= target + LOOKAHEAD) {
+						return nextRowStart(channel, from, target, end);
+					}
+				}
+
+				if (!outside.valid && !inside.valid) {
+					return nextRowStart(channel, from, target, end);
+				}
+				QuoteHypothesis resolved = !inside.valid ? outside : !outside.valid ? inside : null;
+				if (resolved != null && resolved.rowStart != -1) {
+					return resolved.rowStart;
+				}
+			}
+			position += length;
+		}
+
+		if (outside == null) {
+			return end;
+		}
+		if (outside.valid && inside.valid && outside.rowStart != inside.rowStart) {
+			return nextRowStart(channel, from, target, end);
+		}
+		QuoteHypothesis resolved = outside.valid ? outside : inside;
+		return resolved.rowStart != -1 ? resolved.rowStart : end;
+	}
+
+	/**
+	 * @param channel the source
+	 * @param from a row boundary to start the scan from
+	 * @param nbRows the number of rows to skip
+	 * @param end the end of the scanned range
+	 * @return the start offset of the row following the skipped rows, end if none
+	 * @throws IOException if an io error occurs
+	 */
+	public long skipRows(FileChannel channel, long from, int nbRows, long end) throws IOException {
+		return scan(channel, from, from, nbRows, end);
+	}
+
+	private long scan(FileChannel channel, long from, long minOffset, int minRows, long end) throws IOException {
+		if (minRows == 0 && from >= minOffset) {
+			return from;
+		}
+
+		ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+		byte[] bytes = buffer.array();
+
+		int rows = 0;
+		boolean cellStart = true;
+		boolean quotedCell = false;
+		boolean inQuote = false;
+		boolean rowStart = false;
+		boolean afterCr = false;
+
+		long position = from;
+		while (position < end) {
+			buffer.clear();
+			buffer.limit((int) Math.min(BUFFER_SIZE, end - position));
+			int length = channel.read(buffer, position);
+			if (length <= 0) {
+				break;
+			}
+
+			for (int i = 0; i < length; i++) {
+				byte b = bytes[i];
+
+				if (rowStart) {
+					if (afterCr && b == '\n') {
+						// lf of a crlf, the row starts on the next byte
+						afterCr = false;
+						continue;
+					}
+					if (rows >= minRows && position + i >= minOffset) {
+						return position + i;
+					}
+					rowStart = false;
+					afterCr = false;
+				}
+
+				if (b == quote) {
+					if (cellStart) {
+						quotedCell = true;
+						inQuote = true;
+					} else if (quotedCell) {
+						inQuote = !inQuote;
+					}
+					cellStart = false;
+				} else if (inQuote) {
+					cellStart = false;
+				} else if (b == separator) {
+					cellStart = true;
+					quotedCell = false;
+				} else if (b == '\n' || b == '\r') {
+					rows++;
+					cellStart = true;
+					quotedCell = false;
+					rowStart = true;
+					afterCr = b == '\r';
+				} else {
+					cellStart = false;
+				}
+			}
+			position += length;
+		}
+
+		return end;
+	}
+
+	/**
+	 * scan state assuming a quote state at the start of the scan, invalidated by a badly closed quote.
+	 */
+	private static final class QuoteHypothesis {
+		private final byte separator;
+		private final byte quote;
+
+		private boolean valid = true;
+		private long rowStart = -1;
+
+		private boolean cellStart;
+		private boolean quotedCell;
+		private boolean inQuote;
+		private boolean closedQuote;
+		private boolean rowEnd;
+		private boolean afterCr;
+
+		private QuoteHypothesis(byte separator, byte quote) {
+			this.separator = separator;
+			this.quote = quote;
+		}
+
+		static QuoteHypothesis outside(byte previous, byte separator, byte quote) {
+			QuoteHypothesis hypothesis = new QuoteHypothesis(separator, quote);
+			hypothesis.cellStart = previous == separator || previous == '\n' || previous == '\r';
+			hypothesis.quotedCell = previous == quote;
+			hypothesis.rowEnd = previous == '\n' || previous == '\r';
+			hypothesis.afterCr = previous == '\r';
+			return hypothesis;
+		}
+
+		static QuoteHypothesis inside(byte separator, byte quote) {
+			QuoteHypothesis hypothesis = new QuoteHypothesis(separator, quote);
+			hypothesis.quotedCell = true;
+			hypothesis.inQuote = true;
+			return hypothesis;
+		}
+
+		void next(byte b, long offset) {
+			if (!valid) {
+				return;
+			}
+
+			if (rowEnd) {
+				if (afterCr && b == '\n') {
+					afterCr = false;
+					return;
+				}
+				if (rowStart == -1) {
+					rowStart = offset;
+				}
+				rowEnd = false;
+				afterCr = false;
+			}
+
+			if (closedQuote) {
+				closedQuote = false;
+				if (b != quote && b != separator && b != '\n' && b != '\r') {
+					valid = false;
+					return;
+				}
+			}
+
+			if (b == quote) {
+				if (cellStart) {
+					quotedCell = true;
+					inQuote = true;
+				} else if (quotedCell) {
+					inQuote = !inQuote;
+					closedQuote = !inQuote;
+				}
+				cellStart = false;
+			} else if (inQuote) {
+				cellStart = false;
+			} else if (b == separator) {
+				cellStart = true;
+				quotedCell = false;
+			} else if (b == '\n' || b == '\r') {
+				cellStart = true;
+				quotedCell = false;
+				rowEnd = true;
+				afterCr = b == '\r';
+			} else {
+				cellStart = false;
+			}
+		}
+
+		boolean sameState(QuoteHypothesis other) {
+			return cellStart == other.cellStart
+					&& quotedCell == other.quotedCell
+					&& inQuote == other.inQuote
+					&& closedQuote == other.closedQuote
+					&& rowEnd == other.rowEnd
+					&& afterCr == other.afterCr;
+		}
+	}
+}
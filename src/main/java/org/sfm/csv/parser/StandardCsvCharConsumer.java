@@ -7,7 +7,7 @@ package org.sfm.csv.parser;
 public final class StandardCsvCharConsumer extends AbstractCsvCharConsumer {
 
 	public StandardCsvCharConsumer(CharBuffer csvBuffer) {
-		super(csvBuffer);
+		super(csvBuffer, ',');
 	}
 
 	protected void consumeOneChar(char character, int index, CellConsumer cellConsumer) {
@@ -32,10 +32,11 @@ public final class StandardCsvCharConsumer extends AbstractCsvCharConsumer {
 	@Override
 	public boolean nextRow(CellConsumer cellConsumer) {
 
-		int bufferLength = csvBuffer.getBufferLength();
-		for(int index = _currentIndex; index  < bufferLength; index++) {
+		final char[] chars = csvBuffer.getCharBuffer();
+		final int bufferLength = csvBuffer.getBufferLength();
+		for(int index = nextSpecialChar(chars, _currentIndex, bufferLength); index  < bufferLength; index = nextSpecialChar(chars, index + 1, bufferLength)) {
 
-			char character = csvBuffer.getChar(index);
+			char character = chars[index];
 			switch(character) {
 				case ',':
 					newCellIfNotInQuote(index, cellConsumer);
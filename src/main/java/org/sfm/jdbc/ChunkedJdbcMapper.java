@@ -0,0 +1,31 @@
+package org.sfm.jdbc;
+
+import org.sfm.map.MappingException;
+import org.sfm.utils.ChunkHandler;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * JdbcMapper that can also emit the joined objects in chunks of at most maxJoinedRows rows.
+ * <p>
+ * forEach, iterator and stream always join all the consecutive rows with the same keys in one object, only
+ * forEachChunk splits them.
+ * @param <T> the mapper target type
+ * @see JdbcMapperFactory#newChunkedMapper(Class)
+ */
+public interface ChunkedJdbcMapper<T> extends JdbcMapper<T> {
+
+	/**
+	 * Map the rows calling the handler every maxJoinedRows rows even if the keys of the object did not change,
+	 * the following rows being joined on a new object with the same keys and flagged as a continuation.
+	 * Without maxJoinedRows or without join each object is handled once with continuation false.
+	 * @param rs the result set
+	 * @param handler the handler receiving the chunks
+	 * @param <H> the handler type
+	 * @return the handler
+	 * @throws SQLException if an error occurred reading the result set
+	 * @throws MappingException if an error occurred mapping the rows
+	 */
+	<H extends ChunkHandler<? super T>> H forEachChunk(ResultSet rs, H handler) throws SQLException, MappingException;
+}
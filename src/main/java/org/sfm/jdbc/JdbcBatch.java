@@ -0,0 +1,88 @@
+package org.sfm.jdbc;
+
+import org.sfm.utils.RowHandler;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Add the bound values to the batch of a PreparedStatement and execute it every batchSize values.
+ * <p>
+ * As a RowHandler it can be passed to the forEach of a mapper to copy rows from one source to a table.
+ * The last partial batch is only executed by {@link #executeBatch()}.
+ * @param <T> the type of the bound objects
+ */
+public final class JdbcBatch<T> implements RowHandler<T> {
+
+	private final JdbcBinder<T> binder;
+	private final PreparedStatement ps;
+	private final int batchSize;
+
+	private int pending;
+	private long updateCount;
+
+	public JdbcBatch(JdbcBinder<T> binder, PreparedStatement ps, int batchSize) {
+		if (batchSize < 1) {
+			throw new IllegalArgumentException("batchSize must be positive " + batchSize);
+		}
+		this.binder = binder;
+		this.ps = ps;
+		this.batchSize = batchSize;
+	}
+
+	/**
+	 * bind the value and add it to the batch, execute the batch if it holds batchSize values.
+	 * @param value the value
+	 * @return the current batch
+	 * @throws SQLException if an error occurs
+	 */
+	public JdbcBatch<T> add(T value) throws SQLException {
+		binder.bind(ps, value);
+		ps.addBatch();
+		pending++;
+		if (pending == batchSize) {
+			executeBatch();
+		}
+		return this;
+	}
+
+	@Override
+	public void handle(T t) throws Exception {
+		add(t);
+	}
+
+	/**
+	 * execute the pending values.
+	 * @return the number of rows updated since the creation of the batch
+	 * @throws SQLException if an error occurs
+	 */
+	public long executeBatch() throws SQLException {
+		if (pending > 0) {
+			pending = 0;
+			for(int count : ps.executeBatch()) {
+				if (count > 0) {
+					updateCount += count;
+				} else if (count == Statement.SUCCESS_NO_INFO) {
+					updateCount++;
+				}
+			}
+		}
+		return updateCount;
+	}
+
+	/**
+	 * @return the number of rows updated by the executed batches
+	 */
+	public long getUpdateCount() {
+		return updateCount;
+	}
+
+	@Override
+	public String toString() {
+		return "JdbcBatch{" +
+				"binder=" + binder +
+				", batchSize=" + batchSize +
+				'}';
+	}
+}
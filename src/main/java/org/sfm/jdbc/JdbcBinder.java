@@ -0,0 +1,68 @@
+package org.sfm.jdbc;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+//IFJAVA8_START
+import java.util.stream.Stream;
+//IFJAVA8_END
+
+/**
+ * Bind the properties of T to the parameters of a PreparedStatement.
+ * <p>
+ * The binder calls the typed setters of the PreparedStatement - setInt, setLong, ... - with the values returned by
+ * the getters of the properties, the asm getters of the primitive properties are called without boxing.
+ * <p>
+ * <code>
+ *     JdbcBinder&lt;MyClass&gt; binder = JdbcMapperFactory.newInstance()<br>
+ *     &nbsp;&nbsp;&nbsp;&nbsp;.newBinderForSql(MyClass.class, "INSERT INTO my_table(id, name) VALUES(:id, :name)");<br>
+ *     PreparedStatement ps = connection.prepareStatement(binder.getSql());<br>
+ *     binder.executeBatch(ps, myObjects, 1000);<br>
+ * </code>
+ * <p>
+ * A binder is thread safe.
+ * @param <T> the type of the bound objects
+ */
+public interface JdbcBinder<T> {
+
+	/**
+	 * set the parameters of the statement from the properties of value.
+	 * @param ps the statement
+	 * @param value the object
+	 * @throws SQLException if an error occurs setting a parameter
+	 */
+	void bind(PreparedStatement ps, T value) throws SQLException;
+
+	/**
+	 * @param ps the statement
+	 * @param batchSize the number of rows added to the batch before it is executed
+	 * @return a new batch on the statement
+	 */
+	JdbcBatch<T> newBatch(PreparedStatement ps, int batchSize);
+
+	/**
+	 * bind and add each value to the batch of the statement, executing the batch every batchSize values.
+	 * @param ps the statement
+	 * @param values the values
+	 * @param batchSize the number of rows per batch
+	 * @return the number of rows updated
+	 * @throws SQLException if an error occurs
+	 */
+	long executeBatch(PreparedStatement ps, Iterable<? extends T> values, int batchSize) throws SQLException;
+
+	//IFJAVA8_START
+	/**
+	 * bind and add each value of the stream to the batch of the statement, executing the batch every batchSize values.
+	 * @param ps the statement
+	 * @param values the values
+	 * @param batchSize the number of rows per batch
+	 * @return the number of rows updated
+	 * @throws SQLException if an error occurs
+	 */
+	long executeBatch(PreparedStatement ps, Stream<? extends T> values, int batchSize) throws SQLException;
+	//IFJAVA8_END
+
+	/**
+	 * @return the sql with ? placeholders when the binder was created from a sql with named parameters, null otherwise
+	 */
+	String getSql();
+}
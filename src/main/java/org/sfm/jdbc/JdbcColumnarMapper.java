@@ -0,0 +1,274 @@
+package org.sfm.jdbc;
+
+import org.sfm.jdbc.impl.getter.BooleanResultSetGetter;
+import org.sfm.jdbc.impl.getter.DoubleResultSetGetter;
+import org.sfm.jdbc.impl.getter.IntResultSetGetter;
+import org.sfm.jdbc.impl.getter.LongResultSetGetter;
+import org.sfm.jdbc.impl.getter.StringResultSetGetter;
+import org.sfm.map.ColumnBatch;
+import org.sfm.map.ColumnDefinitionProvider;
+import org.sfm.map.MapperBuilderErrorHandler;
+import org.sfm.map.MappingException;
+import org.sfm.map.RowHandlerErrorHandler;
+import org.sfm.map.impl.ColumnBatchBuilder;
+import org.sfm.map.impl.FieldMapperColumnDefinition;
+import org.sfm.reflect.meta.ClassMeta;
+import org.sfm.reflect.meta.PropertyNameMatcherFactory;
+import org.sfm.utils.ErrorHelper;
+import org.sfm.utils.RowHandler;
+
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Map the rows of a ResultSet in batches into a {@link ColumnBatch}, one primitive array per property of T,
+ * without instantiating T.
+ * <p>
+ * The columns are resolved against the properties of T from the ResultSetMetaData, once per ResultSet,
+ * applying the aliases and the ignored columns of the column definitions. The null values are flagged in the null
+ * bitmaps of the batch.
+ * <p>
+ * <code>
+ *     JdbcColumnarMapper&lt;MyClass&gt; mapper = JdbcMapperFactory.newInstance().newColumnarMapper(MyClass.class);<br>
+ *     mapper.forEachBatch(rs, 1024, new RowHandler&lt;ColumnBatch&lt;MyClass&gt;&gt;() { ... });<br>
+ * </code>
+ * @param <T> the type the properties are read from
+ */
+public final class JdbcColumnarMapper<T> {
+
+	private final ClassMeta<T> classMeta;
+	private final ColumnDefinitionProvider<FieldMapperColumnDefinition<JdbcColumnKey, ResultSet>, JdbcColumnKey> columnDefinitions;
+	private final PropertyNameMatcherFactory propertyNameMatcherFactory;
+	private final MapperBuilderErrorHandler mapperBuilderErrorHandler;
+	private final RowHandlerErrorHandler rowHandlerErrorHandler;
+
+	public JdbcColumnarMapper(ClassMeta<T> classMeta,
+							  ColumnDefinitionProvider<FieldMapperColumnDefinition<JdbcColumnKey, ResultSet>, JdbcColumnKey> columnDefinitions,
+							  PropertyNameMatcherFactory propertyNameMatcherFactory,
+							  MapperBuilderErrorHandler mapperBuilderErrorHandler,
+							  RowHandlerErrorHandler rowHandlerErrorHandler) {
+		this.classMeta = classMeta;
+		this.columnDefinitions = columnDefinitions;
+		this.propertyNameMatcherFactory = propertyNameMatcherFactory;
+		this.mapperBuilderErrorHandler = mapperBuilderErrorHandler;
+		this.rowHandlerErrorHandler = rowHandlerErrorHandler;
+	}
+
+	/**
+	 * Call the handler with batches of up to batchSize rows, the same ColumnBatch instance is refilled for each batch.
+	 * @param rs the ResultSet
+	 * @param batchSize the maximum number of rows per batch
+	 * @param handler the handler called for each batch
+	 * @param <H> the handler type
+	 * @return the handler
+	 * @throws SQLException if an error occurs reading the ResultSet
+	 * @throws MappingException if an error occurs mapping the values
+	 */
+	public <H extends RowHandler<? super ColumnBatch<T>>> H forEachBatch(ResultSet rs, int batchSize, H handler) throws SQLException, MappingException {
+		final BatchReader<T> batchReader = newBatchReader(rs.getMetaData(), batchSize);
+		final ColumnBatch<T> batch = batchReader.batch;
+		while(batchReader.read(rs) > 0) {
+			try {
+				handler.handle(batch);
+			} catch (Throwable e) {
+				rowHandlerErrorHandler.handlerError(e, batch);
+			}
+			if (batch.size() < batch.capacity()) {
+				break;
+			}
+		}
+		return handler;
+	}
+
+	private BatchReader<T> newBatchReader(ResultSetMetaData metaData, int batchSize) throws SQLException {
+		final ColumnBatchBuilder<T> builder = new ColumnBatchBuilder<T>(classMeta, propertyNameMatcherFactory, mapperBuilderErrorHandler);
+		final List<Integer> batchColumns = new ArrayList<Integer>();
+		for(int i = 1; i <= metaData.getColumnCount(); i++) {
+			final JdbcColumnKey key = key(metaData, i);
+			batchColumns.add(builder.addColumn(key, columnDefinitions.getColumnDefinition(key)));
+		}
+		final ColumnBatch<T> batch = builder.newBatch(batchSize);
+		return new BatchReader<T>(batch, columnReaders(batchColumns, batch));
+	}
+
+	private ColumnReader[] columnReaders(List<Integer> batchColumns, ColumnBatch<T> batch) {
+		final List<ColumnReader> readers = new ArrayList<ColumnReader>();
+		for(int i = 1; i <= batchColumns.size(); i++) {
+			final int column = batchColumns.get(i - 1);
+			if (column == -1) continue;
+			final Object array = batch.getColumn(column);
+			switch (batch.getType(column)) {
+				case INT:
+					readers.add(new IntColumnReader(batch, column, new IntResultSetGetter(i), (int[]) array));
+					break;
+				case LONG:
+					readers.add(new LongColumnReader(batch, column, new LongResultSetGetter(i), (long[]) array));
+					break;
+				case DOUBLE:
+					readers.add(new DoubleColumnReader(batch, column, new DoubleResultSetGetter(i), (double[]) array));
+					break;
+				case BOOLEAN:
+					readers.add(new BooleanColumnReader(batch, column, new BooleanResultSetGetter(i), (boolean[]) array));
+					break;
+				default:
+					readers.add(new StringColumnReader(batch, column, new StringResultSetGetter(i), (String[]) array));
+					break;
+			}
+		}
+		return readers.toArray(new ColumnReader[0]);
+	}
+
+	private static JdbcColumnKey key(ResultSetMetaData metaData, int i) throws SQLException {
+		return new JdbcColumnKey(metaData.getColumnLabel(i), i, metaData.getColumnType(i));
+	}
+
+	private static final class BatchReader<T> {
+		private final ColumnBatch<T> batch;
+		private final ColumnReader[] readers;
+
+		private BatchReader(ColumnBatch<T> batch, ColumnReader[] readers) {
+			this.batch = batch;
+			this.readers = readers;
+		}
+
+		public int read(ResultSet rs) throws SQLException {
+			final int capacity = batch.capacity();
+			int row = 0;
+			batch.clearNulls();
+			try {
+				while(row < capacity && rs.next()) {
+					for(ColumnReader reader : readers) {
+						reader.read(rs, row);
+					}
+					row++;
+				}
+			} catch (SQLException e) {
+				throw e;
+			} catch (Exception e) {
+				ErrorHelper.rethrow(e);
+			}
+			batch.setSize(row);
+			return row;
+		}
+	}
+
+	private abstract static class ColumnReader {
+		private final ColumnBatch<?> batch;
+		private final int column;
+
+		protected ColumnReader(ColumnBatch<?> batch, int column) {
+			this.batch = batch;
+			this.column = column;
+		}
+
+		abstract void read(ResultSet rs, int row) throws Exception;
+
+		protected final void flagNull(ResultSet rs, int row) throws SQLException {
+			if (rs.wasNull()) {
+				batch.setNull(column, row);
+			}
+		}
+
+		protected final void flagNull(Object value, int row) {
+			if (value == null) {
+				batch.setNull(column, row);
+			}
+		}
+	}
+
+	private static final class IntColumnReader extends ColumnReader {
+		private final IntResultSetGetter getter;
+		private final int[] values;
+
+		private IntColumnReader(ColumnBatch<?> batch, int column, IntResultSetGetter getter, int[] values) {
+			super(batch, column);
+			this.getter = getter;
+			this.values = values;
+		}
+
+		@Override
+		public void read(ResultSet rs, int row) throws Exception {
+			values[row] = getter.getInt(rs);
+			flagNull(rs, row);
+		}
+	}
+
+	private static final class LongColumnReader extends ColumnReader {
+		private final LongResultSetGetter getter;
+		private final long[] values;
+
+		private LongColumnReader(ColumnBatch<?> batch, int column, LongResultSetGetter getter, long[] values) {
+			super(batch, column);
+			this.getter = getter;
+			this.values = values;
+		}
+
+		@Override
+		public void read(ResultSet rs, int row) throws Exception {
+			values[row] = getter.getLong(rs);
+			flagNull(rs, row);
+		}
+	}
+
+	private static final class DoubleColumnReader extends ColumnReader {
+		private final DoubleResultSetGetter getter;
+		private final double[] values;
+
+		private DoubleColumnReader(ColumnBatch<?> batch, int column, DoubleResultSetGetter getter, double[] values) {
+			super(batch, column);
+			this.getter = getter;
+			this.values = values;
+		}
+
+		@Override
+		public void read(ResultSet rs, int row) throws Exception {
+			values[row] = getter.getDouble(rs);
+			flagNull(rs, row);
+		}
+	}
+
+	private static final class BooleanColumnReader extends ColumnReader {
+		private final BooleanResultSetGetter getter;
+		private final boolean[] values;
+
+		private BooleanColumnReader(ColumnBatch<?> batch, int column, BooleanResultSetGetter getter, boolean[] values) {
+			super(batch, column);
+			this.getter = getter;
+			this.values = values;
+		}
+
+		@Override
+		public void read(ResultSet rs, int row) throws Exception {
+			values[row] = getter.getBoolean(rs);
+			flagNull(rs, row);
+		}
+	}
+
+	private static final class StringColumnReader extends ColumnReader {
+		private final StringResultSetGetter getter;
+		private final String[] values;
+
+		private StringColumnReader(ColumnBatch<?> batch, int column, StringResultSetGetter getter, String[] values) {
+			super(batch, column);
+			this.getter = getter;
+			this.values = values;
+		}
+
+		@Override
+		public void read(ResultSet rs, int row) throws Exception {
+			final String value = getter.get(rs);
+			values[row] = value;
+			flagNull(value, row);
+		}
+	}
+
+	@Override
+	public String toString() {
+		return "JdbcColumnarMapper{" +
+				"classMeta=" + classMeta +
+				'}';
+	}
+}
@@ -7,6 +7,7 @@ import org.sfm.map.impl.*;
 import org.sfm.reflect.Instantiator;
 import org.sfm.reflect.ReflectionService;
 import org.sfm.reflect.TypeReference;
+import org.sfm.reflect.impl.RecyclingInstantiator;
 import org.sfm.reflect.meta.ClassMeta;
 import org.sfm.reflect.meta.PropertyNameMatcherFactory;
 import org.sfm.tuples.Tuple2;
@@ -29,6 +30,9 @@ public final class JdbcMapperBuilder<T> extends AbstractFieldMapperMapperBuilder
     private RowHandlerErrorHandler jdbcMapperErrorHandler = new RethrowRowHandlerErrorHandler();
     private final boolean failOnAsm;
     private final int asmMapperNbFieldsLimit;
+    private int recycledInstances = 0;
+    private int maxJoinedRows = 0;
+    private MapperMetrics mapperMetrics = NoOpMapperMetrics.INSTANCE;
 
     /**
      * Build a new JdbcMapperBuilder targeting the type specified by the TypeReference. The TypeReference
@@ -91,20 +95,26 @@ public final class JdbcMapperBuilder<T> extends AbstractFieldMapperMapperBuilder
      */
     @Override
     public JdbcMapper<T> mapper() {
+        final long start = System.nanoTime();
         JdbcMapper<T> mapper = buildMapper();
 
-        if (!mappingContextFactoryBuilder.isRoot()
-                || mappingContextFactoryBuilder.hasNoDependentKeys()) {
-            return mapper;
-        } else {
-            return new JoinJdbcMapper<T>(mapper, jdbcMapperErrorHandler);
+        if (mappingContextFactoryBuilder.isRoot()
+                && !mappingContextFactoryBuilder.hasNoDependentKeys()) {
+            mapper = new JoinJdbcMapper<T>(mapper, jdbcMapperErrorHandler, maxJoinedRows);
         }
+        mapperMetrics.mapperBuilt(getTargetClass(), System.nanoTime() - start);
+        return mapper;
     }
 
     private JdbcMapper<T> buildMapper() {
         FieldMapper<ResultSet, T>[] fields = fields();
         Tuple2<FieldMapper<ResultSet, T>[], Instantiator<ResultSet, T>> constructorFieldMappersAndInstantiator = getConstructorFieldMappersAndInstantiator();
 
+        if (canRecycleInstances()) {
+            constructorFieldMappersAndInstantiator = new Tuple2<FieldMapper<ResultSet, T>[], Instantiator<ResultSet, T>>(
+                    constructorFieldMappersAndInstantiator.first(),
+                    new RecyclingInstantiator<ResultSet, T>(constructorFieldMappersAndInstantiator.second(), recycledInstances));
+        }
 
         MappingContextFactory<ResultSet> mappingContextFactory = null;
 
@@ -115,11 +125,14 @@ public final class JdbcMapperBuilder<T> extends AbstractFieldMapperMapperBuilder
 
         if (isEligibleForAsmMapper()) {
             try {
-                return reflectionService.getAsmFactory().createJdbcMapper(
+                final long start = System.nanoTime();
+                final JdbcMapper<T> mapper = reflectionService.getAsmFactory().createJdbcMapper(
                         getKeys(),
                         fields, constructorFieldMappersAndInstantiator.first(),
                         constructorFieldMappersAndInstantiator.second(),
                         getTargetClass(), jdbcMapperErrorHandler, mappingContextFactory);
+                mapperMetrics.asmMapperGenerated(getTargetClass(), System.nanoTime() - start);
+                return mapper;
             } catch (Exception e) {
                 if (failOnAsm) {
                     return ErrorHelper.rethrow(e);
@@ -132,6 +145,18 @@ public final class JdbcMapperBuilder<T> extends AbstractFieldMapperMapperBuilder
         }
     }
 
+    /**
+     * the instances can only be populated again when all the properties are set through setters
+     * and no join aggregates the rows.
+     */
+    private boolean canRecycleInstances() {
+        return recycledInstances > 0
+                && mappingContextFactoryBuilder.isRoot()
+                && mappingContextFactoryBuilder.hasNoDependentKeys()
+                && !propertyMappingsBuilder.hasConstructorProperties()
+                && !propertyMappingsBuilder.isDirectProperty();
+    }
+
     private JdbcColumnKey[] getKeys() {
         return propertyMappingsBuilder.getKeys().toArray(EMPTY_COLUMNKEYS);
     }
@@ -276,4 +301,37 @@ public final class JdbcMapperBuilder<T> extends AbstractFieldMapperMapperBuilder
         return this;
     }
 
+    /**
+     * Populate again, on each thread, the instances of a ring of ringSize instances instead of instantiating
+     * a new object per row. Ignored if the target has constructor injected properties or if the mapper joins rows.
+     * @param ringSize the number of instances to recycle, 0 to instantiate a new object per row
+     * @return the current builder
+     */
+    public JdbcMapperBuilder<T> recycleInstances(int ringSize) {
+        this.recycledInstances = ringSize;
+        return this;
+    }
+
+    /**
+     * @param mapperMetrics the metrics receiving the build and the asm generation times of the mapper
+     * @return the current builder
+     */
+    public JdbcMapperBuilder<T> mapperMetrics(MapperMetrics mapperMetrics) {
+        this.mapperMetrics = mapperMetrics;
+        return this;
+    }
+
+    /**
+     * Make forEachChunk of the join mapper emit the joined object every maxRows rows even if its keys did not change,
+     * the following rows being joined on a new object with the same keys flagged as a continuation.
+     * A root with more rows is then split into several objects. forEach, iterator and stream never split an object.
+     * The mapper returned for a join implements {@link ChunkedJdbcMapper}.
+     * @param maxRows the number of rows joined in one object, 0 to join all the rows with the same keys
+     * @return the current builder
+     */
+    public JdbcMapperBuilder<T> maxJoinedRows(int maxRows) {
+        this.maxJoinedRows = maxRows;
+        return this;
+    }
+
 }
\ No newline at end of file
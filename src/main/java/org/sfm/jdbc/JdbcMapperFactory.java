@@ -1,6 +1,8 @@
 package org.sfm.jdbc;
 
 import org.sfm.jdbc.impl.DynamicJdbcMapper;
+import org.sfm.jdbc.impl.JdbcBinderBuilder;
+import org.sfm.jdbc.impl.PipelinedJdbcMapper;
 import org.sfm.jdbc.impl.getter.ResultSetGetterFactory;
 import org.sfm.map.*;
 import org.sfm.map.impl.*;
@@ -9,6 +11,7 @@ import org.sfm.reflect.ReflectionService;
 import org.sfm.reflect.TypeReference;
 import org.sfm.reflect.meta.ClassMeta;
 import org.sfm.reflect.meta.PropertyNameMatcherFactory;
+import org.sfm.tuples.Tuple2;
 import org.sfm.utils.Predicate;
 
 import java.lang.reflect.Type;
@@ -16,6 +19,7 @@ import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.util.Map;
+import java.util.concurrent.Executor;
 
 /**
  * JdbcMapperFactory allows you to customise the mappers and create an instance of it using a fluent syntax.
@@ -71,6 +75,19 @@ public final class JdbcMapperFactory {
 
     private ReflectionService reflectionService = null;
 
+    private int mapperCacheSize = MapperCache.DEFAULT_MAX_SIZE;
+    private CacheEvictionPolicy mapperCacheEvictionPolicy = CacheEvictionPolicy.LRU;
+    private final MapperCacheStats mapperCacheStats = new MapperCacheStats();
+
+    private int parallelMappingWorkers = 0;
+    private boolean parallelMappingOrdered = true;
+    private Executor parallelMappingExecutor = null;
+    private Executor asmCompilationExecutor = null;
+
+    private int recycledInstances = 0;
+    private int maxJoinedRows = 0;
+    private MapperMetrics mapperMetrics = NoOpMapperMetrics.INSTANCE;
+
 	private JdbcMapperFactory() {
 	}
 
@@ -165,8 +182,11 @@ public final class JdbcMapperFactory {
 	 */
 	public <T> JdbcMapper<T> newMapper(final Class<T> target, final ResultSetMetaData metaData) throws SQLException {
 		JdbcMapperBuilder<T> builder = newBuilder(target);
+		if (parallelMappingWorkers > 0) {
+			builder.recycleInstances(0);
+		}
 		builder.addMapping(metaData);
-		return builder.mapper();
+		return pipelined(builder.mapper());
 	}
 	
 	/**
@@ -203,8 +223,11 @@ public final class JdbcMapperFactory {
                         propertyNameMatcherFactory, getterFactory, failOnAsm, asmMapperNbFieldsLimit,
                         new JdbcMappingContextFactoryBuilder());
 		
-		builder.fieldMapperErrorHandler(fieldMapperErrorHandler);
+		builder.fieldMapperErrorHandler(MetricsFieldMapperErrorHandler.wrap(fieldMapperErrorHandler, mapperMetrics));
 		builder.jdbcMapperErrorHandler(rowHandlerErrorHandler);
+		builder.recycleInstances(recycledInstances);
+		builder.maxJoinedRows(maxJoinedRows);
+		builder.mapperMetrics(mapperMetrics);
 		return builder;
 	}
 
@@ -235,11 +258,98 @@ public final class JdbcMapperFactory {
      * @return the DynamicMapper
      */
 	public <T> JdbcMapper<T> newMapper(final Type target) {
+		return pipelined(this.<T>newDynamicMapper(target));
+	}
+
+	private <T> DynamicJdbcMapper<T> newDynamicMapper(final Type target) {
 		ClassMeta<T> classMeta = getClassMeta(target);
-		return new DynamicJdbcMapper<T>(classMeta, fieldMapperErrorHandler, mapperBuilderErrorHandler,
-                rowHandlerErrorHandler, columnDefinitions, propertyNameMatcherFactory, failOnAsm, asmMapperNbFieldsLimit);
+		return new DynamicJdbcMapper<T>(classMeta, MetricsFieldMapperErrorHandler.wrap(fieldMapperErrorHandler, mapperMetrics), mapperBuilderErrorHandler,
+                rowHandlerErrorHandler, columnDefinitions, propertyNameMatcherFactory, failOnAsm, asmMapperNbFieldsLimit,
+                new DynamicMapperSettings()
+                        .mapperCache(mapperCacheSize, mapperCacheEvictionPolicy, mapperCacheStats)
+                        .recycledInstances(parallelMappingWorkers > 0 ? 0 : recycledInstances)
+                        .maxJoinedRows(maxJoinedRows)
+                        .mapperMetrics(mapperMetrics)
+                        .asmCompilationExecutor(asmCompilationExecutor));
 	}
 
+    /**
+     * Will create a DynamicMapper on the specified target class that can also emit the joined objects in chunks of
+     * at most {@link #maxJoinedRows(int)} rows through {@link ChunkedJdbcMapper#forEachChunk(ResultSet, org.sfm.utils.ChunkHandler)}.
+     * The mapper is not pipelined, the parallel mapping settings are ignored.
+     * @param target the class
+     * @param <T> the mapper target type
+     * @return the DynamicMapper
+     */
+    public <T> ChunkedJdbcMapper<T> newChunkedMapper(final Class<T> target) {
+        return newChunkedMapper((Type) target);
+    }
+
+    public <T> ChunkedJdbcMapper<T> newChunkedMapper(final Type target) {
+        return this.<T>newDynamicMapper(target);
+    }
+
+    /**
+     * Will create a mapper that maps the rows in batches into the primitive arrays of a {@link ColumnBatch}
+     * instead of instantiating the target.
+     * @param target the class the properties are read from
+     * @param <T> the mapper target type
+     * @return the columnar mapper
+     */
+    public <T> JdbcColumnarMapper<T> newColumnarMapper(final Class<T> target) {
+        return newColumnarMapper((Type) target);
+    }
+
+    public <T> JdbcColumnarMapper<T> newColumnarMapper(final Type target) {
+        ClassMeta<T> classMeta = getClassMeta(target);
+        return new JdbcColumnarMapper<T>(classMeta, columnDefinitions, propertyNameMatcherFactory, mapperBuilderErrorHandler, rowHandlerErrorHandler);
+    }
+
+    /**
+     * Will create a binder that sets the parameters of a PreparedStatement from the properties of the target.
+     * @param target the class the properties are read from
+     * @param columns the property bound to each parameter, the first column is bound to the parameter 1
+     * @param <T> the bound type
+     * @return the binder
+     */
+    public <T> JdbcBinder<T> newBinder(final Class<T> target, final String... columns) {
+        return newBinder((Type) target, columns);
+    }
+
+    public <T> JdbcBinder<T> newBinder(final Type target, final String... columns) {
+        return this.<T>newBinderBuilder(target).newBinder(columns, null);
+    }
+
+    /**
+     * Will create a binder for a sql with named parameters - INSERT INTO t(id, name) VALUES(:id, :name).
+     * {@link JdbcBinder#getSql()} returns the sql with the ? placeholders to prepare.
+     * @param target the class the properties are read from
+     * @param sql the sql with :name parameters
+     * @param <T> the bound type
+     * @return the binder
+     */
+    public <T> JdbcBinder<T> newBinderForSql(final Class<T> target, final String sql) {
+        return newBinderForSql((Type) target, sql);
+    }
+
+    public <T> JdbcBinder<T> newBinderForSql(final Type target, final String sql) {
+        Tuple2<String, String[]> parsedSql = JdbcBinderBuilder.parseNamedParameters(sql);
+        return this.<T>newBinderBuilder(target).newBinder(parsedSql.second(), parsedSql.first());
+    }
+
+    private <T> JdbcBinderBuilder<T> newBinderBuilder(final Type target) {
+        ClassMeta<T> classMeta = getClassMeta(target);
+        return new JdbcBinderBuilder<T>(classMeta, propertyNameMatcherFactory, mapperBuilderErrorHandler, failOnAsm, asmMapperNbFieldsLimit);
+    }
+
+    private <T> JdbcMapper<T> pipelined(JdbcMapper<T> mapper) {
+        if (parallelMappingWorkers > 0) {
+            return new PipelinedJdbcMapper<T>(mapper, parallelMappingWorkers, parallelMappingOrdered,
+                    parallelMappingExecutor, rowHandlerErrorHandler);
+        }
+        return mapper;
+    }
+
 
 	/**
 	 * Associate an alias on the column key to rename to value.
@@ -335,6 +445,121 @@ public final class JdbcMapperFactory {
         return this;
     }
 
+    /**
+     * Set the maximum number of mappers cached by each dynamic mapper, one per distinct set of columns.
+     * <p>
+     * the default value is unbounded.
+     * @param mapperCacheSize the maximum number of mappers in the cache
+     * @return the current factory
+     */
+    public JdbcMapperFactory mapperCacheSize(final int mapperCacheSize) {
+        this.mapperCacheSize = mapperCacheSize;
+        return this;
+    }
+
+    /**
+     * Set the policy used to evict a mapper once the mapper cache is full. the default value is LRU.
+     * @param mapperCacheEvictionPolicy the eviction policy
+     * @return the current factory
+     */
+    public JdbcMapperFactory mapperCacheEvictionPolicy(final CacheEvictionPolicy mapperCacheEvictionPolicy) {
+        this.mapperCacheEvictionPolicy = mapperCacheEvictionPolicy;
+        return this;
+    }
+
+    /**
+     * @return the hit, miss and eviction counters of the mapper caches of the dynamic mappers created by this factory
+     */
+    public MapperCacheStats mapperCacheStats() {
+        return mapperCacheStats;
+    }
+
+    /**
+     * Map the rows on nbWorkers threads in forEach, the calling thread reading the ResultSet and calling the RowHandler.
+     * <p>
+     * Only the mappers created by newMapper are affected, the mappers created from a builder map on the calling thread
+     * as do iterator and stream. 0, the default value, disables the parallel mapping.
+     * @param nbWorkers the number of mapping threads
+     * @param ordered true if the RowHandler needs to receive the objects in the order of the ResultSet
+     * @return the current factory
+     */
+    public JdbcMapperFactory parallelMapping(final int nbWorkers, final boolean ordered) {
+        this.parallelMappingWorkers = nbWorkers;
+        this.parallelMappingOrdered = ordered;
+        return this;
+    }
+
+    /**
+     * Populate again, on each thread, the instances of a ring of ringSize instances instead of instantiating
+     * a new object per row. An object passed to the RowHandler is then only valid until ringSize more rows are mapped.
+     * <p>
+     * Ignored for the targets with constructor injected properties, for the mappers joining rows and
+     * with the parallel mapping where the workers run ahead of the RowHandler. 0, the default value, instantiates a new object per row.
+     * @param ringSize the number of instances to recycle
+     * @return the current factory
+     */
+    public JdbcMapperFactory recycleInstances(final int ringSize) {
+        this.recycledInstances = ringSize;
+        return this;
+    }
+
+    /**
+     * Stream the joins in chunks: {@link ChunkedJdbcMapper#forEachChunk(ResultSet, org.sfm.utils.ChunkHandler)} emits
+     * the joined object every maxRows rows even if its keys did not change, the following rows being joined on a new
+     * object with the same keys.
+     * <p>
+     * A root object with more than maxRows rows is then split into several objects, received by the ChunkHandler
+     * as consecutive objects with the same keys, all but the first flagged as a continuation. The joined collections
+     * hold at most maxRows elements and the memory used while iterating a large join is bounded.
+     * forEach, iterator and stream never split an object, they always join all the consecutive rows with the same keys.
+     * 0, the default value, joins all the consecutive rows with the same keys in one object.
+     * @see #newChunkedMapper(Class)
+     * @param maxRows the number of rows joined in one object
+     * @return the current factory
+     */
+    public JdbcMapperFactory maxJoinedRows(final int maxRows) {
+        this.maxJoinedRows = maxRows;
+        return this;
+    }
+
+    /**
+     * Set the metrics receiving the mapper build and asm generation times, the mapper cache hits and misses,
+     * the number of rows mapped by forEach on the mappers created by newMapper and the field errors.
+     * <p>
+     * The field errors are recorded through a FieldMapperErrorHandler wrapping the configured one, rethrowing
+     * the error if none is configured. By default the events are ignored and the mappers do not count the rows.
+     * @param mapperMetrics the metrics
+     * @return the current factory
+     */
+    public JdbcMapperFactory mapperMetrics(final MapperMetrics mapperMetrics) {
+        this.mapperMetrics = mapperMetrics;
+        return this;
+    }
+
+    /**
+     * Set the executor running the parallel mapping workers, by default a shared pool of daemon threads.
+     * @param executor the executor
+     * @return the current factory
+     */
+    public JdbcMapperFactory parallelMappingExecutor(final Executor executor) {
+        this.parallelMappingExecutor = executor;
+        return this;
+    }
+
+    /**
+     * Generate the asm mappers of the dynamic mappers on the executor instead of on the first call with a new set of columns.
+     * <p>
+     * The first rows of a new set of columns are mapped by a reflection mapper, built without generating the mapper class,
+     * that the dynamic mapper replaces in its cache by the asm mapper once generated. A mapper that fails to generate
+     * keeps using the reflection mapper. null, the default value, generates the asm mapper on the calling thread.
+     * @param executor the executor generating the asm mappers
+     * @return the current factory
+     */
+    public JdbcMapperFactory asmCompilationExecutor(final Executor executor) {
+        this.asmCompilationExecutor = executor;
+        return this;
+    }
+
     /**
      * Mark the specified columns as keys.
      * @param columns the columns
@@ -4,16 +4,43 @@ import org.sfm.map.MappingContextFactoryBuilder;
 
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Types;
 
 public class JdbcMappingContextFactoryBuilder extends MappingContextFactoryBuilder<ResultSet, JdbcColumnKey> {
     public JdbcMappingContextFactoryBuilder() {
         super(new JdbcKeySourceGetter());
     }
 
-    private static class JdbcKeySourceGetter implements KeySourceGetter<JdbcColumnKey, ResultSet> {
+    private static class JdbcKeySourceGetter implements LongKeySourceGetter<JdbcColumnKey, ResultSet> {
         @Override
         public Object getValue(JdbcColumnKey key, ResultSet source) throws SQLException {
             return source.getObject(key.getIndex());
         }
+
+        /**
+         * only the types that fit in a long even when unsigned,
+         * an unsigned BIGINT can go over Long.MAX_VALUE and is compared on getObject.
+         */
+        @Override
+        public boolean isLongKey(JdbcColumnKey key) {
+            switch (key.getSqlType()) {
+                case Types.TINYINT:
+                case Types.SMALLINT:
+                case Types.INTEGER:
+                    return true;
+                default:
+                    return false;
+            }
+        }
+
+        @Override
+        public long getLongValue(JdbcColumnKey key, ResultSet source) throws SQLException {
+            return source.getLong(key.getIndex());
+        }
+
+        @Override
+        public boolean wasNull(ResultSet source) throws SQLException {
+            return source.wasNull();
+        }
     }
 }
@@ -0,0 +1,76 @@
+package org.sfm.jdbc.impl;
+
+import org.sfm.jdbc.JdbcBatch;
+import org.sfm.jdbc.JdbcBinder;
+import org.sfm.map.FieldMapper;
+import org.sfm.utils.ErrorHelper;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Iterator;
+//IFJAVA8_START
+import java.util.stream.Stream;
+//IFJAVA8_END
+
+public abstract class AbstractJdbcBinder<T> implements JdbcBinder<T> {
+
+	private final FieldMapper<T, PreparedStatement>[] mappers;
+	private final String sql;
+
+	public AbstractJdbcBinder(FieldMapper<T, PreparedStatement>[] mappers, String sql) {
+		this.mappers = mappers;
+		this.sql = sql;
+	}
+
+	@Override
+	public final void bind(PreparedStatement ps, T value) throws SQLException {
+		try {
+			mapFields(value, ps);
+		} catch (SQLException e) {
+			throw e;
+		} catch (Exception e) {
+			ErrorHelper.rethrow(e);
+		}
+	}
+
+	protected abstract void mapFields(T value, PreparedStatement ps) throws Exception;
+
+	@Override
+	public final JdbcBatch<T> newBatch(PreparedStatement ps, int batchSize) {
+		return new JdbcBatch<T>(this, ps, batchSize);
+	}
+
+	@Override
+	public final long executeBatch(PreparedStatement ps, Iterable<? extends T> values, int batchSize) throws SQLException {
+		return executeBatch(ps, values.iterator(), batchSize);
+	}
+
+	//IFJAVA8_START
+	@Override
+	public final long executeBatch(PreparedStatement ps, Stream<? extends T> values, int batchSize) throws SQLException {
+		return executeBatch(ps, values.iterator(), batchSize);
+	}
+	//IFJAVA8_END
+
+	private long executeBatch(PreparedStatement ps, Iterator<? extends T> values, int batchSize) throws SQLException {
+		JdbcBatch<T> batch = newBatch(ps, batchSize);
+		while(values.hasNext()) {
+			batch.add(values.next());
+		}
+		return batch.executeBatch();
+	}
+
+	@Override
+	public final String getSql() {
+		return sql;
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "{" +
+				"sql='" + sql + '\'' +
+				", mappers=" + Arrays.toString(mappers) +
+				'}';
+	}
+}
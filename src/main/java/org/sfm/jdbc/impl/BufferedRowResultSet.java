@@ -0,0 +1,1386 @@
+package org.sfm.jdbc.impl;
+
+import javax.sql.rowset.serial.SerialArray;
+import javax.sql.rowset.serial.SerialBlob;
+import javax.sql.rowset.serial.SerialClob;
+import javax.xml.transform.Result;
+import javax.xml.transform.Source;
+import javax.xml.transform.stream.StreamSource;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.UnsupportedEncodingException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.sql.*;
+import java.util.Calendar;
+import java.util.GregorianCalendar;
+import java.util.Map;
+//IFJAVA8_START
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZonedDateTime;
+//IFJAVA8_END
+
+/**
+ * Read only view of a row buffered from a {@link ResultSet}.
+ * <p>
+ * The row holds the values read with the getter the mapper uses for the type of the column - getDate, getTime and
+ * getTimestamp for the temporal columns, getObject for the others - the typed getters convert them
+ * on the calling thread. That allows the mapper to run on a different thread than the one
+ * iterating over the ResultSet.
+ * <p>
+ * The Clob, Blob, SQLXML and Array locators are only valid while the cursor is on the row and can not be used
+ * concurrently with the driver, their content is copied to memory when the row is read.
+ * @see PipelinedJdbcMapper
+ */
+public final class BufferedRowResultSet implements ResultSet {
+
+	private final ResultSetMetaData metaData;
+	private final String[] labels;
+	private final int[] sqlTypes;
+
+	private Object[] values;
+	private boolean wasNull;
+
+	public BufferedRowResultSet(ResultSetMetaData metaData) throws SQLException {
+		this.metaData = metaData;
+		this.labels = new String[metaData.getColumnCount()];
+		this.sqlTypes = new int[labels.length];
+		for(int i = 0; i < labels.length; i++) {
+			labels[i] = metaData.getColumnLabel(i + 1);
+			sqlTypes[i] = metaData.getColumnType(i + 1);
+		}
+	}
+
+	/**
+	 * read the values of the current row of the ResultSet, only reads the column types of the view
+	 * and can be called from another thread than the one using it.
+	 * @param rs the ResultSet
+	 * @param values the buffer to fill, one value per column
+	 * @throws SQLException if an error occurs reading the values
+	 */
+	public void readRow(ResultSet rs, Object[] values) throws SQLException {
+		for(int i = 0; i < values.length; i++) {
+			final int column = i + 1;
+			switch (sqlTypes[i]) {
+				case Types.DATE:
+					values[i] = rs.getDate(column);
+					break;
+				case Types.TIME:
+					values[i] = rs.getTime(column);
+					break;
+				case Types.TIMESTAMP:
+					values[i] = rs.getTimestamp(column);
+					break;
+				default:
+					values[i] = detach(rs.getObject(column));
+			}
+		}
+	}
+
+	private static Object detach(Object o) throws SQLException {
+		if (o instanceof Clob) {
+			final Clob clob = (Clob) o;
+			final char[] chars = clob.getSubString(1, (int) clob.length()).toCharArray();
+			free(clob);
+			return clob instanceof NClob ? new SerialNClob(chars) : new SerialClob(chars);
+		} else if (o instanceof Blob) {
+			final Blob blob = (Blob) o;
+			final byte[] bytes = blob.getBytes(1, (int) blob.length());
+			free(blob);
+			return new SerialBlob(bytes);
+		} else if (o instanceof SQLXML) {
+			final SQLXML sqlxml = (SQLXML) o;
+			final String xml = sqlxml.getString();
+			sqlxml.free();
+			return new BufferedSQLXML(xml);
+		} else if (o instanceof Array) {
+			final Array array = (Array) o;
+			final SerialArray serialArray = new SerialArray(array);
+			array.free();
+			return serialArray;
+		}
+		return o;
+	}
+
+	private static void free(Clob clob) throws SQLException {
+		try {
+			clob.free();
+		} catch (SQLFeatureNotSupportedException e) {
+			// released with the ResultSet
+		}
+	}
+
+	private static void free(Blob blob) throws SQLException {
+		try {
+			blob.free();
+		} catch (SQLFeatureNotSupportedException e) {
+			// released with the ResultSet
+		}
+	}
+
+	public void setRow(Object[] values) {
+		this.values = values;
+		this.wasNull = false;
+	}
+
+	private Object value(int columnIndex) throws SQLException {
+		if (columnIndex < 1 || columnIndex > values.length) {
+			throw new SQLException("Invalid column index " + columnIndex);
+		}
+		final Object o = values[columnIndex - 1];
+		wasNull = o == null;
+		return o;
+	}
+
+	private Number number(int columnIndex) throws SQLException {
+		final Object o = value(columnIndex);
+		if (o == null || o instanceof Number) {
+			return (Number) o;
+		}
+		if (o instanceof Boolean) {
+			return ((Boolean) o) ? 1 : 0;
+		}
+		try {
+			return new BigDecimal(o.toString().trim());
+		} catch (NumberFormatException e) {
+			throw new SQLException("Cannot convert " + o + " to a number", e);
+		}
+	}
+
+	private long longValue(int columnIndex, long min, long max) throws SQLException {
+		final Number n = number(columnIndex);
+		if (n == null) {
+			return 0;
+		}
+		final long l;
+		if (n instanceof Long || n instanceof Integer || n instanceof Short || n instanceof Byte) {
+			l = n.longValue();
+		} else if (n instanceof BigInteger || n instanceof BigDecimal) {
+			final BigInteger bi = n instanceof BigDecimal ? ((BigDecimal) n).toBigInteger() : (BigInteger) n;
+			if (bi.bitLength() > 63) {
+				throw outOfRange(n, columnIndex);
+			}
+			l = bi.longValue();
+		} else {
+			final double d = n.doubleValue();
+			if (Double.isNaN(d) || d < -0x1p63 || d >= 0x1p63) {
+				throw outOfRange(n, columnIndex);
+			}
+			l = (long) d;
+		}
+		if (l < min || l > max) {
+			throw outOfRange(n, columnIndex);
+		}
+		return l;
+	}
+
+	private static SQLException outOfRange(Number n, int columnIndex) {
+		return new SQLException("Value " + n + " of column " + columnIndex + " is out of range");
+	}
+
+	/**
+	 * the driver returned the value in the default time zone, get the instant of the same wall clock time in the
+	 * time zone of the calendar.
+	 */
+	private static long inCalendar(java.util.Date date, Calendar cal) {
+		final Calendar local = new GregorianCalendar();
+		local.setTime(date);
+		final Calendar target = (Calendar) cal.clone();
+		target.clear();
+		target.set(Calendar.ERA, local.get(Calendar.ERA));
+		target.set(local.get(Calendar.YEAR), local.get(Calendar.MONTH), local.get(Calendar.DAY_OF_MONTH),
+				local.get(Calendar.HOUR_OF_DAY), local.get(Calendar.MINUTE), local.get(Calendar.SECOND));
+		target.set(Calendar.MILLISECOND, local.get(Calendar.MILLISECOND));
+		return target.getTimeInMillis();
+	}
+
+	private <E> E cast(int columnIndex, Class<E> type) throws SQLException {
+		final Object o = value(columnIndex);
+		if (o == null || type.isInstance(o)) {
+			return type.cast(o);
+		}
+		throw new SQLException("Cannot convert " + o + " to " + type.getName());
+	}
+
+	@Override
+	public <T> T unwrap(Class<T> iface) throws SQLException {
+		if (iface.isInstance(this)) {
+			return iface.cast(this);
+		}
+		throw new SQLException("Not a wrapper for " + iface);
+	}
+
+	@Override
+	public boolean isWrapperFor(Class<?> iface) throws SQLException {
+		return iface.isInstance(this);
+	}
+
+	@Override
+	public Array getArray(int columnIndex) throws SQLException {
+		return cast(columnIndex, Array.class);
+	}
+
+	@Override
+	public Array getArray(String columnLabel) throws SQLException {
+		return getArray(findColumn(columnLabel));
+	}
+
+	@Override
+	public InputStream getAsciiStream(int columnIndex) throws SQLException {
+		final String str = getString(columnIndex);
+		if (str == null) return null;
+		try {
+			return new ByteArrayInputStream(str.getBytes("US-ASCII"));
+		} catch (UnsupportedEncodingException e) {
+			throw new SQLException(e.getMessage(), e);
+		}
+	}
+
+	@Override
+	public InputStream getAsciiStream(String columnLabel) throws SQLException {
+		return getAsciiStream(findColumn(columnLabel));
+	}
+
+	@Override
+	public BigDecimal getBigDecimal(int columnIndex) throws SQLException {
+		final Object o = value(columnIndex);
+		if (o == null) return null;
+		if (o instanceof BigDecimal) return (BigDecimal) o;
+		if (o instanceof BigInteger) return new BigDecimal((BigInteger) o);
+		if (o instanceof Long || o instanceof Integer || o instanceof Short || o instanceof Byte) return BigDecimal.valueOf(((Number) o).longValue());
+		if (o instanceof Number) return BigDecimal.valueOf(((Number) o).doubleValue());
+		try {
+			return new BigDecimal(o.toString().trim());
+		} catch (NumberFormatException e) {
+			throw new SQLException("Cannot convert " + o + " to BigDecimal", e);
+		}
+	}
+
+	@SuppressWarnings("deprecation")
+	@Override
+	public BigDecimal getBigDecimal(int columnIndex, int scale) throws SQLException {
+		final BigDecimal bd = getBigDecimal(columnIndex);
+		return bd == null ? null : bd.setScale(scale, BigDecimal.ROUND_HALF_UP);
+	}
+
+	@Override
+	public BigDecimal getBigDecimal(String columnLabel) throws SQLException {
+		return getBigDecimal(findColumn(columnLabel));
+	}
+
+	@SuppressWarnings("deprecation")
+	@Override
+	public BigDecimal getBigDecimal(String columnLabel, int scale) throws SQLException {
+		return getBigDecimal(findColumn(columnLabel), scale);
+	}
+
+	@Override
+	public InputStream getBinaryStream(int columnIndex) throws SQLException {
+		final Object o = value(columnIndex);
+		if (o == null) return null;
+		if (o instanceof Blob) return ((Blob) o).getBinaryStream();
+		return new ByteArrayInputStream(getBytes(columnIndex));
+	}
+
+	@Override
+	public InputStream getBinaryStream(String columnLabel) throws SQLException {
+		return getBinaryStream(findColumn(columnLabel));
+	}
+
+	@Override
+	public Blob getBlob(int columnIndex) throws SQLException {
+		return cast(columnIndex, Blob.class);
+	}
+
+	@Override
+	public Blob getBlob(String columnLabel) throws SQLException {
+		return getBlob(findColumn(columnLabel));
+	}
+
+	@Override
+	public boolean getBoolean(int columnIndex) throws SQLException {
+		final Object o = value(columnIndex);
+		if (o == null) return false;
+		if (o instanceof Boolean) return (Boolean) o;
+		if (o instanceof Number) return ((Number) o).intValue() != 0;
+		final String str = o.toString().trim();
+		return "1".equals(str) || Boolean.parseBoolean(str);
+	}
+
+	@Override
+	public boolean getBoolean(String columnLabel) throws SQLException {
+		return getBoolean(findColumn(columnLabel));
+	}
+
+	@Override
+	public byte getByte(int columnIndex) throws SQLException {
+		return (byte) longValue(columnIndex, Byte.MIN_VALUE, Byte.MAX_VALUE);
+	}
+
+	@Override
+	public byte getByte(String columnLabel) throws SQLException {
+		return getByte(findColumn(columnLabel));
+	}
+
+	@Override
+	public byte[] getBytes(int columnIndex) throws SQLException {
+		final Object o = value(columnIndex);
+		if (o == null) return null;
+		if (o instanceof byte[]) return (byte[]) o;
+		if (o instanceof Blob) {
+			final Blob blob = (Blob) o;
+			return blob.getBytes(1, (int) blob.length());
+		}
+		throw new SQLException("Cannot convert " + o + " to byte[]");
+	}
+
+	@Override
+	public byte[] getBytes(String columnLabel) throws SQLException {
+		return getBytes(findColumn(columnLabel));
+	}
+
+	@Override
+	public Reader getCharacterStream(int columnIndex) throws SQLException {
+		final Object o = value(columnIndex);
+		if (o == null) return null;
+		if (o instanceof Clob) return ((Clob) o).getCharacterStream();
+		return new StringReader(o.toString());
+	}
+
+	@Override
+	public Reader getCharacterStream(String columnLabel) throws SQLException {
+		return getCharacterStream(findColumn(columnLabel));
+	}
+
+	@Override
+	public Clob getClob(int columnIndex) throws SQLException {
+		return cast(columnIndex, Clob.class);
+	}
+
+	@Override
+	public Clob getClob(String columnLabel) throws SQLException {
+		return getClob(findColumn(columnLabel));
+	}
+
+	@Override
+	public int getConcurrency() throws SQLException {
+		return CONCUR_READ_ONLY;
+	}
+
+	@Override
+	public String getCursorName() throws SQLException {
+		throw new SQLFeatureNotSupportedException();
+	}
+
+	@Override
+	public Date getDate(int columnIndex) throws SQLException {
+		final Object o = value(columnIndex);
+		if (o == null) return null;
+		if (o instanceof Date) return (Date) o;
+		if (o instanceof java.util.Date) return new Date(((java.util.Date) o).getTime());
+		//IFJAVA8_START
+		if (o instanceof LocalDate) return Date.valueOf((LocalDate) o);
+		if (o instanceof LocalDateTime) return Date.valueOf(((LocalDateTime) o).toLocalDate());
+		if (o instanceof OffsetDateTime || o instanceof ZonedDateTime || o instanceof Instant) return new Date(instant(o).toEpochMilli());
+		//IFJAVA8_END
+		try {
+			return Date.valueOf(o.toString().trim());
+		} catch (IllegalArgumentException e) {
+			throw new SQLException("Cannot convert " + o + " to Date", e);
+		}
+	}
+
+	@Override
+	public Date getDate(int columnIndex, Calendar cal) throws SQLException {
+		final Date date = getDate(columnIndex);
+		if (date == null || cal == null) return date;
+		return new Date(inCalendar(date, cal));
+	}
+
+	@Override
+	public Date getDate(String columnLabel) throws SQLException {
+		return getDate(findColumn(columnLabel));
+	}
+
+	@Override
+	public Date getDate(String columnLabel, Calendar cal) throws SQLException {
+		return getDate(findColumn(columnLabel), cal);
+	}
+
+	@Override
+	public double getDouble(int columnIndex) throws SQLException {
+		final Number n = number(columnIndex);
+		return n == null ? 0 : n.doubleValue();
+	}
+
+	@Override
+	public double getDouble(String columnLabel) throws SQLException {
+		return getDouble(findColumn(columnLabel));
+	}
+
+	@Override
+	public int getFetchDirection() throws SQLException {
+		return FETCH_FORWARD;
+	}
+
+	@Override
+	public int getFetchSize() throws SQLException {
+		return 0;
+	}
+
+	@Override
+	public float getFloat(int columnIndex) throws SQLException {
+		final Number n = number(columnIndex);
+		return n == null ? 0 : n.floatValue();
+	}
+
+	@Override
+	public float getFloat(String columnLabel) throws SQLException {
+		return getFloat(findColumn(columnLabel));
+	}
+
+	@Override
+	public int getHoldability() throws SQLException {
+		return CLOSE_CURSORS_AT_COMMIT;
+	}
+
+	@Override
+	public int getInt(int columnIndex) throws SQLException {
+		return (int) longValue(columnIndex, Integer.MIN_VALUE, Integer.MAX_VALUE);
+	}
+
+	@Override
+	public int getInt(String columnLabel) throws SQLException {
+		return getInt(findColumn(columnLabel));
+	}
+
+	@Override
+	public long getLong(int columnIndex) throws SQLException {
+		return longValue(columnIndex, Long.MIN_VALUE, Long.MAX_VALUE);
+	}
+
+	@Override
+	public long getLong(String columnLabel) throws SQLException {
+		return getLong(findColumn(columnLabel));
+	}
+
+	@Override
+	public ResultSetMetaData getMetaData() throws SQLException {
+		return metaData;
+	}
+
+	@Override
+	public Reader getNCharacterStream(int columnIndex) throws SQLException {
+		return getCharacterStream(columnIndex);
+	}
+
+	@Override
+	public Reader getNCharacterStream(String columnLabel) throws SQLException {
+		return getNCharacterStream(findColumn(columnLabel));
+	}
+
+	@Override
+	public NClob getNClob(int columnIndex) throws SQLException {
+		return cast(columnIndex, NClob.class);
+	}
+
+	@Override
+	public NClob getNClob(String columnLabel) throws SQLException {
+		return getNClob(findColumn(columnLabel));
+	}
+
+	@Override
+	public String getNString(int columnIndex) throws SQLException {
+		return getString(columnIndex);
+	}
+
+	@Override
+	public String getNString(String columnLabel) throws SQLException {
+		return getNString(findColumn(columnLabel));
+	}
+
+	@Override
+	public Object getObject(int columnIndex) throws SQLException {
+		return value(columnIndex);
+	}
+
+	/**
+	 * the JDBC 4.1 conversions of the value to the standard types, the other types need to be an instance of type.
+	 */
+	public <T> T getObject(int columnIndex, Class<T> type) throws SQLException {
+		final Object o = value(columnIndex);
+		if (o == null || type.isInstance(o)) {
+			return type.cast(o);
+		}
+		return type.cast(convert(columnIndex, type));
+	}
+
+	private Object convert(int columnIndex, Class<?> type) throws SQLException {
+		if (type == String.class) return getString(columnIndex);
+		if (type == BigDecimal.class) return getBigDecimal(columnIndex);
+		if (type == BigInteger.class) return getBigDecimal(columnIndex).toBigInteger();
+		if (type == Boolean.class) return getBoolean(columnIndex);
+		if (type == Byte.class) return getByte(columnIndex);
+		if (type == Short.class) return getShort(columnIndex);
+		if (type == Integer.class) return getInt(columnIndex);
+		if (type == Long.class) return getLong(columnIndex);
+		if (type == Float.class) return getFloat(columnIndex);
+		if (type == Double.class) return getDouble(columnIndex);
+		if (type == byte[].class) return getBytes(columnIndex);
+		if (type == Date.class) return getDate(columnIndex);
+		if (type == Time.class) return getTime(columnIndex);
+		if (type == Timestamp.class || type == java.util.Date.class) return getTimestamp(columnIndex);
+		if (type == URL.class) return getURL(columnIndex);
+		//IFJAVA8_START
+		if (type == LocalDate.class) return getDate(columnIndex).toLocalDate();
+		if (type == LocalTime.class) return getTime(columnIndex).toLocalTime();
+		if (type == LocalDateTime.class) return getTimestamp(columnIndex).toLocalDateTime();
+		if (type == Instant.class) return getTimestamp(columnIndex).toInstant();
+		//IFJAVA8_END
+		return cast(columnIndex, type);
+	}
+
+	@Override
+	public Object getObject(int columnIndex, Map<String, Class<?>> map) throws SQLException {
+		return value(columnIndex);
+	}
+
+	@Override
+	public Object getObject(String columnLabel) throws SQLException {
+		return getObject(findColumn(columnLabel));
+	}
+
+	public <T> T getObject(String columnLabel, Class<T> type) throws SQLException {
+		return getObject(findColumn(columnLabel), type);
+	}
+
+	@Override
+	public Object getObject(String columnLabel, Map<String, Class<?>> map) throws SQLException {
+		return getObject(findColumn(columnLabel), map);
+	}
+
+	@Override
+	public Ref getRef(int columnIndex) throws SQLException {
+		return cast(columnIndex, Ref.class);
+	}
+
+	@Override
+	public Ref getRef(String columnLabel) throws SQLException {
+		return getRef(findColumn(columnLabel));
+	}
+
+	@Override
+	public int getRow() throws SQLException {
+		throw new SQLFeatureNotSupportedException();
+	}
+
+	@Override
+	public RowId getRowId(int columnIndex) throws SQLException {
+		return cast(columnIndex, RowId.class);
+	}
+
+	@Override
+	public RowId getRowId(String columnLabel) throws SQLException {
+		return getRowId(findColumn(columnLabel));
+	}
+
+	@Override
+	public SQLXML getSQLXML(int columnIndex) throws SQLException {
+		return cast(columnIndex, SQLXML.class);
+	}
+
+	@Override
+	public SQLXML getSQLXML(String columnLabel) throws SQLException {
+		return getSQLXML(findColumn(columnLabel));
+	}
+
+	@Override
+	public short getShort(int columnIndex) throws SQLException {
+		return (short) longValue(columnIndex, Short.MIN_VALUE, Short.MAX_VALUE);
+	}
+
+	@Override
+	public short getShort(String columnLabel) throws SQLException {
+		return getShort(findColumn(columnLabel));
+	}
+
+	@Override
+	public Statement getStatement() throws SQLException {
+		return null;
+	}
+
+	@Override
+	public String getString(int columnIndex) throws SQLException {
+		final Object o = value(columnIndex);
+		if (o == null) return null;
+		if (o instanceof Clob) {
+			final Clob clob = (Clob) o;
+			return clob.getSubString(1, (int) clob.length());
+		}
+		if (o instanceof SQLXML) return ((SQLXML) o).getString();
+		return o.toString();
+	}
+
+	@Override
+	public String getString(String columnLabel) throws SQLException {
+		return getString(findColumn(columnLabel));
+	}
+
+	@Override
+	public Time getTime(int columnIndex) throws SQLException {
+		final Object o = value(columnIndex);
+		if (o == null) return null;
+		if (o instanceof Time) return (Time) o;
+		if (o instanceof java.util.Date) return new Time(((java.util.Date) o).getTime());
+		//IFJAVA8_START
+		if (o instanceof LocalTime) return Time.valueOf((LocalTime) o);
+		if (o instanceof LocalDateTime) return Time.valueOf(((LocalDateTime) o).toLocalTime());
+		if (o instanceof OffsetDateTime || o instanceof ZonedDateTime || o instanceof Instant) return new Time(instant(o).toEpochMilli());
+		//IFJAVA8_END
+		try {
+			return Time.valueOf(o.toString().trim());
+		} catch (IllegalArgumentException e) {
+			throw new SQLException("Cannot convert " + o + " to Time", e);
+		}
+	}
+
+	@Override
+	public Time getTime(int columnIndex, Calendar cal) throws SQLException {
+		final Time time = getTime(columnIndex);
+		if (time == null || cal == null) return time;
+		return new Time(inCalendar(time, cal));
+	}
+
+	@Override
+	public Time getTime(String columnLabel) throws SQLException {
+		return getTime(findColumn(columnLabel));
+	}
+
+	@Override
+	public Time getTime(String columnLabel, Calendar cal) throws SQLException {
+		return getTime(findColumn(columnLabel), cal);
+	}
+
+	@Override
+	public Timestamp getTimestamp(int columnIndex) throws SQLException {
+		final Object o = value(columnIndex);
+		if (o == null) return null;
+		if (o instanceof Timestamp) return (Timestamp) o;
+		if (o instanceof java.util.Date) return new Timestamp(((java.util.Date) o).getTime());
+		//IFJAVA8_START
+		if (o instanceof LocalDateTime) return Timestamp.valueOf((LocalDateTime) o);
+		if (o instanceof LocalDate) return Timestamp.valueOf(((LocalDate) o).atStartOfDay());
+		if (o instanceof OffsetDateTime || o instanceof ZonedDateTime || o instanceof Instant) return Timestamp.from(instant(o));
+		//IFJAVA8_END
+		try {
+			return Timestamp.valueOf(o.toString().trim());
+		} catch (IllegalArgumentException e) {
+			throw new SQLException("Cannot convert " + o + " to Timestamp", e);
+		}
+	}
+
+	//IFJAVA8_START
+	private static Instant instant(Object o) {
+		if (o instanceof OffsetDateTime) return ((OffsetDateTime) o).toInstant();
+		if (o instanceof ZonedDateTime) return ((ZonedDateTime) o).toInstant();
+		return (Instant) o;
+	}
+	//IFJAVA8_END
+
+	@Override
+	public Timestamp getTimestamp(int columnIndex, Calendar cal) throws SQLException {
+		final Timestamp timestamp = getTimestamp(columnIndex);
+		if (timestamp == null || cal == null) return timestamp;
+		final Timestamp inCalendar = new Timestamp(inCalendar(timestamp, cal));
+		inCalendar.setNanos(timestamp.getNanos());
+		return inCalendar;
+	}
+
+	@Override
+	public Timestamp getTimestamp(String columnLabel) throws SQLException {
+		return getTimestamp(findColumn(columnLabel));
+	}
+
+	@Override
+	public Timestamp getTimestamp(String columnLabel, Calendar cal) throws SQLException {
+		return getTimestamp(findColumn(columnLabel), cal);
+	}
+
+	@Override
+	public int getType() throws SQLException {
+		return TYPE_FORWARD_ONLY;
+	}
+
+	@Override
+	public URL getURL(int columnIndex) throws SQLException {
+		final Object o = value(columnIndex);
+		if (o == null) return null;
+		if (o instanceof URL) return (URL) o;
+		try {
+			return new URL(o.toString());
+		} catch (MalformedURLException e) {
+			throw new SQLException("Cannot convert " + o + " to URL", e);
+		}
+	}
+
+	@Override
+	public URL getURL(String columnLabel) throws SQLException {
+		return getURL(findColumn(columnLabel));
+	}
+
+	@SuppressWarnings("deprecation")
+	@Override
+	public InputStream getUnicodeStream(int columnIndex) throws SQLException {
+		throw new SQLFeatureNotSupportedException();
+	}
+
+	@SuppressWarnings("deprecation")
+	@Override
+	public InputStream getUnicodeStream(String columnLabel) throws SQLException {
+		return getUnicodeStream(findColumn(columnLabel));
+	}
+
+	@Override
+	public SQLWarning getWarnings() throws SQLException {
+		return null;
+	}
+
+	@Override
+	public boolean absolute(int rows) throws SQLException {
+		throw new SQLFeatureNotSupportedException();
+	}
+
+	@Override
+	public void afterLast() throws SQLException {
+		throw new SQLFeatureNotSupportedException();
+	}
+
+	@Override
+	public void beforeFirst() throws SQLException {
+		throw new SQLFeatureNotSupportedException();
+	}
+
+	@Override
+	public void cancelRowUpdates() throws SQLException {
+		throw new SQLFeatureNotSupportedException();
+	}
+
+	@Override
+	public void clearWarnings() throws SQLException {
+	}
+
+	@Override
+	public void close() throws SQLException {
+	}
+
+	@Override
+	public void deleteRow() throws SQLException {
+		throw new SQLFeatureNotSupportedException();
+	}
+
+	@Override
+	public int findColumn(String columnLabel) throws SQLException {
+		for(int i = 0; i < labels.length; i++) {
+			if (labels[i].equalsIgnoreCase(columnLabel)) {
+				return i + 1;
+			}
+		}
+		throw new SQLException("Column " + columnLabel + " not found");
+	}
+
+	@Override
+	public boolean first() throws SQLException {
+		throw new SQLFeatureNotSupportedException();
+	}
+
+	@Override
+	public void insertRow() throws SQLException {
+		throw new SQLFeatureNotSupportedException();
+	}
+
+	@Override
+	public boolean isAfterLast() throws SQLException {
+		throw new SQLFeatureNotSupportedException();
+	}
+
+	@Override
+	public boolean isBeforeFirst() throws SQLException {
+		throw new SQLFeatureNotSupportedException();
+	}
+
+	@Override
+	public boolean isClosed() throws SQLException {
+		return false;
+	}
+
+	@Override
+	public boolean isFirst() throws SQLException {
+		throw new SQLFeatureNotSupportedException();
+	}
+
+	@Override
+	public boolean isLast() throws SQLException {
+		throw new SQLFeatureNotSupportedException();
+	}
+
+	@Override
+	public boolean last() throws SQLException {
+		throw new SQLFeatureNotSupportedException();
+	}
+
+	@Override
+	public void moveToCurrentRow() throws SQLException {
+		throw new SQLFeatureNotSupportedException();
+	}
+
+	@Override
+	public void moveToInsertRow() throws SQLException {
+		throw new SQLFeatureNotSupportedException();
+	}
+
+	@Override
+	public boolean next() throws SQLException {
+		throw new SQLFeatureNotSupportedException();
+	}
+
+	@Override
+	public boolean previous() throws SQLException {
+		throw new SQLFeatureNotSupportedException();
+	}
+
+	@Override
+	public void refreshRow() throws SQLException {
+		throw new SQLFeatureNotSupportedException();
+	}
+
+	@Override
+	public boolean relative(int rows) throws SQLException {
+		throw new SQLFeatureNotSupportedException();
+	}
+
+	@Override
+	public boolean rowDeleted() throws SQLException {
+		throw new SQLFeatureNotSupportedException();
+	}
+
+	@Override
+	public boolean rowInserted() throws SQLException {
+		throw new SQLFeatureNotSupportedException();
+	}
+
+	@Override
+	public boolean rowUpdated() throws SQLException {
+		throw new SQLFeatureNotSupportedException();
+	}
+
+	@Override
+	public void setFetchDirection(int direction) throws SQLException {
+		throw new SQLFeatureNotSupportedException();
+	}
+
+	@Override
+	public void setFetchSize(int rows) throws SQLException {
+		throw new SQLFeatureNotSupportedException();
+	}
+
+	@Override
+	public boolean wasNull() throws SQLException {
+		return wasNull;
+	}
+
+	@Override
+	public void updateArray(int columnIndex, Array x) throws SQLException {
+		throw new SQLFeatureNotSupportedException();
+	}
+
+	@Override
+	public void updateArray(String columnLabel, Array x) throws SQLException {
+		throw new SQLFeatureNotSupportedException();
+	}
+
+	@Override
+	public void updateAsciiStream(int columnIndex, InputStream x) throws SQLException {
+		throw new SQLFeatureNotSupportedException();
+	}
+
+	@Override
+	public void updateAsciiStream(int columnIndex, InputStream x, int length) throws SQLException {
+		throw new SQLFeatureNotSupportedException();
+	}
+
+	@Override
+	public void updateAsciiStream(int columnIndex, InputStream x, long length) throws SQLException {
+		throw new SQLFeatureNotSupportedException();
+	}
+
+	@Override
+	public void updateAsciiStream(String columnLabel, InputStream x) throws SQLException {
+		throw new SQLFeatureNotSupportedException();
+	}
+
+	@Override
+	public void updateAsciiStream(String columnLabel, InputStream x, int length) throws SQLException {
+		throw new SQLFeatureNotSupportedException();
+	}
+
+	@Override
+	public void updateAsciiStream(String columnLabel, InputStream x, long length) throws SQLException {
+		throw new SQLFeatureNotSupportedException();
+	}
+
+	@Override
+	public void updateBigDecimal(int columnIndex, BigDecimal x) throws SQLException {
+		throw new SQLFeatureNotSupportedException();
+	}
+
+	@Override
+	public void updateBigDecimal(String columnLabel, BigDecimal x) throws SQLException {
+		throw new SQLFeatureNotSupportedException();
+	}
+
+	@Override
+	public void updateBinaryStream(int columnIndex, InputStream x) throws SQLException {
+		throw new SQLFeatureNotSupportedException();
+	}
+
+	@Override
+	public void updateBinaryStream(int columnIndex, InputStream x, int length) throws SQLException {
+		throw new SQLFeatureNotSupportedException();
+	}
+
+	@Override
+	public void updateBinaryStream(int columnIndex, InputStream x, long length) throws SQLException {
+		throw new SQLFeatureNotSupportedException();
+	}
+
+	@Override
+	public void updateBinaryStream(String columnLabel, InputStream x) throws SQLException {
+		throw new SQLFeatureNotSupportedException();
+	}
+
+	@Override
+	public void updateBinaryStream(String columnLabel, InputStream x, int length) throws SQLException {
+		throw new SQLFeatureNotSupportedException();
+	}
+
+	@Override
+	public void updateBinaryStream(String columnLabel, InputStream x, long length) throws SQLException {
+		throw new SQLFeatureNotSupportedException();
+	}
+
+	@Override
+	public void updateBlob(int columnIndex, Blob x) throws SQLException {
+		throw new SQLFeatureNotSupportedException();
+	}
+
+	@Override
+	public void updateBlob(int columnIndex, InputStream x) throws SQLException {
+		throw new SQLFeatureNotSupportedException();
+	}
+
+	@Override
+	public void updateBlob(int columnIndex, InputStream x, long length) throws SQLException {
+		throw new SQLFeatureNotSupportedException();
+	}
+
+	@Override
+	public void updateBlob(String columnLabel, Blob x) throws SQLException {
+		throw new SQLFeatureNotSupportedException();
+	}
+
+	@Override
+	public void updateBlob(String columnLabel, InputStream x) throws SQLException {
+		throw new SQLFeatureNotSupportedException();
+	}
+
+	@Override
+	public void updateBlob(String columnLabel, InputStream x, long length) throws SQLException {
+		throw new SQLFeatureNotSupportedException();
+	}
+
+	@Override
+	public void updateBoolean(int columnIndex, boolean x) throws SQLException {
+		throw new SQLFeatureNotSupportedException();
+	}
+
+	@Override
+	public void updateBoolean(String columnLabel, boolean x) throws SQLException {
+		throw new SQLFeatureNotSupportedException();
+	}
+
+	@Override
+	public void updateByte(int columnIndex, byte x) throws SQLException {
+		throw new SQLFeatureNotSupportedException();
+	}
+
+	@Override
+	public void updateByte(String columnLabel, byte x) throws SQLException {
+		throw new SQLFeatureNotSupportedException();
+	}
+
+	@Override
+	public void updateBytes(int columnIndex, byte[] x) throws SQLException {
+		throw new SQLFeatureNotSupportedException();
+	}
+
+	@Override
+	public void updateBytes(String columnLabel, byte[] x) throws SQLException {
+		throw new SQLFeatureNotSupportedException();
+	}
+
+	@Override
+	public void updateCharacterStream(int columnIndex, Reader x) throws SQLException {
+		throw new SQLFeatureNotSupportedException();
+	}
+
+	@Override
+	public void updateCharacterStream(int columnIndex, Reader x, int length) throws SQLException {
+		throw new SQLFeatureNotSupportedException();
+	}
+
+	@Override
+	public void updateCharacterStream(int columnIndex, Reader x, long length) throws SQLException {
+		throw new SQLFeatureNotSupportedException();
+	}
+
+	@Override
+	public void updateCharacterStream(String columnLabel, Reader x) throws SQLException {
+		throw new SQLFeatureNotSupportedException();
+	}
+
+	@Override
+	public void updateCharacterStream(String columnLabel, Reader x, int length) throws SQLException {
+		throw new SQLFeatureNotSupportedException();
+	}
+
+	@Override
+	public void updateCharacterStream(String columnLabel, Reader x, long length) throws SQLException {
+		throw new SQLFeatureNotSupportedException();
+	}
+
+	@Override
+	public void updateClob(int columnIndex, Clob x) throws SQLException {
+		throw new SQLFeatureNotSupportedException();
+	}
+
+	@Override
+	public void updateClob(int columnIndex, Reader x) throws SQLException {
+		throw new SQLFeatureNotSupportedException();
+	}
+
+	@Override
+	public void updateClob(int columnIndex, Reader x, long length) throws SQLException {
+		throw new SQLFeatureNotSupportedException();
+	}
+
+	@Override
+	public void updateClob(String columnLabel, Clob x) throws SQLException {
+		throw new SQLFeatureNotSupportedException();
+	}
+
+	@Override
+	public void updateClob(String columnLabel, Reader x) throws SQLException {
+		throw new SQLFeatureNotSupportedException();
+	}
+
+	@Override
+	public void updateClob(String columnLabel, Reader x, long length) throws SQLException {
+		throw new SQLFeatureNotSupportedException();
+	}
+
+	@Override
+	public void updateDate(int columnIndex, Date x) throws SQLException {
+		throw new SQLFeatureNotSupportedException();
+	}
+
+	@Override
+	public void updateDate(String columnLabel, Date x) throws SQLException {
+		throw new SQLFeatureNotSupportedException();
+	}
+
+	@Override
+	public void updateDouble(int columnIndex, double x) throws SQLException {
+		throw new SQLFeatureNotSupportedException();
+	}
+
+	@Override
+	public void updateDouble(String columnLabel, double x) throws SQLException {
+		throw new SQLFeatureNotSupportedException();
+	}
+
+	@Override
+	public void updateFloat(int columnIndex, float x) throws SQLException {
+		throw new SQLFeatureNotSupportedException();
+	}
+
+	@Override
+	public void updateFloat(String columnLabel, float x) throws SQLException {
+		throw new SQLFeatureNotSupportedException();
+	}
+
+	@Override
+	public void updateInt(int columnIndex, int x) throws SQLException {
+		throw new SQLFeatureNotSupportedException();
+	}
+
+	@Override
+	public void updateInt(String columnLabel, int x) throws SQLException {
+		throw new SQLFeatureNotSupportedException();
+	}
+
+	@Override
+	public void updateLong(int columnIndex, long x) throws SQLException {
+		throw new SQLFeatureNotSupportedException();
+	}
+
+	@Override
+	public void updateLong(String columnLabel, long x) throws SQLException {
+		throw new SQLFeatureNotSupportedException();
+	}
+
+	@Override
+	public void updateNCharacterStream(int columnIndex, Reader x) throws SQLException {
+		throw new SQLFeatureNotSupportedException();
+	}
+
+	@Override
+	public void updateNCharacterStream(int columnIndex, Reader x, long length) throws SQLException {
+		throw new SQLFeatureNotSupportedException();
+	}
+
+	@Override
+	public void updateNCharacterStream(String columnLabel, Reader x) throws SQLException {
+		throw new SQLFeatureNotSupportedException();
+	}
+
+	@Override
+	public void updateNCharacterStream(String columnLabel, Reader x, long length) throws SQLException {
+		throw new SQLFeatureNotSupportedException();
+	}
+
+	@Override
+	public void updateNClob(int columnIndex, NClob x) throws SQLException {
+		throw new SQLFeatureNotSupportedException();
+	}
+
+	@Override
+	public void updateNClob(int columnIndex, Reader x) throws SQLException {
+		throw new SQLFeatureNotSupportedException();
+	}
+
+	@Override
+	public void updateNClob(int columnIndex, Reader x, long length) throws SQLException {
+		throw new SQLFeatureNotSupportedException();
+	}
+
+	@Override
+	public void updateNClob(String columnLabel, NClob x) throws SQLException {
+		throw new SQLFeatureNotSupportedException();
+	}
+
+	@Override
+	public void updateNClob(String columnLabel, Reader x) throws SQLException {
+		throw new SQLFeatureNotSupportedException();
+	}
+
+	@Override
+	public void updateNClob(String columnLabel, Reader x, long length) throws SQLException {
+		throw new SQLFeatureNotSupportedException();
+	}
+
+	@Override
+	public void updateNString(int columnIndex, String x) throws SQLException {
+		throw new SQLFeatureNotSupportedException();
+	}
+
+	@Override
+	public void updateNString(String columnLabel, String x) throws SQLException {
+		throw new SQLFeatureNotSupportedException();
+	}
+
+	@Override
+	public void updateNull(int columnIndex) throws SQLException {
+		throw new SQLFeatureNotSupportedException();
+	}
+
+	@Override
+	public void updateNull(String columnLabel) throws SQLException {
+		throw new SQLFeatureNotSupportedException();
+	}
+
+	@Override
+	public void updateObject(int columnIndex, Object x) throws SQLException {
+		throw new SQLFeatureNotSupportedException();
+	}
+
+	@Override
+	public void updateObject(int columnIndex, Object x, int scaleOrLength) throws SQLException {
+		throw new SQLFeatureNotSupportedException();
+	}
+
+	@Override
+	public void updateObject(String columnLabel, Object x) throws SQLException {
+		throw new SQLFeatureNotSupportedException();
+	}
+
+	@Override
+	public void updateObject(String columnLabel, Object x, int scaleOrLength) throws SQLException {
+		throw new SQLFeatureNotSupportedException();
+	}
+
+	@Override
+	public void updateRef(int columnIndex, Ref x) throws SQLException {
+		throw new SQLFeatureNotSupportedException();
+	}
+
+	@Override
+	public void updateRef(String columnLabel, Ref x) throws SQLException {
+		throw new SQLFeatureNotSupportedException();
+	}
+
+	@Override
+	public void updateRow() throws SQLException {
+		throw new SQLFeatureNotSupportedException();
+	}
+
+	@Override
+	public void updateRowId(int columnIndex, RowId x) throws SQLException {
+		throw new SQLFeatureNotSupportedException();
+	}
+
+	@Override
+	public void updateRowId(String columnLabel, RowId x) throws SQLException {
+		throw new SQLFeatureNotSupportedException();
+	}
+
+	@Override
+	public void updateSQLXML(int columnIndex, SQLXML x) throws SQLException {
+		throw new SQLFeatureNotSupportedException();
+	}
+
+	@Override
+	public void updateSQLXML(String columnLabel, SQLXML x) throws SQLException {
+		throw new SQLFeatureNotSupportedException();
+	}
+
+	@Override
+	public void updateShort(int columnIndex, short x) throws SQLException {
+		throw new SQLFeatureNotSupportedException();
+	}
+
+	@Override
+	public void updateShort(String columnLabel, short x) throws SQLException {
+		throw new SQLFeatureNotSupportedException();
+	}
+
+	@Override
+	public void updateString(int columnIndex, String x) throws SQLException {
+		throw new SQLFeatureNotSupportedException();
+	}
+
+	@Override
+	public void updateString(String columnLabel, String x) throws SQLException {
+		throw new SQLFeatureNotSupportedException();
+	}
+
+	@Override
+	public void updateTime(int columnIndex, Time x) throws SQLException {
+		throw new SQLFeatureNotSupportedException();
+	}
+
+	@Override
+	public void updateTime(String columnLabel, Time x) throws SQLException {
+		throw new SQLFeatureNotSupportedException();
+	}
+
+	@Override
+	public void updateTimestamp(int columnIndex, Timestamp x) throws SQLException {
+		throw new SQLFeatureNotSupportedException();
+	}
+
+	@Override
+	public void updateTimestamp(String columnLabel, Timestamp x) throws SQLException {
+		throw new SQLFeatureNotSupportedException();
+	}
+
+	private static final class SerialNClob extends SerialClob implements NClob {
+		private static final long serialVersionUID = 1L;
+
+		private SerialNClob(char[] chars) throws SQLException {
+			super(chars);
+		}
+	}
+
+	/**
+	 * SQLXML holding the content of a SQLXML read from the driver, read only.
+	 */
+	private static final class BufferedSQLXML implements SQLXML {
+		private final String xml;
+
+		private BufferedSQLXML(String xml) {
+			this.xml = xml;
+		}
+
+		@Override
+		public void free() throws SQLException {
+		}
+
+		@Override
+		public InputStream getBinaryStream() throws SQLException {
+			try {
+				return new ByteArrayInputStream(xml.getBytes("UTF-8"));
+			} catch (UnsupportedEncodingException e) {
+				throw new SQLException(e.getMessage(), e);
+			}
+		}
+
+		@Override
+		public OutputStream setBinaryStream() throws SQLException {
+			throw new SQLFeatureNotSupportedException();
+		}
+
+		@Override
+		public Reader getCharacterStream() throws SQLException {
+			return new StringReader(xml);
+		}
+
+		@Override
+		public Writer setCharacterStream() throws SQLException {
+			throw new SQLFeatureNotSupportedException();
+		}
+
+		@Override
+		public String getString() throws SQLException {
+			return xml;
+		}
+
+		@Override
+		public void setString(String value) throws SQLException {
+			throw new SQLFeatureNotSupportedException();
+		}
+
+		@SuppressWarnings("unchecked")
+		@Override
+		public <T extends Source> T getSource(Class<T> sourceClass) throws SQLException {
+			if (sourceClass == null || sourceClass.equals(StreamSource.class)) {
+				return (T) new StreamSource(new StringReader(xml));
+			}
+			throw new SQLFeatureNotSupportedException("Only StreamSource is supported");
+		}
+
+		@Override
+		public <T extends Result> T setResult(Class<T> resultClass) throws SQLException {
+			throw new SQLFeatureNotSupportedException();
+		}
+	}
+}
@@ -3,11 +3,15 @@ package org.sfm.jdbc.impl;
 import org.sfm.jdbc.*;
 import org.sfm.jdbc.impl.getter.ResultSetGetterFactory;
 import org.sfm.map.*;
+import org.sfm.map.impl.AsmCompilationMapperMetrics;
 import org.sfm.map.impl.ColumnsMapperKey;
+import org.sfm.map.impl.DynamicMapperSettings;
 import org.sfm.map.impl.FieldMapperColumnDefinition;
 import org.sfm.map.impl.MapperCache;
+import org.sfm.map.impl.MetricsRowHandler;
 import org.sfm.reflect.meta.ClassMeta;
 import org.sfm.reflect.meta.PropertyNameMatcherFactory;
+import org.sfm.utils.ChunkHandler;
 import org.sfm.utils.ErrorHelper;
 import org.sfm.utils.RowHandler;
 
@@ -15,12 +19,14 @@ import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.util.Iterator;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 //IFJAVA8_START
 import java.util.stream.Stream;
 //IFJAVA8_END
 
 
-public final class DynamicJdbcMapper<T> extends AbstractDynamicJdbcMapper<T> {
+public final class DynamicJdbcMapper<T> extends AbstractDynamicJdbcMapper<T> implements ChunkedJdbcMapper<T> {
 
 	private final ClassMeta<T> classMeta;
 
@@ -33,7 +39,12 @@ public final class DynamicJdbcMapper<T> extends AbstractDynamicJdbcMapper<T> {
     private final boolean failOnAsm;
     private final int asmMapperNbFieldsLimit;
 
-    private final MapperCache<ColumnsMapperKey, JdbcMapper<T>> mapperCache = new MapperCache<ColumnsMapperKey, JdbcMapper<T>>();
+    private final MapperCache<ColumnsMapperKey, JdbcMapper<T>> mapperCache;
+    private final int recycledInstances;
+    private final int maxJoinedRows;
+    private final MapperMetrics mapperMetrics;
+    private final boolean recordRows;
+    private final Executor asmCompilationExecutor;
 
 	public DynamicJdbcMapper(final ClassMeta<T> classMeta,
 							 final FieldMapperErrorHandler<JdbcColumnKey> fieldMapperErrorHandler,
@@ -43,6 +54,19 @@ public final class DynamicJdbcMapper<T> extends AbstractDynamicJdbcMapper<T> {
 							 PropertyNameMatcherFactory propertyNameMatcherFactory,
                              boolean failOnAsm,
                              int asmMapperNbFieldsLimit) {
+		this(classMeta, fieldMapperErrorHandler, mapperBuilderErrorHandler, rowHandlerErrorHandler, columnDefinitions,
+				propertyNameMatcherFactory, failOnAsm, asmMapperNbFieldsLimit, new DynamicMapperSettings());
+	}
+
+	public DynamicJdbcMapper(final ClassMeta<T> classMeta,
+							 final FieldMapperErrorHandler<JdbcColumnKey> fieldMapperErrorHandler,
+							 final MapperBuilderErrorHandler mapperBuilderErrorHandler,
+							 RowHandlerErrorHandler rowHandlerErrorHandler,
+							 final ColumnDefinitionProvider<FieldMapperColumnDefinition<JdbcColumnKey, ResultSet>, JdbcColumnKey> columnDefinitions,
+							 PropertyNameMatcherFactory propertyNameMatcherFactory,
+                             boolean failOnAsm,
+                             int asmMapperNbFieldsLimit,
+                             DynamicMapperSettings settings) {
 		this.classMeta = classMeta;
 		this.fieldMapperErrorHandler = fieldMapperErrorHandler;
 		this.mapperBuilderErrorHandler = mapperBuilderErrorHandler;
@@ -51,15 +75,56 @@ public final class DynamicJdbcMapper<T> extends AbstractDynamicJdbcMapper<T> {
 		this.rowHandlerErrorHandler = rowHandlerErrorHandler;
         this.failOnAsm = failOnAsm;
         this.asmMapperNbFieldsLimit = asmMapperNbFieldsLimit;
+        this.mapperCache = settings.newMapperCache();
+        this.recycledInstances = settings.getRecycledInstances();
+        this.maxJoinedRows = settings.getMaxJoinedRows();
+        this.mapperMetrics = settings.getMapperMetrics();
+        this.recordRows = mapperMetrics.isEnabled();
+        this.asmCompilationExecutor = settings.getAsmCompilationExecutor();
 	}
 
 
 	@Override
 	public final <H extends RowHandler<? super T>> H forEach(final ResultSet rs, final H handle)
 			throws SQLException, MappingException {
+		if (recordRows) {
+			final long start = System.nanoTime();
+			final MetricsRowHandler<T> metricsRowHandler = new MetricsRowHandler<T>(handle);
+			try {
+				final JdbcMapper<T> mapper = getMapper(rs);
+				try {
+					mapper.forEach(rs, metricsRowHandler);
+				} catch (Exception e) {
+					// the field mappers do not catch their errors without a FieldMapperErrorHandler
+					if (metricsRowHandler.isMappingError(e)) {
+						mapperMetrics.fieldError(null, e);
+					}
+					ErrorHelper.rethrow(e);
+				}
+			} finally {
+				mapperMetrics.rowsMapped(metricsRowHandler.getNbRows(), System.nanoTime() - start);
+			}
+			return handle;
+		}
 		return getMapper(rs).forEach(rs, handle);
 	}
 
+	@Override
+	public <H extends ChunkHandler<? super T>> H forEachChunk(final ResultSet rs, final H handler)
+			throws SQLException, MappingException {
+		final JdbcMapper<T> mapper = getMapper(rs);
+		if (mapper instanceof ChunkedJdbcMapper) {
+			return ((ChunkedJdbcMapper<T>) mapper).forEachChunk(rs, handler);
+		}
+		mapper.forEach(rs, new RowHandler<T>() {
+			@Override
+			public void handle(T t) throws Exception {
+				handler.handle(t, false);
+			}
+		});
+		return handler;
+	}
+
 	@Override
     @Deprecated
 	public final Iterator<T> iterate(final ResultSet rs)
@@ -101,19 +166,65 @@ public final class DynamicJdbcMapper<T> extends AbstractDynamicJdbcMapper<T> {
 		JdbcMapper<T> mapper = mapperCache.get(key);
 		
 		if (mapper == null) {
-			final JdbcMapperBuilder<T> builder =
-                    new JdbcMapperBuilder<T>(classMeta, mapperBuilderErrorHandler,columnDefinitions, propertyNameMatcherFactory,
-                            new ResultSetGetterFactory(), failOnAsm, asmMapperNbFieldsLimit, new JdbcMappingContextFactoryBuilder());
-
-			builder.jdbcMapperErrorHandler(rowHandlerErrorHandler);
-			builder.fieldMapperErrorHandler(fieldMapperErrorHandler);
-			builder.addMapping(metaData);
-			
-			mapper = builder.mapper();
-			mapperCache.add(key, mapper);
+			final int[] sqlTypes = sqlTypes(metaData);
+			if (asmCompilationExecutor != null && asmMapperNbFieldsLimit > 0) {
+				mapper = buildMapper(key, sqlTypes, 0, mapperBuilderErrorHandler, failOnAsm, mapperMetrics);
+				mapperCache.add(key, mapper);
+				compileAsmMapper(key, sqlTypes, mapper);
+			} else {
+				mapper = buildMapper(key, sqlTypes, asmMapperNbFieldsLimit, mapperBuilderErrorHandler, failOnAsm, mapperMetrics);
+				mapperCache.add(key, mapper);
+			}
 		}
 		return mapper;
 	}
+
+	private JdbcMapper<T> buildMapper(final ColumnsMapperKey key, final int[] sqlTypes, final int asmMapperNbFieldsLimit,
+									  final MapperBuilderErrorHandler mapperBuilderErrorHandler, final boolean failOnAsm,
+									  final MapperMetrics mapperMetrics) {
+		final JdbcMapperBuilder<T> builder =
+				new JdbcMapperBuilder<T>(classMeta, mapperBuilderErrorHandler,columnDefinitions, propertyNameMatcherFactory,
+						new ResultSetGetterFactory(), failOnAsm, asmMapperNbFieldsLimit, new JdbcMappingContextFactoryBuilder());
+
+		builder.jdbcMapperErrorHandler(rowHandlerErrorHandler);
+		builder.fieldMapperErrorHandler(fieldMapperErrorHandler);
+		builder.recycleInstances(recycledInstances);
+		builder.maxJoinedRows(maxJoinedRows);
+		builder.mapperMetrics(mapperMetrics);
+		final String[] columns = key.getColumns();
+		for(int i = 0; i < columns.length; i++) {
+			builder.addMapping(columns[i], i + 1, sqlTypes[i]);
+		}
+
+		return builder.mapper();
+	}
+
+	/**
+	 * generate the asm mapper on the executor and swap it in the cache, the reflection mapper
+	 * is kept if the generation fails or the executor rejects the task, the failure is reported to the MapperMetrics.
+	 * The mapping errors were reported by the build of the reflection mapper and the build is already recorded,
+	 * the asm build does not report them again.
+	 */
+	private void compileAsmMapper(final ColumnsMapperKey key, final int[] sqlTypes, final JdbcMapper<T> reflectionMapper) {
+		try {
+			asmCompilationExecutor.execute(new Runnable() {
+				@Override
+				public void run() {
+					final JdbcMapper<T> asmMapper;
+					try {
+						asmMapper = buildMapper(key, sqlTypes, asmMapperNbFieldsLimit,
+								MapperBuilderErrorHandler.NULL, true, new AsmCompilationMapperMetrics(mapperMetrics));
+					} catch (Exception e) {
+						mapperMetrics.asmMapperFailed(classMeta.getType(), e);
+						return;
+					}
+					mapperCache.replace(key, reflectionMapper, asmMapper);
+				}
+			});
+		} catch (RejectedExecutionException e) {
+			mapperMetrics.asmMapperFailed(classMeta.getType(), e);
+		}
+	}
 	
 	private static ColumnsMapperKey mapperKey(final ResultSetMetaData metaData) throws SQLException {
 		final String[] columns = new String[metaData.getColumnCount()];
@@ -125,6 +236,16 @@ public final class DynamicJdbcMapper<T> extends AbstractDynamicJdbcMapper<T> {
 		return new ColumnsMapperKey(columns);
 	}
 
+	private static int[] sqlTypes(final ResultSetMetaData metaData) throws SQLException {
+		final int[] sqlTypes = new int[metaData.getColumnCount()];
+
+		for(int i = 0; i < sqlTypes.length; i++) {
+			sqlTypes[i] = metaData.getColumnType(i + 1);
+		}
+
+		return sqlTypes;
+	}
+
     @Override
     public String toString() {
         return "DynamicJdbcMapper{target=" + classMeta.getType()
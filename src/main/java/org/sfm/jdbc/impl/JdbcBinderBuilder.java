@@ -0,0 +1,182 @@
+package org.sfm.jdbc.impl;
+
+import org.sfm.jdbc.JdbcBinder;
+import org.sfm.jdbc.JdbcColumnKey;
+import org.sfm.jdbc.impl.setter.*;
+import org.sfm.map.FieldMapper;
+import org.sfm.map.MapperBuilderErrorHandler;
+import org.sfm.map.impl.fieldmapper.*;
+import org.sfm.reflect.Getter;
+import org.sfm.reflect.GetterHelper;
+import org.sfm.reflect.ReflectionService;
+import org.sfm.reflect.Setter;
+import org.sfm.reflect.TypeHelper;
+import org.sfm.reflect.impl.NullGetter;
+import org.sfm.reflect.meta.ClassMeta;
+import org.sfm.reflect.meta.PropertyFinder;
+import org.sfm.reflect.meta.PropertyMeta;
+import org.sfm.reflect.meta.PropertyNameMatcherFactory;
+import org.sfm.reflect.primitive.*;
+import org.sfm.tuples.Tuple2;
+import org.sfm.utils.ErrorHelper;
+
+import java.lang.reflect.Type;
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Resolve the parameters of a statement against the properties of T and build the {@link JdbcBinder},
+ * generated with asm when possible.
+ * @param <T> the type of the bound objects
+ */
+public final class JdbcBinderBuilder<T> {
+
+	private final ClassMeta<T> classMeta;
+	private final PropertyNameMatcherFactory propertyNameMatcherFactory;
+	private final MapperBuilderErrorHandler mapperBuilderErrorHandler;
+	private final boolean failOnAsm;
+	private final int asmMapperNbFieldsLimit;
+
+	public JdbcBinderBuilder(ClassMeta<T> classMeta,
+							 PropertyNameMatcherFactory propertyNameMatcherFactory,
+							 MapperBuilderErrorHandler mapperBuilderErrorHandler,
+							 boolean failOnAsm, int asmMapperNbFieldsLimit) {
+		this.classMeta = classMeta;
+		this.propertyNameMatcherFactory = propertyNameMatcherFactory;
+		this.mapperBuilderErrorHandler = mapperBuilderErrorHandler;
+		this.failOnAsm = failOnAsm;
+		this.asmMapperNbFieldsLimit = asmMapperNbFieldsLimit;
+	}
+
+	/**
+	 * @param columns the property bound to each parameter, the first column is bound to the parameter 1
+	 * @param sql the sql returned by {@link JdbcBinder#getSql()}
+	 * @return the binder
+	 */
+	@SuppressWarnings("unchecked")
+	public JdbcBinder<T> newBinder(String[] columns, String sql) {
+		final PropertyFinder<T> propertyFinder = classMeta.newPropertyFinder();
+		final FieldMapper<T, PreparedStatement>[] mappers = new FieldMapper[columns.length];
+		for(int i = 0; i < columns.length; i++) {
+			final JdbcColumnKey key = new JdbcColumnKey(columns[i], i + 1);
+			final PropertyMeta<T, ?> prop = propertyFinder.findProperty(propertyNameMatcherFactory.newInstance(key));
+			if (prop == null) {
+				mapperBuilderErrorHandler.propertyNotFound(classMeta.getType(), columns[i]);
+				mappers[i] = new FieldMapperImpl<T, PreparedStatement, Object>(new NullGetter<T, Object>(), new ObjectPreparedStatementSetter(key.getIndex()));
+			} else {
+				mappers[i] = newFieldMapper(prop, key.getIndex());
+			}
+		}
+
+		final ReflectionService reflectionService = classMeta.getReflectionService();
+		if (reflectionService.isAsmActivated() && mappers.length < asmMapperNbFieldsLimit) {
+			try {
+				return reflectionService.getAsmFactory().createJdbcBinder(mappers, TypeHelper.<T>toClass(classMeta.getType()), sql);
+			} catch (Exception e) {
+				if (failOnAsm) {
+					return ErrorHelper.rethrow(e);
+				}
+			}
+		}
+		return new JdbcBinderImpl<T>(mappers, sql);
+	}
+
+	/**
+	 * Replace the :name parameters by ?, the quoted literals and identifiers are left untouched as is the :: cast.
+	 * @param sql the sql with named parameters
+	 * @return the jdbc sql and the names of its parameters
+	 */
+	public static Tuple2<String, String[]> parseNamedParameters(String sql) {
+		final StringBuilder jdbcSql = new StringBuilder(sql.length());
+		final List<String> names = new ArrayList<String>();
+		int i = 0;
+		while(i < sql.length()) {
+			final char c = sql.charAt(i);
+			if (c == '\'' || c == '"') {
+				int end = sql.indexOf(c, i + 1);
+				end = end == -1 ? sql.length() : end + 1;
+				jdbcSql.append(sql, i, end);
+				i = end;
+			} else if (c == ':' && i + 1 < sql.length() && sql.charAt(i + 1) == ':') {
+				jdbcSql.append("::");
+				i += 2;
+			} else if (c == ':' && i + 1 < sql.length() && Character.isJavaIdentifierStart(sql.charAt(i + 1))) {
+				int end = i + 2;
+				while(end < sql.length() && Character.isJavaIdentifierPart(sql.charAt(end))) {
+					end++;
+				}
+				names.add(sql.substring(i + 1, end));
+				jdbcSql.append('?');
+				i = end;
+			} else {
+				jdbcSql.append(c);
+				i++;
+			}
+		}
+		return new Tuple2<String, String[]>(jdbcSql.toString(), names.toArray(new String[0]));
+	}
+
+	@SuppressWarnings("unchecked")
+	private FieldMapper<T, PreparedStatement> newFieldMapper(PropertyMeta<T, ?> prop, int index) {
+		final Getter<T, ?> getter = GetterHelper.getPropertyGetter(prop);
+		final Type type = GetterHelper.getPropertyType(prop);
+		if (TypeHelper.isPrimitive(type)) {
+			final Class<?> clazz = TypeHelper.toClass(type);
+			if (clazz.equals(Integer.TYPE) && getter instanceof IntGetter) {
+				return new IntFieldMapper<T, PreparedStatement>((IntGetter<T>) getter, new IntPreparedStatementSetter(index));
+			} else if (clazz.equals(Long.TYPE) && getter instanceof LongGetter) {
+				return new LongFieldMapper<T, PreparedStatement>((LongGetter<T>) getter, new LongPreparedStatementSetter(index));
+			} else if (clazz.equals(Double.TYPE) && getter instanceof DoubleGetter) {
+				return new DoubleFieldMapper<T, PreparedStatement>((DoubleGetter<T>) getter, new DoublePreparedStatementSetter(index));
+			} else if (clazz.equals(Float.TYPE) && getter instanceof FloatGetter) {
+				return new FloatFieldMapper<T, PreparedStatement>((FloatGetter<T>) getter, new FloatPreparedStatementSetter(index));
+			} else if (clazz.equals(Boolean.TYPE) && getter instanceof BooleanGetter) {
+				return new BooleanFieldMapper<T, PreparedStatement>((BooleanGetter<T>) getter, new BooleanPreparedStatementSetter(index));
+			} else if (clazz.equals(Short.TYPE) && getter instanceof ShortGetter) {
+				return new ShortFieldMapper<T, PreparedStatement>((ShortGetter<T>) getter, new ShortPreparedStatementSetter(index));
+			} else if (clazz.equals(Byte.TYPE) && getter instanceof ByteGetter) {
+				return new ByteFieldMapper<T, PreparedStatement>((ByteGetter<T>) getter, new BytePreparedStatementSetter(index));
+			} else if (clazz.equals(Character.TYPE) && getter instanceof CharacterGetter) {
+				return new CharacterFieldMapper<T, PreparedStatement>((CharacterGetter<T>) getter, new CharacterPreparedStatementSetter(index));
+			}
+		}
+		return new FieldMapperImpl<T, PreparedStatement, Object>((Getter<T, Object>) getter,
+				(Setter<PreparedStatement, Object>) newSetter(TypeHelper.wrap(type), index));
+	}
+
+	private Setter<PreparedStatement, ?> newSetter(Class<?> clazz, int index) {
+		if (Integer.class.equals(clazz)) {
+			return new IntPreparedStatementSetter(index);
+		} else if (Long.class.equals(clazz)) {
+			return new LongPreparedStatementSetter(index);
+		} else if (Double.class.equals(clazz)) {
+			return new DoublePreparedStatementSetter(index);
+		} else if (Float.class.equals(clazz)) {
+			return new FloatPreparedStatementSetter(index);
+		} else if (Boolean.class.equals(clazz)) {
+			return new BooleanPreparedStatementSetter(index);
+		} else if (Short.class.equals(clazz)) {
+			return new ShortPreparedStatementSetter(index);
+		} else if (Byte.class.equals(clazz)) {
+			return new BytePreparedStatementSetter(index);
+		} else if (Character.class.equals(clazz)) {
+			return new CharacterPreparedStatementSetter(index);
+		} else if (String.class.equals(clazz)) {
+			return new StringPreparedStatementSetter(index);
+		} else if (Date.class.isAssignableFrom(clazz)) {
+			return new TimestampPreparedStatementSetter(index);
+		} else if (Enum.class.isAssignableFrom(clazz)) {
+			return new EnumPreparedStatementSetter(index);
+		}
+		return new ObjectPreparedStatementSetter(index);
+	}
+
+	@Override
+	public String toString() {
+		return "JdbcBinderBuilder{" +
+				"classMeta=" + classMeta +
+				'}';
+	}
+}
@@ -0,0 +1,22 @@
+package org.sfm.jdbc.impl;
+
+import org.sfm.map.FieldMapper;
+
+import java.sql.PreparedStatement;
+
+public final class JdbcBinderImpl<T> extends AbstractJdbcBinder<T> {
+
+	private final FieldMapper<T, PreparedStatement>[] mappers;
+
+	public JdbcBinderImpl(FieldMapper<T, PreparedStatement>[] mappers, String sql) {
+		super(mappers, sql);
+		this.mappers = mappers;
+	}
+
+	@Override
+	protected void mapFields(T value, PreparedStatement ps) throws Exception {
+		for(int i = 0; i < mappers.length; i++) {
+			mappers[i].mapTo(value, ps, null);
+		}
+	}
+}
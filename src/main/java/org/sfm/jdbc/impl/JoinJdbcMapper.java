@@ -1,20 +1,36 @@
 package org.sfm.jdbc.impl;
 
+import org.sfm.jdbc.ChunkedJdbcMapper;
 import org.sfm.jdbc.JdbcMapper;
 import org.sfm.map.*;
+import org.sfm.utils.ChunkHandler;
+import org.sfm.utils.ErrorHelper;
 import org.sfm.utils.ForEachIterator;
 import org.sfm.utils.RowHandler;
 
 import java.sql.ResultSet;
 import java.sql.SQLException;
 
-public final class JoinJdbcMapper<T> extends AbstractForEachDynamicJdbcMapper<T> {
+public final class JoinJdbcMapper<T> extends AbstractForEachDynamicJdbcMapper<T> implements ChunkedJdbcMapper<T> {
 
     private final JdbcMapper<T> mapper;
+    private final int maxJoinedRows;
 
     public JoinJdbcMapper(JdbcMapper<T> mapper, RowHandlerErrorHandler errorHandler) {
+        this(mapper, errorHandler, 0);
+    }
+
+    /**
+     * @param mapper the mapper of the rows
+     * @param errorHandler the row handler error handler
+     * @param maxJoinedRows the number of rows after which forEachChunk emits the current object even if the root did
+     *                      not break, the following rows being joined on a new object with the same keys.
+     *                      0 for no limit. forEach, iterator and stream always join the whole object.
+     */
+    public JoinJdbcMapper(JdbcMapper<T> mapper, RowHandlerErrorHandler errorHandler, int maxJoinedRows) {
         super(errorHandler);
         this.mapper = mapper;
+        this.maxJoinedRows = maxJoinedRows;
     }
 
     @Override
@@ -24,7 +40,17 @@ public final class JoinJdbcMapper<T> extends AbstractForEachDynamicJdbcMapper<T>
 
     @Override
     protected JoinForEach<T> newForEachIterator(ResultSet rs) {
-        return new JoinForEach<T>(mapper, newMappingContext(rs), errorHandler, rs);
+        return new JoinForEach<T>(mapper, newMappingContext(rs), errorHandler, rs, 0);
+    }
+
+    @Override
+    public <H extends ChunkHandler<? super T>> H forEachChunk(ResultSet rs, H handler) throws SQLException, MappingException {
+        try {
+            new JoinForEach<T>(mapper, newMappingContext(rs), errorHandler, rs, maxJoinedRows).forEach(false, null, handler);
+            return handler;
+        } catch(Exception e) {
+            return ErrorHelper.rethrow(e);
+        }
     }
 
     @Override
@@ -40,40 +66,58 @@ public final class JoinJdbcMapper<T> extends AbstractForEachDynamicJdbcMapper<T>
 
 
         private final ResultSet resultSet;
+        private final int maxJoinedRows;
         private T currentValue;
+        private boolean currentContinues;
+        private int joinedRows;
 
-        private JoinForEach(Mapper<ResultSet, T> mapper, MappingContext<ResultSet> mappingContext, RowHandlerErrorHandler rowHandlerErrorHandler, ResultSet resultSet) {
+        private JoinForEach(Mapper<ResultSet, T> mapper, MappingContext<ResultSet> mappingContext, RowHandlerErrorHandler rowHandlerErrorHandler, ResultSet resultSet, int maxJoinedRows) {
             this.mapper = mapper;
             this.mappingContext = mappingContext;
             this.rowHandlerErrorHandler = rowHandlerErrorHandler;
             this.resultSet = resultSet;
+            this.maxJoinedRows = maxJoinedRows;
         }
 
 
         @Override
         public boolean next(RowHandler<? super T> rowHandler) throws Exception {
-            return forEach(true, rowHandler);
+            return forEach(true, rowHandler, null);
         }
 
         @Override
         public void forEach(RowHandler<? super T> rowHandler) throws Exception {
-            forEach(false, rowHandler);
+            forEach(false, rowHandler, null);
         }
 
-        private boolean forEach(boolean stopOnNext, RowHandler<? super T> rowHandler) throws Exception {
+        /**
+         * calls the chunkHandler if not null, the rowHandler otherwise.
+         */
+        private boolean forEach(boolean stopOnNext, RowHandler<? super T> rowHandler, ChunkHandler<? super T> chunkHandler) throws Exception {
             while (resultSet.next()) {
 
                 mappingContext.handle(resultSet);
 
+                boolean continuation = false;
+                if (maxJoinedRows > 0 && ++joinedRows > maxJoinedRows && !mappingContext.rootBroke()) {
+                    // break all the levels so the row is mapped on a new object, handle again to keep the keys
+                    mappingContext.markAsBroken();
+                    mappingContext.handle(resultSet);
+                    continuation = true;
+                }
+
                 if (mappingContext.rootBroke()) {
+                    joinedRows = 1;
                     if (currentValue != null) {
-                        callHandler(rowHandler);
+                        callHandler(rowHandler, chunkHandler);
                         currentValue = mapper.map(resultSet, mappingContext);
+                        currentContinues = continuation;
                         if (stopOnNext) {
                             return true;
                         }
                     } else {
                         currentValue = mapper.map(resultSet, mappingContext);
+                        currentContinues = continuation;
                     }
                 } else {
                     mapper.mapTo(resultSet, currentValue, mappingContext);
@@ -81,7 +125,7 @@ public final class JoinJdbcMapper<T> extends AbstractForEachDynamicJdbcMapper<T>
             }
 
             if (currentValue != null) {
-                callHandler(rowHandler);
+                callHandler(rowHandler, chunkHandler);
                 currentValue = null;
                 return true;
             } else {
@@ -89,9 +133,13 @@ public final class JoinJdbcMapper<T> extends AbstractForEachDynamicJdbcMapper<T>
             }
         }
 
-        private void callHandler(RowHandler<? super T> rowHandler) throws Exception {
+        private void callHandler(RowHandler<? super T> rowHandler, ChunkHandler<? super T> chunkHandler) throws Exception {
             try {
-                rowHandler.handle(currentValue);
+                if (chunkHandler != null) {
+                    chunkHandler.handle(currentValue, currentContinues);
+                } else {
+                    rowHandler.handle(currentValue);
+                }
             } catch(Exception e) {
                 rowHandlerErrorHandler.handlerError(e, currentValue);
             }
@@ -103,6 +151,7 @@ public final class JoinJdbcMapper<T> extends AbstractForEachDynamicJdbcMapper<T>
     public String toString() {
         return "JoinJdbcMapper{" +
                 "mapper=" + mapper +
+                (maxJoinedRows > 0 ? ", maxJoinedRows=" + maxJoinedRows : "") +
                 '}';
     }
 }
@@ -0,0 +1,312 @@
+package org.sfm.jdbc.impl;
+
+import org.sfm.jdbc.JdbcMapper;
+import org.sfm.map.MappingContext;
+import org.sfm.map.MappingException;
+import org.sfm.map.RowHandlerErrorHandler;
+import org.sfm.utils.ErrorHelper;
+import org.sfm.utils.RowHandler;
+
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+//IFJAVA8_START
+import java.util.stream.Stream;
+//IFJAVA8_END
+
+/**
+ * JdbcMapper that maps the rows on a pool of workers in forEach.
+ * <p>
+ * The calling thread only iterates over the ResultSet and copies the values of each row in a reusable buffer,
+ * the workers run the mapper on a {@link BufferedRowResultSet} view of the buffer and the calling thread
+ * calls back the RowHandler with the results, in the order of the ResultSet if ordered is true.
+ * <p>
+ * The mappers with joins or discriminators, that need to see the rows in sequence, are run on the calling thread.
+ * iterator and stream are not pipelined.
+ * <p>
+ * The workers need to run on other threads than the caller, a worker the executor runs on the calling thread - a same
+ * thread executor or a saturated pool with a CallerRunsPolicy - returns straight away, if none is left the rows are
+ * mapped on the calling thread. forEach fails with a SQLException if a worker ends before the end of the ResultSet or
+ * if no row is mapped in {@link #WORKER_TIMEOUT_MILLIS}.
+ * @param <T> the type of the target
+ */
+public final class PipelinedJdbcMapper<T> extends AbstractDynamicJdbcMapper<T> {
+
+	private static final int BUFFERS_PER_WORKER = 4;
+
+	/**
+	 * the time the calling thread waits for a mapped row before giving up on the workers.
+	 */
+	public static final long WORKER_TIMEOUT_MILLIS = 60000;
+
+	private final JdbcMapper<T> delegate;
+	private final int nbWorkers;
+	private final boolean ordered;
+	private final Executor executor;
+	private final RowHandlerErrorHandler errorHandler;
+
+	/**
+	 * @param delegate the mapper to run on the workers
+	 * @param nbWorkers the number of workers
+	 * @param ordered true if the RowHandler needs to see the rows in the order of the ResultSet
+	 * @param executor the executor running the workers, if null a shared pool of daemon threads is used
+	 * @param errorHandler the RowHandler error handler
+	 */
+	public PipelinedJdbcMapper(JdbcMapper<T> delegate, int nbWorkers, boolean ordered, Executor executor, RowHandlerErrorHandler errorHandler) {
+		if (nbWorkers < 1) {
+			throw new IllegalArgumentException("nbWorkers needs to be at least 1");
+		}
+		this.delegate = delegate;
+		this.nbWorkers = nbWorkers;
+		this.ordered = ordered;
+		this.executor = executor != null ? executor : DefaultExecutorHolder.EXECUTOR;
+		this.errorHandler = errorHandler;
+	}
+
+	@Override
+	public <H extends RowHandler<? super T>> H forEach(ResultSet rs, H handler) throws SQLException, MappingException {
+		final JdbcMapper<T> mapper = getMapper(rs);
+		if (!(mapper instanceof JdbcMapperImpl || mapper instanceof AbstractJdbcMapper)) {
+			// joins and discriminators need to see the rows in sequence
+			return mapper.forEach(rs, handler);
+		}
+		return new Pipeline(mapper, rs.getMetaData()).forEach(rs, handler);
+	}
+
+	@Override
+	protected JdbcMapper<T> getMapper(ResultSet rs) throws SQLException {
+		if (delegate instanceof DynamicJdbcMapper) {
+			return ((DynamicJdbcMapper<T>) delegate).getMapper(rs);
+		}
+		return delegate;
+	}
+
+	@Override
+	@Deprecated
+	@SuppressWarnings("deprecation")
+	public Iterator<T> iterate(ResultSet rs) throws SQLException, MappingException {
+		return delegate.iterate(rs);
+	}
+
+	@Override
+	public Iterator<T> iterator(ResultSet rs) throws SQLException, MappingException {
+		return delegate.iterator(rs);
+	}
+
+	//IFJAVA8_START
+	@Override
+	public Stream<T> stream(ResultSet rs) throws SQLException, MappingException {
+		return delegate.stream(rs);
+	}
+	//IFJAVA8_END
+
+	@Override
+	public MappingContext<ResultSet> newMappingContext(ResultSet source) throws MappingException {
+		return delegate.newMappingContext(source);
+	}
+
+	private static final class RowBuffer<T> {
+		final Object[] values;
+		long index;
+		T result;
+		Throwable error;
+
+		RowBuffer(int nbColumns) {
+			this.values = new Object[nbColumns];
+		}
+	}
+
+	/**
+	 * state of one forEach call.
+	 */
+	private final class Pipeline implements Runnable {
+		private final RowBuffer<T> poison = new RowBuffer<T>(0);
+		private final RowBuffer<T> workerEnded = new RowBuffer<T>(0);
+		private final Thread callingThread = Thread.currentThread();
+		private final JdbcMapper<T> mapper;
+		private final ConcurrentLinkedQueue<BufferedRowResultSet> rows = new ConcurrentLinkedQueue<BufferedRowResultSet>();
+		private final BufferedRowResultSet rowReader;
+		private final int nbBuffers;
+		private final ArrayDeque<RowBuffer<T>> freeBuffers;
+		private final BlockingQueue<RowBuffer<T>> toMap = new LinkedBlockingQueue<RowBuffer<T>>();
+		private final BlockingQueue<RowBuffer<T>> mapped = new LinkedBlockingQueue<RowBuffer<T>>();
+		private final RowBuffer<T>[] pending;
+
+		private long nbRead;
+		private long nbDelivered;
+		private int nbInlineWorkers;
+
+		@SuppressWarnings("unchecked")
+		Pipeline(JdbcMapper<T> mapper, ResultSetMetaData metaData) throws SQLException {
+			this.mapper = mapper;
+			// the metadata is read on the calling thread, the driver does not have to be thread safe
+			for(int i = 0; i < nbWorkers; i++) {
+				rows.add(new BufferedRowResultSet(metaData));
+			}
+			this.rowReader = new BufferedRowResultSet(metaData);
+			this.nbBuffers = nbWorkers * BUFFERS_PER_WORKER;
+			this.freeBuffers = new ArrayDeque<RowBuffer<T>>(nbBuffers);
+			final int nbColumns = metaData.getColumnCount();
+			for(int i = 0; i < nbBuffers; i++) {
+				freeBuffers.add(new RowBuffer<T>(nbColumns));
+			}
+			this.pending = new RowBuffer[nbBuffers];
+		}
+
+		<H extends RowHandler<? super T>> H forEach(ResultSet rs, H handler) throws SQLException {
+			for(int i = 0; i < nbWorkers; i++) {
+				executor.execute(this);
+			}
+			if (nbInlineWorkers == nbWorkers) {
+				// the executor runs the tasks on the calling thread
+				return mapper.forEach(rs, handler);
+			}
+			try {
+				while(true) {
+					RowBuffer<T> buffer = freeBuffers.poll();
+					if (buffer == null) {
+						// all the buffers are in flight, wait for a result
+						deliver(nextMapped(), handler);
+						continue;
+					}
+					if (!rs.next()) {
+						freeBuffers.add(buffer);
+						break;
+					}
+					rowReader.readRow(rs, buffer.values);
+					buffer.index = nbRead++;
+					toMap.add(buffer);
+
+					RowBuffer<T> result;
+					while((result = mapped.poll()) != null) {
+						deliver(checkWorker(result), handler);
+					}
+				}
+				while(nbDelivered < nbRead) {
+					deliver(nextMapped(), handler);
+				}
+				return handler;
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new SQLException("Interrupted while waiting for the mapping workers", e);
+			} finally {
+				for(int i = 0; i < nbWorkers; i++) {
+					toMap.add(poison);
+				}
+			}
+		}
+
+		private RowBuffer<T> nextMapped() throws InterruptedException, SQLException {
+			final RowBuffer<T> buffer = mapped.poll(WORKER_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+			if (buffer == null) {
+				throw new SQLException("No row mapped by the workers in " + WORKER_TIMEOUT_MILLIS + "ms");
+			}
+			return checkWorker(buffer);
+		}
+
+		private RowBuffer<T> checkWorker(RowBuffer<T> buffer) throws SQLException {
+			if (buffer == workerEnded) {
+				throw new SQLException("A mapping worker ended before the end of the ResultSet");
+			}
+			return buffer;
+		}
+
+		private void deliver(RowBuffer<T> buffer, RowHandler<? super T> handler) {
+			if (!ordered) {
+				handle(buffer, handler);
+				return;
+			}
+			pending[(int) (buffer.index % nbBuffers)] = buffer;
+			int next;
+			while((buffer = pending[next = (int) (nbDelivered % nbBuffers)]) != null) {
+				pending[next] = null;
+				handle(buffer, handler);
+			}
+		}
+
+		private void handle(RowBuffer<T> buffer, RowHandler<? super T> handler) {
+			nbDelivered++;
+			final T t = buffer.result;
+			final Throwable error = buffer.error;
+			buffer.result = null;
+			buffer.error = null;
+			freeBuffers.add(buffer);
+			if (error != null) {
+				ErrorHelper.rethrow(error);
+			}
+			try {
+				handler.handle(t);
+			} catch(Throwable e) {
+				errorHandler.handlerError(e, t);
+			}
+		}
+
+		@Override
+		public void run() {
+			if (Thread.currentThread() == callingThread) {
+				// would block the calling thread before it reads a row
+				nbInlineWorkers++;
+				return;
+			}
+			final BufferedRowResultSet row = rows.poll();
+			MappingContext<ResultSet> mappingContext = null;
+			Throwable contextError = null;
+			try {
+				mappingContext = mapper.newMappingContext(row);
+			} catch (Throwable e) {
+				contextError = e;
+			}
+			try {
+				RowBuffer<T> buffer;
+				while((buffer = toMap.take()) != poison) {
+					if (contextError != null) {
+						buffer.error = contextError;
+					} else {
+						try {
+							row.setRow(buffer.values);
+							buffer.result = mapper.map(row, mappingContext);
+						} catch (Throwable e) {
+							buffer.error = e;
+						}
+					}
+					mapped.add(buffer);
+				}
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				mapped.add(workerEnded);
+			}
+		}
+	}
+
+	private static final class DefaultExecutorHolder {
+		private static final ExecutorService EXECUTOR = Executors.newCachedThreadPool(new ThreadFactory() {
+			private final AtomicInteger counter = new AtomicInteger();
+			@Override
+			public Thread newThread(Runnable r) {
+				Thread thread = new Thread(r, "sfm-mapping-worker-" + counter.incrementAndGet());
+				thread.setDaemon(true);
+				return thread;
+			}
+		});
+	}
+
+	@Override
+	public String toString() {
+		return "PipelinedJdbcMapper{" +
+				"delegate=" + delegate +
+				", nbWorkers=" + nbWorkers +
+				", ordered=" + ordered +
+				'}';
+	}
+}
@@ -13,6 +13,10 @@ public final class BigDecimalResultSetGetter implements Getter<ResultSet, BigDec
 		this.column = column;
 	}
 
+	public int getColumn() {
+		return column;
+	}
+
 	@Override
 	public BigDecimal get(final ResultSet target) throws Exception {
 		return target.getBigDecimal(column);
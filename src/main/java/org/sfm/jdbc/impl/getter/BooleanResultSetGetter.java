@@ -14,6 +14,10 @@ public final class BooleanResultSetGetter implements BooleanGetter<ResultSet>, G
 		this.column = column;
 	}
 
+	public int getColumn() {
+		return column;
+	}
+
 	@Override
 	public boolean getBoolean(final ResultSet target) throws SQLException {
 		return target.getBoolean(column);
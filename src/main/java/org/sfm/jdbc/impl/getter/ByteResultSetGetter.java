@@ -14,6 +14,10 @@ public final class ByteResultSetGetter implements ByteGetter<ResultSet>, Getter<
 		this.column = column;
 	}
 
+	public int getColumn() {
+		return column;
+	}
+
 	@Override
 	public byte getByte(final ResultSet target) throws SQLException {
 		return target.getByte(column);
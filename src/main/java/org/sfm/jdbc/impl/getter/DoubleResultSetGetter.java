@@ -14,6 +14,10 @@ public final class DoubleResultSetGetter implements DoubleGetter<ResultSet>, Get
 		this.column = column;
 	}
 
+	public int getColumn() {
+		return column;
+	}
+
 	@Override
 	public double getDouble(final ResultSet target) throws SQLException {
 		return target.getDouble(column);
@@ -14,6 +14,10 @@ public final class FloatResultSetGetter implements FloatGetter<ResultSet>, Gette
 		this.column = column;
 	}
 
+	public int getColumn() {
+		return column;
+	}
+
 	@Override
 	public float getFloat(final ResultSet target) throws SQLException {
 		return target.getFloat(column);
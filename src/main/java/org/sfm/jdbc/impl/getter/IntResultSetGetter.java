@@ -14,6 +14,10 @@ public final class IntResultSetGetter implements IntGetter<ResultSet>, Getter<Re
 		this.column = column;
 	}
 
+	public int getColumn() {
+		return column;
+	}
+
 	@Override
 	public int getInt(final ResultSet target) throws SQLException {
 		return target.getInt(column);
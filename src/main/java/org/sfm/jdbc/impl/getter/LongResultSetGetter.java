@@ -15,6 +15,10 @@ public final class LongResultSetGetter implements LongGetter<ResultSet>,
 		this.column = column;
 	}
 
+	public int getColumn() {
+		return column;
+	}
+
 	@Override
 	public long getLong(final ResultSet target) throws SQLException {
 		return target.getLong(column);
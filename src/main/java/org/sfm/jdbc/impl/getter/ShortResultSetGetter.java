@@ -14,6 +14,10 @@ public final class ShortResultSetGetter implements ShortGetter<ResultSet>, Gette
 		this.column = column;
 	}
 
+	public int getColumn() {
+		return column;
+	}
+
 	@Override
 	public short getShort(final ResultSet target) throws SQLException {
 		return target.getShort(column);
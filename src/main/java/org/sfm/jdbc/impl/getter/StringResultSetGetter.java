@@ -12,6 +12,10 @@ public final class StringResultSetGetter implements Getter<ResultSet, String> {
 		this.column = column;
 	}
 
+	public int getColumn() {
+		return column;
+	}
+
 	public String get(final ResultSet target) throws SQLException {
 		return target.getString(column);
 	}
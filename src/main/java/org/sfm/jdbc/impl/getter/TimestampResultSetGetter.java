@@ -13,6 +13,10 @@ public final class TimestampResultSetGetter implements Getter<ResultSet, Timesta
 		this.column = column;
 	}
 
+	public int getColumn() {
+		return column;
+	}
+
 	public Timestamp get(final ResultSet target) throws SQLException {
 		return target.getTimestamp(column);
 	}
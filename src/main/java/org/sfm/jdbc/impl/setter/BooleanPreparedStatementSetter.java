@@ -0,0 +1,37 @@
+package org.sfm.jdbc.impl.setter;
+
+import org.sfm.reflect.Setter;
+import org.sfm.reflect.primitive.BooleanSetter;
+
+import java.sql.PreparedStatement;
+import java.sql.Types;
+
+public final class BooleanPreparedStatementSetter implements Setter<PreparedStatement, Boolean>, BooleanSetter<PreparedStatement> {
+
+	private final int index;
+
+	public BooleanPreparedStatementSetter(int index) {
+		this.index = index;
+	}
+
+	@Override
+	public void setBoolean(PreparedStatement target, boolean value) throws Exception {
+		target.setBoolean(index, value);
+	}
+
+	@Override
+	public void set(PreparedStatement target, Boolean value) throws Exception {
+		if (value == null) {
+			target.setNull(index, Types.BOOLEAN);
+		} else {
+			target.setBoolean(index, value);
+		}
+	}
+
+	@Override
+	public String toString() {
+		return "BooleanPreparedStatementSetter{" +
+				"index=" + index +
+				'}';
+	}
+}
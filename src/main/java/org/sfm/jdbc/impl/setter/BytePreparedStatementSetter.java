@@ -0,0 +1,37 @@
+package org.sfm.jdbc.impl.setter;
+
+import org.sfm.reflect.Setter;
+import org.sfm.reflect.primitive.ByteSetter;
+
+import java.sql.PreparedStatement;
+import java.sql.Types;
+
+public final class BytePreparedStatementSetter implements Setter<PreparedStatement, Byte>, ByteSetter<PreparedStatement> {
+
+	private final int index;
+
+	public BytePreparedStatementSetter(int index) {
+		this.index = index;
+	}
+
+	@Override
+	public void setByte(PreparedStatement target, byte value) throws Exception {
+		target.setByte(index, value);
+	}
+
+	@Override
+	public void set(PreparedStatement target, Byte value) throws Exception {
+		if (value == null) {
+			target.setNull(index, Types.TINYINT);
+		} else {
+			target.setByte(index, value);
+		}
+	}
+
+	@Override
+	public String toString() {
+		return "BytePreparedStatementSetter{" +
+				"index=" + index +
+				'}';
+	}
+}
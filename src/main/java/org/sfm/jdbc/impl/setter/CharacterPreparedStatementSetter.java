@@ -0,0 +1,37 @@
+package org.sfm.jdbc.impl.setter;
+
+import org.sfm.reflect.Setter;
+import org.sfm.reflect.primitive.CharacterSetter;
+
+import java.sql.PreparedStatement;
+import java.sql.Types;
+
+public final class CharacterPreparedStatementSetter implements Setter<PreparedStatement, Character>, CharacterSetter<PreparedStatement> {
+
+	private final int index;
+
+	public CharacterPreparedStatementSetter(int index) {
+		this.index = index;
+	}
+
+	@Override
+	public void setCharacter(PreparedStatement target, char value) throws Exception {
+		target.setInt(index, value);
+	}
+
+	@Override
+	public void set(PreparedStatement target, Character value) throws Exception {
+		if (value == null) {
+			target.setNull(index, Types.INTEGER);
+		} else {
+			target.setInt(index, value);
+		}
+	}
+
+	@Override
+	public String toString() {
+		return "CharacterPreparedStatementSetter{" +
+				"index=" + index +
+				'}';
+	}
+}
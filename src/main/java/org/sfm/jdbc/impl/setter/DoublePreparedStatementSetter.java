@@ -0,0 +1,37 @@
+package org.sfm.jdbc.impl.setter;
+
+import org.sfm.reflect.Setter;
+import org.sfm.reflect.primitive.DoubleSetter;
+
+import java.sql.PreparedStatement;
+import java.sql.Types;
+
+public final class DoublePreparedStatementSetter implements Setter<PreparedStatement, Double>, DoubleSetter<PreparedStatement> {
+
+	private final int index;
+
+	public DoublePreparedStatementSetter(int index) {
+		this.index = index;
+	}
+
+	@Override
+	public void setDouble(PreparedStatement target, double value) throws Exception {
+		target.setDouble(index, value);
+	}
+
+	@Override
+	public void set(PreparedStatement target, Double value) throws Exception {
+		if (value == null) {
+			target.setNull(index, Types.DOUBLE);
+		} else {
+			target.setDouble(index, value);
+		}
+	}
+
+	@Override
+	public String toString() {
+		return "DoublePreparedStatementSetter{" +
+				"index=" + index +
+				'}';
+	}
+}
@@ -0,0 +1,34 @@
+package org.sfm.jdbc.impl.setter;
+
+import org.sfm.reflect.Setter;
+
+import java.sql.PreparedStatement;
+import java.sql.Types;
+
+/**
+ * Bind the name of the enum.
+ */
+public final class EnumPreparedStatementSetter implements Setter<PreparedStatement, Enum<?>> {
+
+	private final int index;
+
+	public EnumPreparedStatementSetter(int index) {
+		this.index = index;
+	}
+
+	@Override
+	public void set(PreparedStatement target, Enum<?> value) throws Exception {
+		if (value == null) {
+			target.setNull(index, Types.VARCHAR);
+		} else {
+			target.setString(index, value.name());
+		}
+	}
+
+	@Override
+	public String toString() {
+		return "EnumPreparedStatementSetter{" +
+				"index=" + index +
+				'}';
+	}
+}
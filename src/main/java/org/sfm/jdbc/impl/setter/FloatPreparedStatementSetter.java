@@ -0,0 +1,37 @@
+package org.sfm.jdbc.impl.setter;
+
+import org.sfm.reflect.Setter;
+import org.sfm.reflect.primitive.FloatSetter;
+
+import java.sql.PreparedStatement;
+import java.sql.Types;
+
+public final class FloatPreparedStatementSetter implements Setter<PreparedStatement, Float>, FloatSetter<PreparedStatement> {
+
+	private final int index;
+
+	public FloatPreparedStatementSetter(int index) {
+		this.index = index;
+	}
+
+	@Override
+	public void setFloat(PreparedStatement target, float value) throws Exception {
+		target.setFloat(index, value);
+	}
+
+	@Override
+	public void set(PreparedStatement target, Float value) throws Exception {
+		if (value == null) {
+			target.setNull(index, Types.REAL);
+		} else {
+			target.setFloat(index, value);
+		}
+	}
+
+	@Override
+	public String toString() {
+		return "FloatPreparedStatementSetter{" +
+				"index=" + index +
+				'}';
+	}
+}
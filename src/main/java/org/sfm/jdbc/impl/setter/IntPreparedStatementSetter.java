@@ -0,0 +1,37 @@
+package org.sfm.jdbc.impl.setter;
+
+import org.sfm.reflect.Setter;
+import org.sfm.reflect.primitive.IntSetter;
+
+import java.sql.PreparedStatement;
+import java.sql.Types;
+
+public final class IntPreparedStatementSetter implements Setter<PreparedStatement, Integer>, IntSetter<PreparedStatement> {
+
+	private final int index;
+
+	public IntPreparedStatementSetter(int index) {
+		this.index = index;
+	}
+
+	@Override
+	public void setInt(PreparedStatement target, int value) throws Exception {
+		target.setInt(index, value);
+	}
+
+	@Override
+	public void set(PreparedStatement target, Integer value) throws Exception {
+		if (value == null) {
+			target.setNull(index, Types.INTEGER);
+		} else {
+			target.setInt(index, value);
+		}
+	}
+
+	@Override
+	public String toString() {
+		return "IntPreparedStatementSetter{" +
+				"index=" + index +
+				'}';
+	}
+}
@@ -0,0 +1,37 @@
+package org.sfm.jdbc.impl.setter;
+
+import org.sfm.reflect.Setter;
+import org.sfm.reflect.primitive.LongSetter;
+
+import java.sql.PreparedStatement;
+import java.sql.Types;
+
+public final class LongPreparedStatementSetter implements Setter<PreparedStatement, Long>, LongSetter<PreparedStatement> {
+
+	private final int index;
+
+	public LongPreparedStatementSetter(int index) {
+		this.index = index;
+	}
+
+	@Override
+	public void setLong(PreparedStatement target, long value) throws Exception {
+		target.setLong(index, value);
+	}
+
+	@Override
+	public void set(PreparedStatement target, Long value) throws Exception {
+		if (value == null) {
+			target.setNull(index, Types.BIGINT);
+		} else {
+			target.setLong(index, value);
+		}
+	}
+
+	@Override
+	public String toString() {
+		return "LongPreparedStatementSetter{" +
+				"index=" + index +
+				'}';
+	}
+}
@@ -0,0 +1,34 @@
+package org.sfm.jdbc.impl.setter;
+
+import org.sfm.reflect.Setter;
+
+import java.sql.PreparedStatement;
+import java.sql.Types;
+
+/**
+ * Bind the value with setObject, leaving the conversion to the driver.
+ */
+public final class ObjectPreparedStatementSetter implements Setter<PreparedStatement, Object> {
+
+	private final int index;
+
+	public ObjectPreparedStatementSetter(int index) {
+		this.index = index;
+	}
+
+	@Override
+	public void set(PreparedStatement target, Object value) throws Exception {
+		if (value == null) {
+			target.setNull(index, Types.NULL);
+		} else {
+			target.setObject(index, value);
+		}
+	}
+
+	@Override
+	public String toString() {
+		return "ObjectPreparedStatementSetter{" +
+				"index=" + index +
+				'}';
+	}
+}
@@ -0,0 +1,37 @@
+package org.sfm.jdbc.impl.setter;
+
+import org.sfm.reflect.Setter;
+import org.sfm.reflect.primitive.ShortSetter;
+
+import java.sql.PreparedStatement;
+import java.sql.Types;
+
+public final class ShortPreparedStatementSetter implements Setter<PreparedStatement, Short>, ShortSetter<PreparedStatement> {
+
+	private final int index;
+
+	public ShortPreparedStatementSetter(int index) {
+		this.index = index;
+	}
+
+	@Override
+	public void setShort(PreparedStatement target, short value) throws Exception {
+		target.setShort(index, value);
+	}
+
+	@Override
+	public void set(PreparedStatement target, Short value) throws Exception {
+		if (value == null) {
+			target.setNull(index, Types.SMALLINT);
+		} else {
+			target.setShort(index, value);
+		}
+	}
+
+	@Override
+	public String toString() {
+		return "ShortPreparedStatementSetter{" +
+				"index=" + index +
+				'}';
+	}
+}
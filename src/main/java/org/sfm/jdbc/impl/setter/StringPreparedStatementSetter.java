@@ -0,0 +1,31 @@
+package org.sfm.jdbc.impl.setter;
+
+import org.sfm.reflect.Setter;
+
+import java.sql.PreparedStatement;
+import java.sql.Types;
+
+public final class StringPreparedStatementSetter implements Setter<PreparedStatement, String> {
+
+	private final int index;
+
+	public StringPreparedStatementSetter(int index) {
+		this.index = index;
+	}
+
+	@Override
+	public void set(PreparedStatement target, String value) throws Exception {
+		if (value == null) {
+			target.setNull(index, Types.VARCHAR);
+		} else {
+			target.setString(index, value);
+		}
+	}
+
+	@Override
+	public String toString() {
+		return "StringPreparedStatementSetter{" +
+				"index=" + index +
+				'}';
+	}
+}
@@ -0,0 +1,42 @@
+package org.sfm.jdbc.impl.setter;
+
+import org.sfm.reflect.Setter;
+
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.Date;
+
+/**
+ * Bind a java.util.Date as a Timestamp, the java.sql.Date and Time are bound as is.
+ */
+public final class TimestampPreparedStatementSetter implements Setter<PreparedStatement, Date> {
+
+	private final int index;
+
+	public TimestampPreparedStatementSetter(int index) {
+		this.index = index;
+	}
+
+	@Override
+	public void set(PreparedStatement target, Date value) throws Exception {
+		if (value == null) {
+			target.setNull(index, Types.TIMESTAMP);
+		} else if (value instanceof Timestamp) {
+			target.setTimestamp(index, (Timestamp) value);
+		} else if (value instanceof java.sql.Date) {
+			target.setDate(index, (java.sql.Date) value);
+		} else if (value instanceof java.sql.Time) {
+			target.setTime(index, (java.sql.Time) value);
+		} else {
+			target.setTimestamp(index, new Timestamp(value.getTime()));
+		}
+	}
+
+	@Override
+	public String toString() {
+		return "TimestampPreparedStatementSetter{" +
+				"index=" + index +
+				'}';
+	}
+}
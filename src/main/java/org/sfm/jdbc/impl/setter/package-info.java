@@ -0,0 +1,4 @@
+/**
+ * Setters of the parameters of a PreparedStatement used by {@link org.sfm.jdbc.JdbcBinder}.
+ */
+package org.sfm.jdbc.impl.setter;
@@ -0,0 +1,15 @@
+package org.sfm.map;
+
+/**
+ * Eviction policy of the mapper cache of the dynamic mappers once its maximum size is reached.
+ */
+public enum CacheEvictionPolicy {
+	/**
+	 * evict a mapper not used since the previous eviction walked past it, an approximation of the least recently used one.
+	 */
+	LRU,
+	/**
+	 * evict a mapper with a low decaying use count, an approximation of the least frequently used one.
+	 */
+	LFU
+}
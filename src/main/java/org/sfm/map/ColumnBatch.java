@@ -0,0 +1,165 @@
+package org.sfm.map;
+
+import java.util.Arrays;
+
+/**
+ * Column oriented holder of a batch of rows, one array per mapped property of T.
+ * <p>
+ * int, short and byte properties are stored in an int[], long in a long[], double and float in a double[],
+ * boolean in a boolean[] and String in a String[]. A null value is stored as 0, false or null and flagged in the
+ * null bitmap of the column, see {@link #isNull(int, int)}.
+ * <p>
+ * The mappers fill the same instance batch after batch, the arrays are only valid until the RowHandler returns.
+ * @param <T> the type the properties are read from
+ */
+public final class ColumnBatch<T> {
+
+	public enum ColumnType {
+		INT, LONG, DOUBLE, BOOLEAN, STRING
+	}
+
+	private final String[] names;
+	private final ColumnType[] types;
+	private final Object[] columns;
+	private final long[][] nulls;
+	private final int capacity;
+	private int size;
+
+	public ColumnBatch(String[] names, ColumnType[] types, int capacity) {
+		if (capacity < 1) {
+			throw new IllegalArgumentException("capacity needs to be at least 1");
+		}
+		this.names = names;
+		this.types = types;
+		this.capacity = capacity;
+		this.columns = new Object[names.length];
+		this.nulls = new long[names.length][(capacity + 63) >>> 6];
+		for(int i = 0; i < columns.length; i++) {
+			switch (types[i]) {
+				case INT: columns[i] = new int[capacity]; break;
+				case LONG: columns[i] = new long[capacity]; break;
+				case DOUBLE: columns[i] = new double[capacity]; break;
+				case BOOLEAN: columns[i] = new boolean[capacity]; break;
+				default: columns[i] = new String[capacity]; break;
+			}
+		}
+	}
+
+	/**
+	 * @return the number of rows in the batch
+	 */
+	public int size() {
+		return size;
+	}
+
+	public void setSize(int size) {
+		this.size = size;
+	}
+
+	public int capacity() {
+		return capacity;
+	}
+
+	public int getNbColumns() {
+		return names.length;
+	}
+
+	public String getName(int column) {
+		return names[column];
+	}
+
+	public ColumnType getType(int column) {
+		return types[column];
+	}
+
+	/**
+	 * @param name the name of the property
+	 * @return the index of the column of the property or -1
+	 */
+	public int indexOf(String name) {
+		for(int i = 0; i < names.length; i++) {
+			if (names[i].equalsIgnoreCase(name)) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * @param column the index of the column
+	 * @return the array of the column, the type depends on the ColumnType of the column
+	 */
+	public Object getColumn(int column) {
+		return columns[column];
+	}
+
+	/**
+	 * @param column the index of the column
+	 * @param row the row in the batch
+	 * @return true if the value of the row is null
+	 */
+	public boolean isNull(int column, int row) {
+		return (nulls[column][row >>> 6] & (1L << (row & 63))) != 0;
+	}
+
+	/**
+	 * @param column the index of the column
+	 * @return the null bitmap of the column, the bit row % 64 of the word row / 64 is set if the value of row is null
+	 */
+	public long[] getNulls(int column) {
+		return nulls[column];
+	}
+
+	public void setNull(int column, int row) {
+		nulls[column][row >>> 6] |= 1L << (row & 63);
+	}
+
+	/**
+	 * clear the null bitmaps, called by the mappers before refilling the batch.
+	 */
+	public void clearNulls() {
+		for (long[] bitmap : nulls) {
+			Arrays.fill(bitmap, 0);
+		}
+	}
+
+	public int[] getIntColumn(String name) {
+		return (int[]) columns[checkedIndexOf(name, ColumnType.INT)];
+	}
+
+	public long[] getLongColumn(String name) {
+		return (long[]) columns[checkedIndexOf(name, ColumnType.LONG)];
+	}
+
+	public double[] getDoubleColumn(String name) {
+		return (double[]) columns[checkedIndexOf(name, ColumnType.DOUBLE)];
+	}
+
+	public boolean[] getBooleanColumn(String name) {
+		return (boolean[]) columns[checkedIndexOf(name, ColumnType.BOOLEAN)];
+	}
+
+	public String[] getStringColumn(String name) {
+		return (String[]) columns[checkedIndexOf(name, ColumnType.STRING)];
+	}
+
+	private int checkedIndexOf(String name, ColumnType type) {
+		int i = indexOf(name);
+		if (i == -1) {
+			throw new IllegalArgumentException("No column " + name + " in " + Arrays.toString(names));
+		}
+		if (types[i] != type) {
+			throw new IllegalArgumentException("Column " + name + " is of type " + types[i] + " not " + type);
+		}
+		return i;
+	}
+
+	@Override
+	public String toString() {
+		return "ColumnBatch{" +
+				"names=" + Arrays.toString(names) +
+				", types=" + Arrays.toString(types) +
+				", size=" + size +
+				'}';
+	}
+}
@@ -0,0 +1,135 @@
+package org.sfm.map;
+
+import java.lang.reflect.Type;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * MapperMetrics keeping the counters and the cumulated times of the events in memory.
+ * <p>
+ * <code>
+ *     InMemoryMapperMetrics metrics = new InMemoryMapperMetrics();<br>
+ *     JdbcMapper&lt;MyClass&gt; mapper = JdbcMapperFactory.newInstance().mapperMetrics(metrics).newMapper(MyClass.class);<br>
+ *     ...<br>
+ *     long rowsPerSecond = metrics.getRowsPerSecond();<br>
+ * </code>
+ */
+public final class InMemoryMapperMetrics implements MapperMetrics {
+
+	private final AtomicLong mapperBuiltCount = new AtomicLong();
+	private final AtomicLong mapperBuildNanos = new AtomicLong();
+	private final AtomicLong asmMapperCount = new AtomicLong();
+	private final AtomicLong asmMapperNanos = new AtomicLong();
+	private final AtomicLong asmMapperFailedCount = new AtomicLong();
+	private final AtomicLong cacheHitCount = new AtomicLong();
+	private final AtomicLong cacheMissCount = new AtomicLong();
+	private final AtomicLong rowCount = new AtomicLong();
+	private final AtomicLong rowNanos = new AtomicLong();
+	private final AtomicLong fieldErrorCount = new AtomicLong();
+
+	@Override
+	public void mapperBuilt(Type target, long nanos) {
+		mapperBuiltCount.incrementAndGet();
+		mapperBuildNanos.addAndGet(nanos);
+	}
+
+	@Override
+	public void asmMapperGenerated(Type target, long nanos) {
+		asmMapperCount.incrementAndGet();
+		asmMapperNanos.addAndGet(nanos);
+	}
+
+	@Override
+	public void asmMapperFailed(Type target, Exception error) {
+		asmMapperFailedCount.incrementAndGet();
+	}
+
+	@Override
+	public void cacheHit() {
+		cacheHitCount.incrementAndGet();
+	}
+
+	@Override
+	public void cacheMiss() {
+		cacheMissCount.incrementAndGet();
+	}
+
+	@Override
+	public void rowsMapped(long nbRows, long nanos) {
+		rowCount.addAndGet(nbRows);
+		rowNanos.addAndGet(nanos);
+	}
+
+	@Override
+	public void fieldError(Object key, Exception error) {
+		fieldErrorCount.incrementAndGet();
+	}
+
+	@Override
+	public boolean isEnabled() {
+		return true;
+	}
+
+	public long getMapperBuiltCount() {
+		return mapperBuiltCount.get();
+	}
+
+	public long getMapperBuildNanos() {
+		return mapperBuildNanos.get();
+	}
+
+	public long getAsmMapperCount() {
+		return asmMapperCount.get();
+	}
+
+	public long getAsmMapperNanos() {
+		return asmMapperNanos.get();
+	}
+
+	public long getAsmMapperFailedCount() {
+		return asmMapperFailedCount.get();
+	}
+
+	public long getCacheHitCount() {
+		return cacheHitCount.get();
+	}
+
+	public long getCacheMissCount() {
+		return cacheMissCount.get();
+	}
+
+	public long getRowCount() {
+		return rowCount.get();
+	}
+
+	public long getRowNanos() {
+		return rowNanos.get();
+	}
+
+	/**
+	 * @return the number of rows mapped per second of forEach, 0 if no rows were mapped
+	 */
+	public long getRowsPerSecond() {
+		final long nanos = rowNanos.get();
+		return nanos == 0 ? 0 : (long) (rowCount.get() * 1e9 / nanos);
+	}
+
+	public long getFieldErrorCount() {
+		return fieldErrorCount.get();
+	}
+
+	@Override
+	public String toString() {
+		return "InMemoryMapperMetrics{" +
+				"mapperBuiltCount=" + mapperBuiltCount +
+				", mapperBuildNanos=" + mapperBuildNanos +
+				", asmMapperCount=" + asmMapperCount +
+				", asmMapperNanos=" + asmMapperNanos +
+				", asmMapperFailedCount=" + asmMapperFailedCount +
+				", cacheHitCount=" + cacheHitCount +
+				", cacheMissCount=" + cacheMissCount +
+				", rowCount=" + rowCount +
+				", rowNanos=" + rowNanos +
+				", fieldErrorCount=" + fieldErrorCount +
+				'}';
+	}
+}
@@ -0,0 +1,57 @@
+package org.sfm.map;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Hit, miss and eviction counters of the mapper caches of the dynamic mappers.
+ * <p>
+ * The mappers created by the same factory share the same instance.
+ */
+public final class MapperCacheStats {
+
+	private final AtomicLong hitCount = new AtomicLong();
+	private final AtomicLong missCount = new AtomicLong();
+	private final AtomicLong evictionCount = new AtomicLong();
+
+	public void recordHit() {
+		hitCount.incrementAndGet();
+	}
+
+	public void recordMiss() {
+		missCount.incrementAndGet();
+	}
+
+	public void recordEviction() {
+		evictionCount.incrementAndGet();
+	}
+
+	/**
+	 * @return the number of lookups that found a mapper
+	 */
+	public long getHitCount() {
+		return hitCount.get();
+	}
+
+	/**
+	 * @return the number of lookups that did not find a mapper
+	 */
+	public long getMissCount() {
+		return missCount.get();
+	}
+
+	/**
+	 * @return the number of mappers evicted from the caches
+	 */
+	public long getEvictionCount() {
+		return evictionCount.get();
+	}
+
+	@Override
+	public String toString() {
+		return "MapperCacheStats{" +
+				"hitCount=" + hitCount +
+				", missCount=" + missCount +
+				", evictionCount=" + evictionCount +
+				'}';
+	}
+}
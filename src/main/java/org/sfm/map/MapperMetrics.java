@@ -0,0 +1,67 @@
+package org.sfm.map;
+
+import java.lang.reflect.Type;
+
+/**
+ * Callback of the mapper events, settable on the JdbcMapperFactory and the CsvMapperFactory.
+ * <p>
+ * The default implementation does nothing, {@link InMemoryMapperMetrics} keeps counters and timers that can be
+ * polled and bridged to a monitoring system. The implementations need to be thread safe.
+ */
+public interface MapperMetrics {
+
+	/**
+	 * called when a mapper has been built.
+	 * @param target the target type of the mapper
+	 * @param nanos the time taken to build the mapper, including the asm generation
+	 */
+	void mapperBuilt(Type target, long nanos);
+
+	/**
+	 * called when the asm mapper of a built mapper has been generated or loaded.
+	 * @param target the target type of the mapper
+	 * @param nanos the time taken to generate the asm mapper
+	 */
+	void asmMapperGenerated(Type target, long nanos);
+
+	/**
+	 * called when the asm mapper generated in the background for a dynamic mapper failed or could not be scheduled,
+	 * the dynamic mapper keeps using the reflection mapper.
+	 * @param target the target type of the mapper
+	 * @param error the generation error or the rejection of the executor
+	 */
+	void asmMapperFailed(Type target, Exception error);
+
+	/**
+	 * called when a dynamic mapper found the mapper of the columns in its cache.
+	 */
+	void cacheHit();
+
+	/**
+	 * called when a dynamic mapper needs to build the mapper of the columns.
+	 */
+	void cacheMiss();
+
+	/**
+	 * called at the end of a forEach on a dynamic mapper.
+	 * @param nbRows the number of objects passed to the RowHandler
+	 * @param nanos the time taken by the forEach
+	 */
+	void rowsMapped(long nbRows, long nanos);
+
+	/**
+	 * called when the mapping of a field fails.
+	 * <p>
+	 * With a FieldMapperErrorHandler handling the errors it is called before the handler with the column key.
+	 * The mappers do not catch the errors per field with the default rethrowing handler, the dynamic mappers then
+	 * report the error aborting the forEach with a null key.
+	 * @param key the column key, null if unknown
+	 * @param error the error
+	 */
+	void fieldError(Object key, Exception error);
+
+	/**
+	 * @return false if the mappers can skip the timing and the counting of the rows and of the field errors
+	 */
+	boolean isEnabled();
+}
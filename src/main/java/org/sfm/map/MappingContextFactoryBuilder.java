@@ -11,7 +11,6 @@ import org.sfm.utils.Predicate;
 
 import java.sql.SQLException;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
 
 public class MappingContextFactoryBuilder<S, K> {
@@ -222,7 +221,7 @@ public class MappingContextFactoryBuilder<S, K> {
             try {
                 if (keys.isEmpty()) return false;
                 for (int i = 0; i < keys.size(); i++) {
-                    if (keySourceGetter.getValue(keys.get(i), s) != null) {
+                    if (!isNull(keys.get(i), s)) {
                         return false;
                     }
                 }
@@ -232,12 +231,36 @@ public class MappingContextFactoryBuilder<S, K> {
                 throw new IllegalStateException();
             }
         }
+
+        private boolean isNull(K key, S s) throws SQLException {
+            if (keySourceGetter instanceof LongKeySourceGetter) {
+                final LongKeySourceGetter<K, S> longKeySourceGetter = (LongKeySourceGetter<K, S>) keySourceGetter;
+                if (longKeySourceGetter.isLongKey(key)) {
+                    longKeySourceGetter.getLongValue(key, s);
+                    return longKeySourceGetter.wasNull(s);
+                }
+            }
+            return keySourceGetter.getValue(key, s) == null;
+        }
     }
 
     public static interface KeySourceGetter<K, S> {
         public Object getValue(K key, S source) throws SQLException;
     }
 
+    /**
+     * KeySourceGetter that reads the integral keys as long, the break detection then compares them without boxing.
+     */
+    public static interface LongKeySourceGetter<K, S> extends KeySourceGetter<K, S> {
+        public boolean isLongKey(K key);
+        public long getLongValue(K key, S source) throws SQLException;
+
+        /**
+         * @return true if the last long value read was null
+         */
+        public boolean wasNull(S source) throws SQLException;
+    }
+
     private static class MappingContextFactoryImpl<S> implements MappingContextFactory<S> {
         private final BreakDetector<S>[] breakDetectors;
         private final BreakDetector<S> rootDetector;
@@ -252,18 +275,36 @@ public class MappingContextFactoryBuilder<S, K> {
         }
     }
 
+    /**
+     * Compare the keys with the keys of the previous row held in slots reused across the rows,
+     * the long keys are compared as primitive.
+     */
     private static class BreakDetectorImpl<S, K> implements BreakDetector<S> {
         private final KeySourceGetter<K, S> keySourceGetter;
+        private final LongKeySourceGetter<K, S> longKeySourceGetter;
         private final List<K> keys;
         private final BreakDetector<S> parent;
 
-        private Object[] lastValues;
+        private final boolean[] longKeys;
+        private final long[] lastLongValues;
+        private final boolean[] lastNullValues;
+        private final Object[] lastValues;
+        private boolean hasLastValues;
         private boolean isBroken = true;
 
+        @SuppressWarnings("unchecked")
         public BreakDetectorImpl(List<K> keys, KeySourceGetter<K, S> keySourceGetter, BreakDetector<S> parent) {
             this.keys = keys;
             this.keySourceGetter = keySourceGetter;
             this.parent = parent;
+            this.longKeySourceGetter = keySourceGetter instanceof LongKeySourceGetter ? (LongKeySourceGetter<K, S>) keySourceGetter : null;
+            this.longKeys = new boolean[keys.size()];
+            for(int i = 0; i < longKeys.length; i++) {
+                longKeys[i] = longKeySourceGetter != null && longKeySourceGetter.isLongKey(keys.get(i));
+            }
+            this.lastLongValues = new long[keys.size()];
+            this.lastNullValues = new boolean[keys.size()];
+            this.lastValues = new Object[keys.size()];
         }
 
         @Override
@@ -272,22 +313,32 @@ public class MappingContextFactoryBuilder<S, K> {
                 return;
             }
 
-            Object[] newValues = getValues(source);
+            final boolean changed = updateValues(source);
 
             isBroken = (parent != null && parent.isBroken())
-                    || lastValues == null
-                    || !Arrays.equals(lastValues, newValues);
-
-            lastValues = newValues;
+                    || changed;
         }
 
-        private Object[] getValues(S source) {
+        private boolean updateValues(S source) {
             try {
-                Object[] values = new Object[keys.size()];
-                for (int i = 0; i < values.length; i++) {
-                    values[i] = keySourceGetter.getValue(keys.get(i), source);
+                boolean changed = !hasLastValues;
+                for (int i = 0; i < lastValues.length; i++) {
+                    final K key = keys.get(i);
+                    if (longKeys[i]) {
+                        final long value = longKeySourceGetter.getLongValue(key, source);
+                        final boolean isNull = longKeySourceGetter.wasNull(source);
+                        changed = changed || value != lastLongValues[i] || isNull != lastNullValues[i];
+                        lastLongValues[i] = value;
+                        lastNullValues[i] = isNull;
+                    } else {
+                        final Object value = keySourceGetter.getValue(key, source);
+                        final Object last = lastValues[i];
+                        changed = changed || (value == null ? last != null : !value.equals(last));
+                        lastValues[i] = value;
+                    }
                 }
-                return values;
+                hasLastValues = true;
+                return changed;
             } catch (Exception e) {
                 return ErrorHelper.rethrow(e);
             }
@@ -301,7 +352,7 @@ public class MappingContextFactoryBuilder<S, K> {
         @Override
         public void markAsBroken() {
             isBroken = true;
-            lastValues = null;
+            hasLastValues = false;
         }
     }
 
@@ -0,0 +1,64 @@
+package org.sfm.map.impl;
+
+import org.sfm.map.MapperMetrics;
+
+import java.lang.reflect.Type;
+
+/**
+ * MapperMetrics of the asm mapper generated in the background by a dynamic mapper.
+ * <p>
+ * The mapper of the columns was already built and recorded with its reflection implementation,
+ * the build of the asm mapper only records the asm generation.
+ */
+public final class AsmCompilationMapperMetrics implements MapperMetrics {
+
+	private final MapperMetrics delegate;
+
+	public AsmCompilationMapperMetrics(MapperMetrics delegate) {
+		this.delegate = delegate;
+	}
+
+	@Override
+	public void mapperBuilt(Type target, long nanos) {
+	}
+
+	@Override
+	public void asmMapperGenerated(Type target, long nanos) {
+		delegate.asmMapperGenerated(target, nanos);
+	}
+
+	@Override
+	public void asmMapperFailed(Type target, Exception error) {
+		delegate.asmMapperFailed(target, error);
+	}
+
+	@Override
+	public void cacheHit() {
+		delegate.cacheHit();
+	}
+
+	@Override
+	public void cacheMiss() {
+		delegate.cacheMiss();
+	}
+
+	@Override
+	public void rowsMapped(long nbRows, long nanos) {
+		delegate.rowsMapped(nbRows, nanos);
+	}
+
+	@Override
+	public void fieldError(Object key, Exception error) {
+		delegate.fieldError(key, error);
+	}
+
+	@Override
+	public boolean isEnabled() {
+		return delegate.isEnabled();
+	}
+
+	@Override
+	public String toString() {
+		return "AsmCompilationMapperMetrics{delegate=" + delegate + "}";
+	}
+}
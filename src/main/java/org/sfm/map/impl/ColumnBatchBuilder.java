@@ -0,0 +1,89 @@
+package org.sfm.map.impl;
+
+import org.sfm.map.ColumnBatch;
+import org.sfm.map.ColumnDefinition;
+import org.sfm.map.FieldKey;
+import org.sfm.map.MapperBuilderErrorHandler;
+import org.sfm.reflect.TypeHelper;
+import org.sfm.reflect.meta.ClassMeta;
+import org.sfm.reflect.meta.PropertyFinder;
+import org.sfm.reflect.meta.PropertyMeta;
+import org.sfm.reflect.meta.PropertyNameMatcherFactory;
+
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Resolve the columns of a source against the properties of T to define the columns of a {@link ColumnBatch}.
+ * @param <T> the type the properties are read from
+ */
+public final class ColumnBatchBuilder<T> {
+
+	private final ClassMeta<T> classMeta;
+	private final PropertyFinder<T> propertyFinder;
+	private final PropertyNameMatcherFactory propertyNameMatcherFactory;
+	private final MapperBuilderErrorHandler mapperBuilderErrorHandler;
+
+	private final List<String> names = new ArrayList<String>();
+	private final List<ColumnBatch.ColumnType> types = new ArrayList<ColumnBatch.ColumnType>();
+
+	public ColumnBatchBuilder(ClassMeta<T> classMeta,
+							  PropertyNameMatcherFactory propertyNameMatcherFactory,
+							  MapperBuilderErrorHandler mapperBuilderErrorHandler) {
+		this.classMeta = classMeta;
+		this.propertyFinder = classMeta.newPropertyFinder();
+		this.propertyNameMatcherFactory = propertyNameMatcherFactory;
+		this.mapperBuilderErrorHandler = mapperBuilderErrorHandler;
+	}
+
+	/**
+	 * @param key the key of the source column
+	 * @param columnDefinition the definition of the column, its alias and ignore flag are applied
+	 * @param <K> the key type
+	 * @return the index of the column in the batch or -1 if the column is not mapped
+	 */
+	public <K extends FieldKey<K>> int addColumn(K key, ColumnDefinition<K, ?> columnDefinition) {
+		if (columnDefinition.ignore()) {
+			return -1;
+		}
+		final K mappedKey = columnDefinition.rename(key);
+		final PropertyMeta<T, ?> prop = propertyFinder.findProperty(propertyNameMatcherFactory.newInstance(mappedKey));
+		if (prop == null) {
+			mapperBuilderErrorHandler.propertyNotFound(classMeta.getType(), mappedKey.getName());
+			return -1;
+		}
+		final ColumnBatch.ColumnType type = columnType(prop.getType());
+		if (type == null) {
+			mapperBuilderErrorHandler.getterNotFound("No column type for " + mappedKey + " property type " + prop.getType());
+			return -1;
+		}
+		names.add(prop.getPath());
+		types.add(type);
+		return names.size() - 1;
+	}
+
+	public ColumnBatch.ColumnType getColumnType(int column) {
+		return types.get(column);
+	}
+
+	public ColumnBatch<T> newBatch(int capacity) {
+		return new ColumnBatch<T>(names.toArray(new String[0]), types.toArray(new ColumnBatch.ColumnType[0]), capacity);
+	}
+
+	private static ColumnBatch.ColumnType columnType(Type propertyType) {
+		final Class<?> clazz = TypeHelper.wrap(propertyType);
+		if (Integer.class.equals(clazz) || Short.class.equals(clazz) || Byte.class.equals(clazz)) {
+			return ColumnBatch.ColumnType.INT;
+		} else if (Long.class.equals(clazz)) {
+			return ColumnBatch.ColumnType.LONG;
+		} else if (Double.class.equals(clazz) || Float.class.equals(clazz)) {
+			return ColumnBatch.ColumnType.DOUBLE;
+		} else if (Boolean.class.equals(clazz)) {
+			return ColumnBatch.ColumnType.BOOLEAN;
+		} else if (String.class.equals(clazz)) {
+			return ColumnBatch.ColumnType.STRING;
+		}
+		return null;
+	}
+}
@@ -5,14 +5,23 @@ import java.util.Arrays;
 public final class ColumnsMapperKey {
 
 	private final String[] columns;
+	private final int hash;
 	public ColumnsMapperKey(final String... columns) {
 		this.columns = columns;
+		this.hash = Arrays.hashCode(columns);
 	}
 
 	@Override
 	public boolean equals(final Object obj) {
-		final String[] otherColumns = ((ColumnsMapperKey)obj).columns;
-        return Arrays.equals(columns, otherColumns);
+		if (this == obj) return true;
+		if (!(obj instanceof ColumnsMapperKey)) return false;
+		final ColumnsMapperKey other = (ColumnsMapperKey) obj;
+		return hash == other.hash && Arrays.equals(columns, other.columns);
+	}
+
+	@Override
+	public int hashCode() {
+		return hash;
 	}
 
 	public String[] getColumns() {
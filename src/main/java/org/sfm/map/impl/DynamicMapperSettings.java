@@ -0,0 +1,79 @@
+package org.sfm.map.impl;
+
+import org.sfm.map.CacheEvictionPolicy;
+import org.sfm.map.MapperCacheStats;
+import org.sfm.map.MapperMetrics;
+
+import java.util.concurrent.Executor;
+
+/**
+ * Settings of a dynamic mapper on top of the ones of the mapper builder it uses for each new set of columns,
+ * its mapper cache, the recycling of the instances, the metrics and the background asm generation.
+ * <p>
+ * <code>
+ *     new DynamicMapperSettings().mapperCacheSize(16).mapperMetrics(metrics).asmCompilationExecutor(executor);
+ * </code>
+ */
+public final class DynamicMapperSettings {
+
+	private int mapperCacheSize = MapperCache.DEFAULT_MAX_SIZE;
+	private CacheEvictionPolicy mapperCacheEvictionPolicy = CacheEvictionPolicy.LRU;
+	private MapperCacheStats mapperCacheStats = new MapperCacheStats();
+	private int recycledInstances = 0;
+	private int maxJoinedRows = 0;
+	private MapperMetrics mapperMetrics = NoOpMapperMetrics.INSTANCE;
+	private Executor asmCompilationExecutor = null;
+
+	public DynamicMapperSettings mapperCache(final int mapperCacheSize, final CacheEvictionPolicy mapperCacheEvictionPolicy,
+											 final MapperCacheStats mapperCacheStats) {
+		this.mapperCacheSize = mapperCacheSize;
+		this.mapperCacheEvictionPolicy = mapperCacheEvictionPolicy;
+		this.mapperCacheStats = mapperCacheStats;
+		return this;
+	}
+
+	public DynamicMapperSettings recycledInstances(final int recycledInstances) {
+		this.recycledInstances = recycledInstances;
+		return this;
+	}
+
+	public DynamicMapperSettings maxJoinedRows(final int maxJoinedRows) {
+		this.maxJoinedRows = maxJoinedRows;
+		return this;
+	}
+
+	public DynamicMapperSettings mapperMetrics(final MapperMetrics mapperMetrics) {
+		this.mapperMetrics = mapperMetrics;
+		return this;
+	}
+
+	/**
+	 * @param asmCompilationExecutor if not null a new set of columns is first mapped by a reflection mapper
+	 *                                  while the asm mapper is generated on the executor and replaces it in the cache
+	 * @return the current settings
+	 */
+	public DynamicMapperSettings asmCompilationExecutor(final Executor asmCompilationExecutor) {
+		this.asmCompilationExecutor = asmCompilationExecutor;
+		return this;
+	}
+
+	public <K, M> MapperCache<K, M> newMapperCache() {
+		return new MapperCache<K, M>(mapperCacheSize, mapperCacheEvictionPolicy, mapperCacheStats, mapperMetrics);
+	}
+
+	public int getRecycledInstances() {
+		return recycledInstances;
+	}
+
+	public int getMaxJoinedRows() {
+		return maxJoinedRows;
+	}
+
+	public MapperMetrics getMapperMetrics() {
+		return mapperMetrics;
+	}
+
+	public Executor getAsmCompilationExecutor() {
+		return asmCompilationExecutor;
+	}
+}
@@ -1,16 +1,42 @@
 package org.sfm.map.impl;
 
-import java.util.Arrays;
-import java.util.concurrent.atomic.AtomicReference;
+import org.sfm.map.CacheEvictionPolicy;
+import org.sfm.map.MapperCacheStats;
+import org.sfm.map.MapperMetrics;
 
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Concurrent cache of the mappers of a dynamic mapper indexed on the hash of the key.
+ * <p>
+ * Once the cache holds more than maxSize mappers an approximately least recently or least frequently used one
+ * is evicted. A hit only sets a saturating use counter on the entry - 1 for LRU, 15 for LFU - and does not write
+ * once the counter is saturated. The eviction walks a clock of the entries from the oldest one,
+ * halving the counter of the used ones and evicting the first unused one.
+ * @param <K> the key type
+ * @param <M> the mapper type
+ */
 public final class MapperCache<K, M> {
 
-	@SuppressWarnings("unchecked")
-	private final AtomicReference<CacheEntry<K, M>[]> mapperCache = new AtomicReference<CacheEntry<K, M>[]>(new CacheEntry[0]);
-	
+	public static final int DEFAULT_MAX_SIZE = Integer.MAX_VALUE;
+
+	private static final int LRU_MAX_USES = 1;
+	private static final int LFU_MAX_USES = 15;
+
+	private final ConcurrentMap<K, CacheEntry<K, M>> mapperCache = new ConcurrentHashMap<K, CacheEntry<K, M>>();
+	private final Queue<CacheEntry<K, M>> clock = new ConcurrentLinkedQueue<CacheEntry<K, M>>();
+	private final int maxSize;
+	private final int maxUses;
+	private final MapperCacheStats stats;
+	private final MapperMetrics mapperMetrics;
+
 	private static final class CacheEntry<K, M> {
 		final K key;
-		final M mapper;
+		volatile M mapper;
+		volatile int uses;
 		CacheEntry(final K key, final M mapper) {
 			this.key = key;
 			this.mapper = mapper;
@@ -23,41 +49,128 @@ public final class MapperCache<K, M> {
                     '}';
         }
     }
-	@SuppressWarnings("unchecked")
+
+	public MapperCache() {
+		this(DEFAULT_MAX_SIZE, CacheEvictionPolicy.LRU, new MapperCacheStats());
+	}
+
+	public MapperCache(int maxSize, CacheEvictionPolicy evictionPolicy, MapperCacheStats stats) {
+		this(maxSize, evictionPolicy, stats, NoOpMapperMetrics.INSTANCE);
+	}
+
+	public MapperCache(int maxSize, CacheEvictionPolicy evictionPolicy, MapperCacheStats stats, MapperMetrics mapperMetrics) {
+		if (maxSize < 1) {
+			throw new IllegalArgumentException("maxSize needs to be at least 1");
+		}
+		this.maxSize = maxSize;
+		this.maxUses = evictionPolicy == CacheEvictionPolicy.LFU ? LFU_MAX_USES : LRU_MAX_USES;
+		this.stats = stats;
+		this.mapperMetrics = mapperMetrics;
+	}
+
 	public void add(final K key, final M mapper) {
-		CacheEntry<K, M>[] entries;
-		CacheEntry<K, M>[] newEntries;
-		do {
-			entries = mapperCache.get();
-
-            for (CacheEntry<K, M> entry : entries) {
-                if (entry.key.equals(key)) {
-                    // already added
-                    return;
-                }
-            }
-			
-			newEntries = new CacheEntry[entries.length + 1];
-			
-			System.arraycopy(entries, 0, newEntries, 0, entries.length);
-			newEntries[entries.length] = new CacheEntry<K, M>(key, mapper);
-		
-		} while(!mapperCache.compareAndSet(entries, newEntries));
+		final CacheEntry<K, M> entry = new CacheEntry<K, M>(key, mapper);
+		if (mapperCache.putIfAbsent(key, entry) == null && maxSize != DEFAULT_MAX_SIZE) {
+			clock.offer(entry);
+			while (mapperCache.size() > maxSize) {
+				if (!evictOne(entry)) {
+					break;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Replace the mapper of key by newMapper if the cache still holds oldMapper for it,
+	 * the entry keeps its access statistics.
+	 * @param key the key
+	 * @param oldMapper the mapper expected in the cache
+	 * @param newMapper the mapper replacing it
+	 * @return true if the mapper was replaced, false if the key was evicted or maps to another mapper
+	 */
+	public boolean replace(final K key, final M oldMapper, final M newMapper) {
+		final CacheEntry<K, M> entry = mapperCache.get(key);
+		if (entry == null) {
+			return false;
+		}
+		synchronized (entry) {
+			if (entry.mapper != oldMapper) {
+				return false;
+			}
+			entry.mapper = newMapper;
+		}
+		return mapperCache.get(key) == entry;
+	}
+
+	/**
+	 * walk the clock until an unused entry other than the added one is evicted.
+	 * @return false if there was nothing to evict
+	 */
+	private boolean evictOne(CacheEntry<K, M> added) {
+		boolean othersSinceAdded = true;
+		CacheEntry<K, M> entry;
+		while ((entry = clock.poll()) != null) {
+			if (mapperCache.get(entry.key) != entry) {
+				// already removed
+				continue;
+			}
+			if (entry == added) {
+				if (!othersSinceAdded) {
+					clock.offer(entry);
+					return false;
+				}
+				othersSinceAdded = false;
+				clock.offer(entry);
+				continue;
+			}
+			othersSinceAdded = true;
+			final int uses = entry.uses;
+			if (uses > 0) {
+				// racy decay, an approximate count is enough to pick a victim
+				entry.uses = uses >> 1;
+				clock.offer(entry);
+			} else if (mapperCache.remove(entry.key, entry)) {
+				stats.recordEviction();
+				return true;
+			}
+		}
+		return false;
 	}
 
 	public M get(K key) {
-		final CacheEntry<K, M>[] entries = mapperCache.get();
-        for (final CacheEntry<K, M> entry : entries) {
-            if (entry.key.equals(key)) {
-                return entry.mapper;
-            }
-        }
-		return null;
+		final CacheEntry<K, M> entry = mapperCache.get(key);
+		if (entry == null) {
+			stats.recordMiss();
+			mapperMetrics.cacheMiss();
+			return null;
+		}
+		stats.recordHit();
+		mapperMetrics.cacheHit();
+		if (maxSize != DEFAULT_MAX_SIZE) {
+			recordAccess(entry);
+		}
+		return entry.mapper;
+	}
+
+	private void recordAccess(CacheEntry<K, M> entry) {
+		// racy increment, only written until saturated so the hits on a hot entry do not contend
+		final int uses = entry.uses;
+		if (uses < maxUses) {
+			entry.uses = uses + 1;
+		}
+	}
+
+	public int size() {
+		return mapperCache.size();
+	}
+
+	public MapperCacheStats getStats() {
+		return stats;
 	}
 
     @Override
     public String toString() {
-        return "MapperCache{" + Arrays.toString(mapperCache.get()) +
+        return "MapperCache{" + mapperCache.values() +
                 '}';
     }
 }
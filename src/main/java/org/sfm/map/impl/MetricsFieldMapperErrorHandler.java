@@ -0,0 +1,54 @@
+package org.sfm.map.impl;
+
+import org.sfm.map.FieldMapperErrorHandler;
+import org.sfm.map.MapperMetrics;
+import org.sfm.map.MappingException;
+import org.sfm.utils.ErrorHelper;
+
+/**
+ * Record the field error in the MapperMetrics before calling the delegate, rethrow the error if there is no delegate.
+ * @param <K> the key type
+ */
+public final class MetricsFieldMapperErrorHandler<K> implements FieldMapperErrorHandler<K> {
+
+	private final FieldMapperErrorHandler<K> delegate;
+	private final MapperMetrics mapperMetrics;
+
+	public MetricsFieldMapperErrorHandler(FieldMapperErrorHandler<K> delegate, MapperMetrics mapperMetrics) {
+		this.delegate = delegate;
+		this.mapperMetrics = mapperMetrics;
+	}
+
+	/**
+	 * Only a handler that handles the errors is wrapped, the mappers already catch the errors per field for it.
+	 * A null or rethrowing handler is returned as is so the mappers keep their shape without error handling,
+	 * the dynamic mappers then record the error aborting the mapping.
+	 * @return the handler recording the errors in mapperMetrics, fieldMapperErrorHandler if the metrics are disabled
+	 * or if it does not handle the errors
+	 */
+	public static <K> FieldMapperErrorHandler<K> wrap(FieldMapperErrorHandler<K> fieldMapperErrorHandler, MapperMetrics mapperMetrics) {
+		if (mapperMetrics.isEnabled()
+				&& fieldMapperErrorHandler != null
+				&& !(fieldMapperErrorHandler instanceof RethrowFieldMapperErrorHandler)) {
+			return new MetricsFieldMapperErrorHandler<K>(fieldMapperErrorHandler, mapperMetrics);
+		}
+		return fieldMapperErrorHandler;
+	}
+
+	@Override
+	public void errorMappingField(K key, Object source, Object target, Exception error) throws MappingException {
+		mapperMetrics.fieldError(key, error);
+		if (delegate == null) {
+			ErrorHelper.rethrow(error);
+		} else {
+			delegate.errorMappingField(key, source, target, error);
+		}
+	}
+
+	@Override
+	public String toString() {
+		return "MetricsFieldMapperErrorHandler{" +
+				"delegate=" + delegate +
+				'}';
+	}
+}
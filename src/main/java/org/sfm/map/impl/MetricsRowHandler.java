@@ -0,0 +1,41 @@
+package org.sfm.map.impl;
+
+import org.sfm.utils.RowHandler;
+
+/**
+ * Count the objects passed to the delegate RowHandler and keep the last error it threw.
+ * @param <T> the row type
+ */
+public final class MetricsRowHandler<T> implements RowHandler<T> {
+
+	private final RowHandler<? super T> delegate;
+	private long nbRows;
+	private Exception handlerError;
+
+	public MetricsRowHandler(RowHandler<? super T> delegate) {
+		this.delegate = delegate;
+	}
+
+	@Override
+	public void handle(T t) throws Exception {
+		nbRows++;
+		try {
+			delegate.handle(t);
+		} catch (Exception e) {
+			handlerError = e;
+			throw e;
+		}
+	}
+
+	/**
+	 * @param error the error thrown by the forEach
+	 * @return true if the error was not thrown by the delegate RowHandler
+	 */
+	public boolean isMappingError(Throwable error) {
+		return error != handlerError;
+	}
+
+	public long getNbRows() {
+		return nbRows;
+	}
+}
@@ -0,0 +1,56 @@
+package org.sfm.map.impl;
+
+import org.sfm.map.MapperMetrics;
+
+import java.lang.reflect.Type;
+
+/**
+ * MapperMetrics ignoring all the events, the default of the factories.
+ * <p>
+ * The mappers do not time nor count the rows and the field errors when the metrics are disabled.
+ */
+public final class NoOpMapperMetrics implements MapperMetrics {
+
+	public static final NoOpMapperMetrics INSTANCE = new NoOpMapperMetrics();
+
+	private NoOpMapperMetrics() {
+	}
+
+	@Override
+	public void mapperBuilt(Type target, long nanos) {
+	}
+
+	@Override
+	public void asmMapperGenerated(Type target, long nanos) {
+	}
+
+	@Override
+	public void asmMapperFailed(Type target, Exception error) {
+	}
+
+	@Override
+	public void cacheHit() {
+	}
+
+	@Override
+	public void cacheMiss() {
+	}
+
+	@Override
+	public void rowsMapped(long nbRows, long nanos) {
+	}
+
+	@Override
+	public void fieldError(Object key, Exception error) {
+	}
+
+	@Override
+	public boolean isEnabled() {
+		return false;
+	}
+
+	@Override
+	public String toString() {
+		return "NoOpMapperMetrics{}";
+	}
+}
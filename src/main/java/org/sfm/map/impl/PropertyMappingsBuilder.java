@@ -158,6 +158,23 @@ public final class PropertyMappingsBuilder<T, K extends FieldKey<K>, D extends C
 		return properties.get(i);
 	}
 
+    /**
+     * @return true if a property, or the owner of a sub property, is injected through the constructor
+     */
+    public boolean hasConstructorProperties() {
+        for (PropertyMapping<T, ?, K, D> property : properties) {
+            if (property != null) {
+                PropertyMeta<T, ?> propertyMeta = property.getPropertyMeta();
+                if (propertyMeta != null
+                        && (propertyMeta.isConstructorProperty()
+                            || (propertyMeta.isSubProperty() && ((SubPropertyMeta<T, ?>) propertyMeta).getOwnerProperty().isConstructorProperty()))) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
     public boolean isDirectProperty() {
         return  (properties.size() == 1 && properties.get(0) != null && properties.get(0).getPropertyMeta() instanceof DirectClassMeta.DirectPropertyMeta);
     }
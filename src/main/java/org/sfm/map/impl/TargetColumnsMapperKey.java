@@ -6,17 +6,26 @@ public final class TargetColumnsMapperKey {
 
 	private final String[] columns;
 	private final Class<?> target;
+	private final int hash;
 	public TargetColumnsMapperKey(final Class<?> target, final String... columns) {
 		this.columns = columns;
 		this.target = target;
+		this.hash = 31 * target.hashCode() + Arrays.hashCode(columns);
 	}
 
 	@Override
 	public boolean equals(final Object obj) {
+		if (this == obj) return true;
+		if (!(obj instanceof TargetColumnsMapperKey)) return false;
         TargetColumnsMapperKey targetColumnsMapperKey = (TargetColumnsMapperKey) obj;
-        return target == targetColumnsMapperKey.target && Arrays.equals(columns, targetColumnsMapperKey.columns);
+        return hash == targetColumnsMapperKey.hash && target == targetColumnsMapperKey.target && Arrays.equals(columns, targetColumnsMapperKey.columns);
     }
 
+	@Override
+	public int hashCode() {
+		return hash;
+	}
+
 	public String[] getColumns() {
 		return columns;
 	}
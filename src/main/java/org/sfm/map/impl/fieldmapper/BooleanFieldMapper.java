@@ -21,6 +21,14 @@ public final class BooleanFieldMapper<S, T> implements FieldMapper<S, T> {
 		setter.setBoolean(target, getter.getBoolean(source));
 	}
 
+	public BooleanGetter<S> getGetter() {
+		return getter;
+	}
+
+	public BooleanSetter<T> getSetter() {
+		return setter;
+	}
+
     @Override
     public String toString() {
         return "BooleanFieldMapper{" +
@@ -21,6 +21,14 @@ public final class ByteFieldMapper<S, T> implements FieldMapper<S, T> {
         setter.setByte(target, getter.getByte(source));
 	}
 
+	public ByteGetter<S> getGetter() {
+		return getter;
+	}
+
+	public ByteSetter<T> getSetter() {
+		return setter;
+	}
+
     @Override
     public String toString() {
         return "ByteFieldMapper{" +
@@ -20,6 +20,14 @@ public final class DoubleFieldMapper<S, T> implements FieldMapper<S, T> {
 		setter.setDouble(target, getter.getDouble(source));
 	}
 
+	public DoubleGetter<S> getGetter() {
+		return getter;
+	}
+
+	public DoubleSetter<T> getSetter() {
+		return setter;
+	}
+
     @Override
     public String toString() {
         return "DoubleFieldMapper{" +
@@ -21,6 +21,14 @@ public final class FieldMapperImpl<S, T, P> implements FieldMapper<S, T> {
 		setter.set(target, value);
 	}
 
+	public Getter<S, ? extends P> getGetter() {
+		return getter;
+	}
+
+	public Setter<T, ? super P> getSetter() {
+		return setter;
+	}
+
     @Override
     public String toString() {
         return "FieldMapperImpl{" +
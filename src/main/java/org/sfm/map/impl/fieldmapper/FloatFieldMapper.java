@@ -20,6 +20,14 @@ public final class FloatFieldMapper<S, T> implements FieldMapper<S, T> {
         setter.setFloat(target, getter.getFloat(source));
 	}
 
+	public FloatGetter<S> getGetter() {
+		return getter;
+	}
+
+	public FloatSetter<T> getSetter() {
+		return setter;
+	}
+
     @Override
     public String toString() {
         return "FloatFieldMapper{" +
@@ -20,6 +20,14 @@ public final class ShortFieldMapper<S, T> implements FieldMapper<S, T> {
         setter.setShort(target, getter.getShort(source));
 	}
 
+	public ShortGetter<S> getGetter() {
+		return getter;
+	}
+
+	public ShortSetter<T> getSetter() {
+		return setter;
+	}
+
     @Override
     public String toString() {
         return "ShortFieldMapper{" +
@@ -1,6 +1,11 @@
 package org.sfm.reflect;
 
+import org.sfm.reflect.impl.GetterOnGetter;
+import org.sfm.reflect.meta.PropertyMeta;
+import org.sfm.reflect.meta.SubPropertyMeta;
+
 import java.lang.reflect.Modifier;
+import java.lang.reflect.Type;
 
 public class GetterHelper {
 
@@ -32,4 +37,28 @@ public class GetterHelper {
             return name.substring(3, 4).toLowerCase() + name.substring(4);
         }
 	}
+
+	/**
+	 * @return the getter of the property, for a sub property the getter of the owner property chained with the getter
+	 * of the sub property
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T> Getter<T, ?> getPropertyGetter(final PropertyMeta<T, ?> propertyMeta) {
+		if (propertyMeta instanceof SubPropertyMeta) {
+			final SubPropertyMeta<T, Object> subPropertyMeta = (SubPropertyMeta<T, Object>) propertyMeta;
+			return new GetterOnGetter<T, Object, Object>(subPropertyMeta.getOwnerProperty().getGetter(),
+					(Getter<Object, ?>) getPropertyGetter(subPropertyMeta.getSubProperty()));
+		}
+		return propertyMeta.getGetter();
+	}
+
+	/**
+	 * @return the type of the property, for a sub property the type of the sub property
+	 */
+	public static Type getPropertyType(final PropertyMeta<?, ?> propertyMeta) {
+		if (propertyMeta instanceof SubPropertyMeta) {
+			return getPropertyType(((SubPropertyMeta<?, ?>) propertyMeta).getSubProperty());
+		}
+		return propertyMeta.getType();
+	}
 }
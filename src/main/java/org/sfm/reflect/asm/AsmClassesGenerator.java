@@ -0,0 +1,52 @@
+package org.sfm.reflect.asm;
+
+import java.io.File;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+
+/**
+ * Generate the asm classes ahead of time.
+ * <p>
+ * Runs the main method of a warm up class that builds the mappers of the application, every class generated by the
+ * {@link AsmFactory} while it runs is written to the output directory with the {@link AsmUtils#PRECOMPILED_CLASSES_INDEX}.
+ * Once the output directory is packaged on the classpath the AsmFactory loads those classes instead of generating them.
+ * <p>
+ * <code>
+ *     java -cp app.jar:sfm.jar:asm.jar org.sfm.reflect.asm.AsmClassesGenerator target/sfm-classes com.example.MapperWarmUp [args]
+ * </code>
+ */
+public final class AsmClassesGenerator {
+
+	private AsmClassesGenerator() {
+	}
+
+	public static void main(String[] args) throws Throwable {
+		if (args.length < 2) {
+			System.err.println("Usage: AsmClassesGenerator <outputDir> <warmUpMainClass> [args...]");
+			System.exit(1);
+			return;
+		}
+		generate(new File(args[0]), args[1], Arrays.copyOfRange(args, 2, args.length));
+	}
+
+	/**
+	 * Run the main method of the warm up class and write the generated classes to outputDir.
+	 * @param outputDir the directory the classes and index are written to
+	 * @param warmUpClass the class with a main method creating the mappers
+	 * @param args the arguments of the main method
+	 * @throws Throwable if the warm up fails
+	 */
+	public static void generate(File outputDir, String warmUpClass, String[] args) throws Throwable {
+		AsmUtils.setTargetDir(outputDir);
+		try {
+			ClassLoader cl = Thread.currentThread().getContextClassLoader();
+			Method main = Class.forName(warmUpClass, true, cl != null ? cl : AsmClassesGenerator.class.getClassLoader()).getMethod("main", String[].class);
+			main.invoke(null, (Object) args);
+		} catch (InvocationTargetException e) {
+			throw e.getCause();
+		} finally {
+			AsmUtils.setTargetDir(null);
+		}
+	}
+}
@@ -2,6 +2,7 @@ package org.sfm.reflect.asm;
 
 import org.sfm.csv.CsvColumnKey;
 import org.sfm.csv.impl.*;
+import org.sfm.jdbc.JdbcBinder;
 import org.sfm.jdbc.JdbcColumnKey;
 import org.sfm.jdbc.JdbcMapper;
 import org.sfm.map.FieldMapperErrorHandler;
@@ -10,29 +11,120 @@ import org.sfm.map.RowHandlerErrorHandler;
 import org.sfm.map.FieldMapper;
 import org.sfm.map.impl.RethrowFieldMapperErrorHandler;
 import org.sfm.reflect.*;
+import org.sfm.reflect.impl.FieldSetter;
+import org.sfm.reflect.impl.MethodSetter;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
+import java.lang.reflect.Member;
 import java.lang.reflect.Method;
 import java.lang.reflect.Type;
+import java.net.URL;
+import java.security.MessageDigest;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Enumeration;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
-import java.util.concurrent.atomic.AtomicLong;
 
+/**
+ * Generate and load the asm getters, setters, instantiators and mappers.
+ * <p>
+ * The class names are derived from the inputs of the generation so the same mapping always produces the same class.
+ * The inputs include the library version and the layout of the target class, a precompiled class generated by another
+ * version of the library or against another version of the target class is not loaded.
+ * The classes listed in the {@link AsmUtils#PRECOMPILED_CLASSES_INDEX} resources of the class loader, written by
+ * {@link AsmClassesGenerator}, are loaded from the class loader instead of being generated.
+ */
 public class AsmFactory {
     private final FactoryClassLoader factoryClassLoader;
+    private final Set<String> precompiledClasses;
 	private final ConcurrentMap<Object, Setter<?, ?>> setterCache = new ConcurrentHashMap<Object, Setter<?, ?>>();
+	private final ConcurrentMap<Object, Member> setterMembers = new ConcurrentHashMap<Object, Member>();
     private final ConcurrentMap<Object, Getter<?, ?>> getterCache = new ConcurrentHashMap<Object, Getter<?, ?>>();
 	private final ConcurrentMap<InstantiatorKey, Class<? extends Instantiator<?, ?>>> instantiatorCache = new ConcurrentHashMap<InstantiatorKey, Class<? extends Instantiator<?, ?>>>();
     private final ConcurrentMap<JdbcMapperKey, Class<? extends JdbcMapper<?>>> jdbcMapperCache = new ConcurrentHashMap<JdbcMapperKey, Class<? extends JdbcMapper<?>>>();
+    private final ConcurrentMap<JdbcMapperKey, Class<? extends JdbcBinder<?>>> jdbcBinderCache = new ConcurrentHashMap<JdbcMapperKey, Class<? extends JdbcBinder<?>>>();
     private final ConcurrentMap<CsvMapperKey, Class<? extends CsvMapperCellHandlerFactory<?>>> csvMapperCache = new ConcurrentHashMap<CsvMapperKey, Class<? extends CsvMapperCellHandlerFactory<?>>>();
 
+	private final boolean inlineJdbcMappers;
+	private final boolean inlineCsvCellHandlers;
+
 	public AsmFactory(ClassLoader cl) {
+		this(cl, true);
+	}
+
+	/**
+	 * @param cl the class loader
+	 * @param inline if true the jdbc mappers call the ResultSet getters and the setter methods directly
+	 *               when the field mappers allow it instead of calling the FieldMapper, and the csv cell handlers
+	 *               parse the cells and call the setters directly instead of calling the CellSetter
+	 */
+	public AsmFactory(ClassLoader cl, boolean inline) {
+		this(cl, inline, inline);
+	}
+
+	/**
+	 * @param cl the class loader
+	 * @param inlineJdbcMappers if true the jdbc mappers call the ResultSet getters and the setter methods directly
+	 *                          when the field mappers allow it instead of calling the FieldMapper
+	 * @param inlineCsvCellHandlers if true the csv cell handlers parse the cells and call the setter methods or write
+	 *                              the fields directly when the cell setters allow it instead of calling the CellSetter
+	 */
+	public AsmFactory(ClassLoader cl, boolean inlineJdbcMappers, boolean inlineCsvCellHandlers) {
+		this.inlineJdbcMappers = inlineJdbcMappers;
+		this.inlineCsvCellHandlers = inlineCsvCellHandlers;
 		factoryClassLoader = new FactoryClassLoader(cl);
+		precompiledClasses = readPrecompiledClasses(cl != null ? cl : AsmFactory.class.getClassLoader());
+	}
+
+	private static Set<String> readPrecompiledClasses(ClassLoader cl) {
+		Set<String> classes = new HashSet<String>();
+		try {
+			Enumeration<URL> indexes = cl.getResources(AsmUtils.PRECOMPILED_CLASSES_INDEX);
+			while(indexes.hasMoreElements()) {
+				BufferedReader reader = new BufferedReader(new InputStreamReader(indexes.nextElement().openStream(), "UTF-8"));
+				try {
+					String line;
+					while((line = reader.readLine()) != null) {
+						line = line.trim();
+						if (line.length() > 0) {
+							classes.add(line);
+						}
+					}
+				} finally {
+					reader.close();
+				}
+			}
+		} catch (IOException e) {
+			// no precompiled classes, everything will be generated
+		}
+		return classes;
+	}
+
+	private Class<?> findPrecompiledClass(String className) {
+		if (precompiledClasses.contains(className)) {
+			try {
+				return factoryClassLoader.loadClass(className);
+			} catch (ClassNotFoundException e) {
+				// listed but not visible, generate it
+			}
+		}
+		return null;
 	}
 	
 	@SuppressWarnings("unchecked")
@@ -40,22 +132,52 @@ public class AsmFactory {
 		Setter<T,P> setter = (Setter<T, P>) setterCache.get(m);
 		if (setter == null) {
 			final String className = generateClassNameForSetter(m);
-			final byte[] bytes = generateSetterByteCodes(m, className);
-            final Class<?> type = createClass(className, bytes, m.getDeclaringClass().getClassLoader());
+			Class<?> type = findPrecompiledClass(className);
+			if (type == null) {
+				type = createClass(className, generateSetterByteCodes(m, className), m.getDeclaringClass().getClassLoader());
+			}
             setter = (Setter<T, P>) type.newInstance();
+			setterMembers.put(setter, m);
 			setterCache.putIfAbsent(m, setter);
 		}
 		return setter;
 	}
 
+	/**
+	 * @param setter the setter
+	 * @return the method called by the setter if it was created by this factory or is a MethodSetter, null otherwise
+	 */
+	Method getSetterMethod(Object setter) {
+		if (setter instanceof MethodSetter) {
+			return ((MethodSetter<?, ?>) setter).getMethod();
+		}
+		final Member member = setter != null ? setterMembers.get(setter) : null;
+		return member instanceof Method ? (Method) member : null;
+	}
+
+	/**
+	 * @param setter the setter
+	 * @return the field written by the setter if it was created by this factory or is a FieldSetter, null otherwise
+	 */
+	Field getSetterField(Object setter) {
+		if (setter instanceof FieldSetter) {
+			return ((FieldSetter<?, ?>) setter).getField();
+		}
+		final Member member = setter != null ? setterMembers.get(setter) : null;
+		return member instanceof Field ? (Field) member : null;
+	}
+
     @SuppressWarnings("unchecked")
     public <T, P> Setter<T,P> createSetter(Field field) throws Exception {
         Setter<T,P> setter = (Setter<T, P>) setterCache.get(field);
         if (setter == null) {
             final String className = generateClassNameForSetter(field);
-            final byte[] bytes = generateSetterByteCodes(field, className);
-            final Class<?> type = createClass(className, bytes, field.getDeclaringClass().getClassLoader());
+            Class<?> type = findPrecompiledClass(className);
+            if (type == null) {
+                type = createClass(className, generateSetterByteCodes(field, className), field.getDeclaringClass().getClassLoader());
+            }
             setter = (Setter<T, P>) type.newInstance();
+            setterMembers.put(setter, field);
             setterCache.putIfAbsent(field, setter);
         }
         return setter;
@@ -71,8 +193,10 @@ public class AsmFactory {
         Getter<T,P> getter = (Getter<T, P>) getterCache.get(m);
         if (getter == null) {
             final String className = generateClassNameForGetter(m);
-            final byte[] bytes = generateGetterByteCodes(m, className);
-            final Class<?> type = createClass(className, bytes, m.getDeclaringClass().getClassLoader());
+            Class<?> type = findPrecompiledClass(className);
+            if (type == null) {
+                type = createClass(className, generateGetterByteCodes(m, className), m.getDeclaringClass().getClassLoader());
+            }
             getter = (Getter<T, P>) type.newInstance();
             getterCache.putIfAbsent(m, getter);
         }
@@ -84,8 +208,10 @@ public class AsmFactory {
         Getter<T,P> getter = (Getter<T, P>) getterCache.get(m);
         if (getter == null) {
             final String className = generateClassNameForGetter(m);
-            final byte[] bytes = generateGetterByteCodes(m, className);
-            final Class<?> type = createClass(className, bytes, m.getDeclaringClass().getClassLoader());
+            Class<?> type = findPrecompiledClass(className);
+            if (type == null) {
+                type = createClass(className, generateGetterByteCodes(m, className), m.getDeclaringClass().getClassLoader());
+            }
             getter = (Getter<T, P>) type.newInstance();
             getterCache.putIfAbsent(m, getter);
         }
@@ -133,9 +259,12 @@ public class AsmFactory {
 		InstantiatorKey instantiatorKey = new InstantiatorKey(target, source);
 		Class<? extends Instantiator<?, ?>> instantiatorType = instantiatorCache.get(instantiatorKey);
 		if (instantiatorType == null) {
-			final String className = generateClassNameForInstantiator(instantiatorKey);
-			final byte[] bytes = ConstructorBuilder.createEmptyConstructor(className, source, target);
-			instantiatorType = (Class<? extends Instantiator<?, ?>>) createClass(className, bytes, target.getClassLoader());
+			final String className = generateClassNameForInstantiator(instantiatorKey, Collections.<Parameter, Getter<S, ?>>emptyMap());
+			instantiatorType = (Class<? extends Instantiator<?, ?>>) findPrecompiledClass(className);
+			if (instantiatorType == null) {
+				final byte[] bytes = ConstructorBuilder.createEmptyConstructor(className, source, target);
+				instantiatorType = (Class<? extends Instantiator<?, ?>>) createClass(className, bytes, target.getClassLoader());
+			}
 			instantiatorCache.putIfAbsent(instantiatorKey, instantiatorType);
 		}
 		return  (Instantiator<S, T>) instantiatorType.newInstance();
@@ -146,9 +275,13 @@ public class AsmFactory {
 		InstantiatorKey instantiatorKey = new InstantiatorKey(instantiatorDefinition, injections.keySet(), source);
 		Class<? extends Instantiator<?, ?>> instantiator = instantiatorCache.get(instantiatorKey);
 		if (instantiator == null) {
-			final String className = generateClassNameForInstantiator(instantiatorKey);
-			final byte[] bytes = InstantiatorBuilder.createInstantiator(className, source, instantiatorDefinition, injections);
-			instantiator = (Class<? extends Instantiator<?, ?>>) createClass(className, bytes, instantiatorDefinition.getExecutable().getDeclaringClass().getClassLoader());
+			final Map<Parameter, Getter<S, ?>> sortedInjections = sortByName(injections);
+			final String className = generateClassNameForInstantiator(instantiatorKey, sortedInjections);
+			instantiator = (Class<? extends Instantiator<?, ?>>) findPrecompiledClass(className);
+			if (instantiator == null) {
+				final byte[] bytes = InstantiatorBuilder.createInstantiator(className, source, instantiatorDefinition, sortedInjections);
+				instantiator = (Class<? extends Instantiator<?, ?>>) createClass(className, bytes, instantiatorDefinition.getExecutable().getDeclaringClass().getClassLoader());
+			}
 			instantiatorCache.put(instantiatorKey, instantiator);
 		}
 
@@ -159,6 +292,22 @@ public class AsmFactory {
 
 		return (Instantiator<S, T>) instantiator.getConstructor(Map.class).newInstance(getterPerName);
 	}
+
+	// the fields of the instantiator are declared in the iteration order of the injections
+	private <S> Map<Parameter, Getter<S, ?>> sortByName(Map<Parameter, Getter<S, ?>> injections) {
+		List<Entry<Parameter, Getter<S, ?>>> entries = new ArrayList<Entry<Parameter, Getter<S, ?>>>(injections.entrySet());
+		Collections.sort(entries, new Comparator<Entry<Parameter, Getter<S, ?>>>() {
+			@Override
+			public int compare(Entry<Parameter, Getter<S, ?>> o1, Entry<Parameter, Getter<S, ?>> o2) {
+				return o1.getKey().getName().compareTo(o2.getKey().getName());
+			}
+		});
+		Map<Parameter, Getter<S, ?>> sorted = new LinkedHashMap<Parameter, Getter<S, ?>>();
+		for(Entry<Parameter, Getter<S, ?>> e : entries) {
+			sorted.put(e.getKey(), e.getValue());
+		}
+		return sorted;
+	}
 	
 	@SuppressWarnings("unchecked")
 	public <T> JdbcMapper<T> createJdbcMapper(final JdbcColumnKey[] keys,
@@ -169,20 +318,42 @@ public class AsmFactory {
                                               RowHandlerErrorHandler errorHandler,
                                               MappingContextFactory<ResultSet> mappingContextFactory) throws Exception {
 
-        JdbcMapperKey key = new JdbcMapperKey(keys, mappers, constructorMappers, instantiator, target);
+        final JdbcInlinedFieldMapping[] inlinedMappings = inlineJdbcMappers ? JdbcInlinedFieldMapping.of(mappers, target, this) : null;
+        JdbcMapperKey key = new JdbcMapperKey(keys, mappers, constructorMappers, instantiator, target, inlinedMappings);
         Class<JdbcMapper<T>> type = (Class<JdbcMapper<T>>) jdbcMapperCache.get(key);
         if (type == null) {
 
-            final String className = generateClassNameForJdbcMapper(mappers, constructorMappers, ResultSet.class, target);
-            final byte[] bytes = JdbcMapperAsmBuilder.dump(className, mappers, constructorMappers, target);
-
-            type = (Class<JdbcMapper<T>>) createClass(className, bytes, target.getClass().getClassLoader());
+            final String className = generateClassNameForJdbcMapper(keys, mappers, constructorMappers, inlinedMappings, ResultSet.class, target);
+            type = (Class<JdbcMapper<T>>) findPrecompiledClass(className);
+            if (type == null) {
+                final byte[] bytes = JdbcMapperAsmBuilder.dump(className, mappers, constructorMappers, target, inlinedMappings);
+                type = (Class<JdbcMapper<T>>) createClass(className, bytes, target.getClass().getClassLoader());
+            }
             jdbcMapperCache.put(key, type);
         }
         final Constructor<?> constructor = type.getDeclaredConstructors()[0];
         return (JdbcMapper<T>) constructor.newInstance(mappers, constructorMappers, instantiator, errorHandler, mappingContextFactory);
 	}
 
+    @SuppressWarnings("unchecked")
+    public <T> JdbcBinder<T> createJdbcBinder(final FieldMapper<T, PreparedStatement>[] mappers,
+                                              final Class<T> target,
+                                              final String sql) throws Exception {
+        JdbcMapperKey key = new JdbcMapperKey(null, mappers, null, null, target);
+        Class<JdbcBinder<T>> type = (Class<JdbcBinder<T>>) jdbcBinderCache.get(key);
+        if (type == null) {
+            final String className = generateClassNameForJdbcBinder(mappers, target);
+            type = (Class<JdbcBinder<T>>) findPrecompiledClass(className);
+            if (type == null) {
+                final byte[] bytes = JdbcBinderAsmBuilder.dump(className, mappers, target);
+                type = (Class<JdbcBinder<T>>) createClass(className, bytes, target.getClassLoader());
+            }
+            jdbcBinderCache.put(key, type);
+        }
+        final Constructor<?> constructor = type.getDeclaredConstructors()[0];
+        return (JdbcBinder<T>) constructor.newInstance(mappers, sql);
+    }
+
     @SuppressWarnings("unchecked")
     public <T> CsvMapperCellHandlerFactory<T> createCsvMapperCellHandler(Type target,
                                                                          DelayedCellSetterFactory<T, ?>[] delayedCellSetterFactories, CellSetter<T>[] setters,
@@ -193,17 +364,22 @@ public class AsmFactory {
                                                                          int maxMethodSize
                                                                          ) throws Exception {
 
-        CsvMapperKey key = new CsvMapperKey(keys, setters, delayedCellSetterFactories, instantiator, target, fieldErrorHandler, maxMethodSize);
+        final CsvInlinedCellSetter[] inlinedSetters = inlineCsvCellHandlers ? CsvInlinedCellSetter.of(setters, target, this) : null;
+        CsvMapperKey key = new CsvMapperKey(keys, setters, delayedCellSetterFactories, instantiator, target, fieldErrorHandler, maxMethodSize, inlinedSetters);
 
         Class<? extends CsvMapperCellHandlerFactory<?>> typeFactory = csvMapperCache.get(key);
 
         if (typeFactory == null) {
-            final String className = generateClassNameCsvMapperCellHandler(target, delayedCellSetterFactories, setters);
+            final boolean ignoreException = fieldErrorHandler == null || fieldErrorHandler instanceof RethrowFieldMapperErrorHandler;
+            final String className = generateClassNameCsvMapperCellHandler(target, keys, delayedCellSetterFactories, setters, inlinedSetters, ignoreException, maxMethodSize);
             final String factoryName = className + "Factory";
-            final byte[] bytes = CsvMapperCellHandlerBuilder.<T>createTargetSetterClass(className, delayedCellSetterFactories, setters, target, fieldErrorHandler == null || fieldErrorHandler instanceof RethrowFieldMapperErrorHandler, maxMethodSize);
-            final byte[] bytesFactory = CsvMapperCellHandlerBuilder.createTargetSetterFactory(factoryName, className, target);
-            createClass(className, bytes, target.getClass().getClassLoader());
-            typeFactory = (Class<? extends CsvMapperCellHandlerFactory<?>>) createClass(factoryName, bytesFactory, target.getClass().getClassLoader());
+            typeFactory = (Class<? extends CsvMapperCellHandlerFactory<?>>) findPrecompiledClass(factoryName);
+            if (typeFactory == null) {
+                final byte[] bytes = CsvMapperCellHandlerBuilder.<T>createTargetSetterClass(className, delayedCellSetterFactories, setters, target, ignoreException, maxMethodSize, inlinedSetters);
+                final byte[] bytesFactory = CsvMapperCellHandlerBuilder.createTargetSetterFactory(factoryName, className, target);
+                createClass(className, bytes, target.getClass().getClassLoader());
+                typeFactory = (Class<? extends CsvMapperCellHandlerFactory<?>>) createClass(factoryName, bytesFactory, target.getClass().getClassLoader());
+            }
 
             csvMapperCache.put(key, typeFactory);
         }
@@ -215,9 +391,7 @@ public class AsmFactory {
 
     }
 
-    private final AtomicLong classNumber = new AtomicLong();
-	
-	private String generateClassNameForInstantiator(final InstantiatorKey key) {
+	private <S> String generateClassNameForInstantiator(final InstantiatorKey key, Map<Parameter, Getter<S, ?>> injections) throws Exception {
 		StringBuilder sb = new StringBuilder();
 		
 		sb.append( "org.sfm.reflect.asm.")
@@ -242,7 +416,13 @@ public class AsmFactory {
                 sb.append("And").append(Integer.toString(l)).append("More");
             }
         }
-		sb.append("_I").append(Long.toHexString(classNumber.getAndIncrement()));
+
+		StringBuilder inputs = new StringBuilder();
+		inputs.append(key.getConstructor()).append(';').append(key.getSource().getName());
+		for(Entry<Parameter, Getter<S, ?>> e : injections.entrySet()) {
+			inputs.append(';').append(e.getKey().getName()).append('=').append(e.getValue().getClass().getName());
+		}
+		sb.append("_P").append(digest(inputs, key.getConstructor().getDeclaringClass()));
 		return sb.toString();
 	}
 
@@ -286,7 +466,7 @@ public class AsmFactory {
                 ;
     }
 
-    private <T> String generateClassNameCsvMapperCellHandler(Type target, DelayedCellSetterFactory<T, ?>[] delayedCellSetterFactories, CellSetter<T>[] setters) {
+    private <T> String generateClassNameCsvMapperCellHandler(Type target, CsvColumnKey[] keys, DelayedCellSetterFactory<T, ?>[] delayedCellSetterFactories, CellSetter<T>[] setters, CsvInlinedCellSetter[] inlinedSetters, boolean ignoreException, int maxMethodSize) throws Exception {
         StringBuilder sb = new StringBuilder();
 
         sb.append( "org.sfm.reflect.asm.")
@@ -298,11 +478,24 @@ public class AsmFactory {
         if (setters.length > 0) {
             sb.append("S").append(Integer.toString(setters.length));
         }
-        sb.append("_I").append(Long.toHexString(classNumber.getAndIncrement()));
+
+        StringBuilder inputs = new StringBuilder();
+        inputs.append(target).append(Arrays.toString(keys)).append(';').append(ignoreException).append(';').append(maxMethodSize);
+        for(DelayedCellSetterFactory<T, ?> delayedCellSetterFactory : delayedCellSetterFactories) {
+            inputs.append(';');
+            if (delayedCellSetterFactory != null) {
+                inputs.append(delayedCellSetterFactory.getClass().getName()).append(delayedCellSetterFactory.hasSetter() ? "+" : "-");
+            }
+        }
+        appendClassNames(inputs, setters);
+        if (inlinedSetters != null) {
+            inputs.append(";inlined").append(Arrays.toString(inlinedSetters));
+        }
+        sb.append("_P").append(digest(inputs, TypeHelper.toClass(target)));
         return sb.toString();
     }
 
-	private <S, T> String generateClassNameForJdbcMapper(final FieldMapper<S, T>[] mappers,final FieldMapper<S, T>[] constructorMappers, final Class<S> source, final Class<T> target) {
+	private <S, T> String generateClassNameForJdbcMapper(final JdbcColumnKey[] keys, final FieldMapper<S, T>[] mappers,final FieldMapper<S, T>[] constructorMappers, final JdbcInlinedFieldMapping[] inlinedMappings, final Class<S> source, final Class<T> target) throws Exception {
         StringBuilder sb = new StringBuilder();
 
         sb.append("org.sfm.reflect.asm.");
@@ -318,11 +511,58 @@ public class AsmFactory {
             sb.append("Inj").append(mappers.length);
         }
 
-        sb.append("_I").append(Long.toHexString(classNumber.getAndIncrement()));
+        StringBuilder inputs = new StringBuilder();
+        inputs.append(target.getName()).append(Arrays.toString(keys));
+        appendClassNames(inputs, constructorMappers);
+        inputs.append(";|");
+        appendClassNames(inputs, mappers);
+        if (inlinedMappings != null) {
+            inputs.append(";inlined").append(Arrays.toString(inlinedMappings));
+        }
+        sb.append("_P").append(digest(inputs, target));
 
         return sb.toString();
     }
 
+    private <T> String generateClassNameForJdbcBinder(final FieldMapper<T, PreparedStatement>[] mappers, final Class<T> target) throws Exception {
+        StringBuilder sb = new StringBuilder();
+
+        sb.append("org.sfm.reflect.asm.");
+        sb.append(getPackageName(target));
+        sb.append(".AsmBinderFrom").append(replaceArray(target.getSimpleName()));
+        sb.append("Params").append(mappers.length);
+
+        StringBuilder inputs = new StringBuilder();
+        inputs.append(target.getName()).append(";binder");
+        appendClassNames(inputs, mappers);
+        sb.append("_P").append(digest(inputs, target));
+
+        return sb.toString();
+    }
+
+    private void appendClassNames(StringBuilder sb, Object[] objects) {
+        for(Object o : objects) {
+            sb.append(';');
+            if (o != null) {
+                sb.append(o.getClass().getName());
+            }
+        }
+    }
+
+    // the digest of everything the bytecodes depend on, stable across jvms for AsmClassesGenerator,
+    // a precompiled class of another version of the library or of another layout of the target is not picked
+    private static String digest(CharSequence inputs, Class<?> target) throws Exception {
+        final StringBuilder sb = new StringBuilder(inputs);
+        sb.append(";version=").append(AsmUtils.LIBRARY_VERSION);
+        sb.append(";layout=").append(AsmUtils.classLayout(target));
+        final byte[] bytes = MessageDigest.getInstance("SHA-1").digest(sb.toString().getBytes("UTF-8"));
+        final StringBuilder hex = new StringBuilder();
+        for(int i = 0; i < 8; i++) {
+            hex.append(Character.forDigit((bytes[i] >> 4) & 0xF, 16)).append(Character.forDigit(bytes[i] & 0xF, 16));
+        }
+        return hex.toString();
+    }
+
     private <T> String getPackageName(Type target) {
 
         Package targetPackage = TypeHelper.toClass(target).getPackage();
@@ -8,9 +8,14 @@ import org.objectweb.asm.signature.SignatureVisitor;
 import org.sfm.reflect.Instantiator;
 import org.sfm.reflect.TypeHelper;
 
+import java.io.BufferedReader;
 import java.io.File;
+import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
 import java.lang.reflect.*;
 import java.util.*;
 
@@ -19,6 +24,48 @@ import static org.objectweb.asm.Opcodes.*;
 public class AsmUtils {
 
 	public static final String ASM_DUMP_TARGET_DIR = "asm.dump.target.dir";
+	/**
+	 * resource listing the generated classes dumped in the target dir, one class name per line.
+	 */
+	public static final String PRECOMPILED_CLASSES_INDEX = "META-INF/sfm/asm-classes";
+
+	/**
+	 * the Implementation-Version of the library jar, dev when not loaded from the jar.
+	 */
+	public static final String LIBRARY_VERSION = libraryVersion();
+
+	private static String libraryVersion() {
+		final Package p = AsmUtils.class.getPackage();
+		final String version = p != null ? p.getImplementationVersion() : null;
+		return version != null ? version : "dev";
+	}
+
+	/**
+	 * @param target the class
+	 * @return the sorted signatures of the non synthetic fields, constructors and methods of target and its super classes
+	 */
+	public static String classLayout(final Class<?> target) {
+		final List<String> members = new ArrayList<String>();
+		for(Class<?> c = target; c != null && c != Object.class; c = c.getSuperclass()) {
+			for(Field field : c.getDeclaredFields()) {
+				if (!field.isSynthetic()) {
+					members.add(field.toGenericString());
+				}
+			}
+			for(Constructor<?> constructor : c.getDeclaredConstructors()) {
+				if (!constructor.isSynthetic()) {
+					members.add(constructor.toGenericString());
+				}
+			}
+			for(Method method : c.getDeclaredMethods()) {
+				if (!method.isSynthetic()) {
+					members.add(method.toGenericString());
+				}
+			}
+		}
+		Collections.sort(members);
+		return members.toString();
+	}
 
 	public static final Type[] EMPTY_TYPE_ARRAY = new Type[0];
 	public static String toType(final Type target) {
@@ -117,14 +164,22 @@ public class AsmUtils {
 	}
 
 	static File targetDir = null;
+	private static Set<String> dumpedClasses;
 
 	static {
 		String targetDirStr = System.getProperty(ASM_DUMP_TARGET_DIR);
 		if (targetDirStr != null) {
-			targetDir = new File(targetDirStr);
-			targetDir.mkdirs();
+			setTargetDir(new File(targetDirStr));
 		} 
 	}
+
+	static synchronized void setTargetDir(File dir) {
+		targetDir = dir;
+		dumpedClasses = null;
+		if (dir != null) {
+			dir.mkdirs();
+		}
+	}
 	
 	public static boolean isStillGeneric(Class<? > clazz) {
 		clazz = getPublicOrInterfaceClass(clazz);
@@ -146,10 +201,39 @@ public class AsmUtils {
 			} finally {
 				fos.close();
 			}
+			addToIndex(className);
 		}		
 		return bytes;
 	}
 
+	private static synchronized void addToIndex(String className) throws IOException {
+		final File index = new File(targetDir, PRECOMPILED_CLASSES_INDEX);
+		if (dumpedClasses == null) {
+			dumpedClasses = new HashSet<String>();
+			if (index.exists()) {
+				BufferedReader reader = new BufferedReader(new InputStreamReader(new FileInputStream(index), "UTF-8"));
+				try {
+					String line;
+					while((line = reader.readLine()) != null) {
+						dumpedClasses.add(line.trim());
+					}
+				} finally {
+					reader.close();
+				}
+			}
+		}
+		if (dumpedClasses.add(className)) {
+			index.getParentFile().mkdirs();
+			Writer writer = new OutputStreamWriter(new FileOutputStream(index, true), "UTF-8");
+			try {
+				writer.write(className);
+				writer.write('\n');
+			} finally {
+				writer.close();
+			}
+		}
+	}
+
 	public static String toTypeWithParam(Class<?> class1) {
 		StringBuilder sb = new StringBuilder();
 		
@@ -0,0 +1,211 @@
+package org.sfm.reflect.asm;
+
+import org.objectweb.asm.Label;
+import org.objectweb.asm.MethodVisitor;
+import org.sfm.csv.impl.CellSetter;
+import org.sfm.csv.impl.cellreader.*;
+import org.sfm.csv.impl.primitive.*;
+import org.sfm.reflect.TypeHelper;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Type;
+
+import static org.objectweb.asm.Opcodes.*;
+
+/**
+ * A CellSetter parsing the cell with one of the static parse methods of the cell value readers and writing it
+ * through a public setter method or a public field, the generated cell handler parses and sets the value in place
+ * instead of calling the CellSetter.
+ * <p>
+ * The other CellSetters - custom readers, date, enum, boxed values, setters going through reflection - are not inlined.
+ */
+final class CsvInlinedCellSetter {
+
+	private final Class<?> parser;
+	private final String parserName;
+	private final Class<?> valueType;
+	private final Member member;
+	private final boolean skipNullTarget;
+
+	private CsvInlinedCellSetter(Class<?> parser, String parserName, Class<?> valueType, Member member, boolean skipNullTarget) {
+		this.parser = parser;
+		this.parserName = parserName;
+		this.valueType = valueType;
+		this.member = member;
+		this.skipNullTarget = skipNullTarget;
+	}
+
+	/**
+	 * @param setters the cell setters
+	 * @param target the target type of the cell handler
+	 * @param asmFactory the factory that generated the setters
+	 * @return the inlined setter of each cell setter, null for the cell setters that are not inlined
+	 */
+	static CsvInlinedCellSetter[] of(CellSetter<?>[] setters, Type target, AsmFactory asmFactory) {
+		final Class<?> targetClass = TypeHelper.toClass(target);
+		CsvInlinedCellSetter[] inlinedSetters = new CsvInlinedCellSetter[setters.length];
+		for(int i = 0; i < setters.length; i++) {
+			if (setters[i] != null) {
+				inlinedSetters[i] = of(setters[i], targetClass, asmFactory);
+			}
+		}
+		return inlinedSetters;
+	}
+
+	private static CsvInlinedCellSetter of(CellSetter<?> cellSetter, Class<?> target, AsmFactory asmFactory) {
+		if (cellSetter instanceof IntCellSetter) {
+			IntCellSetter<?> intCellSetter = (IntCellSetter<?>) cellSetter;
+			return newInlinedSetter(intCellSetter.getReader(), IntegerCellValueReaderImpl.class, "parseInt", int.class,
+					intCellSetter.getSetter(), target, asmFactory);
+		} else if (cellSetter instanceof LongCellSetter) {
+			LongCellSetter<?> longCellSetter = (LongCellSetter<?>) cellSetter;
+			return newInlinedSetter(longCellSetter.getReader(), LongCellValueReaderImpl.class, "parseLong", long.class,
+					longCellSetter.getSetter(), target, asmFactory);
+		} else if (cellSetter instanceof DoubleCellSetter) {
+			DoubleCellSetter<?> doubleCellSetter = (DoubleCellSetter<?>) cellSetter;
+			return newInlinedSetter(doubleCellSetter.getReader(), DoubleCellValueReaderImpl.class, "parseDouble", double.class,
+					doubleCellSetter.getSetter(), target, asmFactory);
+		} else if (cellSetter instanceof FloatCellSetter) {
+			FloatCellSetter<?> floatCellSetter = (FloatCellSetter<?>) cellSetter;
+			return newInlinedSetter(floatCellSetter.getReader(), FloatCellValueReaderImpl.class, "parseFloat", float.class,
+					floatCellSetter.getSetter(), target, asmFactory);
+		} else if (cellSetter instanceof BooleanCellSetter) {
+			BooleanCellSetter<?> booleanCellSetter = (BooleanCellSetter<?>) cellSetter;
+			return newInlinedSetter(booleanCellSetter.getReader(), BooleanCellValueReaderImpl.class, "parseBoolean", boolean.class,
+					booleanCellSetter.getSetter(), target, asmFactory);
+		} else if (cellSetter instanceof CellSetterImpl) {
+			CellSetterImpl<?, ?> cellSetterImpl = (CellSetterImpl<?, ?>) cellSetter;
+			if (cellSetterImpl.getReader() instanceof StringCellValueReader) {
+				final Member member = getMember(cellSetterImpl.getSetter(), target, asmFactory);
+				if (member != null && getValueType(member).isAssignableFrom(String.class)) {
+					return new CsvInlinedCellSetter(StringCellValueReader.class, "readString", String.class, member, false);
+				}
+			}
+		}
+		return null;
+	}
+
+	private static CsvInlinedCellSetter newInlinedSetter(Object reader, Class<?> parser, String parserName, Class<?> primitiveType,
+														 Object setter, Class<?> target, AsmFactory asmFactory) {
+		if (reader == null || !parser.equals(reader.getClass())) {
+			return null;
+		}
+		final Member member = getMember(setter, target, asmFactory);
+		if (member != null && primitiveType.equals(getValueType(member))) {
+			return new CsvInlinedCellSetter(parser, parserName, primitiveType, member, true);
+		}
+		return null;
+	}
+
+	private static Member getMember(Object setter, Class<?> target, AsmFactory asmFactory) {
+		final Method method = asmFactory.getSetterMethod(setter);
+		if (method != null) {
+			if (method.getParameterTypes().length == 1
+					&& !Modifier.isStatic(method.getModifiers())
+					&& isAccessible(method, target)) {
+				return method;
+			}
+			return null;
+		}
+		final Field field = asmFactory.getSetterField(setter);
+		if (field != null
+				&& !Modifier.isStatic(field.getModifiers())
+				&& !Modifier.isFinal(field.getModifiers())
+				&& isAccessible(field, target)) {
+			return field;
+		}
+		return null;
+	}
+
+	private static boolean isAccessible(Member member, Class<?> target) {
+		return Modifier.isPublic(member.getModifiers())
+				&& Modifier.isPublic(member.getDeclaringClass().getModifiers())
+				&& member.getDeclaringClass().isAssignableFrom(target);
+	}
+
+	private static Class<?> getValueType(Member member) {
+		if (member instanceof Method) {
+			return ((Method) member).getParameterTypes()[0];
+		} else {
+			return ((Field) member).getType();
+		}
+	}
+
+	/**
+	 * generate the parsing of the cell and the write to the current instance, the chars, offset and length
+	 * are in the locals 1, 2 and 3.
+	 * @param mv the method visitor
+	 * @param classType the type of the generated cell handler
+	 * @param skipLabel the label to jump to when the current instance is null
+	 */
+	void generateSet(MethodVisitor mv, String classType, Label skipLabel) {
+		if (skipNullTarget) {
+			mv.visitVarInsn(ALOAD, 0);
+			mv.visitFieldInsn(GETFIELD, classType, "currentInstance", "Ljava/lang/Object;");
+			mv.visitJumpInsn(IFNULL, skipLabel);
+		}
+
+		final String ownerType = AsmUtils.toType(member.getDeclaringClass());
+		mv.visitVarInsn(ALOAD, 0);
+		mv.visitFieldInsn(GETFIELD, classType, "currentInstance", "Ljava/lang/Object;");
+		mv.visitTypeInsn(CHECKCAST, ownerType);
+
+		mv.visitVarInsn(ALOAD, 1);
+		mv.visitVarInsn(ILOAD, 2);
+		mv.visitVarInsn(ILOAD, 3);
+		mv.visitMethodInsn(INVOKESTATIC, AsmUtils.toType(parser), parserName, "([CII)" + AsmUtils.toDeclaredLType(valueType), false);
+
+		if (member instanceof Method) {
+			final Method method = (Method) member;
+			final boolean isInterface = method.getDeclaringClass().isInterface();
+			mv.visitMethodInsn(isInterface ? INVOKEINTERFACE : INVOKEVIRTUAL, ownerType,
+					method.getName(), AsmUtils.toSignature(method), isInterface);
+
+			final Class<?> returnType = method.getReturnType();
+			if (long.class.equals(returnType) || double.class.equals(returnType)) {
+				mv.visitInsn(POP2);
+			} else if (!void.class.equals(returnType)) {
+				mv.visitInsn(POP);
+			}
+		} else {
+			final Field field = (Field) member;
+			mv.visitFieldInsn(PUTFIELD, ownerType, field.getName(), AsmUtils.toDeclaredLType(field.getType()));
+		}
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) return true;
+		if (o == null || getClass() != o.getClass()) return false;
+
+		CsvInlinedCellSetter that = (CsvInlinedCellSetter) o;
+
+		return skipNullTarget == that.skipNullTarget
+				&& parser.equals(that.parser)
+				&& parserName.equals(that.parserName)
+				&& valueType.equals(that.valueType)
+				&& member.equals(that.member);
+	}
+
+	@Override
+	public int hashCode() {
+		int result = parser.hashCode();
+		result = 31 * result + parserName.hashCode();
+		result = 31 * result + valueType.hashCode();
+		result = 31 * result + member.hashCode();
+		result = 31 * result + (skipNullTarget ? 1 : 0);
+		return result;
+	}
+
+	@Override
+	public String toString() {
+		return "CsvInlinedCellSetter{" +
+				"parser=" + parser.getName() + "." + parserName +
+				", member=" + member +
+				", skipNullTarget=" + skipNullTarget +
+				'}';
+	}
+}
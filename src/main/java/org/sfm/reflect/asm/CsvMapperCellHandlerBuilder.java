@@ -21,6 +21,16 @@ public class CsvMapperCellHandlerBuilder {
     public static <T> byte[] createTargetSetterClass(String className,
                                                  DelayedCellSetterFactory<T, ?>[] delayedCellSetters,
             CellSetter<T>[] setters, Type type, boolean ignoreException, int maxMethodSize) throws Exception {
+        return createTargetSetterClass(className, delayedCellSetters, setters, type, ignoreException, maxMethodSize, null);
+    }
+
+    /**
+     * @param inlinedSetters the parsing and setting to generate in place of the call to the CellSetter of the same index, can be null
+     */
+    static <T> byte[] createTargetSetterClass(String className,
+                                                 DelayedCellSetterFactory<T, ?>[] delayedCellSetters,
+            CellSetter<T>[] setters, Type type, boolean ignoreException, int maxMethodSize,
+            CsvInlinedCellSetter[] inlinedSetters) throws Exception {
 
         ClassWriter cw = new ClassWriter(ClassWriter.COMPUTE_MAXS);
 
@@ -59,7 +69,7 @@ public class CsvMapperCellHandlerBuilder {
         append_delayedCellValue(delayedCellSetters, cw, classType, maxMethodSize);
 
         appendCellValue(setters, ignoreException, cw, classType);
-        append_cellValue(delayedCellSetters, setters, cw, classType, maxMethodSize);
+        append_cellValue(delayedCellSetters, setters, inlinedSetters, cw, classType, maxMethodSize);
 
         appendApplyDelayedSetter(delayedCellSetters, ignoreException, cw, classType, maxMethodSize);
         appendApplyDelayedCellSetterN(delayedCellSetters, cw, classType);
@@ -74,7 +84,7 @@ public class CsvMapperCellHandlerBuilder {
 
     }
 
-    private static <T> void append_cellValue(final DelayedCellSetterFactory<T, ?>[] delayedCellSetters, final CellSetter<T>[] setters, ClassWriter cw, final String classType, final int maxMethodSize) {
+    private static <T> void append_cellValue(final DelayedCellSetterFactory<T, ?>[] delayedCellSetters, final CellSetter<T>[] setters, final CsvInlinedCellSetter[] inlinedSetters, ClassWriter cw, final String classType, final int maxMethodSize) {
 
         ShardingHelper.shard(setters.length, maxMethodSize, new AbstractMethodDispatchShardCallBack<T>(cw, classType, maxMethodSize ) {
             @Override
@@ -87,7 +97,9 @@ public class CsvMapperCellHandlerBuilder {
 
                     mv.visitLabel(labels[i - start]);
                     mv.visitFrame(Opcodes.F_SAME, 0, null, 0, null);
-                    if (setters[i] != null) {
+                    if (inlinedSetters != null && inlinedSetters[i] != null) {
+                        inlinedSetters[i].generateSet(mv, classType, defaultLabel);
+                    } else if (setters[i] != null) {
                         mv.visitVarInsn(ALOAD, 0);
                         mv.visitFieldInsn(GETFIELD, classType, "setter" + i, "L" + CELL_SETTER_TYPE + ";");
                         mv.visitVarInsn(ALOAD, 0);
@@ -702,7 +714,7 @@ public class CsvMapperCellHandlerBuilder {
         }
         cw.visitEnd();
 
-        return cw.toByteArray();
+        return AsmUtils.writeClassToFile(factoryName, cw.toByteArray());
     }
 
 
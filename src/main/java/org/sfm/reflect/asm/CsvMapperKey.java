@@ -22,10 +22,15 @@ public class CsvMapperKey {
     private final Type target;
     private final Class<?> fieldErrorHandler;
     private final int maxMethodSize;
+    private final CsvInlinedCellSetter[] inlinedSetters;
 
 
 
     public <T> CsvMapperKey(CsvColumnKey[] keys, CellSetter<T>[] setters, DelayedCellSetterFactory<T, ?>[] delayedCellSetterFactories, Instantiator<CsvMapperCellHandler<T>, T> instantiator, Type target, FieldMapperErrorHandler<CsvColumnKey> fieldErrorHandler, int maxMethodSize) {
+        this(keys, setters, delayedCellSetterFactories, instantiator, target, fieldErrorHandler, maxMethodSize, null);
+    }
+
+    public <T> CsvMapperKey(CsvColumnKey[] keys, CellSetter<T>[] setters, DelayedCellSetterFactory<T, ?>[] delayedCellSetterFactories, Instantiator<CsvMapperCellHandler<T>, T> instantiator, Type target, FieldMapperErrorHandler<CsvColumnKey> fieldErrorHandler, int maxMethodSize, CsvInlinedCellSetter[] inlinedSetters) {
         this.keys = keys;
         this.setters = getClassArray(setters);
         this.delayedSetters = getClassArray(delayedCellSetterFactories);
@@ -33,6 +38,7 @@ public class CsvMapperKey {
         this.target = target;
         this.fieldErrorHandler = getClass(fieldErrorHandler);
         this.maxMethodSize = maxMethodSize;
+        this.inlinedSetters = inlinedSetters;
 
     }
 
@@ -72,6 +78,7 @@ public class CsvMapperKey {
         if (!Arrays.equals(delayedSetters, that.delayedSetters)) return false;
         if (instantiator != null ? !instantiator.equals(that.instantiator) : that.instantiator != null) return false;
         if (target != null ? !target.equals(that.target) : that.target != null) return false;
+        if (!Arrays.equals(inlinedSetters, that.inlinedSetters)) return false;
         return !(fieldErrorHandler != null ? !fieldErrorHandler.equals(that.fieldErrorHandler) : that.fieldErrorHandler != null);
 
     }
@@ -85,6 +92,7 @@ public class CsvMapperKey {
         result = 31 * result + (target != null ? target.hashCode() : 0);
         result = 31 * result + (fieldErrorHandler != null ? fieldErrorHandler.hashCode() : 0);
         result = 31 * result + maxMethodSize;
+        result = 31 * result + (inlinedSetters != null ? Arrays.hashCode(inlinedSetters) : 0);
         return result;
     }
 }
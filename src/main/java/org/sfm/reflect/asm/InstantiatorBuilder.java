@@ -202,13 +202,18 @@ public class InstantiatorBuilder {
                 Getter<S, ?> getter = injections.get(parameters[i]);
 
                 String getterName =  ", parameter" + i + "=";
-                String getterString = String.valueOf(getter);
 
                 mv.visitLdcInsn(getterName);
                 mv.visitMethodInsn(INVOKEVIRTUAL, "java/lang/StringBuilder", "append", "(Ljava/lang/String;)Ljava/lang/StringBuilder;", false);
 
-                mv.visitLdcInsn(getterString);
-                mv.visitMethodInsn(INVOKEVIRTUAL, "java/lang/StringBuilder", "append", "(Ljava/lang/String;)Ljava/lang/StringBuilder;", false);
+                if (getter != null) {
+                    mv.visitVarInsn(ALOAD, 0);
+                    mv.visitFieldInsn(GETFIELD, classType, "getter_" + parameters[i].getName(), "L" + AsmUtils.toType(getter.getClass()) + ";");
+                    mv.visitMethodInsn(INVOKEVIRTUAL, "java/lang/StringBuilder", "append", "(Ljava/lang/Object;)Ljava/lang/StringBuilder;", false);
+                } else {
+                    mv.visitLdcInsn("null");
+                    mv.visitMethodInsn(INVOKEVIRTUAL, "java/lang/StringBuilder", "append", "(Ljava/lang/String;)Ljava/lang/StringBuilder;", false);
+                }
 
             }
             mv.visitLdcInsn("}");
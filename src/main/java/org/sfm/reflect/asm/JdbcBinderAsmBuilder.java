@@ -0,0 +1,104 @@
+package org.sfm.reflect.asm;
+
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.FieldVisitor;
+import org.objectweb.asm.MethodVisitor;
+import org.sfm.jdbc.impl.AbstractJdbcBinder;
+import org.sfm.map.FieldMapper;
+import org.sfm.map.MappingContext;
+
+import java.sql.PreparedStatement;
+
+import static org.objectweb.asm.Opcodes.*;
+
+/**
+ * Generate a {@link AbstractJdbcBinder} calling each FieldMapper through a field of its own class,
+ * one call site per parameter.
+ */
+public class JdbcBinderAsmBuilder {
+
+	private static final String ABSTRACT_JDBC_BINDER_TYPE = AsmUtils.toType(AbstractJdbcBinder.class);
+	private static final String FIELD_MAPPER_TYPE = AsmUtils.toType(FieldMapper.class);
+	private static final String PREPARED_STATEMENT_TYPE = AsmUtils.toType(PreparedStatement.class);
+	private static final String MAPPING_CONTEXT_TYPE = AsmUtils.toType(MappingContext.class);
+
+	public static <T> byte[] dump(final String className, final FieldMapper<T, PreparedStatement>[] mappers, final Class<T> target) throws Exception {
+		ClassWriter cw = new ClassWriter(ClassWriter.COMPUTE_MAXS);
+		MethodVisitor mv;
+
+		final String targetType = AsmUtils.toType(target);
+		final String classType = AsmUtils.toType(className);
+
+		cw.visit(V1_6, ACC_PUBLIC + ACC_FINAL + ACC_SUPER, classType, "L" + ABSTRACT_JDBC_BINDER_TYPE + "<L" + targetType + ";>;", ABSTRACT_JDBC_BINDER_TYPE, null);
+
+		for(int i = 0; i < mappers.length; i++) {
+			Class<?> mapperClass = AsmUtils.getPublicOrInterfaceClass(mappers[i].getClass());
+			FieldVisitor fv = cw.visitField(ACC_PRIVATE + ACC_FINAL, "mapper" + i, "L" + AsmUtils.toType(mapperClass) + ";", "L" + AsmUtils.toTypeWithParam(mapperClass) + ";", null);
+			fv.visitEnd();
+		}
+
+		{
+			mv = cw.visitMethod(ACC_PUBLIC, "<init>", "([L" + FIELD_MAPPER_TYPE + ";Ljava/lang/String;)V",
+					"([L" + FIELD_MAPPER_TYPE + "<L" + targetType + ";L" + PREPARED_STATEMENT_TYPE + ";>;Ljava/lang/String;)V", null);
+			mv.visitCode();
+			mv.visitVarInsn(ALOAD, 0);
+			mv.visitVarInsn(ALOAD, 1);
+			mv.visitVarInsn(ALOAD, 2);
+			mv.visitMethodInsn(INVOKESPECIAL, ABSTRACT_JDBC_BINDER_TYPE, "<init>", "([L" + FIELD_MAPPER_TYPE + ";Ljava/lang/String;)V", false);
+
+			for(int i = 0; i < mappers.length; i++) {
+				Class<?> mapperClass = AsmUtils.getPublicOrInterfaceClass(mappers[i].getClass());
+				mv.visitVarInsn(ALOAD, 0);
+				mv.visitVarInsn(ALOAD, 1);
+				AsmUtils.addIndex(mv, i);
+				mv.visitInsn(AALOAD);
+				mv.visitTypeInsn(CHECKCAST, AsmUtils.toType(mapperClass));
+				mv.visitFieldInsn(PUTFIELD, classType, "mapper" + i, "L" + AsmUtils.toType(mapperClass) + ";");
+			}
+
+			mv.visitInsn(RETURN);
+			mv.visitMaxs(3, 3);
+			mv.visitEnd();
+		}
+
+		{
+			mv = cw.visitMethod(ACC_PROTECTED + ACC_FINAL, "mapFields", "(L" + targetType + ";L" + PREPARED_STATEMENT_TYPE + ";)V", null, new String[] { "java/lang/Exception" });
+			mv.visitCode();
+
+			for(int i = 0; i < mappers.length; i++) {
+				Class<?> mapperClass = AsmUtils.getPublicOrInterfaceClass(mappers[i].getClass());
+				mv.visitVarInsn(ALOAD, 0);
+				mv.visitFieldInsn(GETFIELD, classType, "mapper" + i, "L" + AsmUtils.toType(mapperClass) + ";");
+				mv.visitVarInsn(ALOAD, 1);
+				mv.visitVarInsn(ALOAD, 2);
+				mv.visitInsn(ACONST_NULL);
+				if (AsmUtils.isStillGeneric(mapperClass)) {
+					AsmUtils.invoke(mv, mapperClass, "mapTo", "(Ljava/lang/Object;Ljava/lang/Object;L" + MAPPING_CONTEXT_TYPE + ";)V");
+				} else {
+					AsmUtils.invoke(mv, mapperClass, "mapTo", "(L" + targetType + ";L" + PREPARED_STATEMENT_TYPE + ";L" + MAPPING_CONTEXT_TYPE + ";)V");
+				}
+			}
+
+			mv.visitInsn(RETURN);
+			mv.visitMaxs(4, 3);
+			mv.visitEnd();
+		}
+
+		{
+			mv = cw.visitMethod(ACC_PROTECTED + ACC_BRIDGE + ACC_SYNTHETIC, "mapFields", "(Ljava/lang/Object;L" + PREPARED_STATEMENT_TYPE + ";)V", null, new String[] { "java/lang/Exception" });
+			mv.visitCode();
+			mv.visitVarInsn(ALOAD, 0);
+			mv.visitVarInsn(ALOAD, 1);
+			mv.visitTypeInsn(CHECKCAST, targetType);
+			mv.visitVarInsn(ALOAD, 2);
+			mv.visitMethodInsn(INVOKEVIRTUAL, classType, "mapFields", "(L" + targetType + ";L" + PREPARED_STATEMENT_TYPE + ";)V", false);
+			mv.visitInsn(RETURN);
+			mv.visitMaxs(3, 3);
+			mv.visitEnd();
+		}
+
+		cw.visitEnd();
+
+		return AsmUtils.writeClassToFile(className, cw.toByteArray());
+	}
+}
@@ -0,0 +1,223 @@
+package org.sfm.reflect.asm;
+
+import org.objectweb.asm.Label;
+import org.objectweb.asm.MethodVisitor;
+import org.sfm.jdbc.impl.getter.*;
+import org.sfm.map.FieldMapper;
+import org.sfm.map.impl.fieldmapper.*;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+
+import static org.objectweb.asm.Opcodes.*;
+
+/**
+ * A FieldMapper reading a column with a plain ResultSet getter and writing it with a public setter method,
+ * the generated mapper calls <code>target.setX(rs.getX(column))</code> straight instead of going through the FieldMapper.
+ * <p>
+ * The other FieldMappers - custom getters, converters, sub mappers, field setters - are not inlined.
+ */
+final class JdbcInlinedFieldMapping {
+
+	private static final String RESULT_SET_TYPE = AsmUtils.toType(ResultSet.class);
+
+	private final int column;
+	private final String getterName;
+	private final Class<?> valueType;
+	private final boolean boxed;
+	private final Method setter;
+
+	private JdbcInlinedFieldMapping(int column, String getterName, Class<?> valueType, boolean boxed, Method setter) {
+		this.column = column;
+		this.getterName = getterName;
+		this.valueType = valueType;
+		this.boxed = boxed;
+		this.setter = setter;
+	}
+
+	/**
+	 * @param mappers the field mappers
+	 * @param target the target class of the mapper
+	 * @param asmFactory the factory that generated the setters
+	 * @return the inlined mapping of each mapper, null for the mappers that are not inlined
+	 */
+	static JdbcInlinedFieldMapping[] of(FieldMapper<?, ?>[] mappers, Class<?> target, AsmFactory asmFactory) {
+		JdbcInlinedFieldMapping[] mappings = new JdbcInlinedFieldMapping[mappers.length];
+		for(int i = 0; i < mappers.length; i++) {
+			if (mappers[i] != null) {
+				mappings[i] = of(mappers[i], target, asmFactory);
+			}
+		}
+		return mappings;
+	}
+
+	private static JdbcInlinedFieldMapping of(FieldMapper<?, ?> mapper, Class<?> target, AsmFactory asmFactory) {
+		final Object getter;
+		final Object setter;
+		final Class<?> primitiveType;
+		if (mapper instanceof IntFieldMapper) {
+			getter = ((IntFieldMapper) mapper).getGetter();
+			setter = ((IntFieldMapper) mapper).getSetter();
+			primitiveType = int.class;
+		} else if (mapper instanceof LongFieldMapper) {
+			getter = ((LongFieldMapper) mapper).getGetter();
+			setter = ((LongFieldMapper) mapper).getSetter();
+			primitiveType = long.class;
+		} else if (mapper instanceof DoubleFieldMapper) {
+			getter = ((DoubleFieldMapper) mapper).getGetter();
+			setter = ((DoubleFieldMapper) mapper).getSetter();
+			primitiveType = double.class;
+		} else if (mapper instanceof FloatFieldMapper) {
+			getter = ((FloatFieldMapper) mapper).getGetter();
+			setter = ((FloatFieldMapper) mapper).getSetter();
+			primitiveType = float.class;
+		} else if (mapper instanceof BooleanFieldMapper) {
+			getter = ((BooleanFieldMapper) mapper).getGetter();
+			setter = ((BooleanFieldMapper) mapper).getSetter();
+			primitiveType = boolean.class;
+		} else if (mapper instanceof ShortFieldMapper) {
+			getter = ((ShortFieldMapper) mapper).getGetter();
+			setter = ((ShortFieldMapper) mapper).getSetter();
+			primitiveType = short.class;
+		} else if (mapper instanceof ByteFieldMapper) {
+			getter = ((ByteFieldMapper) mapper).getGetter();
+			setter = ((ByteFieldMapper) mapper).getSetter();
+			primitiveType = byte.class;
+		} else if (mapper instanceof FieldMapperImpl) {
+			getter = ((FieldMapperImpl) mapper).getGetter();
+			setter = ((FieldMapperImpl) mapper).getSetter();
+			primitiveType = null;
+		} else {
+			return null;
+		}
+
+		final Method method = asmFactory.getSetterMethod(setter);
+		if (method == null || !isAccessible(method, target)) {
+			return null;
+		}
+		final Class<?> parameterType = method.getParameterTypes()[0];
+
+		if (getter instanceof IntResultSetGetter) {
+			return newMapping(((IntResultSetGetter) getter).getColumn(), "getInt", int.class, primitiveType, parameterType, method);
+		} else if (getter instanceof LongResultSetGetter) {
+			return newMapping(((LongResultSetGetter) getter).getColumn(), "getLong", long.class, primitiveType, parameterType, method);
+		} else if (getter instanceof DoubleResultSetGetter) {
+			return newMapping(((DoubleResultSetGetter) getter).getColumn(), "getDouble", double.class, primitiveType, parameterType, method);
+		} else if (getter instanceof FloatResultSetGetter) {
+			return newMapping(((FloatResultSetGetter) getter).getColumn(), "getFloat", float.class, primitiveType, parameterType, method);
+		} else if (getter instanceof BooleanResultSetGetter) {
+			return newMapping(((BooleanResultSetGetter) getter).getColumn(), "getBoolean", boolean.class, primitiveType, parameterType, method);
+		} else if (getter instanceof ShortResultSetGetter) {
+			return newMapping(((ShortResultSetGetter) getter).getColumn(), "getShort", short.class, primitiveType, parameterType, method);
+		} else if (getter instanceof ByteResultSetGetter) {
+			return newMapping(((ByteResultSetGetter) getter).getColumn(), "getByte", byte.class, primitiveType, parameterType, method);
+		} else if (primitiveType != null) {
+			return null;
+		} else if (getter instanceof StringResultSetGetter) {
+			return newObjectMapping(((StringResultSetGetter) getter).getColumn(), "getString", String.class, parameterType, method);
+		} else if (getter instanceof BigDecimalResultSetGetter) {
+			return newObjectMapping(((BigDecimalResultSetGetter) getter).getColumn(), "getBigDecimal", BigDecimal.class, parameterType, method);
+		} else if (getter instanceof TimestampResultSetGetter) {
+			return newObjectMapping(((TimestampResultSetGetter) getter).getColumn(), "getTimestamp", Timestamp.class, parameterType, method);
+		}
+		return null;
+	}
+
+	private static JdbcInlinedFieldMapping newMapping(int column, String getterName, Class<?> type, Class<?> primitiveType, Class<?> parameterType, Method method) {
+		if (primitiveType != null) {
+			if (primitiveType.equals(type) && parameterType.equals(type)) {
+				return new JdbcInlinedFieldMapping(column, getterName, type, false, method);
+			}
+		} else if (parameterType.isAssignableFrom(AsmUtils.wrappers.get(type))) {
+			return new JdbcInlinedFieldMapping(column, getterName, type, true, method);
+		}
+		return null;
+	}
+
+	private static JdbcInlinedFieldMapping newObjectMapping(int column, String getterName, Class<?> type, Class<?> parameterType, Method method) {
+		if (parameterType.isAssignableFrom(type)) {
+			return new JdbcInlinedFieldMapping(column, getterName, type, false, method);
+		}
+		return null;
+	}
+
+	private static boolean isAccessible(Method method, Class<?> target) {
+		return method.getParameterTypes().length == 1
+				&& Modifier.isPublic(method.getModifiers())
+				&& !Modifier.isStatic(method.getModifiers())
+				&& Modifier.isPublic(method.getDeclaringClass().getModifiers())
+				&& method.getDeclaringClass().isAssignableFrom(target);
+	}
+
+	/**
+	 * generate the read of the column and the call to the setter, the ResultSet is in the local 1 and the target in the local 2.
+	 * @param mv the method visitor
+	 */
+	void generateMapping(MethodVisitor mv) {
+		mv.visitVarInsn(ALOAD, 2);
+		mv.visitVarInsn(ALOAD, 1);
+		AsmUtils.addIndex(mv, column);
+		mv.visitMethodInsn(INVOKEINTERFACE, RESULT_SET_TYPE, getterName, "(I)" + AsmUtils.toDeclaredLType(valueType), true);
+
+		if (boxed) {
+			final String wrapperType = AsmUtils.toType(AsmUtils.wrappers.get(valueType));
+			mv.visitMethodInsn(INVOKESTATIC, wrapperType, "valueOf", "(" + AsmUtils.toDeclaredLType(valueType) + ")L" + wrapperType + ";", false);
+			mv.visitVarInsn(ALOAD, 1);
+			mv.visitMethodInsn(INVOKEINTERFACE, RESULT_SET_TYPE, "wasNull", "()Z", true);
+			Label notNull = new Label();
+			mv.visitJumpInsn(IFEQ, notNull);
+			mv.visitInsn(POP);
+			mv.visitInsn(ACONST_NULL);
+			mv.visitLabel(notNull);
+		}
+
+		final Class<?> declaringClass = setter.getDeclaringClass();
+		final boolean isInterface = declaringClass.isInterface();
+		mv.visitMethodInsn(isInterface ? INVOKEINTERFACE : INVOKEVIRTUAL, AsmUtils.toType(declaringClass),
+				setter.getName(), AsmUtils.toSignature(setter), isInterface);
+
+		final Class<?> returnType = setter.getReturnType();
+		if (long.class.equals(returnType) || double.class.equals(returnType)) {
+			mv.visitInsn(POP2);
+		} else if (!void.class.equals(returnType)) {
+			mv.visitInsn(POP);
+		}
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) return true;
+		if (o == null || getClass() != o.getClass()) return false;
+
+		JdbcInlinedFieldMapping that = (JdbcInlinedFieldMapping) o;
+
+		return column == that.column
+				&& boxed == that.boxed
+				&& getterName.equals(that.getterName)
+				&& valueType.equals(that.valueType)
+				&& setter.equals(that.setter);
+	}
+
+	@Override
+	public int hashCode() {
+		int result = column;
+		result = 31 * result + getterName.hashCode();
+		result = 31 * result + valueType.hashCode();
+		result = 31 * result + (boxed ? 1 : 0);
+		result = 31 * result + setter.hashCode();
+		return result;
+	}
+
+	@Override
+	public String toString() {
+		return "JdbcInlinedFieldMapping{" +
+				"column=" + column +
+				", getterName='" + getterName + '\'' +
+				", boxed=" + boxed +
+				", setter=" + setter +
+				'}';
+	}
+}
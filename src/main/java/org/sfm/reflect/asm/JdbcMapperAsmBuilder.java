@@ -26,6 +26,13 @@ public class JdbcMapperAsmBuilder {
     private static final String mappingContextFactory = AsmUtils.toType(MappingContextFactory.class);
 
     public static <S,T> byte[] dump (final String className, final FieldMapper<S, T>[] mappers, final FieldMapper<S, T>[] constructorMappers, final Class<T> target) throws Exception {
+        return dump(className, mappers, constructorMappers, target, null);
+    }
+
+    /**
+     * @param inlinedMappings the mappings to generate in place of the call to the FieldMapper of the same index, can be null
+     */
+    static <S,T> byte[] dump (final String className, final FieldMapper<S, T>[] mappers, final FieldMapper<S, T>[] constructorMappers, final Class<T> target, final JdbcInlinedFieldMapping[] inlinedMappings) throws Exception {
         ClassWriter cw = new ClassWriter(ClassWriter.COMPUTE_MAXS);
         MethodVisitor mv;
 
@@ -87,7 +94,11 @@ public class JdbcMapperAsmBuilder {
 			mv.visitCode();
 
 			for(int i = 0; i < mappers.length; i++) {
-				generateMappingCall(mv, mappers[i], i, classType, sourceType, targetType);
+				if (inlinedMappings != null && inlinedMappings[i] != null) {
+					inlinedMappings[i].generateMapping(mv);
+				} else {
+					generateMappingCall(mv, mappers[i], i, classType, sourceType, targetType);
+				}
 			}
 			
 			mv.visitInsn(RETURN);
@@ -162,26 +173,22 @@ public class JdbcMapperAsmBuilder {
 
             for(int i = 0; i < mappers.length; i++) {
                 String mapperName =  ", mapper" + i + "=";
-                String mapper = String.valueOf(mappers[i]);
 
                 mv.visitLdcInsn(mapperName);
                 mv.visitMethodInsn(INVOKEVIRTUAL, "java/lang/StringBuilder", "append", "(Ljava/lang/String;)Ljava/lang/StringBuilder;", false);
 
-                mv.visitLdcInsn(mapper);
-                mv.visitMethodInsn(INVOKEVIRTUAL, "java/lang/StringBuilder", "append", "(Ljava/lang/String;)Ljava/lang/StringBuilder;", false);
+                appendMapperField(mv, mappers[i], "mapper" + i, classType);
 
 
             }
 
             for(int i = 0; i < constructorMappers.length; i++) {
                 String mapperName = ", constructorMapper" + i + "=";
-                String mapper = String.valueOf(constructorMappers[i]);
 
                 mv.visitLdcInsn(mapperName);
                 mv.visitMethodInsn(INVOKEVIRTUAL, "java/lang/StringBuilder", "append", "(Ljava/lang/String;)Ljava/lang/StringBuilder;", false);
 
-                mv.visitLdcInsn(mapper);
-                mv.visitMethodInsn(INVOKEVIRTUAL, "java/lang/StringBuilder", "append", "(Ljava/lang/String;)Ljava/lang/StringBuilder;", false);
+                appendMapperField(mv, constructorMappers[i], "constructorMapper" + i, classType);
             }
 
 
@@ -235,6 +242,18 @@ public class JdbcMapperAsmBuilder {
     }
 
 
+	// read the mapper field rather than embedding its toString so the bytecodes only depend on the mapper classes
+	private static <S, T> void appendMapperField(MethodVisitor mv, FieldMapper<S, T> mapper, String fieldName, String classType) {
+		if (mapper == null) {
+			mv.visitLdcInsn("null");
+			mv.visitMethodInsn(INVOKEVIRTUAL, "java/lang/StringBuilder", "append", "(Ljava/lang/String;)Ljava/lang/StringBuilder;", false);
+		} else {
+			mv.visitVarInsn(ALOAD, 0);
+			mv.visitFieldInsn(GETFIELD, classType, fieldName, toTargetTypeDeclaration(AsmUtils.toType(AsmUtils.getPublicOrInterfaceClass(mapper.getClass()))));
+			mv.visitMethodInsn(INVOKEVIRTUAL, "java/lang/StringBuilder", "append", "(Ljava/lang/Object;)Ljava/lang/StringBuilder;", false);
+		}
+	}
+
 	private static <S, T> void addGetterSetterInit(MethodVisitor mv,
 			FieldMapper<S, T> mapper, int index, String classType) {
 		if (mapper == null) return;
@@ -13,18 +13,28 @@ public class JdbcMapperKey {
     private final Class<?>[] constructorFieldMappers;
     private final Class<?> instantiator;
     private final Class<?> target;
-
+    private final JdbcInlinedFieldMapping[] inlinedMappings;
 
     public JdbcMapperKey(JdbcColumnKey[] keys,
                          FieldMapper<?, ?>[] fieldMappers,
                          FieldMapper<?, ?>[] constructorFieldMappers,
                          Instantiator<?, ?> instantiator,
                          Class<?> target) {
+        this(keys, fieldMappers, constructorFieldMappers, instantiator, target, null);
+    }
+
+    public JdbcMapperKey(JdbcColumnKey[] keys,
+                         FieldMapper<?, ?>[] fieldMappers,
+                         FieldMapper<?, ?>[] constructorFieldMappers,
+                         Instantiator<?, ?> instantiator,
+                         Class<?> target,
+                         JdbcInlinedFieldMapping[] inlinedMappings) {
         this.keys = keys;
         this.fieldMappers = getClassArray(fieldMappers);
         this.constructorFieldMappers = getClassArray(constructorFieldMappers);
         this.instantiator = getClass(instantiator);
         this.target = target;
+        this.inlinedMappings = inlinedMappings;
     }
 
     private Class<?>[] getClassArray(Object[] objects) {
@@ -61,6 +71,7 @@ public class JdbcMapperKey {
         // Probably incorrect - comparing Object[] arrays with Arrays.equals
         if (!Arrays.equals(constructorFieldMappers, that.constructorFieldMappers)) return false;
         if (instantiator != null ? !instantiator.equals(that.instantiator) : that.instantiator != null) return false;
+        if (!Arrays.equals(inlinedMappings, that.inlinedMappings)) return false;
         return !(target != null ? !target.equals(that.target) : that.target != null);
 
     }
@@ -72,6 +83,7 @@ public class JdbcMapperKey {
         result = 31 * result + (constructorFieldMappers != null ? Arrays.hashCode(constructorFieldMappers) : 0);
         result = 31 * result + (instantiator != null ? instantiator.hashCode() : 0);
         result = 31 * result + (target != null ? target.hashCode() : 0);
+        result = 31 * result + (inlinedMappings != null ? Arrays.hashCode(inlinedMappings) : 0);
         return result;
     }
 }
@@ -0,0 +1,34 @@
+package org.sfm.reflect.impl;
+
+import org.sfm.reflect.Getter;
+
+/**
+ * Read a sub property, null if the owner property is null.
+ */
+public final class GetterOnGetter<T, I, P> implements Getter<T, P> {
+
+	private final Getter<T, ? extends I> ownerGetter;
+	private final Getter<I, ? extends P> subGetter;
+
+	public GetterOnGetter(Getter<T, ? extends I> ownerGetter, Getter<I, ? extends P> subGetter) {
+		this.ownerGetter = ownerGetter;
+		this.subGetter = subGetter;
+	}
+
+	@Override
+	public P get(T target) throws Exception {
+		final I owner = ownerGetter.get(target);
+		if (owner == null) {
+			return null;
+		}
+		return subGetter.get(owner);
+	}
+
+	@Override
+	public String toString() {
+		return "GetterOnGetter{" +
+				"ownerGetter=" + ownerGetter +
+				", subGetter=" + subGetter +
+				'}';
+	}
+}
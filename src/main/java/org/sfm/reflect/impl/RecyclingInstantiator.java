@@ -0,0 +1,62 @@
+package org.sfm.reflect.impl;
+
+import org.sfm.reflect.Instantiator;
+
+/**
+ * Instantiator handing out, on each thread, the instances of a ring of ringSize instances in turn.
+ * <p>
+ * The instances are created by the delegate on first use, the mapper then populates them again through
+ * the setters. An object passed to a RowHandler is only stable until ringSize more rows are mapped on the same thread.
+ * @param <S> the source type
+ * @param <T> the target type
+ */
+public final class RecyclingInstantiator<S, T> implements Instantiator<S, T> {
+
+	private final Instantiator<S, T> delegate;
+	private final int ringSize;
+	private final ThreadLocal<Ring> rings = new ThreadLocal<Ring>() {
+		@Override
+		protected Ring initialValue() {
+			return new Ring(ringSize);
+		}
+	};
+
+	public RecyclingInstantiator(Instantiator<S, T> delegate, int ringSize) {
+		if (ringSize < 1) {
+			throw new IllegalArgumentException("ringSize needs to be at least 1");
+		}
+		this.delegate = delegate;
+		this.ringSize = ringSize;
+	}
+
+	@SuppressWarnings("unchecked")
+	@Override
+	public T newInstance(S s) throws Exception {
+		final Ring ring = rings.get();
+		final int i = ring.index;
+		Object instance = ring.instances[i];
+		if (instance == null) {
+			instance = delegate.newInstance(s);
+			ring.instances[i] = instance;
+		}
+		ring.index = i + 1 == ringSize ? 0 : i + 1;
+		return (T) instance;
+	}
+
+	private static final class Ring {
+		private final Object[] instances;
+		private int index;
+
+		private Ring(int size) {
+			this.instances = new Object[size];
+		}
+	}
+
+	@Override
+	public String toString() {
+		return "RecyclingInstantiator{" +
+				"delegate=" + delegate +
+				", ringSize=" + ringSize +
+				'}';
+	}
+}
@@ -137,6 +137,14 @@ public final class DefaultPropertyNameMatcher implements PropertyNameMatcher {
         return -1;
     }
 
+	String getColumn() {
+		return column;
+	}
+
+	int getFrom() {
+		return from;
+	}
+
 	public static PropertyNameMatcher of(String value) {
 		return new DefaultPropertyNameMatcher(value, 0, false, false);
 	}
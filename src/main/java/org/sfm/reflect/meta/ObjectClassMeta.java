@@ -22,6 +22,9 @@ public final class ObjectClassMeta<T> implements ClassMeta<T> {
 	private final Type target;
 
 	private final Map<String, String> fieldAliases;
+
+	private final PropertyNameIndex propertiesIndex;
+	private final PropertyNameIndex constructorPropertiesIndex;
 	
 	public ObjectClassMeta(Type target, ReflectionService reflectService) throws MapperBuildingException {
 		this.target = target;
@@ -35,6 +38,8 @@ public final class ObjectClassMeta<T> implements ClassMeta<T> {
 		}
 		this.fieldAliases = Collections.unmodifiableMap(aliases(reflectService, TypeHelper.<T>toClass(target)));
 		this.properties = Collections.unmodifiableList(listProperties(reflectService, target));
+		this.propertiesIndex = newIndex(properties);
+		this.constructorPropertiesIndex = newIndex(constructorProperties);
 	}
 
     public ObjectClassMeta(Type target,
@@ -48,6 +53,17 @@ public final class ObjectClassMeta<T> implements ClassMeta<T> {
         this.instantiatorDefinitions = instantiatorDefinitions;
         this.fieldAliases = Collections.unmodifiableMap(aliases(reflectService, TypeHelper.<T>toClass(target)));
         this.reflectService = reflectService;
+        this.propertiesIndex = newIndex(properties);
+        this.constructorPropertiesIndex = newIndex(constructorProperties);
+    }
+
+    private PropertyNameIndex newIndex(List<? extends PropertyMeta<T, ?>> properties) {
+        if (properties == null) return null;
+        List<String> columnNames = new ArrayList<String>(properties.size());
+        for(PropertyMeta<T, ?> property : properties) {
+            columnNames.add(getAlias(property.getName()));
+        }
+        return new PropertyNameIndex(columnNames);
     }
 
     private Map<String, String> aliases(final ReflectionService reflectService, Class<T> target) {
@@ -178,6 +194,14 @@ public final class ObjectClassMeta<T> implements ClassMeta<T> {
 		return constructorProperties;
 	}
 
+	PropertyNameIndex getPropertiesIndex() {
+		return propertiesIndex;
+	}
+
+	PropertyNameIndex getConstructorPropertiesIndex() {
+		return constructorPropertiesIndex;
+	}
+
 	@Override
 	public ReflectionService getReflectionService() {
 		return reflectService;
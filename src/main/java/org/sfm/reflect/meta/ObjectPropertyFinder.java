@@ -78,8 +78,12 @@ final class ObjectPropertyFinder<T> implements PropertyFinder<T> {
     }
 
     private ConstructorPropertyMeta<T, ?> lookForConstructor(final PropertyNameMatcher propertyNameMatcher) {
-		if (classMeta.getConstructorProperties() != null) {
-			for (ConstructorPropertyMeta<T, ?> prop : classMeta.getConstructorProperties()) {
+		final List<ConstructorPropertyMeta<T, ?>> constructorProperties = classMeta.getConstructorProperties();
+		if (constructorProperties != null) {
+			final int[] candidates = exactCandidates(classMeta.getConstructorPropertiesIndex(), propertyNameMatcher);
+			final int nbCandidates = candidates != null ? candidates.length : constructorProperties.size();
+			for (int i = 0; i < nbCandidates; i++) {
+				ConstructorPropertyMeta<T, ?> prop = constructorProperties.get(candidates != null ? candidates[i] : i);
 				if (propertyNameMatcher.matches(getColumnName(prop))
 						&& hasConstructorMatching(prop.getParameter())) {
 					return prop;
@@ -91,7 +95,11 @@ final class ObjectPropertyFinder<T> implements PropertyFinder<T> {
 	}
 
 	private PropertyMeta<T, ?> lookForProperty(final PropertyNameMatcher propertyNameMatcher) {
-		for (PropertyMeta<T, ?> prop : classMeta.getProperties()) {
+		final List<PropertyMeta<T, ?>> properties = classMeta.getProperties();
+		final int[] candidates = exactCandidates(classMeta.getPropertiesIndex(), propertyNameMatcher);
+		final int nbCandidates = candidates != null ? candidates.length : properties.size();
+		for (int i = 0; i < nbCandidates; i++) {
+			PropertyMeta<T, ?> prop = properties.get(candidates != null ? candidates[i] : i);
 			if (propertyNameMatcher.matches(getColumnName(prop))) {
 				return prop;
 			}
@@ -101,8 +109,12 @@ final class ObjectPropertyFinder<T> implements PropertyFinder<T> {
 	
 	@SuppressWarnings({ "unchecked", "rawtypes" })
 	private PropertyMeta<T, ?> lookForSubPropertyInConstructors(final PropertyNameMatcher propertyNameMatcher) {
-		if (classMeta.getConstructorProperties() != null) {
-			for (ConstructorPropertyMeta<T, ?> prop : classMeta.getConstructorProperties()) {
+		final List<ConstructorPropertyMeta<T, ?>> constructorProperties = classMeta.getConstructorProperties();
+		if (constructorProperties != null) {
+			final int[] candidates = prefixCandidates(classMeta.getConstructorPropertiesIndex(), propertyNameMatcher);
+			final int nbCandidates = candidates != null ? candidates.length : constructorProperties.size();
+			for (int i = 0; i < nbCandidates; i++) {
+				ConstructorPropertyMeta<T, ?> prop = constructorProperties.get(candidates != null ? candidates[i] : i);
 				PropertyNameMatcher subPropMatcher = propertyNameMatcher.partialMatch(getColumnName(prop));
 				if (subPropMatcher != null && hasConstructorMatching(prop.getParameter())) {
 					PropertyMeta<?, ?> subProp = lookForSubProperty(subPropMatcher, prop);
@@ -117,7 +129,11 @@ final class ObjectPropertyFinder<T> implements PropertyFinder<T> {
 
 	@SuppressWarnings({ "unchecked", "rawtypes" })
 	private PropertyMeta<T, ?> lookForSubProperty(final PropertyNameMatcher propertyNameMatcher) {
-		for (PropertyMeta<T, ?> prop : classMeta.getProperties()) {
+		final List<PropertyMeta<T, ?>> properties = classMeta.getProperties();
+		final int[] candidates = prefixCandidates(classMeta.getPropertiesIndex(), propertyNameMatcher);
+		final int nbCandidates = candidates != null ? candidates.length : properties.size();
+		for (int i = 0; i < nbCandidates; i++) {
+			PropertyMeta<T, ?> prop = properties.get(candidates != null ? candidates[i] : i);
 			PropertyNameMatcher subPropMatcher = propertyNameMatcher.partialMatch(getColumnName(prop));
 			if (subPropMatcher != null) {
 				PropertyMeta<?, ?> subProp =  lookForSubProperty(subPropMatcher, prop);
@@ -142,6 +158,26 @@ final class ObjectPropertyFinder<T> implements PropertyFinder<T> {
 		return subPropertyFinder.findProperty(propertyNameMatcher);
 	}
 
+    /**
+     * @return the indexes of the properties that can match, null if the matcher is not a DefaultPropertyNameMatcher and
+     * all the properties need to be checked
+     */
+    private int[] exactCandidates(PropertyNameIndex index, PropertyNameMatcher propertyNameMatcher) {
+        if (index != null && propertyNameMatcher instanceof DefaultPropertyNameMatcher) {
+            DefaultPropertyNameMatcher matcher = (DefaultPropertyNameMatcher) propertyNameMatcher;
+            return index.exactCandidates(matcher.getColumn(), matcher.getFrom());
+        }
+        return null;
+    }
+
+    private int[] prefixCandidates(PropertyNameIndex index, PropertyNameMatcher propertyNameMatcher) {
+        if (index != null && propertyNameMatcher instanceof DefaultPropertyNameMatcher) {
+            DefaultPropertyNameMatcher matcher = (DefaultPropertyNameMatcher) propertyNameMatcher;
+            return index.prefixCandidates(matcher.getColumn(), matcher.getFrom());
+        }
+        return null;
+    }
+
     private String getColumnName(PropertyMeta<T, ?> prop) {
         return this.classMeta.getAlias(prop.getName());
     }
@@ -0,0 +1,122 @@
+package org.sfm.reflect.meta;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Trie of the property names normalized to lower case without the '_', ' ' and '.' separators.
+ * <p>
+ * A column matched by the {@link DefaultPropertyNameMatcher} has the same normalized name as the property,
+ * or starts with it for a partial match, so the index returns the few candidate properties to check with the matcher
+ * instead of checking all of them. The candidates are returned in the order of the list the index was built from.
+ */
+final class PropertyNameIndex {
+
+	private static final int[] EMPTY = new int[0];
+
+	private final Node root = new Node();
+
+	PropertyNameIndex(List<String> names) {
+		for(int i = 0; i < names.size(); i++) {
+			add(names.get(i), i);
+		}
+	}
+
+	private void add(String name, int index) {
+		Node node = root;
+		for(int i = 0; i < name.length(); i++) {
+			char c = name.charAt(i);
+			if (!isSeparator(c)) {
+				node = node.getOrCreateChild(Character.toLowerCase(c));
+			}
+		}
+		node.indexes = append(node.indexes, index);
+	}
+
+	/**
+	 * @param column the column
+	 * @param from the index of the first char of the column to match
+	 * @return the indexes of the names with the same normalized name as column from from
+	 */
+	int[] exactCandidates(String column, int from) {
+		Node node = root;
+		for(int i = from; i < column.length() && node != null; i++) {
+			char c = column.charAt(i);
+			if (!isSeparator(c)) {
+				node = node.getChild(Character.toLowerCase(c));
+			}
+		}
+		return node != null ? node.indexes : EMPTY;
+	}
+
+	/**
+	 * @param column the column
+	 * @param from the index of the first char of the column to match
+	 * @return the indexes, in ascending order, of the names with a normalized name prefix of the column from from
+	 */
+	int[] prefixCandidates(String column, int from) {
+		Node node = root;
+		int[] candidates = node.indexes;
+		for(int i = from; i < column.length(); i++) {
+			char c = column.charAt(i);
+			if (!isSeparator(c)) {
+				node = node.getChild(Character.toLowerCase(c));
+				if (node == null) {
+					break;
+				}
+				if (node.indexes.length > 0) {
+					candidates = merge(candidates, node.indexes);
+				}
+			}
+		}
+		return candidates;
+	}
+
+	private static boolean isSeparator(char c) {
+		return c == '_' || c == ' ' || c == '.';
+	}
+
+	private static int[] append(int[] indexes, int index) {
+		int[] newIndexes = Arrays.copyOf(indexes, indexes.length + 1);
+		newIndexes[indexes.length] = index;
+		return newIndexes;
+	}
+
+	private static int[] merge(int[] indexes1, int[] indexes2) {
+		if (indexes1.length == 0) {
+			return indexes2;
+		}
+		int[] merged = new int[indexes1.length + indexes2.length];
+		System.arraycopy(indexes1, 0, merged, 0, indexes1.length);
+		System.arraycopy(indexes2, 0, merged, indexes1.length, indexes2.length);
+		Arrays.sort(merged);
+		return merged;
+	}
+
+	private static final class Node {
+		private char[] keys = new char[0];
+		private Node[] children = new Node[0];
+		private int[] indexes = EMPTY;
+
+		private Node getChild(char c) {
+			for(int i = 0; i < keys.length; i++) {
+				if (keys[i] == c) {
+					return children[i];
+				}
+			}
+			return null;
+		}
+
+		private Node getOrCreateChild(char c) {
+			Node child = getChild(c);
+			if (child == null) {
+				child = new Node();
+				keys = Arrays.copyOf(keys, keys.length + 1);
+				keys[keys.length - 1] = c;
+				children = Arrays.copyOf(children, children.length + 1);
+				children[children.length - 1] = child;
+			}
+			return child;
+		}
+	}
+}
@@ -0,0 +1,17 @@
+package org.sfm.utils;
+
+/**
+ * Call back receiving the objects of a join mapped in chunks of a bounded number of rows.<p>
+ * An object with more rows than the chunk size is received as several objects with the same keys, the first one
+ * with continuation false and the following ones with continuation true.
+ *
+ * @param <T> the type of the call back argument
+ */
+public interface ChunkHandler<T> {
+	/**
+	 * @param chunk the object joined on at most the chunk size rows
+	 * @param continuation true if chunk holds the following rows of the object received by the previous call
+	 * @throws Exception if an error occurred
+	 */
+	void handle(T chunk, boolean continuation) throws Exception;
+}
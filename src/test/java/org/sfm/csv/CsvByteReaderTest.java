@@ -0,0 +1,221 @@
+package org.sfm.csv;
+
+import org.junit.Test;
+import org.sfm.csv.impl.ParsingContext;
+import org.sfm.csv.impl.cellreader.DateCellValueReader;
+import org.sfm.csv.impl.cellreader.IntegerCellValueReaderImpl;
+import org.sfm.csv.impl.cellreader.StringCellValueReader;
+import org.sfm.csv.impl.cellreader.time.JavaLocalDateCellValueReader;
+import org.sfm.csv.parser.ByteCellConsumer;
+import org.sfm.utils.ListHandler;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.Charset;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.Random;
+import java.util.TimeZone;
+//IFJAVA8_START
+import java.time.LocalDate;
+//IFJAVA8_END
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+public class CsvByteReaderTest {
+
+	private static final Charset UTF8 = Charset.forName("UTF-8");
+
+	@Test
+	public void testSameCellsAsCsvReader() throws IOException {
+		Random random = new Random(7);
+		for(int i = 0; i < 20; i++) {
+			String content = randomCsv(random, ',', '"');
+			for(int bufferSize : new int[] {1, 3, 16, 8192}) {
+				assertSameRows(CsvParser.bufferSize(bufferSize), content);
+			}
+		}
+	}
+
+	@Test
+	public void testSameCellsAsCsvReaderWithCustomSeparatorAndQuote() throws IOException {
+		Random random = new Random(11);
+		for(int i = 0; i < 20; i++) {
+			String content = randomCsv(random, ';', '\'');
+			assertSameRows(CsvParser.separator(';').quote('\'').bufferSize(4), content);
+		}
+	}
+
+	@Test
+	public void testSameCellsAsCsvReaderOnLongCells() throws IOException {
+		Random random = new Random(13);
+		String[] samples = {"a", "z", "é", "€", "\u00ff", " ", "\n", "\r\n", ",", "\"", "\"x,\n\"\"y\""};
+		for(int i = 0; i < 20; i++) {
+			StringBuilder sb = new StringBuilder();
+			int nb = random.nextInt(2000);
+			for(int j = 0; j < nb; j++) {
+				String sample = samples[random.nextInt(samples.length)];
+				int repeat = sample.length() == 1 && Character.isLetter(sample.charAt(0)) ? random.nextInt(20) : 1;
+				for(int k = 0; k < repeat; k++) {
+					sb.append(sample);
+				}
+			}
+			for(int bufferSize : new int[] {7, 9, 64, 8192}) {
+				assertSameRows(CsvParser.bufferSize(bufferSize), sb.toString());
+			}
+		}
+	}
+
+	@Test
+	public void testSkipAndParseRow() throws IOException {
+		CsvByteReader reader = CsvParser.skip(1).byteReader(new ByteArrayInputStream("id,name\n1,a\n2,b".getBytes(UTF8)));
+		final List<Integer> ids = new ArrayList<Integer>();
+		ByteCellConsumer consumer = new ByteCellConsumer() {
+			boolean first = true;
+			@Override
+			public void newCell(byte[] bytes, int offset, int length) {
+				if (first) {
+					ids.add(IntegerCellValueReaderImpl.parseInt(bytes, offset, length));
+				}
+				first = false;
+			}
+
+			@Override
+			public void endOfRow() {
+				first = true;
+			}
+
+			@Override
+			public void end() {
+			}
+		};
+		reader.parseRow(consumer);
+		assertEquals(Arrays.asList(1), ids);
+		reader.parseAll(consumer);
+		assertEquals(Arrays.asList(1, 2), ids);
+	}
+
+	@Test
+	public void testReadDatesFromTheByteCells() throws Exception {
+		final String[] values = { "2014-03-01", "2014-02-30", "2014-3-1", "1970-01-01" };
+		StringBuilder content = new StringBuilder();
+		for(String value : values) {
+			content.append(value).append(",\"").append(value).append("\"\n");
+		}
+		final TimeZone timeZone = TimeZone.getTimeZone("Europe/Paris");
+		final DateCellValueReader dateReader = new DateCellValueReader(0, "yyyy-MM-dd", timeZone);
+		final ParsingContext parsingContext = new ParsingContext(new Object[] { dateReader.newContext() });
+		final List<Date> dates = new ArrayList<Date>();
+
+		CsvParser.byteReader(new ByteArrayInputStream(content.toString().getBytes(UTF8))).parseAll(new ByteCellConsumer() {
+			@Override
+			public void newCell(byte[] bytes, int offset, int length) {
+				dates.add(dateReader.read(bytes, offset, length, parsingContext));
+			}
+
+			@Override
+			public void endOfRow() {
+			}
+
+			@Override
+			public void end() {
+			}
+		});
+
+		SimpleDateFormat sdf = new SimpleDateFormat("yyyy-MM-dd");
+		sdf.setTimeZone(timeZone);
+		assertEquals(values.length * 2, dates.size());
+		for(int i = 0; i < values.length; i++) {
+			assertEquals(values[i], sdf.parse(values[i]), dates.get(i * 2));
+			assertEquals(values[i], sdf.parse(values[i]), dates.get(i * 2 + 1));
+		}
+	}
+
+	//IFJAVA8_START
+	@Test
+	public void testReadLocalDatesFromTheByteCells() throws Exception {
+		final JavaLocalDateCellValueReader reader = new JavaLocalDateCellValueReader("dd/MM/yyyy", TimeZone.getTimeZone("UTC"));
+		final JavaLocalDateCellValueReader fallbackReader = new JavaLocalDateCellValueReader("d/M/yyyy", TimeZone.getTimeZone("UTC"));
+		final List<LocalDate> dates = new ArrayList<LocalDate>();
+
+		CsvParser.byteReader(new ByteArrayInputStream("01/03/2014,1/3/2014\n29/02/2016,29/2/2016".getBytes(UTF8))).parseAll(new ByteCellConsumer() {
+			boolean first = true;
+			@Override
+			public void newCell(byte[] bytes, int offset, int length) {
+				dates.add((first ? reader : fallbackReader).read(bytes, offset, length, null));
+				first = false;
+			}
+
+			@Override
+			public void endOfRow() {
+				first = true;
+			}
+
+			@Override
+			public void end() {
+			}
+		});
+
+		assertEquals(Arrays.asList(LocalDate.of(2014, 3, 1), LocalDate.of(2014, 3, 1), LocalDate.of(2016, 2, 29), LocalDate.of(2016, 2, 29)), dates);
+	}
+	//IFJAVA8_END
+
+	@Test
+	public void testFailOnNonAsciiCompatibleCharset() throws IOException {
+		try {
+			CsvParser.schema().charset(Charset.forName("UTF-16")).byteReader(new ByteArrayInputStream(new byte[0]));
+			fail();
+		} catch (IllegalArgumentException e) {
+			// expected
+		}
+	}
+
+	private void assertSameRows(CsvParser.DSL dsl, String content) throws IOException {
+		List<String[]> expected = dsl.reader(new StringReader(content)).read(new ListHandler<String[]>()).getList();
+		List<String[]> actual = dsl.byteReader(new ByteArrayInputStream(content.getBytes(UTF8))).parseAll(new RowsConsumer()).rows;
+
+		assertEquals(content, expected.size(), actual.size());
+		for(int i = 0; i < expected.size(); i++) {
+			assertEquals(content, Arrays.asList(expected.get(i)), Arrays.asList(actual.get(i)));
+		}
+	}
+
+	private String randomCsv(Random random, char separator, char quote) {
+		String[] samples = {"a", "bb", "é", "€", "\n", "\r\n", "\r", String.valueOf(separator), String.valueOf(quote),
+				quote + "x" + separator + "\n" + quote + quote + "y" + quote};
+		StringBuilder sb = new StringBuilder();
+		int nb = random.nextInt(50);
+		for(int i = 0; i < nb; i++) {
+			sb.append(samples[random.nextInt(samples.length)]);
+		}
+		return sb.toString();
+	}
+
+	private static class RowsConsumer implements ByteCellConsumer {
+		private final List<String[]> rows = new ArrayList<String[]>();
+		private final List<String> row = new ArrayList<String>();
+
+		@Override
+		public void newCell(byte[] bytes, int offset, int length) {
+			row.add(StringCellValueReader.readString(bytes, offset, length));
+		}
+
+		@Override
+		public void endOfRow() {
+			rows.add(row.toArray(new String[0]));
+			row.clear();
+		}
+
+		@Override
+		public void end() {
+			if (!row.isEmpty()) {
+				endOfRow();
+			}
+		}
+	}
+}
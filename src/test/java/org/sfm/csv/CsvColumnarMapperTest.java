@@ -0,0 +1,145 @@
+package org.sfm.csv;
+
+import org.junit.Test;
+import org.sfm.map.ColumnBatch;
+import org.sfm.map.IgnoreMapperBuilderErrorHandler;
+import org.sfm.map.MapperBuildingException;
+import org.sfm.utils.RowHandler;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+public class CsvColumnarMapperTest {
+
+	@Test
+	public void testMapBatches() throws IOException {
+		CsvColumnarMapper<Measure> mapper = CsvMapperFactory.newInstance()
+				.mapperBuilderErrorHandler(new IgnoreMapperBuilderErrorHandler()).newColumnarMapper(Measure.class);
+
+		final List<String> rows = new ArrayList<String>();
+		final List<Integer> sizes = new ArrayList<Integer>();
+		mapper.forEachBatch(new StringReader("id,count,value,valid,name,ignored\n"
+				+ "1,10,1.5,true,a,x\n"
+				+ "2,20,-2.25,false,b,x\n"
+				+ "3,,,,,x\n"
+				+ "4,40,4"), 2, new RowHandler<ColumnBatch<Measure>>() {
+			@Override
+			public void handle(ColumnBatch<Measure> batch) throws Exception {
+				assertEquals(2, batch.capacity());
+				sizes.add(batch.size());
+				long[] ids = batch.getLongColumn("id");
+				int[] counts = batch.getIntColumn("count");
+				double[] values = batch.getDoubleColumn("value");
+				boolean[] valids = batch.getBooleanColumn("valid");
+				String[] names = batch.getStringColumn("name");
+				for(int i = 0; i < batch.size(); i++) {
+					rows.add(ids[i] + ":" + counts[i] + ":" + values[i] + ":" + valids[i] + ":" + names[i]);
+				}
+			}
+		});
+
+		assertEquals(Arrays.asList(2, 2), sizes);
+		assertArrayEquals(new String[] {
+				"1:10:1.5:true:a",
+				"2:20:-2.25:false:b",
+				"3:0:0.0:false:",
+				"4:40:4.0:false:null"}, rows.toArray());
+	}
+
+	@Test
+	public void testColumnDefinitionsAndNullBitmaps() throws IOException {
+		CsvColumnarMapper<Measure> mapper = CsvMapperFactory.newInstance()
+				.addAlias("nb", "count")
+				.addColumnDefinition("id", CsvColumnDefinition.ignoreDefinition())
+				.newColumnarMapper(Measure.class);
+
+		final List<String> rows = new ArrayList<String>();
+		mapper.forEachBatch(new StringReader("id,nb,value,name\n"
+				+ "1,10,1.5,a\n"
+				+ "2,,,\n"
+				+ "3,30"), 2, new RowHandler<ColumnBatch<Measure>>() {
+			@Override
+			public void handle(ColumnBatch<Measure> batch) throws Exception {
+				assertEquals(-1, batch.indexOf("id"));
+				int[] counts = batch.getIntColumn("count");
+				for(int i = 0; i < batch.size(); i++) {
+					rows.add((batch.isNull(batch.indexOf("count"), i) ? "null" : String.valueOf(counts[i]))
+							+ ":" + batch.isNull(batch.indexOf("value"), i)
+							+ ":" + batch.isNull(batch.indexOf("name"), i));
+				}
+			}
+		});
+
+		assertEquals(Arrays.asList("10:false:false", "null:true:false", "30:true:true"), rows);
+	}
+
+	@Test
+	public void testUnmappedColumnFailsWithDefaultErrorHandler() throws IOException {
+		try {
+			CsvMapperFactory.newInstance().newColumnarMapper(Measure.class)
+					.forEachBatch(new StringReader("id,notthere\n1,2"), 10, new RowHandler<ColumnBatch<Measure>>() {
+						@Override
+						public void handle(ColumnBatch<Measure> batch) throws Exception {
+						}
+					});
+			fail("Expected MapperBuildingException");
+		} catch (MapperBuildingException e) {
+			// expected
+		}
+	}
+
+	public static class Measure {
+		private long id;
+		private int count;
+		private double value;
+		private boolean valid;
+		private String name;
+
+		public long getId() {
+			return id;
+		}
+
+		public void setId(long id) {
+			this.id = id;
+		}
+
+		public int getCount() {
+			return count;
+		}
+
+		public void setCount(int count) {
+			this.count = count;
+		}
+
+		public double getValue() {
+			return value;
+		}
+
+		public void setValue(double value) {
+			this.value = value;
+		}
+
+		public boolean isValid() {
+			return valid;
+		}
+
+		public void setValid(boolean valid) {
+			this.valid = valid;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+	}
+}
@@ -0,0 +1,274 @@
+package org.sfm.csv;
+
+import org.junit.Test;
+import org.sfm.csv.parser.RowBoundaryScanner;
+import org.sfm.csv.parser.StringArrayConsumer;
+import org.sfm.utils.ListHandler;
+import org.sfm.utils.RowHandler;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.io.Writer;
+import java.io.OutputStreamWriter;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+//IFJAVA8_START
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+//IFJAVA8_END
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class CsvFileParallelTest {
+
+	private static final int NB_ROWS = 2000;
+
+	@Test
+	public void testScannerSkipQuotedEndOfLine() throws IOException {
+		File file = writeFile("a,\"b\nc\",d\r\ne,\"\"\"\nf\"\ng");
+		RandomAccessFile raf = new RandomAccessFile(file, "r");
+		try {
+			FileChannel channel = raf.getChannel();
+			RowBoundaryScanner scanner = new RowBoundaryScanner(',', '"');
+			assertEquals(0, scanner.skipRows(channel, 0, 0, channel.size()));
+			assertEquals(11, scanner.skipRows(channel, 0, 1, channel.size()));
+			assertEquals(20, scanner.skipRows(channel, 0, 2, channel.size()));
+			assertEquals(channel.size(), scanner.skipRows(channel, 0, 3, channel.size()));
+			assertEquals(11, scanner.nextRowStart(channel, 0, 3, channel.size()));
+			assertEquals(20, scanner.nextRowStart(channel, 11, 12, channel.size()));
+		} finally {
+			raf.close();
+			file.delete();
+		}
+	}
+
+	@Test
+	public void testScannerRowStartNearFindsTheSameBoundaryAsTheSerialScan() throws IOException {
+		assertRowStartNearMatchesNextRowStart("a,\"b\nc\",d\r\ne,\"\"\"\nf\"\ng", 1);
+		assertRowStartNearMatchesNextRowStart("a,b\nc,d\r\ne,f\n\ng", 1);
+		assertRowStartNearMatchesNextRowStart(content(), 7);
+	}
+
+	@Test
+	public void testScannerRowStartNearInQuotedCellLongerThanTheLookahead() throws IOException {
+		String content = longQuotedCellContent();
+		assertRowStartNearMatchesNextRowStart(content, content.length() / 7);
+		assertRowStartNearMatchesNextRowStart("a,b\nc,d\r\n" + repeat("e,f\n", 1 << 15), 1 << 12);
+	}
+
+	private void assertRowStartNearMatchesNextRowStart(String content, int step) throws IOException {
+		File file = writeFile(content);
+		RandomAccessFile raf = new RandomAccessFile(file, "r");
+		try {
+			FileChannel channel = raf.getChannel();
+			RowBoundaryScanner scanner = new RowBoundaryScanner(',', '"');
+			for(long target = 0; target < channel.size(); target += step) {
+				assertEquals("target " + target, scanner.nextRowStart(channel, 0, target, channel.size()), scanner.rowStartNear(channel, 0, target, channel.size()));
+			}
+		} finally {
+			raf.close();
+			file.delete();
+		}
+	}
+
+	@Test
+	public void testMapperForEachOnFile() throws IOException {
+		File file = writeFile(content());
+		try {
+			CsvMapper<Row> mapper = CsvMapperFactory.newInstance().newMapper(Row.class);
+			List<Row> rows = mapper.forEach(file, new ListHandler<Row>()).getList();
+			assertEquals(NB_ROWS, rows.size());
+			for(int i = 0; i < NB_ROWS; i++) {
+				assertEquals(i, rows.get(i).getId());
+				assertEquals(expectedRow(i)[1], rows.get(i).getName());
+			}
+
+			assertEquals(10, CsvParser.limit(10).mapTo(Row.class).forEach(file, new ListHandler<Row>()).getList().size());
+		} finally {
+			file.delete();
+		}
+	}
+
+	//IFJAVA8_START
+	@Test
+	public void testParallelStreamMatchesSequentialParsing() throws IOException {
+		File file = writeFile(content());
+		try {
+			List<String[]> expected = new ArrayList<String[]>();
+			try (CsvReader reader = CsvParser.skip(1).reader(file)) {
+				for (String[] row : reader) {
+					expected.add(row);
+				}
+			}
+			assertEquals(NB_ROWS, expected.size());
+
+			CsvParser.DSL dsl = CsvParser.skip(1);
+			CsvFileSpliterator<String[]> spliterator = new CsvFileSpliterator<String[]>(file, dsl,
+					(handler) -> new StringArrayConsumer<RowHandler<String[]>>(handler::handle),
+					CsvFileSpliterator.rowStart(file, dsl, 1), file.length(), 64);
+
+			List<String[]> actual = StreamSupport.stream(spliterator, true).collect(Collectors.toList());
+
+			assertEquals(expected.size(), actual.size());
+			for(int i = 0; i < expected.size(); i++) {
+				assertArrayEquals(expected.get(i), actual.get(i));
+			}
+		} finally {
+			file.delete();
+		}
+	}
+
+	@Test
+	public void testSplitOnRowBoundaries() throws IOException {
+		File file = writeFile(content());
+		try {
+			CsvParser.DSL dsl = CsvParser.skip(1);
+			CsvFileSpliterator<String[]> spliterator = new CsvFileSpliterator<String[]>(file, dsl,
+					(handler) -> new StringArrayConsumer<RowHandler<String[]>>(handler::handle),
+					CsvFileSpliterator.rowStart(file, dsl, 1), file.length(), 64);
+
+			Spliterator<String[]> prefix = spliterator.trySplit();
+			assertTrue(prefix != null);
+
+			List<String[]> rows = new ArrayList<String[]>();
+			prefix.forEachRemaining(rows::add);
+			spliterator.forEachRemaining(rows::add);
+
+			assertEquals(NB_ROWS, rows.size());
+			for(int i = 0; i < NB_ROWS; i++) {
+				assertArrayEquals(expectedRow(i), rows.get(i));
+			}
+		} finally {
+			file.delete();
+		}
+	}
+
+	@Test
+	public void testMapperParallelStream() throws IOException {
+		File file = writeFile(content());
+		try {
+			CsvMapper<Row> mapper = CsvMapperFactory.newInstance().newMapper(Row.class);
+			List<Row> rows = mapper.stream(file).parallel().collect(Collectors.toList());
+			assertEquals(NB_ROWS, rows.size());
+			for(int i = 0; i < NB_ROWS; i++) {
+				assertEquals(i, rows.get(i).getId());
+				assertEquals(expectedRow(i)[1], rows.get(i).getName());
+			}
+
+			assertEquals(NB_ROWS, CsvParser.mapTo(Row.class).stream(file).parallel().unordered().count());
+		} finally {
+			file.delete();
+		}
+	}
+
+	@Test
+	public void testSplitInQuotedCellLongerThanTheLookahead() throws IOException {
+		File file = writeFile(longQuotedCellContent());
+		try {
+			CsvParser.DSL dsl = CsvParser.separator(',');
+			CsvFileSpliterator<String[]> spliterator = new CsvFileSpliterator<String[]>(file, dsl,
+					(handler) -> new StringArrayConsumer<RowHandler<String[]>>(handler::handle),
+					0, file.length(), 1024);
+
+			List<String[]> rows = StreamSupport.stream(spliterator, true).collect(Collectors.toList());
+
+			List<String[]> expected = new ArrayList<String[]>();
+			try (CsvReader reader = dsl.reader(file)) {
+				for (String[] row : reader) {
+					expected.add(row);
+				}
+			}
+			assertEquals(3, expected.size());
+			assertEquals(expected.size(), rows.size());
+			for(int i = 0; i < expected.size(); i++) {
+				assertArrayEquals(expected.get(i), rows.get(i));
+			}
+		} finally {
+			file.delete();
+		}
+	}
+	//IFJAVA8_END
+
+	/**
+	 * a quoted cell with end of lines and no quote over more than the lookahead of the scanner on both sides
+	 * of the middle of the file.
+	 */
+	private static String longQuotedCellContent() {
+		return "1,a\n2,\"" + repeat("x,y\n", 1 << 16) + "\"\n3,b\n";
+	}
+
+	private static String repeat(String str, int times) {
+		StringBuilder sb = new StringBuilder(str.length() * times);
+		for(int i = 0; i < times; i++) {
+			sb.append(str);
+		}
+		return sb.toString();
+	}
+
+	private static String content() {
+		StringBuilder sb = new StringBuilder("id,name\r\n");
+		for(int i = 0; i < NB_ROWS; i++) {
+			String[] row = expectedRow(i);
+			sb.append(row[0]).append(",");
+			if (i % 3 == 0) {
+				sb.append("\"").append(row[1].replace("\"", "\"\"")).append("\"");
+			} else {
+				sb.append(row[1]);
+			}
+			sb.append(i % 2 == 0 ? "\n" : "\r\n");
+		}
+		return sb.toString();
+	}
+
+	private static String[] expectedRow(int i) {
+		if (i % 3 == 0) {
+			return new String[] {String.valueOf(i), "multi\nline \"" + i + "\"\r\n,é"};
+		} else {
+			return new String[] {String.valueOf(i), "name" + i};
+		}
+	}
+
+	private static File writeFile(String content) throws IOException {
+		File file = File.createTempFile("sfm", ".csv");
+		Writer writer = new OutputStreamWriter(new FileOutputStream(file), "UTF-8");
+		try {
+			writer.write(content);
+		} finally {
+			writer.close();
+		}
+		return file;
+	}
+
+	public static class Row {
+		private int id;
+		private String name;
+
+		public int getId() {
+			return id;
+		}
+
+		public void setId(int id) {
+			this.id = id;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+
+		@Override
+		public String toString() {
+			return Arrays.toString(new Object[] {id, name});
+		}
+	}
+}
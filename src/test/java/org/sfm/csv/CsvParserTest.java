@@ -2,7 +2,9 @@ package org.sfm.csv;
 
 import org.junit.Test;
 import org.sfm.csv.impl.ParsingContext;
+import org.sfm.csv.impl.ParsingException;
 import org.sfm.csv.parser.CellConsumer;
+import org.sfm.csv.parser.StringArrayConsumer;
 import org.sfm.reflect.TypeReference;
 import org.sfm.tuples.*;
 import org.sfm.utils.ListHandler;
@@ -16,6 +18,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.Executor;
 
 import static org.junit.Assert.*;
 
@@ -59,12 +62,124 @@ public class CsvParserTest {
     @Test
 	public void testDSLRootConfig() {
 		assertEquals(9, CsvParser.bufferSize(9).bufferSize());
+		assertEquals(-1, CsvParser.schema().maxBufferSize());
+		assertEquals(64, CsvParser.maxBufferSize(64).maxBufferSize());
 		assertEquals(3, CsvParser.limit(3).limit());
 		assertEquals(3, CsvParser.skip(3).skip());
 		assertEquals('-', CsvParser.separator('-').separator());
 		assertEquals(';', CsvParser.quote(';').quote());
 	}
 
+	@Test
+	public void testMaxBufferSizeParsesCellsThatFit() throws IOException {
+		StringBuilder sb = new StringBuilder();
+		for(int i = 0; i < 28; i++) sb.append('a');
+		String longCell = sb.toString();
+
+		List<String[]> rows = CsvParser.bufferSize(4).maxBufferSize(32)
+				.reader(new StringReader("a,b\n\"" + longCell + "\",c\nd,e")).read(new ListHandler<String[]>()).getList();
+
+		assertEquals(3, rows.size());
+		assertArrayEquals(new String[] {"a", "b"}, rows.get(0));
+		assertArrayEquals(new String[] {longCell, "c"}, rows.get(1));
+		assertArrayEquals(new String[] {"d", "e"}, rows.get(2));
+	}
+
+	@Test
+	public void testReadAhead() throws IOException {
+		StringBuilder sb = new StringBuilder();
+		for(int i = 0; i < 1000; i++) {
+			sb.append(i).append(",\"name ").append(i).append("\"\n");
+		}
+		CsvParser.DSL dsl = CsvParser.bufferSize(16).readAhead();
+		assertNotNull(dsl.readAheadExecutor());
+
+		CsvReader reader = dsl.reader(new StringReader(sb.toString()));
+		try {
+			List<String[]> rows = reader.read(new ListHandler<String[]>()).getList();
+			assertEquals(1000, rows.size());
+			for(int i = 0; i < 1000; i++) {
+				assertArrayEquals(new String[] {String.valueOf(i), "name " + i}, rows.get(i));
+			}
+		} finally {
+			reader.close();
+		}
+	}
+
+	//IFJAVA8_START
+	@Test
+	public void testReadAheadOnSameThreadExecutor() throws IOException {
+		StringBuilder sb = new StringBuilder();
+		for(int i = 0; i < 1000; i++) {
+			sb.append(i).append(",name\n");
+		}
+		List<String[]> rows = CsvParser.bufferSize(16).readAhead(Runnable::run)
+				.parse(new StringReader(sb.toString()), new StringArrayConsumer<ListHandler<String[]>>(new ListHandler<String[]>()))
+				.handler().getList();
+		assertEquals(1000, rows.size());
+		assertArrayEquals(new String[] {"999", "name"}, rows.get(999));
+	}
+	//IFJAVA8_END
+
+	@Test
+	public void testReadAheadTaskEndsWhenTheParseStopsBeforeTheEnd() throws Exception {
+		StringBuilder sb = new StringBuilder();
+		for(int i = 0; i < 1000; i++) {
+			sb.append(i).append(",name\n");
+		}
+		final List<Thread> threads = new ArrayList<Thread>();
+		Executor executor = new Executor() {
+			@Override
+			public void execute(Runnable command) {
+				Thread thread = new Thread(command);
+				threads.add(thread);
+				thread.start();
+			}
+		};
+		CsvParser.DSL dsl = CsvParser.bufferSize(16).readAhead(executor);
+
+		dsl.limit(2).parse(new StringReader(sb.toString()), new StringArrayConsumer<ListHandler<String[]>>(new ListHandler<String[]>()));
+
+		try {
+			dsl.parse(new StringReader(sb.toString()), new CellConsumer() {
+				@Override
+				public void newCell(char[] chars, int offset, int length) {
+					throw new IllegalStateException();
+				}
+
+				@Override
+				public void endOfRow() {
+				}
+
+				@Override
+				public void end() {
+				}
+			});
+			fail();
+		} catch (IllegalStateException e) {
+			// expected
+		}
+
+		assertEquals(2, threads.size());
+		for(Thread thread : threads) {
+			thread.join(5000);
+			assertFalse(thread.isAlive());
+		}
+	}
+
+	@Test
+	public void testMaxBufferSizeFailsOnUnterminatedQuote() throws IOException {
+		StringBuilder sb = new StringBuilder("id,name\n1,\"unterminated\n");
+		for(int i = 0; i < 100; i++) sb.append(i).append(",name").append(i).append('\n');
+
+		try {
+			CsvParser.bufferSize(8).maxBufferSize(64).reader(new StringReader(sb.toString())).read(new ListHandler<String[]>());
+			fail();
+		} catch (ParsingException e) {
+			assertEquals(10, e.getPosition());
+		}
+	}
+
 	@Test
 	public void testDSLRootAction() throws IOException {
 		Iterator<String[]> it = CsvParser.iterator(getOneRowReader());
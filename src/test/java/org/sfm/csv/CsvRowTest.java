@@ -0,0 +1,99 @@
+package org.sfm.csv;
+
+import org.junit.Test;
+import org.sfm.csv.impl.ParsingException;
+import org.sfm.utils.RowHandler;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static org.junit.Assert.*;
+
+public class CsvRowTest {
+
+	private static final String CONTENT = "1,\"name, 1\",10000000000,1.5\n"
+			+ "-2,,-3,\n"
+			+ "3,name3";
+
+	@Test
+	public void testReadRows() throws IOException {
+		final List<String> values = new ArrayList<String>();
+		final CsvRow[] rows = new CsvRow[3];
+		final int[] index = new int[1];
+		CsvParser.bufferSize(4).reader(new StringReader(CONTENT)).readRows(new RowHandler<CsvRow>() {
+			@Override
+			public void handle(CsvRow row) throws Exception {
+				rows[index[0]++] = row;
+				values.add(row.getInt(0) + ":" + row.getString(1) + ":" + row.size());
+			}
+		});
+		assertEquals("[1:name, 1:4, -2::4, 3:name3:2]", values.toString());
+		assertSame(rows[0], rows[2]);
+	}
+
+	@Test
+	public void testTypedAccessors() throws IOException {
+		Iterator<CsvRow> iterator = CsvParser.reader(new StringReader(CONTENT)).rowIterator();
+
+		CsvRow row = iterator.next();
+		assertEquals(1, row.getInt(0));
+		assertEquals("name, 1", row.getString(1));
+		assertEquals(10000000000l, row.getLong(2));
+		assertEquals(1.5, row.getDouble(3), 0);
+		assertArrayEquals(new String[] {"1", "name, 1", "10000000000", "1.5"}, row.toArray());
+
+		CsvRow row2 = iterator.next();
+		assertSame(row, row2);
+		assertEquals(-2, row2.getInt(0));
+		assertTrue(row2.isEmpty(1));
+		assertEquals(-3l, row2.getLong(2));
+		assertTrue(Double.isNaN(row2.getDouble(3)));
+
+		assertTrue(iterator.hasNext());
+		assertEquals("CsvRow{cells=[3, name3]}", iterator.next().toString());
+		assertFalse(iterator.hasNext());
+		try {
+			iterator.next();
+			fail();
+		} catch (NoSuchElementException e) {
+			// expected
+		}
+	}
+
+	@Test
+	public void testAccessOutsideOfTheRow() throws IOException {
+		CsvRow row = CsvParser.reader(new StringReader("a,b,c,d\ne")).rowIterator().next();
+		try {
+			row.getInt(0);
+			fail();
+		} catch (ParsingException e) {
+			// expected
+		}
+		Iterator<CsvRow> iterator = CsvParser.reader(new StringReader("a,b,c,d\ne")).rowIterator();
+		iterator.next();
+		row = iterator.next();
+		assertEquals(1, row.size());
+		try {
+			row.getString(1);
+			fail();
+		} catch (IndexOutOfBoundsException e) {
+			// expected
+		}
+	}
+
+	@Test
+	public void testReadRowsWithLimit() throws IOException {
+		final List<String> values = new ArrayList<String>();
+		CsvParser.reader(new StringReader(CONTENT)).readRows(new RowHandler<CsvRow>() {
+			@Override
+			public void handle(CsvRow row) throws Exception {
+				values.add(row.getString(0));
+			}
+		}, 2);
+		assertEquals("[1, -2]", values.toString());
+	}
+}
@@ -0,0 +1,145 @@
+package org.sfm.csv;
+
+import org.junit.Test;
+import org.sfm.beans.Db1DeepObject;
+import org.sfm.beans.DbObject;
+import org.sfm.beans.DbPrimitiveObjectWithSetter;
+import org.sfm.map.MapperBuildingException;
+import org.sfm.utils.ListHandler;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.text.SimpleDateFormat;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class CsvWriterTest {
+
+	@Test
+	public void testWriteColumns() throws Exception {
+		StringWriter sw = new StringWriter();
+		CsvWriter<DbObject> writer = CsvMapperFactory.newInstance().newWriter(DbObject.class)
+				.columns("id", "name", "email", "creation_time", "type_name")
+				.to(sw);
+
+		DbObject object = new DbObject();
+		object.setId(-13);
+		object.setName("name, with \"quotes\"");
+		object.setEmail("email\nline");
+		object.setCreationTime(new SimpleDateFormat("yyyy-MM-dd HH:mm:ss").parse("2015-06-07 08:09:10"));
+		object.setTypeName(DbObject.Type.type3);
+		writer.append(object).append(new DbObject());
+		writer.close();
+
+		assertEquals("id,name,email,creation_time,type_name\r\n"
+				+ "-13,\"name, with \"\"quotes\"\"\",\"email\nline\",2015-06-07 08:09:10,type3\r\n"
+				+ "0,,,,\r\n", sw.toString());
+	}
+
+	@Test
+	public void testSeparatorQuoteAndEndOfLine() throws Exception {
+		StringWriter sw = new StringWriter();
+		DbObject object = new DbObject();
+		object.setId(Long.MIN_VALUE);
+		object.setName("a,b;c'd");
+		CsvMapperFactory.newInstance().newWriter(DbObject.class)
+				.columns("id", "name")
+				.separator(';').quote('\'').endOfLine("\n").skipHeaders()
+				.to(sw).append(object).close();
+
+		assertEquals(Long.MIN_VALUE + ";'a,b;c''d'\n", sw.toString());
+	}
+
+	@Test
+	public void testSmallBufferIsFlushedAndGrown() throws Exception {
+		StringWriter sw = new StringWriter();
+		CsvWriter<DbObject> writer = CsvMapperFactory.newInstance().newWriter(DbObject.class)
+				.columns("id", "name").skipHeaders().bufferSize(8).to(sw);
+		StringBuilder expected = new StringBuilder();
+		for(int i = 0; i < 100; i++) {
+			DbObject object = new DbObject();
+			object.setId(i * 1000003l);
+			object.setName(i % 10 == 0 ? "a long name with \"quotes\" longer than the buffer" : "n" + i);
+			writer.append(object);
+			expected.append(object.getId()).append(',')
+					.append(i % 10 == 0 ? "\"a long name with \"\"quotes\"\" longer than the buffer\"" : object.getName())
+					.append("\r\n");
+		}
+		writer.flush();
+		assertEquals(expected.toString(), sw.toString());
+	}
+
+	@Test
+	public void testPrimitivePropertiesUseThePrimitiveGetters() throws Exception {
+		CsvWriter<DbPrimitiveObjectWithSetter> writer = CsvMapperFactory.newInstance()
+				.newWriter(DbPrimitiveObjectWithSetter.class).columns("pInt", "pLong", "pDouble").to(new StringWriter());
+		String str = writer.toString();
+		assertTrue(str, str.contains("IntFieldAppender"));
+		assertTrue(str, str.contains("LongFieldAppender"));
+		assertTrue(str, str.contains("DoubleFieldAppender"));
+	}
+
+	@Test
+	public void testWriteReadRoundTrip() throws Exception {
+		DbPrimitiveObjectWithSetter object = new DbPrimitiveObjectWithSetter();
+		object.setpBoolean(true);
+		object.setpByte((byte) -3);
+		object.setpCharacter('c');
+		object.setpShort((short) 300);
+		object.setpInt(Integer.MIN_VALUE);
+		object.setpLong(Long.MAX_VALUE);
+		object.setpFloat(1.25f);
+		object.setpDouble(-0.1);
+
+		for(boolean useAsm : new boolean[] { true, false }) {
+			StringWriter sw = new StringWriter();
+			CsvMapperFactory.newInstance().useAsm(useAsm).newWriter(DbPrimitiveObjectWithSetter.class).to(sw).append(object).close();
+
+			List<DbPrimitiveObjectWithSetter> list = CsvMapperFactory.newInstance().newMapper(DbPrimitiveObjectWithSetter.class)
+					.forEach(new StringReader(sw.toString()), new ListHandler<DbPrimitiveObjectWithSetter>()).getList();
+			assertEquals(1, list.size());
+			DbPrimitiveObjectWithSetter read = list.get(0);
+			assertEquals(object.ispBoolean(), read.ispBoolean());
+			assertEquals(object.getpByte(), read.getpByte());
+			assertEquals(object.getpCharacter(), read.getpCharacter());
+			assertEquals(object.getpShort(), read.getpShort());
+			assertEquals(object.getpInt(), read.getpInt());
+			assertEquals(object.getpLong(), read.getpLong());
+			assertEquals(object.getpFloat(), read.getpFloat(), 0);
+			assertEquals(object.getpDouble(), read.getpDouble(), 0);
+		}
+	}
+
+	@Test
+	public void testWriteSubProperties() throws Exception {
+		Db1DeepObject object = new Db1DeepObject();
+		object.setId(1);
+		object.setDbObject(new DbObject());
+		object.getDbObject().setId(2);
+		object.getDbObject().setName("sub");
+
+		StringWriter sw = new StringWriter();
+		CsvWriter<Db1DeepObject> writer = CsvMapperFactory.newInstance().newWriter(Db1DeepObject.class)
+				.columns("id", "db_object_id", "db_object_name").skipHeaders().to(sw);
+		writer.append(object);
+		object.setDbObject(null);
+		writer.append(object);
+		writer.close();
+
+		assertEquals("1,2,sub\r\n1,,\r\n", sw.toString());
+	}
+
+	@Test
+	public void testUnknownColumnFailsWithDefaultErrorHandler() throws IOException {
+		try {
+			CsvMapperFactory.newInstance().newWriter(DbObject.class).columns("id", "notthere").to(new StringWriter());
+			fail();
+		} catch (MapperBuildingException e) {
+			// expected
+		}
+	}
+}
@@ -7,6 +7,9 @@ import org.sfm.beans.DbObject;
 import org.sfm.beans.DbObject.Type;
 import org.sfm.beans.DbPartialFinalObject;
 import org.sfm.jdbc.DbHelper;
+import org.sfm.map.FieldKey;
+import org.sfm.map.InMemoryMapperMetrics;
+import org.sfm.map.MapperBuilderErrorHandler;
 import org.sfm.utils.ListHandler;
 import org.sfm.utils.RowHandler;
 
@@ -53,6 +56,79 @@ public class DynamicCsvMapperImplTest {
 	}
 
 
+	@Test
+	public void testAsmCellHandlerCompiledOnTheExecutorReplacesTheReflectionOne() throws Exception {
+		final List<Runnable> tasks = new ArrayList<Runnable>();
+		InMemoryMapperMetrics metrics = new InMemoryMapperMetrics();
+		CsvMapper<DbObject> mapper = CsvMapperFactory.newInstance().mapperMetrics(metrics)
+				.asmCompilationExecutor(new Executor() {
+					@Override
+					public void execute(Runnable command) {
+						tasks.add(command);
+					}
+				}).newMapper(DbObject.class);
+
+		List<DbObject> list = mapper.forEach(dbObjectCsvReader3Lines(), new ListHandler<DbObject>()).getList();
+		assertEquals(2, list.size());
+		DbHelper.assertDbObjectMapping(2, list.get(1));
+		assertEquals(1, tasks.size());
+		assertEquals(0, metrics.getAsmMapperCount());
+
+		tasks.get(0).run();
+		assertEquals(1, metrics.getAsmMapperCount());
+
+		list = mapper.forEach(dbObjectCsvReader3Lines(), new ListHandler<DbObject>()).getList();
+		assertEquals(2, list.size());
+		DbHelper.assertDbObjectMapping(1, list.get(0));
+		DbHelper.assertDbObjectMapping(2, list.get(1));
+		assertEquals(1, tasks.size());
+		assertEquals(1, metrics.getMapperBuiltCount());
+	}
+
+	@Test
+	public void testAsmCompilationReportsTheRejectionAndTheBuilderErrorsOnce() throws Exception {
+		InMemoryMapperMetrics metrics = new InMemoryMapperMetrics();
+		final List<String> notFound = new ArrayList<String>();
+		final List<Runnable> tasks = new ArrayList<Runnable>();
+		MapperBuilderErrorHandler errorHandler = new MapperBuilderErrorHandler() {
+			@Override
+			public void getterNotFound(String msg) {
+			}
+
+			@Override
+			public void propertyNotFound(java.lang.reflect.Type target, String property) {
+				notFound.add(property);
+			}
+
+			@Override
+			public void customFieldError(FieldKey<?> key, String message) {
+			}
+		};
+		CsvMapperFactory factory = CsvMapperFactory.newInstance().mapperMetrics(metrics).mapperBuilderErrorHandler(errorHandler);
+
+		CsvMapper<DbObject> mapper = factory.asmCompilationExecutor(new Executor() {
+			@Override
+			public void execute(Runnable command) {
+				tasks.add(command);
+			}
+		}).newMapper(DbObject.class);
+		mapper.forEach(new StringReader("id,unknown\n1,x"), new ListHandler<DbObject>());
+		tasks.get(0).run();
+		assertEquals("[unknown]", notFound.toString());
+		assertEquals(1, metrics.getAsmMapperCount());
+		assertEquals(0, metrics.getAsmMapperFailedCount());
+
+		mapper = factory.asmCompilationExecutor(new Executor() {
+			@Override
+			public void execute(Runnable command) {
+				throw new RejectedExecutionException();
+			}
+		}).newMapper(DbObject.class);
+		List<DbObject> list = mapper.forEach(dbObjectCsvReader3Lines(), new ListHandler<DbObject>()).getList();
+		assertEquals(2, list.size());
+		assertEquals(1, metrics.getAsmMapperFailedCount());
+	}
+
 	@Test
 	public void testDbObject() throws Exception {
 		CsvMapper<DbObject> mapper = CsvMapperFactory.newInstance().newMapper(DbObject.class);
@@ -63,6 +139,31 @@ public class DynamicCsvMapperImplTest {
 		DbHelper.assertDbObjectMapping(2, list.get(1));
 	}
 
+	@Test
+	public void testRecycleInstances() throws Exception {
+		for(boolean asm : new boolean[] { true, false }) {
+			CsvMapper<DbObject> mapper = CsvMapperFactory.newInstance().useAsm(asm).recycleInstances(1).newMapper(DbObject.class);
+
+			final List<DbObject> instances = new ArrayList<DbObject>();
+			final List<Long> ids = new ArrayList<Long>();
+			mapper.forEach(dbObjectCsvReader3Lines(), new RowHandler<DbObject>() {
+				@Override
+				public void handle(DbObject dbObject) throws Exception {
+					instances.add(dbObject);
+					ids.add(dbObject.getId());
+				}
+			});
+			assertEquals("[1, 2]", ids.toString());
+			assertSame(instances.get(0), instances.get(1));
+			DbHelper.assertDbObjectMapping(2, instances.get(1));
+
+			List<DbFinalObject> finalObjects = CsvMapperFactory.newInstance().useAsm(asm).recycleInstances(1)
+					.newMapper(DbFinalObject.class).forEach(dbObjectCsvReader3Lines(), new ListHandler<DbFinalObject>()).getList();
+			assertNotSame(finalObjects.get(0), finalObjects.get(1));
+			assertEquals(1, finalObjects.get(0).getId());
+		}
+	}
+
 	@Test
 	public void testDbObjectWithSkip() throws Exception {
 		CsvMapper<DbObject> mapper = CsvMapperFactory.newInstance().newMapper(DbObject.class);
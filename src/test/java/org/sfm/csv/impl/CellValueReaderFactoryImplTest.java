@@ -15,6 +15,7 @@ import java.text.ParseException;
 import java.text.SimpleDateFormat;
 import java.util.Calendar;
 import java.util.Date;
+import java.util.TimeZone;
 //IFJAVA8_START
 import java.time.format.DateTimeFormatter;
 //IFJAVA8_END
@@ -81,6 +82,21 @@ public class CellValueReaderFactoryImplTest {
         assertEquals(localTime, reader.read(date.toCharArray(), 0, date.length(), null));
     }
 
+    @Test
+    public void testJodaFixedWidthPatternWithTime() {
+        String pattern = "yyyy-MM-dd HH:mm:ss.SSS";
+        TimeZone timeZone = TimeZone.getTimeZone("Europe/Paris");
+        CsvColumnDefinition columnDefinition = CsvColumnDefinition.dateFormatDefinition(pattern).addTimeZone(timeZone);
+        org.joda.time.format.DateTimeFormatter fmt = DateTimeFormat.forPattern(pattern).withZone(org.joda.time.DateTimeZone.forTimeZone(timeZone));
+        String[] dates = { "2015-01-28 10:15:30.123", "2015-03-29 03:30:00.000", "2015-10-25 02:30:00.000", "2016-02-29 23:59:59.999" };
+        for(String date : dates) {
+            assertEquals(fmt.parseDateTime(date), cellValueReaderFactory.getReader(DateTime.class, 0, columnDefinition, null).read(date.toCharArray(), 0, date.length(), null));
+            assertEquals(fmt.parseLocalDateTime(date), cellValueReaderFactory.getReader(LocalDateTime.class, 0, columnDefinition, null).read(date.toCharArray(), 0, date.length(), null));
+            assertEquals(fmt.parseLocalDate(date), cellValueReaderFactory.getReader(LocalDate.class, 0, columnDefinition, null).read(date.toCharArray(), 0, date.length(), null));
+            assertEquals(fmt.parseLocalTime(date), cellValueReaderFactory.getReader(LocalTime.class, 0, columnDefinition, null).read(date.toCharArray(), 0, date.length(), null));
+        }
+    }
+
 
     //IFJAVA8_START
     @Test
@@ -92,6 +108,18 @@ public class CellValueReaderFactoryImplTest {
         assertEquals(localDate, reader.read(date.toCharArray(), 0, date.length(), null));
     }
 
+    @Test
+    public void testJavaLocalDateTime() throws Exception {
+        String date = "2015-01-28T10:15:30.123";
+        final DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSS");
+        java.time.LocalDateTime localDateTime = java.time.LocalDateTime.parse(date, formatter);
+        CellValueReader<?> reader = cellValueReaderFactory.getReader(java.time.LocalDateTime.class, 0, CsvColumnDefinition.dateFormatDefinition("yyyy-MM-dd'T'HH:mm:ss.SSS"), null);
+        assertEquals(localDateTime, reader.read(date.toCharArray(), 0, date.length(), null));
+
+        String invalid = "2015-02-30T10:15:30.123";
+        assertEquals(java.time.LocalDateTime.parse(invalid, formatter), reader.read(invalid.toCharArray(), 0, invalid.length(), null));
+    }
+
     //IFJAVA8_END
 
 }
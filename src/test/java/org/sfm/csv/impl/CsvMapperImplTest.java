@@ -1,14 +1,23 @@
 package org.sfm.csv.impl;
 
 import org.junit.Test;
+import org.sfm.beans.DbFinalObject;
 import org.sfm.beans.DbObject;
 import org.sfm.csv.CellValueReader;
 import org.sfm.csv.CsvColumnDefinition;
+import org.sfm.csv.CsvMapperBuilder;
 import org.sfm.csv.CsvMapperFactory;
+import org.sfm.reflect.ReflectionService;
+import org.sfm.reflect.asm.AsmFactory;
+import org.sfm.utils.ListHandler;
 import org.sfm.utils.RowHandler;
 
 import java.io.IOException;
 import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
 
 import static org.junit.Assert.*;
 
@@ -33,8 +42,12 @@ public class CsvMapperImplTest {
             }
         };
 
-        assertSame(mapper1.csvMapperCellHandlerFactory.getClass(), mapper2.csvMapperCellHandlerFactory.getClass());
+        final CsvMapperImpl<DbObject> mapper4 = (CsvMapperImpl<DbObject>) CsvMapperFactory.newInstance().newBuilder(DbObject.class).addMapping("id").addMapping("name").addMapping("email").mapper();
+
+        // the parsing of id is inlined in mapper1, not in mapper2
+        assertNotSame(mapper1.csvMapperCellHandlerFactory.getClass(), mapper2.csvMapperCellHandlerFactory.getClass());
         assertNotSame(mapper1.csvMapperCellHandlerFactory.getClass(), mapper3.csvMapperCellHandlerFactory.getClass());
+        assertSame(mapper1.csvMapperCellHandlerFactory.getClass(), mapper4.csvMapperCellHandlerFactory.getClass());
 
         assertTrue(mapper1.csvMapperCellHandlerFactory.getClass().getSimpleName().startsWith("AsmCsvMapperCellHandlerTo"));
         assertTrue(mapper2.csvMapperCellHandlerFactory.getClass().getSimpleName().startsWith("AsmCsvMapperCellHandlerTo"));
@@ -45,5 +58,94 @@ public class CsvMapperImplTest {
         assertEquals(23l, mapper2.iterator(new StringReader("2")).next().getId());
     }
 
+    @Test
+    public void testForEachReusesAnIdleCellConsumer() throws IOException {
+        final CsvMapperImpl<DbFinalObject> mapper = (CsvMapperImpl<DbFinalObject>) CsvMapperFactory.newInstance()
+                .newBuilder(DbFinalObject.class).addMapping("name").addMapping("typeOrdinal").addMapping("creationTime").mapper();
+
+        for(int i = 0; i < 3; i++) {
+            List<DbFinalObject> list = mapper.forEach(new StringReader("n1,1,2014-03-04 11:10:03\nn2"), new ListHandler<DbFinalObject>()).getList();
+            assertEquals(2, list.size());
+            assertEquals("n1", list.get(0).getName());
+            assertEquals(DbObject.Type.type2, list.get(0).getTypeOrdinal());
+            assertNotNull(list.get(0).getCreationTime());
+            assertEquals("n2", list.get(1).getName());
+            assertNull(list.get(1).getTypeOrdinal());
+        }
+
+        // a nested parse on the same thread does not use the consumer of the enclosing one
+        final List<String> names = new ArrayList<String>();
+        mapper.forEach(new StringReader("n1\nn2"), new RowHandler<DbFinalObject>() {
+            @Override
+            public void handle(DbFinalObject dbFinalObject) throws Exception {
+                names.add(dbFinalObject.getName());
+                names.add(mapper.forEach(new StringReader("inner"), new ListHandler<DbFinalObject>()).getList().get(0).getName());
+            }
+        });
+        assertEquals(Arrays.asList("n1", "inner", "n2", "inner"), names);
+
+        // a failed parse does not leak the values of its partial row
+        try {
+            mapper.forEach(new StringReader("n1,0,not a date"), new ListHandler<DbFinalObject>());
+            fail();
+        } catch (Exception e) {
+            // expected
+        }
+        List<DbFinalObject> list = mapper.forEach(new StringReader("n3"), new ListHandler<DbFinalObject>()).getList();
+        assertEquals(1, list.size());
+        assertEquals("n3", list.get(0).getName());
+        assertNull(list.get(0).getTypeOrdinal());
+    }
+
+    @Test
+    public void testForEachReusesTheReaderBufferAndIteratorsReleaseTheirConsumer() throws IOException {
+        final CsvMapperImpl<DbFinalObject> mapper = (CsvMapperImpl<DbFinalObject>) CsvMapperFactory.newInstance()
+                .newBuilder(DbFinalObject.class).addMapping("name").addMapping("typeOrdinal").mapper();
+
+        StringBuilder longName = new StringBuilder();
+        for(int i = 0; i < 20000; i++) {
+            longName.append('x');
+        }
+        assertEquals(longName.toString(), mapper.forEach(new StringReader(longName + ",1"), new ListHandler<DbFinalObject>()).getList().get(0).getName());
+        assertEquals("n1", mapper.forEach(new StringReader("n1"), new ListHandler<DbFinalObject>()).getList().get(0).getName());
+
+        try {
+            mapper.forEach(new StringReader("n2,not an ordinal\nn3"), new ListHandler<DbFinalObject>());
+            fail();
+        } catch (Exception e) {
+            // expected
+        }
+        List<DbFinalObject> list = mapper.forEach(new StringReader("n4"), new ListHandler<DbFinalObject>()).getList();
+        assertEquals(1, list.size());
+        assertEquals("n4", list.get(0).getName());
+
+        Iterator<DbFinalObject> iterator = mapper.iterator(new StringReader("n5\nn6"));
+        assertEquals("n5", iterator.next().getName());
+        assertEquals("n6", iterator.next().getName());
+        assertFalse(iterator.hasNext());
+        assertFalse(iterator.hasNext());
+        list = mapper.forEach(new StringReader("n7,2"), new ListHandler<DbFinalObject>()).getList();
+        assertEquals(1, list.size());
+        assertEquals("n7", list.get(0).getName());
+        assertEquals(DbObject.Type.type3, list.get(0).getTypeOrdinal());
+    }
+
+    @Test
+    public void testAsmFactoryShareClassBetweenReadersWhenNotInlined() throws IOException {
+        final ReflectionService reflectionService = new ReflectionService(true, true, new AsmFactory(getClass().getClassLoader(), true, false));
+        final CsvMapperImpl<DbObject> mapper1 = (CsvMapperImpl<DbObject>) new CsvMapperBuilder<DbObject>(DbObject.class, reflectionService).addMapping("id").addMapping("name").addMapping("email").mapper();
+        final CsvMapperImpl<DbObject> mapper2 = (CsvMapperImpl<DbObject>) new CsvMapperBuilder<DbObject>(DbObject.class, reflectionService).addMapping("id", CsvColumnDefinition.customReaderDefinition(new CellValueReader<Long>() {
+            @Override
+            public Long read(char[] chars, int offset, int length, ParsingContext parsingContext) {
+                return 23l;
+            }
+        })).addMapping("name").addMapping("email").mapper();
+
+        assertSame(mapper1.csvMapperCellHandlerFactory.getClass(), mapper2.csvMapperCellHandlerFactory.getClass());
+
+        assertEquals(2l, mapper1.iterator(new StringReader("2")).next().getId());
+        assertEquals(23l, mapper2.iterator(new StringReader("2")).next().getId());
+    }
+
 
 }
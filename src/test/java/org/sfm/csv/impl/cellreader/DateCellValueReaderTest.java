@@ -2,15 +2,87 @@ package org.sfm.csv.impl.cellreader;
 
 
 import org.junit.Test;
+import org.sfm.csv.impl.ParsingContext;
+import org.sfm.csv.impl.ParsingException;
 
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.Random;
 import java.util.TimeZone;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.fail;
 
 public class DateCellValueReaderTest {
 
+    private static final String[] PATTERNS = { "yyyy-MM-dd HH:mm:ss", "yyyyMMdd", "yyyy-MM-dd'T'HH:mm:ss.SSS", "dd/MM/yyyy HH:mm", "HH:mm:ss" };
+    private static final String[] TIME_ZONES = { "UTC", "Europe/Paris", "America/New_York", "Australia/Lord_Howe", "Asia/Kolkata" };
+
     @Test
     public void testReturnNullOnEmptyString() {
         assertNull(new DateCellValueReader(0, "yyyyMMdd", TimeZone.getDefault()).read(new char[10], 2, 0, null));
     }
+
+    @Test
+    public void testCompileFixedWidthPatterns() {
+        for(String pattern : PATTERNS) {
+            assertNotNull(pattern, FixedWidthDatePattern.compile(pattern));
+        }
+        assertNull(FixedWidthDatePattern.compile("yy-MM-dd"));
+        assertNull(FixedWidthDatePattern.compile("dd MMM yyyy"));
+        assertNull(FixedWidthDatePattern.compile("yyyy-MM-dd HH:mm:ssZ"));
+        assertNull(FixedWidthDatePattern.compile("yyyy-MM-dd'T"));
+    }
+
+    @Test
+    public void testSameAsSimpleDateFormat() throws Exception {
+        Random random = new Random(7);
+        for(String tz : TIME_ZONES) {
+            TimeZone timeZone = TimeZone.getTimeZone(tz);
+            for(String pattern : PATTERNS) {
+                SimpleDateFormat sdf = new SimpleDateFormat(pattern);
+                sdf.setTimeZone(timeZone);
+                DateCellValueReader reader = new DateCellValueReader(0, pattern, timeZone);
+                ParsingContext parsingContext = new ParsingContext(new Object[] { reader.newContext() });
+                for(int i = 0; i < 5000; i++) {
+                    long millis = -2000000000000l + (long) (random.nextDouble() * 6000000000000l);
+                    assertSameAsSimpleDateFormat(sdf.format(new Date(millis)), sdf, reader, parsingContext);
+                }
+            }
+            SimpleDateFormat sdf = new SimpleDateFormat(PATTERNS[0]);
+            sdf.setTimeZone(timeZone);
+            DateCellValueReader reader = new DateCellValueReader(0, PATTERNS[0], timeZone);
+            ParsingContext parsingContext = new ParsingContext(new Object[] { reader.newContext() });
+            String[] edgeCases = {
+                    "2014-02-30 10:00:00", "2014-13-01 10:00:00", "2014-03-30 02:30:00", "2014-10-26 02:30:00",
+                    "2014-03-09 02:30:00", "2014-11-02 01:30:00", "2014-01-01 24:00:00", "1500-01-01 00:00:00",
+                    "2014-01-01 10:00:00 ", "2014-1-01 10:00:00", "2012-02-29 23:59:59"
+            };
+            for(String value : edgeCases) {
+                assertSameAsSimpleDateFormat(value, sdf, reader, parsingContext);
+            }
+        }
+    }
+
+    private void assertSameAsSimpleDateFormat(String value, SimpleDateFormat sdf, DateCellValueReader reader, ParsingContext parsingContext) throws Exception {
+        char[] chars = ("_" + value + "_").toCharArray();
+        byte[] bytes = ("_" + value + "_").getBytes("UTF-8");
+        Date expected;
+        try {
+            expected = sdf.parse(value);
+        } catch (ParseException e) {
+            try {
+                reader.read(chars, 1, chars.length - 2, parsingContext);
+                fail("Expect exception on " + value);
+            } catch (ParsingException pe) {
+                // expected
+            }
+            return;
+        }
+        assertEquals(value + " " + sdf.toPattern() + " " + sdf.getTimeZone().getID(), expected, reader.read(chars, 1, chars.length - 2, parsingContext));
+        assertEquals(value + " " + sdf.toPattern() + " " + sdf.getTimeZone().getID(), expected, reader.read(bytes, 1, bytes.length - 2, parsingContext));
+    }
 }
@@ -3,6 +3,7 @@ package org.sfm.csv.impl.cellreader;
 import org.junit.Test;
 
 import java.io.UnsupportedEncodingException;
+import java.util.Random;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNull;
@@ -31,6 +32,63 @@ public class DoubleCellValueReaderTest {
 		}
 	}
 
+	@Test
+	public void testSameAsDoubleParseDouble() throws UnsupportedEncodingException {
+		String[] values = {
+				"0", "-0", "+0", "0.0", "-0.0", "00012.5000", ".5", "5.", "-.25", "1e0", "1E+2", "1e-2", "-1.5e-7",
+				"0.1", "0.2", "0.3", "1.7976931348623157E308", "4.9E-324", "2.2250738585072014E-308",
+				"9007199254740992", "9007199254740993", "123456789012345678", "1234567890123456789",
+				"1.5e25", "9.007199254740991e37", "1e22", "1e23", "1e-22", "1e-23", "3.14159265358979323846",
+				"1e400", "-1e400", "1e-400", "0e500", "NaN", "-Infinity", " 12.5 ", "1.5d", "12f", "0x1p3"
+		};
+		for(String value : values) {
+			assertSameAsParseDouble(value);
+		}
+
+		Random random = new Random(42);
+		for(int i = 0; i < 200000; i++) {
+			assertSameAsParseDouble(randomDecimal(random));
+			assertSameAsParseDouble(Double.toString(Double.longBitsToDouble(random.nextLong())));
+			assertSameAsParseDouble(Double.toString(random.nextDouble() * Math.pow(10, random.nextInt(40) - 20)));
+		}
+	}
+
+	static String randomDecimal(Random random) {
+		StringBuilder sb = new StringBuilder();
+		if (random.nextBoolean()) sb.append('-');
+		int intDigits = random.nextInt(12);
+		for(int i = 0; i < intDigits; i++) sb.append((char)('0' + random.nextInt(10)));
+		int fractionDigits = random.nextInt(12);
+		if (fractionDigits > 0 || intDigits == 0) {
+			sb.append('.');
+			sb.append((char)('0' + random.nextInt(10)));
+			for(int i = 0; i < fractionDigits; i++) sb.append((char)('0' + random.nextInt(10)));
+		}
+		if (random.nextInt(4) == 0) {
+			sb.append('e').append(random.nextInt(80) - 40);
+		}
+		return sb.toString();
+	}
+
+	private void assertSameAsParseDouble(String value) throws UnsupportedEncodingException {
+		final char[] chars = ("_" + value + "_").toCharArray();
+		final byte[] bytes = ("_" + value + "_").getBytes("UTF-8");
+		double expected;
+		try {
+			expected = Double.parseDouble(value);
+		} catch (NumberFormatException e) {
+			try {
+				DoubleCellValueReaderImpl.parseDouble(chars, 1, chars.length - 2);
+				fail("Expect exception on " + value);
+			} catch (NumberFormatException e2) {
+				// expected
+			}
+			return;
+		}
+		assertEquals(value, Double.doubleToRawLongBits(expected), Double.doubleToRawLongBits(DoubleCellValueReaderImpl.parseDouble(chars, 1, chars.length - 2)));
+		assertEquals(value, Double.doubleToRawLongBits(expected), Double.doubleToRawLongBits(DoubleCellValueReaderImpl.parseDouble(bytes, 1, bytes.length - 2)));
+	}
+
 	@Test
 	public void testReadEmptyStringReturnNull() {
 		assertNull(reader.read(new char[10], 2, 0, null));
@@ -39,6 +97,8 @@ public class DoubleCellValueReaderTest {
 	private void testReadDouble(double i) throws UnsupportedEncodingException {
 		final char[] chars = ("_" + Double.toString(i) + "_").toCharArray();
 		assertEquals(i, reader.read(chars, 1, chars.length-2, null).doubleValue(), 0);
+		final byte[] bytes = ("_" + Double.toString(i) + "_").getBytes("UTF-8");
+		assertEquals(i, DoubleCellValueReaderImpl.parseDouble(bytes, 1, bytes.length - 2), 0);
 	}
 
 }
@@ -3,6 +3,7 @@ package org.sfm.csv.impl.cellreader;
 import org.junit.Test;
 
 import java.io.UnsupportedEncodingException;
+import java.util.Random;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNull;
@@ -31,6 +32,40 @@ public class FloatCellValueReaderTest {
 		}
 	}
 
+	@Test
+	public void testSameAsFloatParseFloat() {
+		String[] values = {
+				"0", "-0", "0.0", "-0.0", ".5", "5.", "1e10", "1e11", "1e-10", "1e-11", "16777216", "16777217",
+				"3.4028235E38", "1.4E-45", "0.1", "0.3", "1.17549435E-38", "1e50", "NaN", " 1.5 ", "ddd", "-", "1e"
+		};
+		for(String value : values) {
+			assertSameAsParseFloat(value);
+		}
+
+		Random random = new Random(42);
+		for(int i = 0; i < 200000; i++) {
+			assertSameAsParseFloat(DoubleCellValueReaderTest.randomDecimal(random));
+			assertSameAsParseFloat(Float.toString(Float.intBitsToFloat(random.nextInt())));
+		}
+	}
+
+	private void assertSameAsParseFloat(String value) {
+		final char[] chars = ("_" + value + "_").toCharArray();
+		float expected;
+		try {
+			expected = Float.parseFloat(value);
+		} catch (NumberFormatException e) {
+			try {
+				FloatCellValueReaderImpl.parseFloat(chars, 1, chars.length - 2);
+				fail("Expect exception on " + value);
+			} catch (NumberFormatException e2) {
+				// expected
+			}
+			return;
+		}
+		assertEquals(value, Float.floatToRawIntBits(expected), Float.floatToRawIntBits(FloatCellValueReaderImpl.parseFloat(chars, 1, chars.length - 2)));
+	}
+
 	@Test
 	public void testReadEmptyStringReturnNull() {
 		assertNull(reader.read(new char[10], 2, 0, null));
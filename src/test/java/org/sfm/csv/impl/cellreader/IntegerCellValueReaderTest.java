@@ -37,9 +37,22 @@ public class IntegerCellValueReaderTest {
 		assertNull(reader.read(new char[10], 2, 0, null));
 	}
 
+	@Test
+	public void testInvalidIntBytes() throws UnsupportedEncodingException {
+		final byte[] bytes = "1-2".getBytes("UTF-8");
+		try {
+			IntegerCellValueReaderImpl.parseInt(bytes, 0, bytes.length);
+			fail("Expect exception");
+		} catch(ParsingException e){
+			// expected
+		}
+	}
+
 	private void testReadInt(int i) throws UnsupportedEncodingException {
 		final char[] chars = ("_" + Integer.toString(i) + "_").toCharArray();
 		assertEquals(i, reader.read(chars, 1, chars.length-2, null).intValue());
+		final byte[] bytes = ("_" + Integer.toString(i) + "_").getBytes("UTF-8");
+		assertEquals(i, IntegerCellValueReaderImpl.parseInt(bytes, 1, bytes.length - 2));
 	}
 
 }
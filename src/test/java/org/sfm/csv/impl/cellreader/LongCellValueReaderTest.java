@@ -40,6 +40,8 @@ public class LongCellValueReaderTest {
 	private void testReadLong(long l) throws UnsupportedEncodingException {
 		final char[] chars = ("_" + Long.toString(l) + "_").toCharArray();
 		assertEquals(l, reader.read(chars, 1, chars.length -2, null).longValue());
+		final byte[] bytes = ("_" + Long.toString(l) + "_").getBytes("UTF-8");
+		assertEquals(l, LongCellValueReaderImpl.parseLong(bytes, 1, bytes.length - 2));
 	}
 
 }
@@ -2,6 +2,9 @@ package org.sfm.csv.impl.cellreader;
 
 import org.junit.Test;
 
+import java.io.UnsupportedEncodingException;
+import java.nio.charset.Charset;
+
 import static org.junit.Assert.assertEquals;
 
 public class StringCellValueReaderTest {
@@ -15,4 +18,18 @@ public class StringCellValueReaderTest {
 	
 	}
 
+	@Test
+	public void testReadStringFromBytes() throws UnsupportedEncodingException {
+		byte[] bytes = "_Hello!_".getBytes("UTF-8");
+		assertEquals("Hello!", StringCellValueReader.readString(bytes, 1, bytes.length - 2));
+		bytes = "_Héllo €_".getBytes("UTF-8");
+		assertEquals("Héllo €", StringCellValueReader.readString(bytes, 1, bytes.length - 2));
+		bytes = "éHello!é".getBytes("UTF-8");
+		assertEquals("Hello!", StringCellValueReader.readString(bytes, 2, bytes.length - 4));
+		bytes = "_Hello!é".getBytes("UTF-8");
+		assertEquals("Hello!é", StringCellValueReader.readString(bytes, 1, bytes.length - 1));
+		bytes = "_Héllo_".getBytes("ISO-8859-1");
+		assertEquals("Héllo", StringCellValueReader.readString(bytes, 1, bytes.length - 2, Charset.forName("ISO-8859-1")));
+	}
+
 }
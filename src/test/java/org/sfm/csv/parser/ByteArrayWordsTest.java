@@ -0,0 +1,23 @@
+package org.sfm.csv.parser;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public class ByteArrayWordsTest {
+
+	@Test
+	public void testFirstByteInTheLowestBits() {
+		byte[] bytes = new byte[19];
+		for(int i = 0; i < bytes.length; i++) {
+			bytes[i] = (byte) (i * 37 + 0x80);
+		}
+		for(int index = 0; index + 8 <= bytes.length; index++) {
+			long expected = 0;
+			for(int i = 7; i >= 0; i--) {
+				expected = expected << 8 | (bytes[index + i] & 0xFF);
+			}
+			assertEquals("index " + index, expected, ByteArrayWords.getLong(bytes, index));
+		}
+	}
+}
@@ -0,0 +1,73 @@
+package org.sfm.csv.parser;
+
+import org.junit.Test;
+import org.sfm.csv.impl.ParsingException;
+
+import java.io.IOException;
+import java.io.StringReader;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+public class CharBufferTest {
+
+	@Test
+	public void testUnboundedBufferDoubles() throws IOException {
+		CharBuffer buffer = new CharBuffer(4);
+		StringReader reader = new StringReader("0123456789");
+		buffer.fillBuffer(reader);
+		buffer.shiftBufferToMark();
+		assertEquals(8, buffer.getCharBuffer().length);
+	}
+
+	@Test
+	public void testBoundedBufferGrowsToMaxThenShrinksBack() throws IOException {
+		CharBuffer buffer = new CharBuffer(4, 10);
+		StringReader reader = new StringReader("0123456789abcdef");
+		buffer.fillBuffer(reader);
+		assertEquals(0, buffer.shiftBufferToMark());
+		buffer.fillBuffer(reader);
+		assertEquals(8, buffer.getCharBuffer().length);
+		assertEquals(0, buffer.shiftBufferToMark());
+		buffer.fillBuffer(reader);
+		assertEquals(10, buffer.getCharBuffer().length);
+		assertEquals("0123456789", new String(buffer.getCharBuffer(), 0, buffer.getBufferLength()));
+
+		buffer.mark(9);
+		assertEquals(9, buffer.shiftBufferToMark());
+		assertEquals(4, buffer.getCharBuffer().length);
+		assertEquals('9', buffer.getChar(0));
+	}
+
+	@Test
+	public void testBoundedBufferFailsWithThePositionOfTheCell() throws IOException {
+		CharBuffer buffer = new CharBuffer(4, 8);
+		StringReader reader = new StringReader("012345678901234567890123456789");
+		buffer.fillBuffer(reader);
+		buffer.mark(3);
+		buffer.shiftBufferToMark();
+		buffer.fillBuffer(reader);
+		buffer.mark(2);
+		try {
+			while(true) {
+				buffer.shiftBufferToMark();
+				buffer.fillBuffer(reader);
+			}
+		} catch (ParsingException e) {
+			assertEquals(5, e.getPosition());
+		}
+	}
+
+	@Test
+	public void testInitialSizeCappedToMax() throws IOException {
+		CharBuffer buffer = new CharBuffer(16, 8);
+		assertEquals(8, buffer.getCharBuffer().length);
+		buffer.fillBuffer(new StringReader("0123456789"));
+		try {
+			buffer.shiftBufferToMark();
+			fail();
+		} catch (ParsingException e) {
+			assertEquals(0, e.getPosition());
+		}
+	}
+}
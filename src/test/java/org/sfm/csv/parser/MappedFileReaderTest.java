@@ -0,0 +1,102 @@
+package org.sfm.csv.parser;
+
+import org.junit.Test;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.ByteArrayInputStream;
+import java.io.Reader;
+import java.nio.charset.Charset;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+public class MappedFileReaderTest {
+
+	private static final Charset UTF8 = Charset.forName("UTF-8");
+	private static final Charset ISO_8859_1 = Charset.forName("ISO-8859-1");
+
+	@Test
+	public void testUtf8MatchesInputStreamReader() throws IOException {
+		StringBuilder sb = new StringBuilder();
+		Random random = new Random(3);
+		String[] samples = {"a", "b,c", "\"", "\n", "é", "€", "😀", "漢字"};
+		for(int i = 0; i < 2000; i++) {
+			sb.append(samples[random.nextInt(samples.length)]);
+		}
+		byte[] bytes = sb.toString().getBytes(UTF8);
+
+		for(int windowSize : new int[] {4, 5, 7, 13, MappedFileReader.DEFAULT_WINDOW_SIZE}) {
+			for (int bufferSize : new int[]{1, 2, 3, 17, 8192}) {
+				assertSameContent(bytes, UTF8, windowSize, bufferSize);
+			}
+		}
+	}
+
+	@Test
+	public void testMalformedUtf8MatchesInputStreamReader() throws IOException {
+		byte[] bytes = new byte[] {'a', (byte)0xC3, 'b', (byte)0xE2, (byte)0x82, 'c', (byte)0xFF, (byte)0xC0, (byte)0x80, 'd',
+				(byte)0xE0, (byte)0x80, 'e', 'f', (byte)0xF4, (byte)0x90, 'g', (byte)0xF5,
+				(byte)0xF0, (byte)0x9F, (byte)0x98, 'h', (byte)0xE2};
+		assertSameContent(bytes, UTF8, MappedFileReader.DEFAULT_WINDOW_SIZE, 8192);
+	}
+
+	@Test
+	public void testDecoderCharset() throws IOException {
+		byte[] bytes = "a,b\né,è\n".getBytes(ISO_8859_1);
+		assertSameContent(bytes, ISO_8859_1, 4, 3);
+	}
+
+	@Test
+	public void testRange() throws IOException {
+		File file = writeFile("0123456789".getBytes(UTF8));
+		try {
+			MappedFileReader reader = new MappedFileReader(file, UTF8, 2, 5);
+			try {
+				assertEquals("234", readAll(reader, 10));
+			} finally {
+				reader.close();
+			}
+		} finally {
+			file.delete();
+		}
+	}
+
+	private void assertSameContent(byte[] bytes, Charset charset, int windowSize, int bufferSize) throws IOException {
+		File file = writeFile(bytes);
+		try {
+			String expected = readAll(new InputStreamReader(new ByteArrayInputStream(bytes), charset), 8192);
+			MappedFileReader reader = new MappedFileReader(file, charset, 0, Long.MAX_VALUE, windowSize);
+			try {
+				assertEquals("window " + windowSize + " buffer " + bufferSize, expected, readAll(reader, bufferSize));
+			} finally {
+				reader.close();
+			}
+		} finally {
+			file.delete();
+		}
+	}
+
+	private String readAll(Reader reader, int bufferSize) throws IOException {
+		StringBuilder sb = new StringBuilder();
+		char[] buffer = new char[bufferSize];
+		int l;
+		while((l = reader.read(buffer, 0, buffer.length)) != -1) {
+			sb.append(buffer, 0, l);
+		}
+		return sb.toString();
+	}
+
+	private File writeFile(byte[] bytes) throws IOException {
+		File file = File.createTempFile("sfm", ".csv");
+		FileOutputStream os = new FileOutputStream(file);
+		try {
+			os.write(bytes);
+		} finally {
+			os.close();
+		}
+		return file;
+	}
+}
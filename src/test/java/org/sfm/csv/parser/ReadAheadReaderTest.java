@@ -0,0 +1,219 @@
+package org.sfm.csv.parser;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class ReadAheadReaderTest {
+
+	@Test
+	public void testReadAllContent() throws IOException {
+		StringBuilder sb = new StringBuilder();
+		for(int i = 0; i < 1000; i++) {
+			sb.append(i).append(',');
+		}
+		Reader reader = new ReadAheadReader(new StringReader(sb.toString()), 16, ReadAheadReader.NEW_THREAD_EXECUTOR);
+		try {
+			StringBuilder read = new StringBuilder();
+			char[] buffer = new char[7];
+			int l;
+			while((l = reader.read(buffer, 0, buffer.length)) != -1) {
+				read.append(buffer, 0, l);
+			}
+			assertEquals(sb.toString(), read.toString());
+			assertEquals(-1, reader.read(buffer, 0, buffer.length));
+		} finally {
+			reader.close();
+		}
+	}
+
+	@Test
+	public void testSameThreadExecutorReadsInline() throws IOException {
+		final Thread[] threads = new Thread[1];
+		Executor executor = new Executor() {
+			@Override
+			public void execute(Runnable command) {
+				threads[0] = Thread.currentThread();
+				command.run();
+			}
+		};
+		String content = repeat("0123456789", 1000);
+		Reader reader = new ReadAheadReader(new StringReader(content), 16, executor);
+		assertSame(Thread.currentThread(), threads[0]);
+		assertEquals(content, readAll(reader));
+		reader.close();
+	}
+
+	//IFJAVA8_START
+	@Test
+	public void testRunnableRunExecutorReadsInline() throws IOException {
+		String content = repeat("0123456789", 1000);
+		Reader reader = new ReadAheadReader(new StringReader(content), 16, Runnable::run);
+		assertEquals(content, readAll(reader));
+		reader.close();
+	}
+	//IFJAVA8_END
+
+	@Test
+	public void testReadErrorIsRethrownToTheParser() throws IOException {
+		final IOException error = new IOException("io error");
+		Reader failingReader = new Reader() {
+			@Override
+			public int read(char[] cbuf, int off, int len) throws IOException {
+				throw error;
+			}
+
+			@Override
+			public void close() throws IOException {
+			}
+		};
+		Reader reader = new ReadAheadReader(failingReader, 16, ReadAheadReader.NEW_THREAD_EXECUTOR);
+		try {
+			reader.read(new char[16], 0, 16);
+			fail();
+		} catch (IOException e) {
+			assertSame(error, e);
+		}
+		reader.close();
+	}
+
+	@Test
+	public void testCloseEndsTheReadAheadTask() throws Exception {
+		final Thread[] threads = new Thread[1];
+		Executor executor = new Executor() {
+			@Override
+			public void execute(Runnable command) {
+				threads[0] = new Thread(command);
+				threads[0].start();
+			}
+		};
+		StringBuilder sb = new StringBuilder();
+		for(int i = 0; i < 1000; i++) {
+			sb.append("0123456789");
+		}
+		Reader reader = new ReadAheadReader(new StringReader(sb.toString()), 16, executor);
+		reader.read(new char[4], 0, 4);
+		reader.close();
+		threads[0].join(5000);
+		assertFalse(threads[0].isAlive());
+		try {
+			reader.read(new char[4], 0, 4);
+			fail();
+		} catch (IOException e) {
+			// expected
+		}
+	}
+
+	@Test
+	public void testStopEndsTheTaskAndLeavesTheReaderOpen() throws Exception {
+		final Thread[] threads = new Thread[1];
+		Executor executor = new Executor() {
+			@Override
+			public void execute(Runnable command) {
+				threads[0] = new Thread(command);
+				threads[0].start();
+			}
+		};
+		final boolean[] closed = new boolean[1];
+		Reader source = new StringReader(repeat("0123456789", 1000)) {
+			@Override
+			public void close() {
+				closed[0] = true;
+			}
+		};
+		ReadAheadReader reader = new ReadAheadReader(source, 16, executor);
+		reader.read(new char[4], 0, 4);
+		reader.stop();
+		threads[0].join(5000);
+		assertFalse(threads[0].isAlive());
+		assertFalse(closed[0]);
+		try {
+			reader.read(new char[4], 0, 4);
+			fail();
+		} catch (IOException e) {
+			// expected
+		}
+		reader.close();
+		assertTrue(closed[0]);
+	}
+
+	@Test
+	public void testCloseWaitsForTheReadInProgress() throws Exception {
+		final CountDownLatch reading = new CountDownLatch(1);
+		final CountDownLatch release = new CountDownLatch(1);
+		final AtomicBoolean closedWhileReading = new AtomicBoolean();
+		final AtomicBoolean inRead = new AtomicBoolean();
+		Reader source = new Reader() {
+			@Override
+			public int read(char[] cbuf, int off, int len) throws IOException {
+				inRead.set(true);
+				try {
+					reading.countDown();
+					release.await();
+				} catch (InterruptedException e) {
+					throw new InterruptedIOException();
+				} finally {
+					inRead.set(false);
+				}
+				return len;
+			}
+
+			@Override
+			public void close() throws IOException {
+				closedWhileReading.set(inRead.get());
+			}
+		};
+		final ReadAheadReader reader = new ReadAheadReader(source, 16, ReadAheadReader.NEW_THREAD_EXECUTOR);
+		assertTrue(reading.await(5, TimeUnit.SECONDS));
+
+		Thread closing = new Thread() {
+			@Override
+			public void run() {
+				try {
+					reader.close();
+				} catch (IOException e) {
+					// checked below
+				}
+			}
+		};
+		closing.start();
+		closing.join(100);
+		assertTrue(closing.isAlive());
+
+		release.countDown();
+		closing.join(5000);
+		assertFalse(closing.isAlive());
+		assertFalse(closedWhileReading.get());
+	}
+
+	private static String readAll(Reader reader) throws IOException {
+		StringBuilder read = new StringBuilder();
+		char[] buffer = new char[7];
+		int l;
+		while((l = reader.read(buffer, 0, buffer.length)) != -1) {
+			read.append(buffer, 0, l);
+		}
+		return read.toString();
+	}
+
+	private static String repeat(String str, int n) {
+		StringBuilder sb = new StringBuilder();
+		for(int i = 0; i < n; i++) {
+			sb.append(str);
+		}
+		return sb.toString();
+	}
+}
@@ -4,6 +4,8 @@ import org.junit.Test;
 import org.sfm.beans.DbObject;
 import org.sfm.beans.DbObject.Type;
 import org.sfm.jdbc.impl.DynamicJdbcMapper;
+import org.sfm.jdbc.impl.JdbcMapperImpl;
+import org.sfm.map.InMemoryMapperMetrics;
 import org.sfm.utils.ListHandler;
 import org.sfm.utils.RowHandler;
 
@@ -112,6 +114,50 @@ public class DynamicJdbcMapperTest {
 	}
 	
 	
+	@Test
+	public void testAsmMapperCompiledOnTheExecutorReplacesTheReflectionMapper() throws Exception {
+		final List<Runnable> tasks = new ArrayList<Runnable>();
+		final DynamicJdbcMapper<DbObject> mapper = (DynamicJdbcMapper<DbObject>) JdbcMapperFactoryHelper.asm()
+				.asmCompilationExecutor(new Executor() {
+					@Override
+					public void execute(Runnable command) {
+						tasks.add(command);
+					}
+				}).newMapper(DbObject.class);
+
+		final JdbcMapper<DbObject> reflectionMapper = mapper.getMapper(new MockDbObjectResultSet(1));
+		assertTrue(reflectionMapper instanceof JdbcMapperImpl);
+		assertSame(reflectionMapper, mapper.getMapper(new MockDbObjectResultSet(1)));
+		assertEquals(1, tasks.size());
+		assertEquals(1, mapper.forEach(new MockDbObjectResultSet(1), new ListHandler<DbObject>()).getList().get(0).getId());
+
+		tasks.get(0).run();
+
+		final JdbcMapper<DbObject> asmMapper = mapper.getMapper(new MockDbObjectResultSet(1));
+		assertFalse(asmMapper instanceof JdbcMapperImpl);
+		assertEquals(1, tasks.size());
+		List<DbObject> objects = mapper.forEach(new MockDbObjectResultSet(2), new ListHandler<DbObject>()).getList();
+		assertEquals(2, objects.size());
+		assertEquals("name2", objects.get(1).getName());
+	}
+
+	@Test
+	public void testAsmMapperRejectedByTheExecutorIsReportedAndKeepsTheReflectionMapper() throws Exception {
+		InMemoryMapperMetrics metrics = new InMemoryMapperMetrics();
+		final DynamicJdbcMapper<DbObject> mapper = (DynamicJdbcMapper<DbObject>) JdbcMapperFactoryHelper.asm()
+				.mapperMetrics(metrics)
+				.asmCompilationExecutor(new Executor() {
+					@Override
+					public void execute(Runnable command) {
+						throw new RejectedExecutionException();
+					}
+				}).newMapper(DbObject.class);
+
+		assertTrue(mapper.getMapper(new MockDbObjectResultSet(1)) instanceof JdbcMapperImpl);
+		assertEquals(1, metrics.getAsmMapperFailedCount());
+		assertEquals(1, metrics.getMapperBuiltCount());
+	}
+
 	private static final int NBROW = 2;
 	private static final int NBFUTURE = 10000;
 	@Test
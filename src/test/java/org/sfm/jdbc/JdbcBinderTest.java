@@ -0,0 +1,161 @@
+package org.sfm.jdbc;
+
+import org.junit.Test;
+import org.sfm.beans.DbObject;
+import org.sfm.beans.DbPrimitiveObjectWithSetter;
+import org.sfm.jdbc.impl.JdbcBinderBuilder;
+import org.sfm.jdbc.impl.JdbcBinderImpl;
+import org.sfm.map.MapperBuildingException;
+import org.sfm.tuples.Tuple2;
+import org.sfm.utils.ListHandler;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+public class JdbcBinderTest {
+
+	@Test
+	public void testBatchInsertWithAsm() throws Exception {
+		JdbcBinder<DbObject> binder = JdbcMapperFactoryHelper.asm().newBinderForSql(DbObject.class,
+				"insert into test_binder_asm(id, name, email, creation_time, type_ordinal, type_name) values(:id, :name, :email, :creation_time, :type_ordinal, :type_name)");
+		assertTrue(binder.getClass().getName(), binder.getClass().getName().contains("AsmBinderFromDbObject"));
+		testBatchInsert(binder, "test_binder_asm");
+	}
+
+	@Test
+	public void testBatchInsertWithoutAsm() throws Exception {
+		JdbcBinder<DbObject> binder = JdbcMapperFactoryHelper.noAsm().newBinderForSql(DbObject.class,
+				"insert into test_binder_noasm(id, name, email, creation_time, type_ordinal, type_name) values(:id, :name, :email, :creation_time, :type_ordinal, :type_name)");
+		assertEquals(JdbcBinderImpl.class, binder.getClass());
+		testBatchInsert(binder, "test_binder_noasm");
+	}
+
+	private void testBatchInsert(JdbcBinder<DbObject> binder, String table) throws Exception {
+		assertEquals("insert into " + table + "(id, name, email, creation_time, type_ordinal, type_name) values(?, ?, ?, ?, ?, ?)", binder.getSql());
+
+		List<DbObject> objects = new ArrayList<DbObject>();
+		for(int i = 0; i < 25; i++) {
+			DbObject object = new DbObject();
+			object.setId(i);
+			object.setName(i % 5 == 0 ? null : "name" + i);
+			object.setEmail("email" + i);
+			object.setCreationTime(new Timestamp(1425000000000l + i * 1000l));
+			object.setTypeOrdinal(DbObject.Type.values()[i % 4]);
+			object.setTypeName(DbObject.Type.values()[(i + 1) % 4]);
+			objects.add(object);
+		}
+
+		Connection connection = DbHelper.objectDb();
+		try {
+			Statement st = connection.createStatement();
+			try {
+				st.execute("create table " + table + "(id bigint primary key, name varchar(100), email varchar(100),"
+						+ " creation_time timestamp, type_ordinal varchar(10), type_name varchar(10))");
+			} finally {
+				st.close();
+			}
+
+			PreparedStatement ps = connection.prepareStatement(binder.getSql());
+			try {
+				assertEquals(25, binder.executeBatch(ps, objects, 10));
+			} finally {
+				ps.close();
+			}
+
+			ps = connection.prepareStatement("select id, name, email, creation_time, type_ordinal, type_name from " + table + " order by id");
+			try {
+				List<DbObject> read = JdbcMapperFactoryHelper.asm().newMapper(DbObject.class).forEach(ps.executeQuery(), new ListHandler<DbObject>()).getList();
+				assertEquals(objects.toString(), read.toString());
+			} finally {
+				ps.close();
+			}
+		} finally {
+			connection.close();
+		}
+	}
+
+	@Test
+	public void testBatchExecutesEveryBatchSize() throws Exception {
+		PreparedStatement ps = mock(PreparedStatement.class);
+		org.mockito.Mockito.when(ps.executeBatch()).thenReturn(new int[] { 1, 1 }, new int[] { Statement.SUCCESS_NO_INFO });
+		JdbcBatch<DbObject> batch = JdbcMapperFactoryHelper.asm().newBinder(DbObject.class, "id").newBatch(ps, 2);
+		DbObject object = new DbObject();
+		batch.add(object).add(object);
+		verify(ps, org.mockito.Mockito.times(1)).executeBatch();
+		batch.add(object);
+		assertEquals(2, batch.getUpdateCount());
+		assertEquals(3, batch.executeBatch());
+		assertEquals(3, batch.executeBatch());
+		verify(ps, org.mockito.Mockito.times(2)).executeBatch();
+	}
+
+	@Test
+	public void testPrimitivePropertiesUseTypedSetters() throws Exception {
+		DbPrimitiveObjectWithSetter object = new DbPrimitiveObjectWithSetter();
+		object.setpBoolean(true);
+		object.setpByte((byte) 1);
+		object.setpCharacter('c');
+		object.setpShort((short) 2);
+		object.setpInt(3);
+		object.setpLong(4);
+		object.setpFloat(5.5f);
+		object.setpDouble(6.5);
+
+		for(JdbcMapperFactory factory : Arrays.asList(JdbcMapperFactoryHelper.asm(), JdbcMapperFactoryHelper.noAsm())) {
+			JdbcBinder<DbPrimitiveObjectWithSetter> binder = factory.newBinder(DbPrimitiveObjectWithSetter.class,
+					"p_boolean", "p_byte", "p_character", "p_short", "p_int", "p_long", "p_float", "p_double");
+			assertNull(binder.getSql());
+			PreparedStatement ps = mock(PreparedStatement.class);
+			binder.bind(ps, object);
+			verify(ps).setBoolean(1, true);
+			verify(ps).setByte(2, (byte) 1);
+			verify(ps).setInt(3, 'c');
+			verify(ps).setShort(4, (short) 2);
+			verify(ps).setInt(5, 3);
+			verify(ps).setLong(6, 4);
+			verify(ps).setFloat(7, 5.5f);
+			verify(ps).setDouble(8, 6.5);
+		}
+	}
+
+	@Test
+	public void testNullValues() throws Exception {
+		PreparedStatement ps = mock(PreparedStatement.class);
+		JdbcMapperFactoryHelper.asm().newBinder(DbObject.class, "name", "creation_time", "type_name").bind(ps, new DbObject());
+		verify(ps).setNull(1, Types.VARCHAR);
+		verify(ps).setNull(2, Types.TIMESTAMP);
+		verify(ps).setNull(3, Types.VARCHAR);
+	}
+
+	@Test
+	public void testUnknownPropertyFailsWithDefaultErrorHandler() {
+		try {
+			JdbcMapperFactoryHelper.asm().newBinder(DbObject.class, "id", "notthere");
+			fail();
+		} catch (MapperBuildingException e) {
+			// expected
+		}
+	}
+
+	@Test
+	public void testParseNamedParameters() {
+		Tuple2<String, String[]> parsed = JdbcBinderBuilder.parseNamedParameters(
+				"update t set name = :name, label = ':notparam', \"col:x\" = :value::int where id=:id");
+		assertEquals("update t set name = ?, label = ':notparam', \"col:x\" = ?::int where id=?", parsed.first());
+		assertArrayEquals(new String[] { "name", "value", "id" }, parsed.second());
+	}
+}
@@ -0,0 +1,96 @@
+package org.sfm.jdbc;
+
+import org.junit.Test;
+import org.sfm.beans.DbObject;
+import org.sfm.map.ColumnBatch;
+import org.sfm.map.impl.FieldMapperColumnDefinition;
+import org.sfm.utils.ListHandler;
+import org.sfm.utils.RowHandler;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+
+public class JdbcColumnarMapperTest {
+
+	private static final int NB_ROWS = 1000;
+
+	private static final String QUERY = "select x as id, 'name' || x as name, 'email' || x as email"
+			+ " from unnest(sequence_array(1, " + NB_ROWS + ", 1)) as t(x) order by x";
+
+	@Test
+	public void testBatchesMatchObjectMapping() throws Exception {
+		final JdbcColumnarMapper<DbObject> mapper = JdbcMapperFactoryHelper.asm().newColumnarMapper(DbObject.class);
+
+		DbHelper.testQuery(new RowHandler<PreparedStatement>() {
+			@Override
+			public void handle(PreparedStatement ps) throws Exception {
+				final List<DbObject> expected = JdbcMapperFactoryHelper.asm().newMapper(DbObject.class).forEach(ps.executeQuery(), new ListHandler<DbObject>()).getList();
+				final List<Integer> sizes = new ArrayList<Integer>();
+				final List<DbObject> actual = new ArrayList<DbObject>();
+				mapper.forEachBatch(ps.executeQuery(), 300, new RowHandler<ColumnBatch<DbObject>>() {
+					@Override
+					public void handle(ColumnBatch<DbObject> batch) throws Exception {
+						sizes.add(batch.size());
+						long[] ids = batch.getLongColumn("id");
+						String[] names = batch.getStringColumn("name");
+						String[] emails = batch.getStringColumn("email");
+						for(int i = 0; i < batch.size(); i++) {
+							DbObject o = new DbObject();
+							o.setId(ids[i]);
+							o.setName(names[i]);
+							o.setEmail(emails[i]);
+							actual.add(o);
+						}
+					}
+				});
+
+				assertEquals("[300, 300, 300, 100]", sizes.toString());
+				assertEquals(NB_ROWS, actual.size());
+				for(int i = 0; i < NB_ROWS; i++) {
+					assertEquals(expected.get(i).getId(), actual.get(i).getId());
+					assertEquals(expected.get(i).getName(), actual.get(i).getName());
+					assertEquals(expected.get(i).getEmail(), actual.get(i).getEmail());
+				}
+			}
+		}, QUERY);
+	}
+
+	@Test
+	public void testColumnDefinitionsAndNullBitmaps() throws Exception {
+		final JdbcColumnarMapper<DbObject> mapper = JdbcMapperFactoryHelper.asm()
+				.addAlias("nm", "name")
+				.addColumnDefinition("email", FieldMapperColumnDefinition.<JdbcColumnKey, ResultSet>ignoreDefinition())
+				.newColumnarMapper(DbObject.class);
+
+		DbHelper.testQuery(new RowHandler<PreparedStatement>() {
+			@Override
+			public void handle(PreparedStatement ps) throws Exception {
+				final List<String> rows = new ArrayList<String>();
+				mapper.forEachBatch(ps.executeQuery(), 4, new RowHandler<ColumnBatch<DbObject>>() {
+					@Override
+					public void handle(ColumnBatch<DbObject> batch) throws Exception {
+						assertEquals(2, batch.getNbColumns());
+						assertEquals(-1, batch.indexOf("email"));
+						int idColumn = batch.indexOf("id");
+						int nameColumn = batch.indexOf("name");
+						long[] ids = batch.getLongColumn("id");
+						String[] names = batch.getStringColumn("name");
+						for(int i = 0; i < batch.size(); i++) {
+							rows.add((batch.isNull(idColumn, i) ? "null" : String.valueOf(ids[i]))
+									+ ":" + (batch.isNull(nameColumn, i) ? "null" : names[i]));
+						}
+					}
+				});
+
+				assertEquals(Arrays.asList("1:name1", "2:null", "null:name3", "4:null", "5:name5", "null:null"), rows);
+			}
+		}, "select case when mod(x, 3) = 0 then null else x end as id,"
+				+ " case when mod(x, 2) = 0 then null else 'name' || x end as nm, 'email' || x as email"
+				+ " from unnest(sequence_array(1, 6, 1)) as t(x) order by x");
+	}
+}
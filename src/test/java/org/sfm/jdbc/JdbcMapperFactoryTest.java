@@ -20,6 +20,8 @@ import java.util.List;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
 import static org.mockito.Mockito.*;
 
 public class JdbcMapperFactoryTest {
@@ -248,6 +250,37 @@ public class JdbcMapperFactoryTest {
 	}
 
 
+	@Test
+	public void testRecycleInstances() throws Exception {
+		final String query = "select x as id, 'name' || x as name from unnest(sequence_array(1, 5, 1)) as t(x) order by x";
+		for(final JdbcMapperFactory factory : new JdbcMapperFactory[] { JdbcMapperFactoryHelper.asm(), JdbcMapperFactoryHelper.noAsm()}) {
+			factory.recycleInstances(2);
+			DbHelper.testQuery(new RowHandler<PreparedStatement>() {
+				@Override
+				public void handle(PreparedStatement ps) throws Exception {
+					final List<DbObject> instances = new java.util.ArrayList<DbObject>();
+					final List<String> names = new java.util.ArrayList<String>();
+					factory.newMapper(DbObject.class).forEach(ps.executeQuery(), new RowHandler<DbObject>() {
+						@Override
+						public void handle(DbObject dbObject) throws Exception {
+							instances.add(dbObject);
+							names.add(dbObject.getId() + ":" + dbObject.getName());
+						}
+					});
+					assertEquals("[1:name1, 2:name2, 3:name3, 4:name4, 5:name5]", names.toString());
+					assertSame(instances.get(0), instances.get(2));
+					assertSame(instances.get(1), instances.get(3));
+					assertNotSame(instances.get(0), instances.get(1));
+
+					List<DbFinalObject> finalObjects = factory.newMapper(DbFinalObject.class).forEach(ps.executeQuery(), new ListHandler<DbFinalObject>()).getList();
+					assertNotSame(finalObjects.get(0), finalObjects.get(2));
+					assertEquals(3, finalObjects.get(2).getId());
+				}
+			}, query);
+		}
+	}
+
+
 	private void assertMapPsDbObject(ResultSet rs,
 			JdbcMapper<DbObject> mapper) throws Exception,
 			ParseException {
@@ -34,8 +34,8 @@ public class JdbcMapperToStringTest {
 
         String input = mapper.toString();
 
-        assertTrue(Pattern.matches("AsmMapperFromResultSetToDbObjectInj2_I[a-z0-9]+\\{" +
-                "instantiator=AsmInstantiatorDbObjectFromResultSet_I[a-z0-9]+\\{\\}, " +
+        assertTrue(Pattern.matches("AsmMapperFromResultSetToDbObjectInj2_P[a-z0-9]+\\{" +
+                "instantiator=AsmInstantiatorDbObjectFromResultSet_P[a-z0-9]+\\{\\}, " +
                 "mapper0=LongFieldMapper\\{getter=LongResultSetGetter\\{column=1\\}, setter=AsmMethodSetterDbObject_setId_long\\{\\}\\}, " +
                 "mapper1=FieldMapperImpl\\{getter=StringResultSetGetter\\{column=2\\}, setter=AsmMethodSetterDbObject_setName_String\\{\\}\\}\\}", input));
     }
@@ -4,12 +4,19 @@ import org.junit.Test;
 import org.mockito.invocation.InvocationOnMock;
 import org.mockito.stubbing.Answer;
 import org.sfm.map.MappingContext;
+import org.sfm.utils.ChunkHandler;
 import org.sfm.utils.ListHandler;
 
+import java.math.BigInteger;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
+import java.sql.Types;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -80,6 +87,134 @@ public class JoinJdbcMapperTest {
         validateMapper(mapper);
     }
 
+    @Test
+    public void testMaxJoinedRowsDoesNotSplitForEach() throws Exception {
+        validateMapper(JdbcMapperFactoryHelper.asm().addKeys("id", "students_id").maxJoinedRows(1).newMapper(ProfessorGS.class));
+        validateMapper(JdbcMapperFactoryHelper.noAsm().addKeys("id", "students_id").maxJoinedRows(1).newChunkedMapper(ProfessorC.class));
+    }
+
+    @Test
+    public void testMaxJoinedRowsSplitsChunks() throws Exception {
+        validateChunksByTwoRows(JdbcMapperFactoryHelper.asm().addKeys("id", "students_id").maxJoinedRows(2).newChunkedMapper(ProfessorGS.class));
+        validateChunksByTwoRows(JdbcMapperFactoryHelper.noAsm().addKeys("id", "students_id").maxJoinedRows(2).newChunkedMapper(ProfessorC.class));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testMaxJoinedRowsSplitsChunksOfBuilderMapper() throws Exception {
+        JdbcMapper<ProfessorGS> mapper = JdbcMapperFactoryHelper.asm()
+                .newBuilder(ProfessorGS.class)
+                .maxJoinedRows(2)
+                .addKey("id")
+                .addMapping("name")
+                .addKey("students_id")
+                .addMapping("students_name")
+                .addMapping("students_phones_value")
+                .mapper();
+
+        validateChunksByTwoRows((ChunkedJdbcMapper<ProfessorGS>) mapper);
+    }
+
+    @Test
+    public void testChunksWithoutMaxJoinedRowsAreWholeObjects() throws Exception {
+        ChunkListHandler<ProfessorGS> chunks = asmJdbcMapperFactory.newChunkedMapper(ProfessorGS.class)
+                .forEachChunk(setUpResultSetMock(), new ChunkListHandler<ProfessorGS>());
+        validateProfessors(chunks.chunks);
+        assertEquals(Arrays.asList(false, false, false), chunks.continuations);
+    }
+
+    private <T extends Professor<?>> void validateChunksByTwoRows(ChunkedJdbcMapper<T> mapper) throws Exception {
+        ChunkListHandler<T> chunks = mapper.forEachChunk(setUpResultSetMock(), new ChunkListHandler<T>());
+        List<T> professors = chunks.chunks;
+        assertEquals("professor1 is split after 2 rows", 4, professors.size());
+        assertEquals(Arrays.asList(false, true, false, false), chunks.continuations);
+
+        assertPersonEquals(1, "professor1", professors.get(0));
+        assertEquals(1, professors.get(0).getStudents().size());
+        assertPersonEquals(3, "student3", professors.get(0).getStudents().get(0));
+        assertArrayEquals(new Object[]{"phone31", "phone32"}, professors.get(0).getStudents().get(0).getPhones().toArray());
+
+        assertPersonEquals(1, "professor1", professors.get(1));
+        assertEquals(1, professors.get(1).getStudents().size());
+        assertPersonEquals(4, "student4", professors.get(1).getStudents().get(0));
+        assertArrayEquals(new Object[]{"phone41"}, professors.get(1).getStudents().get(0).getPhones().toArray());
+
+        assertPersonEquals(2, "professor2", professors.get(2));
+        assertEquals(1, professors.get(2).getStudents().size());
+        assertArrayEquals(new Object[]{"phone51", "phone52"}, professors.get(2).getStudents().get(0).getPhones().toArray());
+
+        assertPersonEquals(3, "professor3", professors.get(3));
+        assertTrue(professors.get(3).getStudents().isEmpty());
+    }
+
+    @Test
+    public void testMaxJoinedRowsSplitsInnerJoinChunks() throws Exception {
+        ChunkListHandler<ProfessorGS> chunks = JdbcMapperFactoryHelper.asm().addKeys("id", "students_id").maxJoinedRows(1)
+                .newChunkedMapper(ProfessorGS.class).forEachChunk(setUpResultSetMock(), new ChunkListHandler<ProfessorGS>());
+        List<ProfessorGS> professors = chunks.chunks;
+        assertEquals(6, professors.size());
+        assertEquals(Arrays.asList(false, true, true, false, true, false), chunks.continuations);
+        assertPersonEquals(1, "professor1", professors.get(1));
+        assertPersonEquals(3, "student3", professors.get(1).getStudents().get(0));
+        assertArrayEquals(new Object[]{"phone32"}, professors.get(1).getStudents().get(0).getPhones().toArray());
+        assertArrayEquals(new Object[]{"phone52"}, professors.get(4).getStudents().get(0).getPhones().toArray());
+    }
+
+    private static class ChunkListHandler<T> implements ChunkHandler<T> {
+        private final List<T> chunks = new ArrayList<T>();
+        private final List<Boolean> continuations = new ArrayList<Boolean>();
+
+        @Override
+        public void handle(T chunk, boolean continuation) throws Exception {
+            chunks.add(chunk);
+            continuations.add(continuation);
+        }
+    }
+
+    @Test
+    public void testJoinOnIntegerKeysFromDb() throws Exception {
+        Connection connection = DbHelper.objectDb();
+        try {
+            PreparedStatement ps = connection.prepareStatement("select * from (values"
+                    + "(1, 'professor1', 3, 'student3', 'phone31'),"
+                    + "(1, 'professor1', 3, 'student3', 'phone32'),"
+                    + "(1, 'professor1', 4, 'student4', 'phone41'),"
+                    + "(2, 'professor2', 4, 'student4', 'phone51'),"
+                    + "(2, 'professor2', 4, 'student4', 'phone52'),"
+                    + "(3, 'professor3', cast(null as integer), cast(null as varchar(10)), cast(null as varchar(10)))"
+                    + ") as t(id, name, students_id, students_name, students_phones_value)");
+            try {
+                for(JdbcMapperFactory factory : Arrays.asList(asmJdbcMapperFactory, noAsmJdbcMapperFactory)) {
+                    validateProfessors(factory.newMapper(ProfessorGS.class).forEach(ps.executeQuery(), new ListHandler<ProfessorGS>()).getList());
+                }
+            } finally {
+                ps.close();
+            }
+        } finally {
+            connection.close();
+        }
+    }
+
+    @Test
+    public void testUnsignedBigIntKeysAreComparedAsObject() throws Exception {
+        JdbcMappingContextFactoryBuilder builder = new JdbcMappingContextFactoryBuilder();
+        builder.addKey(new JdbcColumnKey("id", 1, Types.BIGINT));
+        MappingContext<ResultSet> context = builder.newFactory().newContext();
+
+        ResultSet rs = mock(ResultSet.class);
+        when(rs.getLong(1)).thenThrow(new SQLException("Out of range value for column 'id'"));
+        when(rs.getObject(1)).thenReturn(
+                new BigInteger("18446744073709551615"),
+                new BigInteger("18446744073709551615"),
+                new BigInteger("18446744073709551614"));
+
+        context.handle(rs);
+        assertTrue(context.broke(0));
+        context.handle(rs);
+        assertFalse(context.broke(0));
+        context.handle(rs);
+        assertTrue(context.broke(0));
+    }
 
     private ResultSet setUpResultSetMock() throws SQLException {
         ResultSet rs = mock(ResultSet.class);
@@ -0,0 +1,162 @@
+package org.sfm.jdbc;
+
+import org.junit.Test;
+import org.sfm.beans.DbObject;
+import org.sfm.jdbc.impl.PipelinedJdbcMapper;
+import org.sfm.utils.ListHandler;
+import org.sfm.utils.RowHandler;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class PipelinedJdbcMapperTest {
+
+	private static final int NB_ROWS = 2000;
+
+	private static final String QUERY = "select x as id, 'name' || x as name, 'email' || x as email,"
+			+ " TIMESTAMP'2014-03-04 11:10:03' as creation_time, mod(x, 4) as type_ordinal, 'type' || (mod(x, 4) + 1) as type_name"
+			+ " from unnest(sequence_array(1, " + NB_ROWS + ", 1)) as t(x) order by x";
+
+	@Test
+	public void testOrderedMatchesSequentialMapping() throws Exception {
+		final JdbcMapper<DbObject> mapper = JdbcMapperFactoryHelper.asm().parallelMapping(3, true).newMapper(DbObject.class);
+		assertTrue(mapper instanceof PipelinedJdbcMapper);
+
+		DbHelper.testQuery(new RowHandler<PreparedStatement>() {
+			@Override
+			public void handle(PreparedStatement ps) throws Exception {
+				List<DbObject> expected = JdbcMapperFactoryHelper.asm().newMapper(DbObject.class).forEach(ps.executeQuery(), new ListHandler<DbObject>()).getList();
+				List<DbObject> actual = mapper.forEach(ps.executeQuery(), new ListHandler<DbObject>()).getList();
+				assertSameObjects(expected, actual);
+			}
+		}, QUERY);
+	}
+
+	@Test
+	public void testUnorderedDeliversAllRows() throws Exception {
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+		try {
+			final JdbcMapper<DbObject> mapper = JdbcMapperFactoryHelper.noAsm()
+					.parallelMapping(2, false).parallelMappingExecutor(executor).newMapper(DbObject.class);
+
+			DbHelper.testQuery(new RowHandler<PreparedStatement>() {
+				@Override
+				public void handle(PreparedStatement ps) throws Exception {
+					List<DbObject> expected = JdbcMapperFactoryHelper.noAsm().newMapper(DbObject.class).forEach(ps.executeQuery(), new ListHandler<DbObject>()).getList();
+					List<DbObject> actual = mapper.forEach(ps.executeQuery(), new ListHandler<DbObject>()).getList();
+					Collections.sort(actual, new Comparator<DbObject>() {
+						@Override
+						public int compare(DbObject o1, DbObject o2) {
+							return o1.getId() < o2.getId() ? -1 : o1.getId() == o2.getId() ? 0 : 1;
+						}
+					});
+					assertSameObjects(expected, actual);
+				}
+			}, QUERY);
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	@Test
+	public void testHandlerErrorIsRethrownOnCallingThread() throws Exception {
+		final JdbcMapper<DbObject> mapper = JdbcMapperFactoryHelper.asm().parallelMapping(2, true).newMapper(DbObject.class);
+
+		DbHelper.testQuery(new RowHandler<PreparedStatement>() {
+			@Override
+			public void handle(PreparedStatement ps) throws Exception {
+				final List<DbObject> seen = new ArrayList<DbObject>();
+				try {
+					mapper.forEach(ps.executeQuery(), new RowHandler<DbObject>() {
+						@Override
+						public void handle(DbObject dbObject) throws Exception {
+							seen.add(dbObject);
+							if (dbObject.getId() == 100) {
+								throw new IllegalStateException("stop");
+							}
+						}
+					});
+					fail("Expected IllegalStateException");
+				} catch (IllegalStateException e) {
+					assertEquals("stop", e.getMessage());
+				}
+				assertEquals(100, seen.size());
+			}
+		}, QUERY);
+	}
+
+	@Test
+	public void testSameThreadExecutorMapsOnTheCallingThread() throws Exception {
+		final JdbcMapper<DbObject> mapper = JdbcMapperFactoryHelper.asm().parallelMapping(2, true)
+				.parallelMappingExecutor(new Executor() {
+					@Override
+					public void execute(Runnable command) {
+						command.run();
+					}
+				}).newMapper(DbObject.class);
+
+		DbHelper.testQuery(new RowHandler<PreparedStatement>() {
+			@Override
+			public void handle(PreparedStatement ps) throws Exception {
+				List<DbObject> expected = JdbcMapperFactoryHelper.asm().newMapper(DbObject.class).forEach(ps.executeQuery(), new ListHandler<DbObject>()).getList();
+				List<DbObject> actual = mapper.forEach(ps.executeQuery(), new ListHandler<DbObject>()).getList();
+				assertSameObjects(expected, actual);
+			}
+		}, QUERY);
+	}
+
+	@Test
+	public void testInterruptedWorkerFailsTheCall() throws Exception {
+		final JdbcMapper<DbObject> mapper = JdbcMapperFactoryHelper.asm().parallelMapping(2, true)
+				.parallelMappingExecutor(new Executor() {
+					@Override
+					public void execute(final Runnable command) {
+						new Thread(new Runnable() {
+							@Override
+							public void run() {
+								Thread.currentThread().interrupt();
+								command.run();
+							}
+						}).start();
+					}
+				}).newMapper(DbObject.class);
+
+		DbHelper.testQuery(new RowHandler<PreparedStatement>() {
+			@Override
+			public void handle(PreparedStatement ps) throws Exception {
+				try {
+					mapper.forEach(ps.executeQuery(), new ListHandler<DbObject>());
+					fail("Expected SQLException");
+				} catch (SQLException e) {
+					assertEquals("A mapping worker ended before the end of the ResultSet", e.getMessage());
+				}
+			}
+		}, QUERY);
+	}
+
+	private void assertSameObjects(List<DbObject> expected, List<DbObject> actual) {
+		assertEquals(NB_ROWS, expected.size());
+		assertEquals(expected.size(), actual.size());
+		for(int i = 0; i < expected.size(); i++) {
+			DbObject e = expected.get(i);
+			DbObject a = actual.get(i);
+			assertEquals(e.getId(), a.getId());
+			assertEquals(e.getName(), a.getName());
+			assertEquals(e.getEmail(), a.getEmail());
+			assertEquals(e.getCreationTime(), a.getCreationTime());
+			assertEquals(e.getTypeOrdinal(), a.getTypeOrdinal());
+			assertEquals(e.getTypeName(), a.getTypeName());
+		}
+	}
+}
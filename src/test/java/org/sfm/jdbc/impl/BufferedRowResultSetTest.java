@@ -0,0 +1,197 @@
+package org.sfm.jdbc.impl;
+
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.sql.Blob;
+import java.sql.Clob;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.SQLXML;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.Calendar;
+import java.util.TimeZone;
+//IFJAVA8_START
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+//IFJAVA8_END
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+public class BufferedRowResultSetTest {
+
+	@Test
+	public void testLobsAreCopiedAndFreedWhenTheRowIsRead() throws Exception {
+		Clob clob = mock(Clob.class);
+		when(clob.length()).thenReturn(5l);
+		when(clob.getSubString(1, 5)).thenReturn("clob1");
+		Blob blob = mock(Blob.class);
+		when(blob.length()).thenReturn(2l);
+		when(blob.getBytes(1, 2)).thenReturn(new byte[] { 1, 2 });
+		SQLXML sqlxml = mock(SQLXML.class);
+		when(sqlxml.getString()).thenReturn("<a/>");
+
+		BufferedRowResultSet row = readRow(clob, blob, sqlxml);
+
+		verify(clob).free();
+		verify(blob).free();
+		verify(sqlxml).free();
+
+		assertEquals("clob1", row.getString(1));
+		assertEquals("clob1", row.getClob(1).getSubString(1, 5));
+		assertArrayEquals(new byte[] { 1, 2 }, row.getBytes(2));
+		assertEquals(2, row.getBlob(2).length());
+		assertEquals("<a/>", row.getString(3));
+		assertEquals("<a/>", row.getSQLXML(3).getString());
+	}
+
+	@Test
+	public void testIntegerGettersThrowOnOverflow() throws Exception {
+		BufferedRowResultSet row = readRow(Long.MAX_VALUE, new BigDecimal("1e30"), 3.7d, 128);
+
+		assertEquals(Long.MAX_VALUE, row.getLong(1));
+		assertEquals(3, row.getInt(3));
+		assertEquals(128, row.getShort(4));
+		assertOutOfRange(row, 1, Integer.class);
+		assertOutOfRange(row, 2, Long.class);
+		assertOutOfRange(row, 4, Byte.class);
+	}
+
+	@Test
+	public void testCalendarIsHonoured() throws Exception {
+		Timestamp timestamp = Timestamp.valueOf("2014-03-04 11:10:03.123456789");
+		BufferedRowResultSet row = readRow(timestamp);
+
+		Calendar utc = Calendar.getInstance(TimeZone.getTimeZone("UTC"));
+		Timestamp inUtc = row.getTimestamp(1, utc);
+
+		utc.setTime(inUtc);
+		assertEquals(11, utc.get(Calendar.HOUR_OF_DAY));
+		assertEquals(10, utc.get(Calendar.MINUTE));
+		assertEquals(123456789, inUtc.getNanos());
+		assertSame(timestamp, row.getTimestamp(1));
+	}
+
+	@Test
+	public void testTemporalColumnsAreReadWithTheTypedGetters() throws Exception {
+		ResultSet rs = mock(ResultSet.class);
+		Timestamp timestamp = Timestamp.valueOf("2014-03-04 11:10:03");
+		java.sql.Date date = java.sql.Date.valueOf("2014-03-04");
+		Time time = Time.valueOf("11:10:03");
+		when(rs.getTimestamp(1)).thenReturn(timestamp);
+		when(rs.getDate(2)).thenReturn(date);
+		when(rs.getTime(3)).thenReturn(time);
+
+		ResultSetMetaData metaData = mock(ResultSetMetaData.class);
+		when(metaData.getColumnCount()).thenReturn(3);
+		when(metaData.getColumnType(1)).thenReturn(Types.TIMESTAMP);
+		when(metaData.getColumnType(2)).thenReturn(Types.DATE);
+		when(metaData.getColumnType(3)).thenReturn(Types.TIME);
+		BufferedRowResultSet row = new BufferedRowResultSet(metaData);
+		Object[] buffer = new Object[3];
+		row.readRow(rs, buffer);
+		row.setRow(buffer);
+
+		verify(rs, never()).getObject(anyInt());
+		assertSame(timestamp, row.getTimestamp(1));
+		assertSame(date, row.getDate(2));
+		assertSame(time, row.getTime(3));
+	}
+
+	@Test
+	public void testUnparseableTemporalValueThrowsSQLException() throws Exception {
+		BufferedRowResultSet row = readRow("not a date");
+		try {
+			row.getTimestamp(1);
+			fail();
+		} catch (SQLException e) {
+			// expected
+		}
+		try {
+			row.getDate(1);
+			fail();
+		} catch (SQLException e) {
+			// expected
+		}
+		try {
+			row.getTime(1);
+			fail();
+		} catch (SQLException e) {
+			// expected
+		}
+	}
+
+	@Test
+	public void testGetObjectConvertsToTheStandardTypes() throws Exception {
+		BufferedRowResultSet row = readRow(12l, "2014-03-04 11:10:03", new BigDecimal("3.5"));
+
+		assertEquals(Integer.valueOf(12), row.getObject(1, Integer.class));
+		assertEquals("12", row.getObject(1, String.class));
+		assertEquals(Timestamp.valueOf("2014-03-04 11:10:03"), row.getObject(2, Timestamp.class));
+		assertEquals(Double.valueOf(3.5), row.getObject(3, Double.class));
+		try {
+			row.getObject(3, Calendar.class);
+			fail();
+		} catch (SQLException e) {
+			// expected
+		}
+	}
+
+	//IFJAVA8_START
+	@Test
+	public void testJavaTimeValuesAreConverted() throws Exception {
+		LocalDateTime localDateTime = LocalDateTime.of(2014, 3, 4, 11, 10, 3);
+		OffsetDateTime offsetDateTime = OffsetDateTime.of(localDateTime, ZoneOffset.UTC);
+		BufferedRowResultSet row = readRow(localDateTime, offsetDateTime, LocalDate.of(2014, 3, 4), LocalTime.of(11, 10, 3));
+
+		assertEquals(Timestamp.valueOf("2014-03-04 11:10:03"), row.getTimestamp(1));
+		assertEquals(java.sql.Date.valueOf("2014-03-04"), row.getDate(1));
+		assertEquals(Time.valueOf("11:10:03"), row.getTime(1));
+		assertEquals(offsetDateTime.toInstant().toEpochMilli(), row.getTimestamp(2).getTime());
+		assertEquals(java.sql.Date.valueOf("2014-03-04"), row.getDate(3));
+		assertEquals(Time.valueOf("11:10:03"), row.getTime(4));
+		assertEquals(LocalDate.of(2014, 3, 4), row.getObject(1, LocalDate.class));
+	}
+	//IFJAVA8_END
+
+	private void assertOutOfRange(BufferedRowResultSet row, int column, Class<?> type) {
+		try {
+			if (type == Integer.class) {
+				row.getInt(column);
+			} else if (type == Long.class) {
+				row.getLong(column);
+			} else {
+				row.getByte(column);
+			}
+			fail();
+		} catch (SQLException e) {
+			// expected
+		}
+	}
+
+	private BufferedRowResultSet readRow(Object... values) throws SQLException {
+		return readRow(mock(ResultSet.class), values);
+	}
+
+	private BufferedRowResultSet readRow(ResultSet rs, Object... values) throws SQLException {
+		ResultSetMetaData metaData = mock(ResultSetMetaData.class);
+		when(metaData.getColumnCount()).thenReturn(values.length);
+		for(int i = 0; i < values.length; i++) {
+			when(metaData.getColumnLabel(i + 1)).thenReturn("c" + i);
+			when(metaData.getColumnType(i + 1)).thenReturn(Types.OTHER);
+			when(rs.getObject(i + 1)).thenReturn(values[i]);
+		}
+		BufferedRowResultSet row = new BufferedRowResultSet(metaData);
+		Object[] buffer = new Object[values.length];
+		row.readRow(rs, buffer);
+		row.setRow(buffer);
+		return row;
+	}
+}
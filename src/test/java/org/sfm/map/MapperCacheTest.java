@@ -1,14 +1,22 @@
 package org.sfm.map;
 
 import org.junit.Test;
+import org.sfm.csv.CsvMapper;
+import org.sfm.csv.CsvMapperFactory;
 import org.sfm.map.impl.ColumnsMapperKey;
 import org.sfm.map.impl.MapperCache;
+import org.sfm.utils.ListHandler;
 
+import java.io.StringReader;
 import java.sql.SQLException;
 import java.text.ParseException;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 
 public class MapperCacheTest {
 
@@ -21,5 +29,98 @@ public class MapperCacheTest {
 		delegate = new Object();
 		cache.add(key, delegate);
 		assertSame(delegate, cache.get(key));
+		assertSame(delegate, cache.get(new ColumnsMapperKey("col1", "col2")));
+	}
+
+	@Test
+	public void testColumnsMapperKeyHashCode() {
+		assertEquals(new ColumnsMapperKey("col1", "col2").hashCode(), new ColumnsMapperKey("col1", "col2").hashCode());
+		assertFalse(new ColumnsMapperKey("col1", "col2").equals(new ColumnsMapperKey("col2", "col1")));
+		assertFalse(new ColumnsMapperKey("col1").equals("col1"));
+	}
+
+	@Test
+	public void testLruEviction() {
+		MapperCacheStats stats = new MapperCacheStats();
+		MapperCache<ColumnsMapperKey, Object> cache = new MapperCache<ColumnsMapperKey, Object>(2, CacheEvictionPolicy.LRU, stats);
+		ColumnsMapperKey k1 = new ColumnsMapperKey("1");
+		ColumnsMapperKey k2 = new ColumnsMapperKey("2");
+		ColumnsMapperKey k3 = new ColumnsMapperKey("3");
+		cache.add(k1, "1");
+		cache.add(k2, "2");
+		cache.get(k1);
+		cache.add(k3, "3");
+
+		assertEquals(2, cache.size());
+		assertNotNull(cache.get(k1));
+		assertNull(cache.get(k2));
+		assertNotNull(cache.get(k3));
+
+		assertEquals(3, stats.getHitCount());
+		assertEquals(1, stats.getMissCount());
+		assertEquals(1, stats.getEvictionCount());
+	}
+
+	@Test
+	public void testLfuEviction() {
+		MapperCacheStats stats = new MapperCacheStats();
+		MapperCache<ColumnsMapperKey, Object> cache = new MapperCache<ColumnsMapperKey, Object>(2, CacheEvictionPolicy.LFU, stats);
+		ColumnsMapperKey k1 = new ColumnsMapperKey("1");
+		ColumnsMapperKey k2 = new ColumnsMapperKey("2");
+		ColumnsMapperKey k3 = new ColumnsMapperKey("3");
+		cache.add(k1, "1");
+		cache.add(k2, "2");
+		cache.get(k1);
+		cache.get(k1);
+		cache.get(k2);
+		cache.add(k3, "3");
+
+		assertNotNull(cache.get(k1));
+		assertNull(cache.get(k2));
+		assertEquals(1, stats.getEvictionCount());
+
+		// k3 is the least frequently used one
+		cache.add(k2, "2");
+		assertNull(cache.get(k3));
+		assertNotNull(cache.get(k1));
+	}
+
+	@Test
+	public void testReplace() {
+		MapperCacheStats stats = new MapperCacheStats();
+		MapperCache<ColumnsMapperKey, Object> cache = new MapperCache<ColumnsMapperKey, Object>(1, CacheEvictionPolicy.LRU, stats);
+		ColumnsMapperKey k1 = new ColumnsMapperKey("1");
+		ColumnsMapperKey k2 = new ColumnsMapperKey("2");
+		cache.add(k1, "1");
+
+		assertFalse(cache.replace(k1, "other", "1bis"));
+		assertTrue(cache.replace(k1, "1", "1bis"));
+		assertEquals("1bis", cache.get(k1));
+		assertEquals(1, cache.size());
+
+		cache.add(k2, "2");
+		assertFalse(cache.replace(k1, "1bis", "1ter"));
+		assertNull(cache.get(k1));
+	}
+
+	@Test
+	public void testFactoryStats() throws Exception {
+		CsvMapperFactory factory = CsvMapperFactory.newInstance().mapperCacheSize(1);
+		CsvMapper<DbObject> mapper = factory.newMapper(DbObject.class);
+
+		mapper.forEach(new StringReader("id,name\n1,n1"), new ListHandler<DbObject>());
+		mapper.forEach(new StringReader("id,name\n2,n2"), new ListHandler<DbObject>());
+		mapper.forEach(new StringReader("name,id\nn3,3"), new ListHandler<DbObject>());
+		mapper.forEach(new StringReader("id,name\n4,n4"), new ListHandler<DbObject>());
+
+		MapperCacheStats stats = factory.mapperCacheStats();
+		assertEquals(1, stats.getHitCount());
+		assertEquals(3, stats.getMissCount());
+		assertEquals(2, stats.getEvictionCount());
+	}
+
+	public static class DbObject {
+		public long id;
+		public String name;
 	}
 }
@@ -0,0 +1,146 @@
+package org.sfm.map;
+
+import org.junit.Test;
+import org.sfm.beans.DbObject;
+import org.sfm.csv.CsvColumnKey;
+import org.sfm.csv.CsvMapper;
+import org.sfm.csv.CsvMapperFactory;
+import org.sfm.csv.impl.ParsingException;
+import org.sfm.jdbc.DbHelper;
+import org.sfm.jdbc.JdbcMapper;
+import org.sfm.jdbc.JdbcMapperFactory;
+import org.sfm.map.impl.MetricsFieldMapperErrorHandler;
+import org.sfm.map.impl.NoOpMapperMetrics;
+import org.sfm.map.impl.RethrowFieldMapperErrorHandler;
+import org.sfm.utils.ListHandler;
+import org.sfm.utils.RowHandler;
+
+import java.io.StringReader;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class MapperMetricsTest {
+
+	@Test
+	public void testCsvMetrics() throws Exception {
+		InMemoryMapperMetrics metrics = new InMemoryMapperMetrics();
+		CsvMapper<DbObject> mapper = CsvMapperFactory.newInstance()
+				.mapperMetrics(metrics)
+				.fieldMapperErrorHandler(new FieldMapperErrorHandler<CsvColumnKey>() {
+					@Override
+					public void errorMappingField(CsvColumnKey key, Object source, Object target, Exception error) throws MappingException {
+					}
+				})
+				.newMapper(DbObject.class);
+
+		List<DbObject> list = mapper.forEach(new StringReader("id,name\n1,n1\n2,n2\nnotanumber,n3"), new ListHandler<DbObject>()).getList();
+		assertEquals(3, list.size());
+		mapper.forEach(new StringReader("id,name\n1,n1"), new ListHandler<DbObject>());
+
+		assertEquals(1, metrics.getMapperBuiltCount());
+		assertEquals(1, metrics.getAsmMapperCount());
+		assertTrue(metrics.getMapperBuildNanos() > 0);
+		assertEquals(1, metrics.getCacheMissCount());
+		assertEquals(1, metrics.getCacheHitCount());
+		assertEquals(4, metrics.getRowCount());
+		assertTrue(metrics.getRowNanos() > 0);
+		assertEquals(1, metrics.getFieldErrorCount());
+	}
+
+	@Test
+	public void testJdbcMetrics() throws Exception {
+		final InMemoryMapperMetrics metrics = new InMemoryMapperMetrics();
+		final JdbcMapper<DbObject> mapper = JdbcMapperFactory.newInstance().mapperMetrics(metrics).newMapper(DbObject.class);
+		DbHelper.testDbObjectFromDb(new RowHandler<PreparedStatement>() {
+			@Override
+			public void handle(PreparedStatement ps) throws Exception {
+				mapper.forEach(ps.executeQuery(), new ListHandler<DbObject>());
+				mapper.forEach(ps.executeQuery(), new ListHandler<DbObject>());
+			}
+		});
+
+		assertEquals(1, metrics.getMapperBuiltCount());
+		assertEquals(1, metrics.getCacheMissCount());
+		assertEquals(1, metrics.getCacheHitCount());
+		assertEquals(2, metrics.getRowCount());
+		assertTrue(metrics.getRowsPerSecond() > 0);
+	}
+
+	@Test
+	public void testOnlyTheHandlingErrorHandlersAreWrapped() {
+		FieldMapperErrorHandler<String> rethrow = new RethrowFieldMapperErrorHandler<String>();
+		FieldMapperErrorHandler<String> ignore = new FieldMapperErrorHandler<String>() {
+			@Override
+			public void errorMappingField(String key, Object source, Object target, Exception error) throws MappingException {
+			}
+		};
+		assertSame(ignore, MetricsFieldMapperErrorHandler.wrap(ignore, NoOpMapperMetrics.INSTANCE));
+		assertSame(rethrow, MetricsFieldMapperErrorHandler.wrap(rethrow, new InMemoryMapperMetrics()));
+		assertNull(MetricsFieldMapperErrorHandler.wrap(null, new InMemoryMapperMetrics()));
+		assertTrue(MetricsFieldMapperErrorHandler.wrap(ignore, new InMemoryMapperMetrics()) instanceof MetricsFieldMapperErrorHandler);
+	}
+
+	@Test
+	public void testCsvFieldErrorAbortingTheMappingIsCounted() throws Exception {
+		InMemoryMapperMetrics metrics = new InMemoryMapperMetrics();
+		CsvMapper<DbObject> mapper = CsvMapperFactory.newInstance().mapperMetrics(metrics).newMapper(DbObject.class);
+
+		try {
+			mapper.forEach(new StringReader("id,name\n1,n1\nnotanumber,n2"), new ListHandler<DbObject>());
+			fail();
+		} catch (ParsingException e) {
+			// expected
+		}
+		assertEquals(1, metrics.getFieldErrorCount());
+		assertEquals(1, metrics.getRowCount());
+
+		try {
+			mapper.forEach(new StringReader("id,name\n1,n1"), new RowHandler<DbObject>() {
+				@Override
+				public void handle(DbObject dbObject) throws Exception {
+					throw new IllegalStateException();
+				}
+			});
+			fail();
+		} catch (IllegalStateException e) {
+			// expected
+		}
+		assertEquals(1, metrics.getFieldErrorCount());
+	}
+
+	@Test
+	public void testJdbcFieldErrorAbortingTheMappingIsCounted() throws Exception {
+		InMemoryMapperMetrics metrics = new InMemoryMapperMetrics();
+		JdbcMapper<DbObject> mapper = JdbcMapperFactory.newInstance().mapperMetrics(metrics).newMapper(DbObject.class);
+
+		ResultSetMetaData metaData = mock(ResultSetMetaData.class);
+		when(metaData.getColumnCount()).thenReturn(1);
+		when(metaData.getColumnLabel(1)).thenReturn("id");
+		when(metaData.getColumnType(1)).thenReturn(Types.BIGINT);
+		ResultSet rs = mock(ResultSet.class);
+		when(rs.getMetaData()).thenReturn(metaData);
+		when(rs.next()).thenReturn(true, false);
+		SQLException error = new SQLException("not a number");
+		when(rs.getLong(1)).thenThrow(error);
+
+		try {
+			mapper.forEach(rs, new ListHandler<DbObject>());
+			fail();
+		} catch (SQLException e) {
+			assertSame(error, e);
+		}
+		assertEquals(1, metrics.getFieldErrorCount());
+	}
+}
@@ -4,9 +4,18 @@ import org.junit.Test;
 import org.sfm.beans.DbFinalObject;
 import org.sfm.beans.DbObject;
 import org.sfm.beans.DbObject.Type;
+import org.sfm.csv.CsvMapper;
+import org.sfm.csv.CsvMapperFactory;
+import org.sfm.csv.impl.CellSetter;
+import org.sfm.csv.impl.cellreader.CellSetterImpl;
+import org.sfm.csv.impl.cellreader.LongCellValueReaderImpl;
+import org.sfm.csv.impl.cellreader.LongCellValueReaderUnbox;
+import org.sfm.csv.impl.cellreader.StringCellValueReader;
+import org.sfm.csv.impl.primitive.LongCellSetter;
 import org.sfm.jdbc.JdbcColumnKey;
 import org.sfm.jdbc.JdbcMapper;
 import org.sfm.jdbc.JdbcMappingContextFactoryBuilder;
+import org.sfm.jdbc.impl.getter.IntResultSetGetter;
 import org.sfm.jdbc.impl.getter.LongResultSetGetter;
 import org.sfm.jdbc.impl.getter.OrdinalEnumResultSetGetter;
 import org.sfm.jdbc.impl.getter.StringResultSetGetter;
@@ -14,14 +23,26 @@ import org.sfm.map.MappingContext;
 import org.sfm.map.MappingException;
 import org.sfm.map.FieldMapper;
 import org.sfm.map.impl.RethrowRowHandlerErrorHandler;
+import org.sfm.map.impl.fieldmapper.FieldMapperImpl;
+import org.sfm.map.impl.fieldmapper.LongFieldMapper;
 import org.sfm.reflect.InstantiatorDefinition;
 import org.sfm.reflect.Parameter;
 import org.sfm.reflect.Getter;
 import org.sfm.reflect.Instantiator;
+import org.sfm.reflect.Setter;
+import org.sfm.reflect.impl.MethodSetter;
+import org.sfm.reflect.primitive.LongSetter;
+import org.sfm.utils.ListHandler;
 
+import java.io.File;
 import java.io.IOException;
+import java.io.StringReader;
+import java.net.URL;
+import java.net.URLClassLoader;
 import java.sql.ResultSet;
+import java.util.Date;
 import java.util.HashMap;
+import java.util.List;
 
 import static org.junit.Assert.*;
 import static org.mockito.Mockito.mock;
@@ -148,4 +169,237 @@ public class AsmFactoryTest {
 			// ok
 		} 
 	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void testAsmJdbcMapperInlinesResultSetGetterAndSetterMethod() throws Exception {
+		FieldMapper<ResultSet, DbObject>[] mappers = (FieldMapper<ResultSet, DbObject>[]) new FieldMapper[] {
+				new LongFieldMapper<ResultSet, DbObject>(new LongResultSetGetter(1),
+						(LongSetter<DbObject>) asmFactory.<DbObject, Long>createSetter(DbObject.class.getMethod("setId", long.class))),
+				new FieldMapperImpl<ResultSet, DbObject, String>(new StringResultSetGetter(2),
+						asmFactory.<DbObject, String>createSetter(DbObject.class.getMethod("setName", String.class))),
+				new FieldMapperImpl<ResultSet, DbObject, Type>(new OrdinalEnumResultSetGetter<Type>(3, Type.class),
+						asmFactory.<DbObject, Type>createSetter(DbObject.class.getMethod("setTypeOrdinal", Type.class)))
+		};
+
+		JdbcInlinedFieldMapping[] inlinedMappings = JdbcInlinedFieldMapping.of(mappers, DbObject.class, asmFactory);
+		assertNotNull(inlinedMappings[0]);
+		assertNotNull(inlinedMappings[1]);
+		assertNull(inlinedMappings[2]);
+
+		JdbcMapper<DbObject> mapper = newJdbcMapper(asmFactory, mappers, DbObject.class);
+
+		ResultSet rs = mock(ResultSet.class);
+		when(rs.getLong(1)).thenReturn(12l);
+		when(rs.getString(2)).thenReturn("inlined");
+		when(rs.getInt(3)).thenReturn(1);
+		DbObject object = mapper.map(rs);
+		assertEquals(12l, object.getId());
+		assertEquals("inlined", object.getName());
+		assertEquals(Type.type2, object.getTypeOrdinal());
+
+		JdbcMapper<DbObject> notInlinedMapper = newJdbcMapper(new AsmFactory(Thread.currentThread().getContextClassLoader(), false), mappers, DbObject.class);
+		assertNotSame(mapper.getClass(), notInlinedMapper.getClass());
+		assertEquals(object.toString(), notInlinedMapper.map(rs).toString());
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void testAsmJdbcMapperInlinesBoxedValuesWithWasNull() throws Exception {
+		FieldMapper<ResultSet, BoxedObject>[] mappers = (FieldMapper<ResultSet, BoxedObject>[]) new FieldMapper[] {
+				new FieldMapperImpl<ResultSet, BoxedObject, Integer>(new IntResultSetGetter(1),
+						new MethodSetter<BoxedObject, Integer>(BoxedObject.class.getMethod("setValue", Integer.class)))
+		};
+		assertNotNull(JdbcInlinedFieldMapping.of(mappers, BoxedObject.class, asmFactory)[0]);
+
+		JdbcMapper<BoxedObject> mapper = newJdbcMapper(asmFactory, mappers, BoxedObject.class);
+
+		ResultSet rs = mock(ResultSet.class);
+		when(rs.getInt(1)).thenReturn(3, 0);
+		when(rs.wasNull()).thenReturn(false, true);
+		assertEquals(Integer.valueOf(3), mapper.map(rs).getValue());
+		assertNull(mapper.map(rs).getValue());
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void testAsmJdbcMapperDoesNotShareClassBetweenSetters() throws Exception {
+		JdbcMapper<DbObject> nameMapper = newJdbcMapper(asmFactory, (FieldMapper<ResultSet, DbObject>[]) new FieldMapper[] {
+				new FieldMapperImpl<ResultSet, DbObject, String>(new StringResultSetGetter(1),
+						asmFactory.<DbObject, String>createSetter(DbObject.class.getMethod("setName", String.class)))
+		}, DbObject.class);
+		JdbcMapper<DbObject> emailMapper = newJdbcMapper(asmFactory, (FieldMapper<ResultSet, DbObject>[]) new FieldMapper[] {
+				new FieldMapperImpl<ResultSet, DbObject, String>(new StringResultSetGetter(1),
+						asmFactory.<DbObject, String>createSetter(DbObject.class.getMethod("setEmail", String.class)))
+		}, DbObject.class);
+		assertNotSame(nameMapper.getClass(), emailMapper.getClass());
+
+		ResultSet rs = mock(ResultSet.class);
+		when(rs.getString(1)).thenReturn("value");
+		assertEquals("value", nameMapper.map(rs).getName());
+		assertEquals("value", emailMapper.map(rs).getEmail());
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void testCsvCellHandlerInlinesParsersAndSetters() throws Exception {
+		CellSetter<DbObject>[] setters = (CellSetter<DbObject>[]) new CellSetter[] {
+				new LongCellSetter<DbObject>((LongSetter<DbObject>) asmFactory.<DbObject, Long>createSetter(DbObject.class.getMethod("setId", long.class)),
+						new LongCellValueReaderImpl()),
+				new CellSetterImpl<DbObject, String>(new StringCellValueReader(),
+						asmFactory.<DbObject, String>createSetter(DbObject.class.getMethod("setName", String.class))),
+				new LongCellSetter<DbObject>((LongSetter<DbObject>) asmFactory.<DbObject, Long>createSetter(DbObject.class.getMethod("setId", long.class)),
+						new LongCellValueReaderUnbox(new LongCellValueReaderImpl())),
+				null
+		};
+
+		CsvInlinedCellSetter[] inlinedSetters = CsvInlinedCellSetter.of(setters, DbObject.class, asmFactory);
+		assertNotNull(inlinedSetters[0]);
+		assertNotNull(inlinedSetters[1]);
+		assertNull(inlinedSetters[2]);
+		assertNull(inlinedSetters[3]);
+	}
+
+	@Test
+	public void testCsvMapperInlinedAndShardedMapsLikeTheReflectionMapper() throws Exception {
+		String csv = "id,name,count,flag,value,label,creationTime\n"
+				+ "1,name1,3,true,1.5,label1,\n"
+				+ "-2,name2,-4,false,-2.25,label2,\n";
+		CsvMapper<InlinedObject> inlinedMapper = CsvMapperFactory.newInstance().failOnAsm(true).maxMethodSize(2).newMapper(InlinedObject.class);
+		CsvMapper<InlinedObject> reflectionMapper = CsvMapperFactory.newInstance().useAsm(false).newMapper(InlinedObject.class);
+
+		List<InlinedObject> inlined = inlinedMapper.forEach(new StringReader(csv), new ListHandler<InlinedObject>()).getList();
+		List<InlinedObject> reflection = reflectionMapper.forEach(new StringReader(csv), new ListHandler<InlinedObject>()).getList();
+
+		assertEquals(2, inlined.size());
+		assertEquals(reflection.toString(), inlined.toString());
+		assertEquals("InlinedObject{id=-2, name='name2', count=-4, flag=false, value=-2.25, label='label2'}", inlined.get(1).toString());
+	}
+
+	private static <T> JdbcMapper<T> newJdbcMapper(AsmFactory factory, FieldMapper<ResultSet, T>[] mappers, Class<T> target) throws Exception {
+		return factory.createJdbcMapper(new JdbcColumnKey[0],
+				mappers,
+				newFieldMapperArray(target),
+				factory.<ResultSet, T>createEmptyArgsInstantiator(ResultSet.class, target),
+				target, new RethrowRowHandlerErrorHandler(), new JdbcMappingContextFactoryBuilder().newFactory());
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <T> FieldMapper<ResultSet, T>[] newFieldMapperArray(Class<T> target) {
+		return (FieldMapper<ResultSet, T>[]) new FieldMapper[0];
+	}
+
+	public static class InlinedObject {
+		private long id;
+		private String name;
+		private int count;
+		private boolean flag;
+		private double value;
+		public String label;
+		private Date creationTime;
+
+		public void setId(long id) {
+			this.id = id;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+
+		public void setCount(int count) {
+			this.count = count;
+		}
+
+		public void setFlag(boolean flag) {
+			this.flag = flag;
+		}
+
+		public void setValue(double value) {
+			this.value = value;
+		}
+
+		public void setCreationTime(Date creationTime) {
+			this.creationTime = creationTime;
+		}
+
+		@Override
+		public String toString() {
+			return "InlinedObject{" +
+					"id=" + id +
+					", name='" + name + '\'' +
+					", count=" + count +
+					", flag=" + flag +
+					", value=" + value +
+					", label='" + label + '\'' +
+					'}';
+		}
+	}
+
+	public static class BoxedObject {
+		private Integer value;
+
+		public Integer getValue() {
+			return value;
+		}
+
+		public void setValue(Integer value) {
+			this.value = value;
+		}
+	}
+
+	@Test
+	public void testPrecompiledClassesAreLoadedInsteadOfGenerated() throws Throwable {
+		File dir = File.createTempFile("sfm", "asm");
+		assertTrue(dir.delete());
+		try {
+			AsmClassesGenerator.generate(dir, PrecompileWarmUp.class.getName(), new String[0]);
+
+			assertTrue(new File(dir, AsmUtils.PRECOMPILED_CLASSES_INDEX).exists());
+
+			ClassLoader cl = new URLClassLoader(new URL[] {dir.toURI().toURL()}, Thread.currentThread().getContextClassLoader());
+			JdbcMapper<DbObject> mapper = PrecompileWarmUp.newMapper(new AsmFactory(cl));
+
+			assertSame(cl, mapper.getClass().getClassLoader());
+
+			ResultSet rs = mock(ResultSet.class);
+			when(rs.getString(1)).thenReturn("precompiled");
+			assertEquals("precompiled", mapper.map(rs).getName());
+		} finally {
+			delete(dir);
+		}
+	}
+
+	@Test
+	public void testClassLayoutListsTheMembersOfTheClassAndItsSuperClasses() {
+		String layout = AsmUtils.classLayout(DbFinalObject.class);
+		assertTrue(layout, layout.contains("public long org.sfm.beans.DbFinalObject.getId()"));
+		assertFalse(AsmUtils.classLayout(DbObject.class).equals(layout));
+		assertEquals(AsmUtils.classLayout(DbObject.class), AsmUtils.classLayout(DbObject.class));
+	}
+
+	private static void delete(File file) {
+		File[] files = file.listFiles();
+		if (files != null) {
+			for(File f : files) {
+				delete(f);
+			}
+		}
+		file.delete();
+	}
+
+	public static class PrecompileWarmUp {
+		public static void main(String[] args) throws Exception {
+			newMapper(new AsmFactory(Thread.currentThread().getContextClassLoader()));
+		}
+
+		@SuppressWarnings("unchecked")
+		static JdbcMapper<DbObject> newMapper(AsmFactory factory) throws Exception {
+			Setter<DbObject, String> setter = factory.createSetter(DbObject.class.getMethod("setName", String.class));
+			return factory.createJdbcMapper(new JdbcColumnKey[] { new JdbcColumnKey("name", 1) },
+					(FieldMapper<ResultSet, DbObject>[]) new FieldMapper[] { new FieldMapperImpl<ResultSet, DbObject, String>(new StringResultSetGetter(1), setter) },
+					(FieldMapper<ResultSet, DbObject>[]) new FieldMapper[] {},
+					factory.<ResultSet, DbObject>createEmptyArgsInstantiator(ResultSet.class, DbObject.class),
+					DbObject.class, new RethrowRowHandlerErrorHandler(), new JdbcMappingContextFactoryBuilder().newFactory());
+		}
+	}
 }
@@ -1,8 +1,10 @@
 package org.sfm.reflect.meta;
 
 import org.junit.Test;
+import org.sfm.beans.Db1DeepObject;
 import org.sfm.beans.DbObject;
 import org.sfm.reflect.ReflectionService;
+import org.sfm.tuples.Tuple2;
 import org.sfm.tuples.Tuples;
 
 import static org.junit.Assert.*;
@@ -47,6 +49,46 @@ public class PropertyFinderTest {
 
     }
 
+    @Test
+    public void testIndexedLookupFindsTheSamePropertiesAsTheFallbackScan() {
+        ClassMeta<Db1DeepObject> classMeta = ReflectionService.newInstance().getClassMeta(Db1DeepObject.class);
+
+        for(String column : new String[] { "id", "VALUE", "db_object_name", "dbObject_email", "db_object_creation_time", "dbObjectId", "db_object", "notthere", "db_object_notthere" }) {
+            PropertyMeta<Db1DeepObject, ?> indexed = classMeta.newPropertyFinder().findProperty(matcher(column));
+            PropertyMeta<Db1DeepObject, ?> scanned = classMeta.newPropertyFinder().findProperty(new DelegatingPropertyNameMatcher(matcher(column)));
+            assertEquals(column, String.valueOf(scanned), String.valueOf(indexed));
+        }
+    }
+
+    private static class DelegatingPropertyNameMatcher implements PropertyNameMatcher {
+        private final PropertyNameMatcher delegate;
+
+        private DelegatingPropertyNameMatcher(PropertyNameMatcher delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public boolean matches(String property) {
+            return delegate.matches(property);
+        }
+
+        @Override
+        public IndexedColumn matchesIndex() {
+            return delegate.matchesIndex();
+        }
+
+        @Override
+        public PropertyNameMatcher partialMatch(String property) {
+            PropertyNameMatcher matcher = delegate.partialMatch(property);
+            return matcher != null ? new DelegatingPropertyNameMatcher(matcher) : null;
+        }
+
+        @Override
+        public Tuple2<String, PropertyNameMatcher> speculativeMatch() {
+            return delegate.speculativeMatch();
+        }
+    }
+
     private PropertyNameMatcher matcher(String col) {
         return new DefaultPropertyNameMatcher(col, 0, false, false);
     }
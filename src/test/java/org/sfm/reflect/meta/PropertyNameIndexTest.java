@@ -0,0 +1,30 @@
+package org.sfm.reflect.meta;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+
+import static org.junit.Assert.assertArrayEquals;
+
+public class PropertyNameIndexTest {
+
+	private final PropertyNameIndex index = new PropertyNameIndex(Arrays.asList("id", "dbObject", "db_object", "name", "dbObjectName"));
+
+	@Test
+	public void testExactCandidatesIgnoreCaseAndSeparators() {
+		assertArrayEquals(new int[] { 0 }, index.exactCandidates("ID", 0));
+		assertArrayEquals(new int[] { 1, 2 }, index.exactCandidates("DB_OBJECT", 0));
+		assertArrayEquals(new int[] { 1, 2 }, index.exactCandidates("db object", 0));
+		assertArrayEquals(new int[] { 3 }, index.exactCandidates("dbobject_name", 8));
+		assertArrayEquals(new int[0], index.exactCandidates("db", 0));
+		assertArrayEquals(new int[0], index.exactCandidates("email", 0));
+	}
+
+	@Test
+	public void testPrefixCandidatesAreInPropertyOrder() {
+		assertArrayEquals(new int[] { 1, 2, 4 }, index.prefixCandidates("db_object_name", 0));
+		assertArrayEquals(new int[] { 0 }, index.prefixCandidates("id_value", 0));
+		assertArrayEquals(new int[] { 3 }, index.prefixCandidates("db_object_name", 10));
+		assertArrayEquals(new int[0], index.prefixCandidates("email", 0));
+	}
+}